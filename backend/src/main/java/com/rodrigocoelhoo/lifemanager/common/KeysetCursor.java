@@ -0,0 +1,61 @@
+package com.rodrigocoelhoo.lifemanager.common;
+
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.Temporal;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// Opaque cursor over the (date desc, id desc) keyset of a listing: the position of the last row served
+public final class KeysetCursor {
+
+    public static final int MAX_SIZE = 100;
+    public static final Sort SORT = Sort.by("date").descending().and(Sort.by("id").descending());
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Window<?> window) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Object> keys = ((KeysetScrollPosition) window.positionAt(window.size() - 1)).getKeys();
+        String position = keys.get("date") + "|" + keys.get("id");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScrollPosition decode(String cursor, Function<String, ? extends Temporal> dateParser) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf('|');
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("date", dateParser.apply(position.substring(0, separator)));
+            keys.put("id", Long.valueOf(position.substring(separator + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException exception) {
+            throw new BadRequestException("Cursor '" + cursor + "' is not valid.");
+        }
+    }
+
+    public static Limit limit(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_SIZE + ".");
+        }
+        return Limit.of(size);
+    }
+}
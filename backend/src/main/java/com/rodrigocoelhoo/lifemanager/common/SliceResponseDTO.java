@@ -0,0 +1,25 @@
+package com.rodrigocoelhoo.lifemanager.common;
+
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+
+public record SliceResponseDTO<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    public static <T> SliceResponseDTO<T> fromWindow(Window<T> window) {
+        return fromWindow(window, window.getContent());
+    }
+
+    public static <T> SliceResponseDTO<T> fromWindow(Window<?> window, List<T> content) {
+        return new SliceResponseDTO<>(
+                List.copyOf(content),
+                content.size(),
+                window.hasNext(),
+                KeysetCursor.encode(window)
+        );
+    }
+}
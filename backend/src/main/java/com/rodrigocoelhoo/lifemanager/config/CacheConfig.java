@@ -0,0 +1,114 @@
+package com.rodrigocoelhoo.lifemanager.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rodrigocoelhoo.lifemanager.LifemanagerApplication;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public KryoRedisSerializer cacheValueSerializer(
+            @Value("${cache.serializer.compression-threshold:1024}") int compressionThreshold
+    ) {
+        return new KryoRedisSerializer(
+                KryoRedisSerializer.applicationTypes(LifemanagerApplication.class.getPackageName()),
+                compressionThreshold
+        );
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            CacheProperties cacheProperties,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            KryoRedisSerializer cacheValueSerializer,
+            @Value("${cache.local.maximum-weight:50000}") long maximumWeight,
+            @Value("${cache.local.expire-after-write:60s}") Duration expireAfterWrite
+    ) {
+        CacheProperties.Redis redisProperties = cacheProperties.getRedis();
+        RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer))
+                .computePrefixWith(cacheName -> cacheName + "::" + cacheValueSerializer.getFingerprint() + "::");
+        if (redisProperties.getTimeToLive() != null) {
+            configuration = configuration.entryTtl(redisProperties.getTimeToLive());
+        }
+        if (!redisProperties.isCacheNullValues()) {
+            configuration = configuration.disableCachingNullValues();
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(configuration)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher(CacheConfig::weigh)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+
+        Gauge.builder("cache.local.size", localCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .register(meterRegistry);
+
+        return new TwoLevelCacheManager(redisCacheManager, localCache, redisTemplate, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cache.invalidation.listener.enabled", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListener(
+            RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager cacheManager,
+            RedisCacheService redisCacheService
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            CacheInvalidation invalidation = CacheInvalidation.decode(
+                    new String(message.getBody(), StandardCharsets.UTF_8)
+            );
+
+            switch (invalidation.type()) {
+                case ENTRY -> cacheManager.evictLocal(invalidation.cacheName(), invalidation.key());
+                case CLEAR -> cacheManager.clearLocal(invalidation.cacheName());
+                case GENERATION -> invalidation.generationKeys().forEach(redisCacheService::forgetGeneration);
+            }
+        }, new ChannelTopic(CacheInvalidation.CHANNEL));
+        return container;
+    }
+
+    private static int weigh(String key, Object value) {
+        if (value instanceof Page<?> page) {
+            return 1 + page.getNumberOfElements();
+        }
+        if (value instanceof Collection<?> collection) {
+            return 1 + collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return 1 + map.size();
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,43 @@
+package com.rodrigocoelhoo.lifemanager.config;
+
+import java.util.Collection;
+import java.util.List;
+
+public record CacheInvalidation(Type type, String cacheName, String key) {
+
+    public static final String CHANNEL = "cacheInvalidation";
+
+    public enum Type { ENTRY, CLEAR, GENERATION }
+
+    public static CacheInvalidation entry(String cacheName, String key) {
+        return new CacheInvalidation(Type.ENTRY, cacheName, key);
+    }
+
+    public static CacheInvalidation clear(String cacheName) {
+        return new CacheInvalidation(Type.CLEAR, cacheName, "");
+    }
+
+    public static CacheInvalidation generation(String generationKey) {
+        return new CacheInvalidation(Type.GENERATION, "", generationKey);
+    }
+
+    public static CacheInvalidation generations(Collection<String> generationKeys) {
+        return new CacheInvalidation(Type.GENERATION, "", String.join("\n", generationKeys));
+    }
+
+    public List<String> generationKeys() {
+        return key.lines().toList();
+    }
+
+    public String encode() {
+        return type.name() + "|" + cacheName + "|" + key;
+    }
+
+    public static CacheInvalidation decode(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cache invalidation message: '" + message + "'");
+        }
+        return new CacheInvalidation(Type.valueOf(parts[0]), parts[1], parts[2]);
+    }
+}
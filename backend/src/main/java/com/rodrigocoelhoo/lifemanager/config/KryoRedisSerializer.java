@@ -0,0 +1,232 @@
+package com.rodrigocoelhoo.lifemanager.config;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryo.serializers.DefaultSerializers;
+import com.esotericsoftware.kryo.serializers.ImmutableCollectionsSerializers;
+import com.esotericsoftware.kryo.util.DefaultInstantiatorStrategy;
+import com.esotericsoftware.kryo.util.Pool;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.objenesis.strategy.StdInstantiatorStrategy;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.zip.CRC32;
+
+// Binary cache values: Kryo with every cacheable class registered up front (anything else is rejected),
+// and LZ4 for payloads above the threshold. The first byte tells whether the rest is compressed.
+public class KryoRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte RAW = 0;
+    private static final byte LZ4 = 1;
+    private static final int INITIAL_BUFFER = 512;
+
+    private static final List<Class<?>> FRAMEWORK_TYPES = List.of(
+            ArrayList.class,
+            LinkedList.class,
+            HashMap.class,
+            LinkedHashMap.class,
+            TreeMap.class,
+            HashSet.class,
+            LinkedHashSet.class,
+            TreeSet.class,
+            BigDecimal.class,
+            BigInteger.class,
+            LocalDate.class,
+            LocalDateTime.class,
+            LocalTime.class,
+            YearMonth.class,
+            PageImpl.class,
+            PageRequest.class,
+            Sort.class,
+            Sort.Order.class,
+            Sort.Direction.class,
+            Sort.NullHandling.class,
+            Pageable.unpaged().getClass()
+    );
+
+    private final List<Class<?>> types;
+    private final int compressionThreshold;
+    private final String fingerprint;
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+    private final Pool<Kryo> kryoPool = new Pool<>(true, false, 64) {
+        @Override
+        protected Kryo create() {
+            return newKryo();
+        }
+    };
+
+    public KryoRedisSerializer(Collection<Class<?>> applicationTypes, int compressionThreshold) {
+        List<Class<?>> sorted = new ArrayList<>(applicationTypes);
+        sorted.sort(Comparator.comparing(Class::getName));
+
+        List<Class<?>> all = new ArrayList<>(FRAMEWORK_TYPES);
+        sorted.stream().filter(type -> !all.contains(type)).forEach(all::add);
+
+        this.types = List.copyOf(all);
+        this.compressionThreshold = compressionThreshold;
+        this.fingerprint = fingerprint(types);
+    }
+
+    // Every DTO, record and enum of the application plus the cached user entity, sorted so registration ids match across nodes
+    public static List<Class<?>> applicationTypes(String basePackage) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return true;
+            }
+        };
+        scanner.addIncludeFilter((reader, factory) -> reader.getClassMetadata().getClassName().contains(".dto."));
+        scanner.addIncludeFilter(new AssignableTypeFilter(Enum.class));
+        scanner.addIncludeFilter(new AssignableTypeFilter(Record.class));
+        scanner.addIncludeFilter(new AssignableTypeFilter(UserDetails.class));
+
+        ClassLoader classLoader = KryoRedisSerializer.class.getClassLoader();
+        return scanner.findCandidateComponents(basePackage).stream()
+                .map(BeanDefinition::getBeanClassName)
+                .filter(Objects::nonNull)
+                .sorted()
+                .<Class<?>>map(name -> ClassUtils.resolveClassName(name, classLoader))
+                .filter(type -> !type.isInterface() && !type.isAnonymousClass())
+                .toList();
+    }
+
+    // Changes with the registered classes and their fields, so nodes on another build never read each other's entries
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public List<Class<?>> getTypes() {
+        return types;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        Kryo kryo = kryoPool.obtain();
+        try (Output output = new Output(INITIAL_BUFFER, -1)) {
+            output.writeByte(RAW);
+            kryo.writeClassAndObject(output, value);
+
+            int length = output.position() - 1;
+            if (compressionThreshold <= 0 || length < compressionThreshold) {
+                return output.toBytes();
+            }
+            return compress(output.getBuffer(), length);
+        } catch (KryoException | IllegalArgumentException exception) {
+            throw new SerializationException("Could not serialize " + value.getClass().getName(), exception);
+        } finally {
+            kryoPool.free(kryo);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        Kryo kryo = kryoPool.obtain();
+        try {
+            Input input = switch (bytes[0]) {
+                case RAW -> new Input(bytes, 1, bytes.length - 1);
+                case LZ4 -> new Input(decompress(bytes));
+                default -> throw new SerializationException("Unknown cache value format: " + bytes[0]);
+            };
+            return kryo.readClassAndObject(input);
+        } catch (KryoException | LZ4Exception | IndexOutOfBoundsException exception) {
+            throw new SerializationException("Could not deserialize cached value", exception);
+        } finally {
+            kryoPool.free(kryo);
+        }
+    }
+
+    private byte[] compress(byte[] buffer, int length) {
+        int maxLength = compressor.maxCompressedLength(length);
+        byte[] compressed = new byte[5 + maxLength];
+        compressed[0] = LZ4;
+        writeInt(compressed, length);
+
+        int compressedLength = compressor.compress(buffer, 1, length, compressed, 5, maxLength);
+        return Arrays.copyOf(compressed, 5 + compressedLength);
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        int length = ((bytes[1] & 0xFF) << 24) | ((bytes[2] & 0xFF) << 16) | ((bytes[3] & 0xFF) << 8) | (bytes[4] & 0xFF);
+        byte[] restored = new byte[length];
+        decompressor.decompress(bytes, 5, restored, 0, length);
+        return restored;
+    }
+
+    private static void writeInt(byte[] target, int value) {
+        target[1] = (byte) (value >>> 24);
+        target[2] = (byte) (value >>> 16);
+        target[3] = (byte) (value >>> 8);
+        target[4] = (byte) value;
+    }
+
+    private Kryo newKryo() {
+        Kryo kryo = new Kryo();
+        kryo.setRegistrationRequired(true);
+        kryo.setReferences(false);
+        kryo.setInstantiatorStrategy(new DefaultInstantiatorStrategy(new StdInstantiatorStrategy()));
+        kryo.setClassLoader(KryoRedisSerializer.class.getClassLoader());
+
+        ImmutableCollectionsSerializers.addDefaultSerializers(kryo);
+        ImmutableCollectionsSerializers.registerSerializers(kryo);
+        kryo.register(Arrays.asList().getClass(), new DefaultSerializers.ArraysAsListSerializer());
+        kryo.register(Collections.emptyList().getClass(), new DefaultSerializers.CollectionsEmptyListSerializer());
+        kryo.register(Collections.emptyMap().getClass(), new DefaultSerializers.CollectionsEmptyMapSerializer());
+        kryo.register(Collections.emptySet().getClass(), new DefaultSerializers.CollectionsEmptySetSerializer());
+        kryo.register(Collections.singletonList(null).getClass(), new DefaultSerializers.CollectionsSingletonListSerializer());
+
+        types.forEach(kryo::register);
+        return kryo;
+    }
+
+    private static String fingerprint(List<Class<?>> types) {
+        CRC32 crc = new CRC32();
+        types.forEach(type -> crc.update(describe(type).getBytes(StandardCharsets.UTF_8)));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static String describe(Class<?> type) {
+        if (type.getName().startsWith("java.")) {
+            return type.getName();
+        }
+        return type.getName() + Arrays.stream(type.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()))
+                .map(field -> field.getName() + ":" + field.getGenericType().getTypeName())
+                .sorted()
+                .toList();
+    }
+}
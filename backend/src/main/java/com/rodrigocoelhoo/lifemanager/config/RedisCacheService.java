@@ -1,35 +1,191 @@
 package com.rodrigocoelhoo.lifemanager.config;
 
-import org.springframework.data.redis.core.RedisTemplate;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+// Cached keys embed a generation per (cache, user), and optionally per scope, so an eviction
+// is a single INCR; entries of older generations are never read again and expire through the TTL.
+// Generations are kept locally and dropped on every node through the invalidation channel.
 @Service
 public class RedisCacheService {
-    private final RedisTemplate<String, Object> redisTemplate;
+
+    private static final String GENERATION_PREFIX = "cacheGeneration::";
+    private static final Duration GENERATION_TTL = Duration.ofSeconds(30);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheManager cacheManager;
+    private final com.github.benmanes.caffeine.cache.Cache<String, String> generations = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(GENERATION_TTL)
+            .build();
 
     public RedisCacheService(
-            RedisTemplate<String, Object> redisTemplate
+            StringRedisTemplate redisTemplate,
+            CacheManager cacheManager
     ) {
         this.redisTemplate = redisTemplate;
+        this.cacheManager = cacheManager;
+    }
+
+    public String userKey(String cacheName) {
+        return userKey(getCurrentUsername(), cacheName);
+    }
+
+    public String userKey(String cacheName, String scope) {
+        String username = getCurrentUsername();
+        String namespaceKey = generationKey(cacheName, username);
+        String scopeKey = namespaceKey + "::" + scope;
+
+        Map<String, String> current = generations.getAll(List.of(namespaceKey, scopeKey), this::loadGenerations);
+        return username + ":v" + current.get(namespaceKey) + "::" + scope + ":v" + current.get(scopeKey);
     }
 
+    // Inside a transaction the bump waits for the commit: bumping before it would let a concurrent read
+    // store pre-commit rows under the generation meant to replace them. A rollback bumps nothing.
     public void evictUserCache(String cacheName) {
-        String pattern = cacheName + "::" + getCurrentUsername() + ":*";
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
+        String username = getCurrentUsername();
+        afterCommit(() -> evictCacheForUser(username, cacheName));
+    }
+
+    public void evictCacheForUser(String username, String cacheName) {
+        increment(generationKey(cacheName, username));
+    }
+
+    public void evictCacheScopeForUser(String username, String cacheName, String scope) {
+        increment(generationKey(cacheName, username) + "::" + scope);
+    }
+
+    // Bumps every collected generation in one pipelined round trip and announces them in a single message
+    public void evict(Evictions evictions) {
+        List<String> keys = List.copyOf(evictions.generationKeys);
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<Object> generations = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                keys.forEach(key -> stringOperations.opsForValue().increment(key));
+                return null;
+            }
+        });
+
+        for (int i = 0; i < keys.size() && i < generations.size(); i++) {
+            if (generations.get(i) instanceof Long generation) {
+                this.generations.put(keys.get(i), generation.toString());
+            }
         }
+        redisTemplate.convertAndSend(CacheInvalidation.CHANNEL, CacheInvalidation.generations(keys).encode());
     }
 
     public void evictUserCacheSpecific(String cacheName, String specific) {
-        String pattern = cacheName + "::" + getCurrentUsername() + "::" + specific;
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
+        int wildcard = specific.indexOf('*');
+        if (wildcard >= 0 && wildcard != specific.length() - 1) {
+            throw new IllegalArgumentException("Only trailing wildcards are supported: '" + specific + "'");
+        }
+
+        String username = getCurrentUsername();
+        if (wildcard >= 0) {
+            afterCommit(() -> evictCacheScopeForUser(username, cacheName, specific.substring(0, wildcard)));
+            return;
+        }
+
+        afterCommit(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.evict(userKey(username, cacheName) + "::" + specific);
+            }
+        });
+    }
+
+    public void forgetGeneration(String generationKey) {
+        generations.invalidate(generationKey);
+    }
+
+    private String userKey(String username, String cacheName) {
+        String generation = generations.get(
+                generationKey(cacheName, username),
+                key -> orZero(redisTemplate.opsForValue().get(key))
+        );
+        return username + ":v" + generation;
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    private void increment(String generationKey) {
+        Long generation = redisTemplate.opsForValue().increment(generationKey);
+        if (generation != null) {
+            generations.put(generationKey, generation.toString());
+        }
+        redisTemplate.convertAndSend(CacheInvalidation.CHANNEL, CacheInvalidation.generation(generationKey).encode());
+    }
+
+    private Map<String, String> loadGenerations(Set<? extends String> keys) {
+        List<String> ordered = List.copyOf(keys);
+        List<String> values = redisTemplate.opsForValue().multiGet(ordered);
+
+        Map<String, String> loaded = new HashMap<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            loaded.put(ordered.get(i), orZero(values == null ? null : values.get(i)));
+        }
+        return loaded;
+    }
+
+    private static String generationKey(String cacheName, String username) {
+        return GENERATION_PREFIX + cacheName + "::" + username;
+    }
+
+    private static String orZero(String generation) {
+        return generation != null ? generation : "0";
+    }
+
+    public static final class Evictions {
+
+        private final Set<String> generationKeys = new LinkedHashSet<>();
+
+        public Evictions evict(String username, String cacheName) {
+            generationKeys.add(generationKey(cacheName, username));
+            return this;
+        }
+
+        public Evictions evictScope(String username, String cacheName, String scope) {
+            generationKeys.add(generationKey(cacheName, username) + "::" + scope);
+            return this;
+        }
+
+        public Set<String> generationKeys() {
+            return Collections.unmodifiableSet(generationKeys);
         }
     }
 
@@ -37,4 +193,4 @@ public class RedisCacheService {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         return auth != null ? auth.getName() : "anonymous";
     }
-}
\ No newline at end of file
+}
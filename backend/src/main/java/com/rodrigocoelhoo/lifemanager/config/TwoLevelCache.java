@@ -0,0 +1,165 @@
+package com.rodrigocoelhoo.lifemanager.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TwoLevelCache implements Cache {
+
+    private final Cache redisCache;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final StringRedisTemplate redisTemplate;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+
+    public TwoLevelCache(
+            Cache redisCache,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+            StringRedisTemplate redisTemplate
+    ) {
+        this.redisCache = redisCache;
+        this.localCache = localCache;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public String getName() {
+        return redisCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object local = localCache.getIfPresent(localKey(key));
+        if (local != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(local);
+        }
+        localMisses.increment();
+
+        ValueWrapper remote = redisCache.get(key);
+        if (remote == null || remote.get() == null) {
+            redisMisses.increment();
+            return remote;
+        }
+        redisHits.increment();
+
+        localCache.put(localKey(key), remote.get());
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception exception) {
+            throw new ValueRetrievalException(key, valueLoader, exception);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        if (value != null) {
+            localCache.put(localKey(key), value);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        Object current = existing != null ? existing.get() : value;
+        if (current != null) {
+            localCache.put(localKey(key), current);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        localCache.invalidate(localKey(key));
+        redisTemplate.convertAndSend(CacheInvalidation.CHANNEL, CacheInvalidation.entry(getName(), key.toString()).encode());
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        clearLocal();
+        redisTemplate.convertAndSend(CacheInvalidation.CHANNEL, CacheInvalidation.clear(getName()).encode());
+    }
+
+    public void evictLocal(String key) {
+        localCache.invalidate(localKey(key));
+    }
+
+    public void clearLocal() {
+        String prefix = getName() + "::";
+        localCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private String localKey(Object key) {
+        return getName() + "::" + key;
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getLocalMisses() {
+        return localMisses.sum();
+    }
+
+    public long getRedisHits() {
+        return redisHits.sum();
+    }
+
+    public long getRedisMisses() {
+        return redisMisses.sum();
+    }
+
+    public double getLocalHitRatio() {
+        return ratio(getLocalHits(), getLocalMisses());
+    }
+
+    public double getRedisHitRatio() {
+        return ratio(getRedisHits(), getRedisMisses());
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
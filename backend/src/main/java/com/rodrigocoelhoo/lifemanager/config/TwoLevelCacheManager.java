@@ -0,0 +1,96 @@
+package com.rodrigocoelhoo.lifemanager.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToDoubleFunction;
+
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager redisCacheManager;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            CacheManager redisCacheManager,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisCacheManager = redisCacheManager;
+        this.localCache = localCache;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache redisCache = redisCacheManager.getCache(cacheName);
+            if (redisCache == null) {
+                return null;
+            }
+
+            TwoLevelCache cache = new TwoLevelCache(redisCache, localCache, redisTemplate);
+            bindMetrics(cache);
+            return cache;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public void evictLocal(String cacheName, String key) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    public void clearLocal(String cacheName) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.clearLocal();
+        }
+    }
+
+    private void bindMetrics(TwoLevelCache cache) {
+        String name = cache.getName();
+
+        requests(cache, "local", "hit", TwoLevelCache::getLocalHits);
+        requests(cache, "local", "miss", TwoLevelCache::getLocalMisses);
+        requests(cache, "redis", "hit", TwoLevelCache::getRedisHits);
+        requests(cache, "redis", "miss", TwoLevelCache::getRedisMisses);
+
+        Gauge.builder("cache.tier.hit.ratio", cache, TwoLevelCache::getLocalHitRatio)
+                .tags("cache", name, "tier", "local")
+                .register(meterRegistry);
+        Gauge.builder("cache.tier.hit.ratio", cache, TwoLevelCache::getRedisHitRatio)
+                .tags("cache", name, "tier", "redis")
+                .register(meterRegistry);
+    }
+
+    private void requests(
+            TwoLevelCache cache,
+            String tier,
+            String result,
+            ToDoubleFunction<TwoLevelCache> count
+    ) {
+        FunctionCounter.builder("cache.tier.requests", cache, count)
+                .tags("cache", cache.getName(), "tier", tier, "result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,19 +1,29 @@
 package com.rodrigocoelhoo.lifemanager.config;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.interceptor.KeyGenerator;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component("userAwareKeyGenerator")
 public class UserAwareKeyGenerator implements KeyGenerator {
 
+    private final RedisCacheService redisCacheService;
+    private final Map<Method, String> cacheNames = new ConcurrentHashMap<>();
+
+    public UserAwareKeyGenerator(
+            RedisCacheService redisCacheService
+    ) {
+        this.redisCacheService = redisCacheService;
+    }
+
     @Override
     public Object generate(Object target, Method method, Object... params) {
-        String username = getCurrentUsername();
-        StringBuilder key = new StringBuilder(username);
+        StringBuilder key = new StringBuilder(redisCacheService.userKey(getCacheName(method)));
 
         key.append(":").append(method.getName());
 
@@ -26,8 +36,14 @@ public class UserAwareKeyGenerator implements KeyGenerator {
         return key.toString();
     }
 
-    private String getCurrentUsername() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        return auth != null ? auth.getName() : "anonymous";
+    private String getCacheName(Method method) {
+        return cacheNames.computeIfAbsent(method, m -> {
+            Cacheable cacheable = AnnotatedElementUtils.findMergedAnnotation(m, Cacheable.class);
+            if (cacheable == null || cacheable.cacheNames().length != 1) {
+                throw new IllegalStateException(
+                        "userAwareKeyGenerator requires a single cache name on " + m.getName());
+            }
+            return cacheable.cacheNames()[0];
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package com.rodrigocoelhoo.lifemanager.export.components;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+// A header from the row's components in snake_case, so a transactions export can be imported
+// again, then one line per row. Fields are quoted only when they need to be
+final class CsvExportWriter implements ExportWriter {
+
+    private final Writer writer;
+    private final Method[] accessors;
+
+    CsvExportWriter(OutputStream out, Class<? extends Record> rowType) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        RecordComponent[] components = rowType.getRecordComponents();
+        this.accessors = new Method[components.length];
+        for (int i = 0; i < components.length; i++) {
+            accessors[i] = components[i].getAccessor();
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columnName(components[i].getName()));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(Record row) throws IOException {
+        for (int i = 0; i < accessors.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(value(accessors[i], row));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static Object value(Method accessor, Record row) {
+        try {
+            return accessor.invoke(row);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot read '" + accessor.getName() + "' of " + row.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static String columnName(String component) {
+        return component.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+    }
+}
@@ -0,0 +1,54 @@
+package com.rodrigocoelhoo.lifemanager.export.components;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+
+public enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON) {
+        @Override
+        public ExportWriter open(OutputStream out, Class<? extends Record> rowType, ObjectMapper objectMapper) throws IOException {
+            return new NdjsonExportWriter(out, objectMapper);
+        }
+    },
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8)) {
+        @Override
+        public ExportWriter open(OutputStream out, Class<? extends Record> rowType, ObjectMapper objectMapper) throws IOException {
+            return new CsvExportWriter(out, rowType);
+        }
+    };
+
+    private final MediaType mediaType;
+
+    ExportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return name().toLowerCase();
+    }
+
+    public abstract ExportWriter open(OutputStream out, Class<? extends Record> rowType, ObjectMapper objectMapper) throws IOException;
+
+    public static ExportFormat fromParam(String format) {
+        try {
+            return valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException("Format '" + format.toUpperCase() + "' doesn't exist.\n" +
+                    "Valid Formats: " + all());
+        }
+    }
+
+    public static EnumSet<ExportFormat> all() {
+        return EnumSet.allOf(ExportFormat.class);
+    }
+}
@@ -0,0 +1,13 @@
+package com.rodrigocoelhoo.lifemanager.export.components;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface ExportWriter extends Closeable {
+
+    void write(Record row) throws IOException;
+
+    // Flushes what is still buffered; the output stream itself is left open
+    @Override
+    void close() throws IOException;
+}
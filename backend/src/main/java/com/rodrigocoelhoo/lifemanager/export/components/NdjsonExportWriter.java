@@ -0,0 +1,35 @@
+package com.rodrigocoelhoo.lifemanager.export.components;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// One JSON object per line. The generator buffers and flushes when full instead of after every row
+final class NdjsonExportWriter implements ExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    NdjsonExportWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory()
+                .createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(Record row) throws IOException {
+        writer.writeValue(generator, row);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,36 @@
+package com.rodrigocoelhoo.lifemanager.export.controller;
+
+import com.rodrigocoelhoo.lifemanager.export.components.ExportFormat;
+import com.rodrigocoelhoo.lifemanager.export.model.ExportDataset;
+import com.rodrigocoelhoo.lifemanager.export.service.ExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/{dataset}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String dataset,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        ExportDataset exportDataset = ExportDataset.fromPath(dataset);
+        ExportFormat exportFormat = ExportFormat.fromParam(format);
+        String fileName = exportDataset.name().toLowerCase() + "." + exportFormat.getExtension();
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(exportService.export(exportDataset, exportFormat));
+    }
+}
@@ -0,0 +1,35 @@
+package com.rodrigocoelhoo.lifemanager.export.model;
+
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import com.rodrigocoelhoo.lifemanager.finances.repository.TransactionRepository;
+import com.rodrigocoelhoo.lifemanager.finances.repository.TransferenceRepository;
+import com.rodrigocoelhoo.lifemanager.nutrition.repository.MealRepository;
+import com.rodrigocoelhoo.lifemanager.nutrition.repository.RecipeRepository;
+import com.rodrigocoelhoo.lifemanager.training.repository.TrainingSessionRepository;
+
+import java.util.Arrays;
+
+public enum ExportDataset {
+    TRANSACTIONS(TransactionRepository.ExportRow.class),
+    TRANSFERENCES(TransferenceRepository.ExportRow.class),
+    MEALS(MealRepository.ExportRow.class),
+    SESSIONS(TrainingSessionRepository.ExportRow.class),
+    RECIPES(RecipeRepository.ExportRow.class);
+
+    private final Class<? extends Record> rowType;
+
+    ExportDataset(Class<? extends Record> rowType) {
+        this.rowType = rowType;
+    }
+
+    public Class<? extends Record> getRowType() {
+        return rowType;
+    }
+
+    public static ExportDataset fromPath(String path) {
+        return Arrays.stream(values())
+                .filter(dataset -> dataset.name().equalsIgnoreCase(path))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Cannot export '" + path + "'."));
+    }
+}
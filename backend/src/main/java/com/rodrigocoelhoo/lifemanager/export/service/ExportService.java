@@ -0,0 +1,96 @@
+package com.rodrigocoelhoo.lifemanager.export.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodrigocoelhoo.lifemanager.export.components.ExportFormat;
+import com.rodrigocoelhoo.lifemanager.export.components.ExportWriter;
+import com.rodrigocoelhoo.lifemanager.export.model.ExportDataset;
+import com.rodrigocoelhoo.lifemanager.finances.repository.TransactionRepository;
+import com.rodrigocoelhoo.lifemanager.finances.repository.TransferenceRepository;
+import com.rodrigocoelhoo.lifemanager.nutrition.repository.MealRepository;
+import com.rodrigocoelhoo.lifemanager.nutrition.repository.RecipeRepository;
+import com.rodrigocoelhoo.lifemanager.training.repository.TrainingSessionRepository;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Exports read the repositories directly rather than the cached services, so a full dump doesn't
+// fill the cache with pages nobody asks for again. Rows are projections streamed from a cursor
+// and written as they arrive, keeping memory flat however many years of data a user has
+@Service
+public class ExportService {
+
+    private final TransactionRepository transactionRepository;
+    private final TransferenceRepository transferenceRepository;
+    private final MealRepository mealRepository;
+    private final TrainingSessionRepository trainingSessionRepository;
+    private final RecipeRepository recipeRepository;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExportService(
+            TransactionRepository transactionRepository,
+            TransferenceRepository transferenceRepository,
+            MealRepository mealRepository,
+            TrainingSessionRepository trainingSessionRepository,
+            RecipeRepository recipeRepository,
+            UserService userService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.transactionRepository = transactionRepository;
+        this.transferenceRepository = transferenceRepository;
+        this.mealRepository = mealRepository;
+        this.trainingSessionRepository = trainingSessionRepository;
+        this.recipeRepository = recipeRepository;
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    // The user is resolved now, on the request thread; the body is written later on an async one
+    public StreamingResponseBody export(ExportDataset dataset, ExportFormat format) {
+        Long userId = userService.getLoggedInUser().getId();
+        return out -> write(dataset, format, userId, out);
+    }
+
+    void write(ExportDataset dataset, ExportFormat format, Long userId, OutputStream out) throws IOException {
+        try {
+            // Streaming queries need an open transaction for the cursor to live in
+            transactionTemplate.executeWithoutResult(status -> {
+                try (
+                        Stream<? extends Record> rows = rows(dataset, userId);
+                        ExportWriter writer = format.open(out, dataset.getRowType(), objectMapper)
+                ) {
+                    Iterator<? extends Record> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        writer.write(iterator.next());
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Stream<? extends Record> rows(ExportDataset dataset, Long userId) {
+        return switch (dataset) {
+            case TRANSACTIONS -> transactionRepository.streamExportRows(userId);
+            case TRANSFERENCES -> transferenceRepository.streamExportRows(userId);
+            case MEALS -> mealRepository.streamExportRows(userId);
+            case SESSIONS -> trainingSessionRepository.streamExportRows(userId);
+            case RECIPES -> recipeRepository.streamExportRows(userId);
+        };
+    }
+}
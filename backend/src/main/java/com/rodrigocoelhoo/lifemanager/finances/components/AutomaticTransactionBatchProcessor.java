@@ -0,0 +1,228 @@
+package com.rodrigocoelhoo.lifemanager.finances.components;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.Currency;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseType;
+import com.rodrigocoelhoo.lifemanager.finances.repository.AutomaticTransactionBatchRepository;
+import com.rodrigocoelhoo.lifemanager.finances.repository.AutomaticTransactionBatchRepository.DueAutomaticTransaction;
+import com.rodrigocoelhoo.lifemanager.finances.repository.AutomaticTransactionBatchRepository.GeneratedTransaction;
+import com.rodrigocoelhoo.lifemanager.finances.service.FinanceMonthlyTotalService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Workers claim due rules in id order, one chunk per database transaction, skipping rules that
+// another worker or node has already locked. A rule's next date is advanced in the same transaction
+// that inserts its transactions, so each occurrence is posted once and an interrupted run simply
+// picks up the rules that are still due. A chunk that fails is retried one rule per transaction,
+// so a broken rule is the only one left for the next run.
+@Slf4j
+@Component
+public class AutomaticTransactionBatchProcessor {
+
+    private final AutomaticTransactionBatchRepository batchRepository;
+    private final FinanceMonthlyTotalService financeMonthlyTotalService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int workers;
+
+    public AutomaticTransactionBatchProcessor(
+            AutomaticTransactionBatchRepository batchRepository,
+            FinanceMonthlyTotalService financeMonthlyTotalService,
+            TransactionTemplate transactionTemplate,
+            @Value("${automatic-transactions.chunk-size:500}") int chunkSize,
+            @Value("${automatic-transactions.workers:4}") int workers
+    ) {
+        this.batchRepository = batchRepository;
+        this.financeMonthlyTotalService = financeMonthlyTotalService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.workers = workers;
+    }
+
+    public Result processDue(LocalDate today) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Result>> results = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                results.add(executor.submit(() -> processClaimedChunks(today)));
+            }
+
+            Result total = Result.empty();
+            for (Future<Result> result : results) {
+                total = total.merge(result.get());
+            }
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing automatic transactions", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to process automatic transactions", e.getCause());
+        }
+    }
+
+    private Result processClaimedChunks(LocalDate today) {
+        long lastId = 0;
+        Result processed = Result.empty();
+
+        while (true) {
+            long afterId = lastId;
+            AtomicReference<List<DueAutomaticTransaction>> claimed = new AtomicReference<>(List.of());
+
+            try {
+                Result chunkResult = transactionTemplate.execute(status -> {
+                    List<DueAutomaticTransaction> chunk = batchRepository.claimDue(today, afterId, chunkSize);
+                    claimed.set(chunk);
+                    return chunk.isEmpty() ? Result.empty() : processChunk(chunk, today);
+                });
+                if (chunkResult != null) {
+                    processed = processed.merge(chunkResult);
+                }
+            } catch (RuntimeException e) {
+                if (claimed.get().isEmpty()) {
+                    throw e;
+                }
+                log.warn("Failed to process automatic transactions {} to {}, retrying them one by one",
+                        claimed.get().getFirst().id(), claimed.get().getLast().id(), e);
+                processed = processed.merge(processEach(claimed.get(), today));
+            }
+
+            List<DueAutomaticTransaction> chunk = claimed.get();
+            if (chunk.isEmpty()) {
+                return processed;
+            }
+            lastId = chunk.getLast().id();
+        }
+    }
+
+    private Result processEach(List<DueAutomaticTransaction> rules, LocalDate today) {
+        Result processed = Result.empty();
+        for (DueAutomaticTransaction rule : rules) {
+            try {
+                Result result = transactionTemplate.execute(status -> {
+                    // The rolled back chunk released its locks, so the rule is claimed again and skipped
+                    // if it has been posted or claimed by another worker since
+                    List<DueAutomaticTransaction> claimed = batchRepository.claimDue(today, rule.id() - 1, 1);
+                    if (claimed.isEmpty() || !claimed.getFirst().id().equals(rule.id())) {
+                        return Result.empty();
+                    }
+                    return processChunk(claimed, today);
+                });
+                if (result != null) {
+                    processed = processed.merge(result);
+                }
+            } catch (RuntimeException e) {
+                log.error("Skipping automatic transaction {}", rule.id(), e);
+            }
+        }
+        return processed;
+    }
+
+    private Result processChunk(List<DueAutomaticTransaction> chunk, LocalDate today) {
+        Set<Long> walletIds = new TreeSet<>();
+        chunk.forEach(rule -> walletIds.add(rule.walletId()));
+
+        Map<Long, BigDecimal> balances = batchRepository.lockWalletBalances(walletIds);
+        Map<Long, BigDecimal> updatedBalances = new HashMap<>();
+        Map<Long, LocalDate> nextDates = new HashMap<>();
+        Map<MonthlyTotalKey, MonthlyTotal> monthlyTotals = new HashMap<>();
+        Map<String, Set<YearMonth>> affectedMonths = new HashMap<>();
+        List<GeneratedTransaction> transactions = new ArrayList<>();
+
+        // A rule is deleted with its wallet and the claim holds the rule's lock, so every wallet is there
+        for (DueAutomaticTransaction rule : chunk) {
+            BigDecimal balance = balances.get(rule.walletId());
+            BigDecimal delta = ExpenseType.normalize(rule.type(), rule.amount());
+            LocalDate date = rule.nextTransactionDate();
+
+            // Catch up on every period missed since the rule was last processed
+            while (!date.isAfter(today)) {
+                BigDecimal newBalance = balance.add(delta);
+                if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
+                    log.warn("Skipping automatic transaction {} on {}: wallet {} doesn't have enough balance",
+                            rule.id(), date, rule.walletId());
+                    break;
+                }
+
+                balance = newBalance;
+                transactions.add(new GeneratedTransaction(rule, date));
+                monthlyTotals.computeIfAbsent(
+                        new MonthlyTotalKey(rule.userId(), date.withDayOfMonth(1), rule.category(), rule.currency()),
+                        key -> new MonthlyTotal()
+                ).add(rule.amount());
+                affectedMonths.computeIfAbsent(rule.username(), username -> new HashSet<>()).add(YearMonth.from(date));
+
+                date = rule.recurrence().next(date, rule.interval());
+            }
+
+            if (!date.equals(rule.nextTransactionDate())) {
+                balances.put(rule.walletId(), balance);
+                updatedBalances.put(rule.walletId(), balance);
+                nextDates.put(rule.id(), date);
+            }
+        }
+
+        if (transactions.isEmpty()) {
+            return Result.empty();
+        }
+
+        batchRepository.insertTransactions(transactions);
+        batchRepository.updateWalletBalances(updatedBalances);
+        batchRepository.updateNextTransactionDates(nextDates);
+        monthlyTotals.forEach((key, total) -> financeMonthlyTotalService.addToTotal(
+                key.userId(),
+                key.monthStart(),
+                key.category(),
+                key.currency(),
+                total.amount,
+                total.count
+        ));
+
+        return new Result(transactions.size(), affectedMonths);
+    }
+
+    public record Result(
+            int created,
+            Map<String, Set<YearMonth>> affectedMonths
+    ) {
+        public static Result empty() {
+            return new Result(0, Map.of());
+        }
+
+        public Result merge(Result other) {
+            Map<String, Set<YearMonth>> merged = new HashMap<>();
+            affectedMonths.forEach((username, months) -> merged.put(username, new HashSet<>(months)));
+            other.affectedMonths.forEach((username, months) ->
+                    merged.computeIfAbsent(username, key -> new HashSet<>()).addAll(months)
+            );
+            return new Result(created + other.created, merged);
+        }
+    }
+
+    private record MonthlyTotalKey(
+            Long userId,
+            LocalDate monthStart,
+            ExpenseCategory category,
+            Currency currency
+    ) { }
+
+    private static class MonthlyTotal {
+        private BigDecimal amount = BigDecimal.ZERO;
+        private int count;
+
+        private void add(BigDecimal value) {
+            amount = amount.add(value);
+            count++;
+        }
+    }
+}
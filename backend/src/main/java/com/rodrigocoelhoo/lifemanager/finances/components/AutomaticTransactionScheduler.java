@@ -1,7 +1,6 @@
 package com.rodrigocoelhoo.lifemanager.finances.components;
 
 import com.rodrigocoelhoo.lifemanager.finances.service.AutomaticTransactionService;
-import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -20,7 +19,6 @@ public class AutomaticTransactionScheduler {
     }
 
     @Scheduled(cron = "0 0 0 * * *", zone = "UTC")
-    @Transactional
     public void runDaily() {
         log.info("Starting daily automatic transactions for {}", LocalDate.now(ZoneOffset.UTC));
         service.processDailyAutomaticTransactions();
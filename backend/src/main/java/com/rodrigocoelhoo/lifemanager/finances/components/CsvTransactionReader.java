@@ -0,0 +1,171 @@
+package com.rodrigocoelhoo.lifemanager.finances.components;
+
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Comma separated rows under a header naming the columns date, amount and category, and optionally
+// description and wallet_id. Quoted fields may hold commas, doubled quotes and line breaks.
+final class CsvTransactionReader implements TransactionImportReader {
+
+    private static final Map<String, ExpenseCategory> CATEGORIES = ExpenseCategory.all().stream()
+            .collect(Collectors.toMap(Enum::name, Function.identity()));
+
+    private final BufferedReader reader;
+    private final Long defaultWalletId;
+    private final int columns;
+    private final int dateColumn;
+    private final int amountColumn;
+    private final int categoryColumn;
+    private final int descriptionColumn;
+    private final int walletColumn;
+
+    // Line the next character is on
+    private long line = 1;
+
+    CsvTransactionReader(Reader reader, TransactionImportOptions options) throws IOException {
+        this.reader = new BufferedReader(reader);
+        this.defaultWalletId = options.walletId();
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new BadRequestException("The file is empty");
+        }
+        List<String> names = header.stream()
+                .map(name -> name.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT))
+                .toList();
+        this.columns = names.size();
+        this.dateColumn = requiredColumn(names, "date");
+        this.amountColumn = requiredColumn(names, "amount");
+        this.categoryColumn = requiredColumn(names, "category");
+        this.descriptionColumn = names.indexOf("description");
+        this.walletColumn = names.indexOf("wallet_id");
+        if (walletColumn < 0 && defaultWalletId == null) {
+            throw new BadRequestException("The file has no wallet_id column, so a wallet ID must be provided");
+        }
+    }
+
+    @Override
+    public ImportedTransaction next() throws IOException {
+        while (true) {
+            long start = line;
+            List<String> record = readRecord();
+            if (record == null) {
+                return null;
+            }
+            if (record.size() == 1 && record.getFirst().isBlank()) {
+                continue;
+            }
+            return parse(start, record);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ImportedTransaction parse(long start, List<String> record) {
+        if (record.size() != columns) {
+            return ImportedTransaction.invalid(start, "Expected " + columns + " columns but found " + record.size());
+        }
+
+        String date = record.get(dateColumn).trim();
+        String amount = record.get(amountColumn).trim();
+        String category = record.get(categoryColumn).trim().toUpperCase(Locale.ROOT);
+        String wallet = walletColumn < 0 ? "" : record.get(walletColumn).trim();
+
+        ExpenseCategory expenseCategory = CATEGORIES.get(category);
+        if (expenseCategory == null) {
+            return ImportedTransaction.invalid(start, "Category '" + category + "' doesn't exist");
+        }
+
+        Long walletId;
+        LocalDate transactionDate;
+        BigDecimal transactionAmount;
+        try {
+            walletId = wallet.isEmpty() ? defaultWalletId : Long.valueOf(wallet);
+        } catch (NumberFormatException e) {
+            return ImportedTransaction.invalid(start, "Wallet ID '" + wallet + "' isn't a number");
+        }
+        try {
+            transactionDate = LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            return ImportedTransaction.invalid(start, "Date '" + date + "' isn't a yyyy-MM-dd date");
+        }
+        try {
+            transactionAmount = new BigDecimal(amount);
+        } catch (NumberFormatException e) {
+            return ImportedTransaction.invalid(start, "Amount '" + amount + "' isn't a number");
+        }
+
+        return ImportedTransaction.of(
+                start,
+                walletId,
+                transactionDate,
+                transactionAmount,
+                descriptionColumn < 0 ? "" : record.get(descriptionColumn).trim(),
+                expenseCategory
+        );
+    }
+
+    // The fields of the next record, or null at the end of the input
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        record.add(field.toString());
+        return record;
+    }
+
+    private static int requiredColumn(List<String> names, String name) {
+        int column = names.indexOf(name);
+        if (column < 0) {
+            throw new BadRequestException("The header has no '" + name + "' column");
+        }
+        return column;
+    }
+}
@@ -0,0 +1,50 @@
+package com.rodrigocoelhoo.lifemanager.finances.components;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// One row of an import file, or the reason it can't be imported
+public record ImportedTransaction(
+        long line,
+        Long walletId,
+        LocalDate date,
+        BigDecimal amount,
+        String description,
+        ExpenseCategory category,
+        String error
+) {
+    static final int MAX_DESCRIPTION = 512;
+
+    static ImportedTransaction of(
+            long line,
+            Long walletId,
+            LocalDate date,
+            BigDecimal amount,
+            String description,
+            ExpenseCategory category
+    ) {
+        if (walletId == null) {
+            return invalid(line, "Wallet ID must be provided");
+        }
+        if (amount.signum() <= 0) {
+            return invalid(line, "Amount must be positive");
+        }
+        if (amount.stripTrailingZeros().scale() > 2) {
+            return invalid(line, "Amount '" + amount.toPlainString() + "' has more than two decimal places");
+        }
+        if (description.length() > MAX_DESCRIPTION) {
+            return invalid(line, "Description is longer than " + MAX_DESCRIPTION + " characters");
+        }
+        return new ImportedTransaction(line, walletId, date, amount, description, category, null);
+    }
+
+    static ImportedTransaction invalid(long line, String error) {
+        return new ImportedTransaction(line, null, null, null, null, null, error);
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+}
@@ -0,0 +1,154 @@
+package com.rodrigocoelhoo.lifemanager.finances.components;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Reads the STMTTRN aggregates of an OFX statement tag by tag. OFX 1.x is SGML, where leaf elements
+// have no end tag, and 2.x is XML; both are read the same way by taking the text after each start tag.
+final class OfxTransactionReader implements TransactionImportReader {
+
+    private final BufferedReader reader;
+    private final TransactionImportOptions options;
+
+    // Line the next character is on, and a character read ahead of a tag
+    private long line = 1;
+    private int pending = -1;
+
+    OfxTransactionReader(Reader reader, TransactionImportOptions options) {
+        this.reader = new BufferedReader(reader);
+        this.options = options;
+    }
+
+    @Override
+    public ImportedTransaction next() throws IOException {
+        Map<String, String> fields = null;
+        long start = 0;
+
+        String tag;
+        while ((tag = nextTag()) != null) {
+            if (tag.equals("STMTTRN")) {
+                fields = new HashMap<>();
+                start = line;
+            } else if (tag.equals("/STMTTRN")) {
+                if (fields != null) {
+                    return parse(start, fields);
+                }
+            } else if (fields != null && !tag.startsWith("/")) {
+                String text = text();
+                if (!text.isEmpty()) {
+                    fields.put(tag, text);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ImportedTransaction parse(long start, Map<String, String> fields) {
+        String posted = fields.get("DTPOSTED");
+        String amount = fields.get("TRNAMT");
+        if (posted == null || amount == null) {
+            return ImportedTransaction.invalid(start, "Transaction without DTPOSTED or TRNAMT");
+        }
+
+        LocalDate date;
+        BigDecimal signedAmount;
+        try {
+            date = LocalDate.parse(posted.substring(0, Math.min(8, posted.length())), DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            return ImportedTransaction.invalid(start, "Date '" + posted + "' isn't an OFX date");
+        }
+        try {
+            signedAmount = new BigDecimal(amount.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            return ImportedTransaction.invalid(start, "Amount '" + amount + "' isn't a number");
+        }
+
+        ExpenseCategory category = signedAmount.signum() < 0 ? options.expenseCategory() : options.incomeCategory();
+        if (category == null) {
+            return ImportedTransaction.invalid(start, "No income category was given for credits");
+        }
+
+        String name = fields.getOrDefault("NAME", "");
+        String memo = fields.getOrDefault("MEMO", "");
+        String description = name.isEmpty() || name.equals(memo) ? memo
+                : memo.isEmpty() ? name
+                : name + " - " + memo;
+
+        return ImportedTransaction.of(start, options.walletId(), date, signedAmount.abs(), description, category);
+    }
+
+    // The name of the next start or end tag, upper-cased and without attributes, skipping
+    // processing instructions and comments; null at the end of the input
+    private String nextTag() throws IOException {
+        while (true) {
+            int c;
+            while ((c = read()) != '<') {
+                if (c == -1) {
+                    return null;
+                }
+            }
+
+            StringBuilder tag = new StringBuilder();
+            while ((c = read()) != '>') {
+                if (c == -1) {
+                    return null;
+                }
+                tag.append((char) c);
+            }
+
+            String name = tag.toString().trim();
+            if (name.isEmpty() || name.startsWith("?") || name.startsWith("!")) {
+                continue;
+            }
+            int space = name.indexOf(' ');
+            return (space < 0 ? name : name.substring(0, space)).toUpperCase(Locale.ROOT);
+        }
+    }
+
+    // The text up to the next tag, which is left to be read
+    private String text() throws IOException {
+        StringBuilder text = new StringBuilder();
+        int c;
+        while ((c = read()) != -1) {
+            if (c == '<') {
+                pending = c;
+                break;
+            }
+            text.append((char) c);
+        }
+        return text.toString().trim()
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&");
+    }
+
+    private int read() throws IOException {
+        if (pending != -1) {
+            int c = pending;
+            pending = -1;
+            return c;
+        }
+        int c = reader.read();
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+}
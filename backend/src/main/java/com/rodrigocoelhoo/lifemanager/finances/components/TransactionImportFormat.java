@@ -0,0 +1,26 @@
+package com.rodrigocoelhoo.lifemanager.finances.components;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.EnumSet;
+
+public enum TransactionImportFormat {
+    CSV {
+        @Override
+        public TransactionImportReader open(Reader reader, TransactionImportOptions options) throws IOException {
+            return new CsvTransactionReader(reader, options);
+        }
+    },
+    OFX {
+        @Override
+        public TransactionImportReader open(Reader reader, TransactionImportOptions options) {
+            return new OfxTransactionReader(reader, options);
+        }
+    };
+
+    public abstract TransactionImportReader open(Reader reader, TransactionImportOptions options) throws IOException;
+
+    public static EnumSet<TransactionImportFormat> all() {
+        return EnumSet.allOf(TransactionImportFormat.class);
+    }
+}
@@ -0,0 +1,11 @@
+package com.rodrigocoelhoo.lifemanager.finances.components;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
+
+// Values for what a file doesn't say: the wallet of rows without one, and for OFX, which only
+// has signed amounts, the category of debits and of credits
+public record TransactionImportOptions(
+        Long walletId,
+        ExpenseCategory expenseCategory,
+        ExpenseCategory incomeCategory
+) { }
@@ -0,0 +1,148 @@
+package com.rodrigocoelhoo.lifemanager.finances.components;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.Currency;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseType;
+import com.rodrigocoelhoo.lifemanager.finances.repository.TransactionImportRepository;
+import com.rodrigocoelhoo.lifemanager.finances.repository.TransactionImportRepository.NewTransaction;
+import com.rodrigocoelhoo.lifemanager.finances.repository.TransactionImportRepository.WalletBalance;
+import com.rodrigocoelhoo.lifemanager.finances.service.FinanceMonthlyTotalService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Consumer;
+
+// Imports rows one chunk per database transaction. A chunk locks its wallets once, rejects the rows
+// that are invalid or would overdraw a wallet, and writes the rest with one batched insert, one
+// balance update per wallet and one monthly total update per month, category and currency.
+// Chunks committed before a failure stay imported.
+@Component
+public class TransactionImportProcessor {
+
+    private final TransactionImportRepository importRepository;
+    private final FinanceMonthlyTotalService financeMonthlyTotalService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public TransactionImportProcessor(
+            TransactionImportRepository importRepository,
+            FinanceMonthlyTotalService financeMonthlyTotalService,
+            TransactionTemplate transactionTemplate,
+            @Value("${transaction-import.chunk-size:500}") int chunkSize
+    ) {
+        this.importRepository = importRepository;
+        this.financeMonthlyTotalService = financeMonthlyTotalService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    public void importAll(Long userId, TransactionImportReader reader, Consumer<ChunkResult> progress) throws IOException {
+        List<ImportedTransaction> chunk = new ArrayList<>(chunkSize);
+        ImportedTransaction row;
+        while ((row = reader.next()) != null) {
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                progress.accept(importChunk(userId, chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            progress.accept(importChunk(userId, chunk));
+        }
+    }
+
+    private ChunkResult importChunk(Long userId, List<ImportedTransaction> rows) {
+        return transactionTemplate.execute(status -> processChunk(userId, rows));
+    }
+
+    private ChunkResult processChunk(Long userId, List<ImportedTransaction> rows) {
+        Set<Long> walletIds = new TreeSet<>();
+        rows.stream().filter(ImportedTransaction::isValid).forEach(row -> walletIds.add(row.walletId()));
+
+        Map<Long, WalletBalance> wallets = importRepository.lockWallets(userId, walletIds);
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        Map<MonthlyTotalKey, MonthlyTotal> monthlyTotals = new HashMap<>();
+        Set<YearMonth> months = new HashSet<>();
+        List<NewTransaction> transactions = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+
+        for (ImportedTransaction row : rows) {
+            if (!row.isValid()) {
+                errors.add("Line " + row.line() + ": " + row.error());
+                continue;
+            }
+
+            WalletBalance wallet = wallets.get(row.walletId());
+            if (wallet == null) {
+                errors.add("Line " + row.line() + ": Wallet with ID '" + row.walletId() + "' doesn't belong to the current user");
+                continue;
+            }
+
+            BigDecimal balance = balances.getOrDefault(row.walletId(), wallet.balance());
+            BigDecimal newBalance = balance.add(ExpenseType.normalize(row.category().getType(), row.amount()));
+            if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
+                errors.add("Line " + row.line() + ": Wallet ID '" + row.walletId() + "' doesn't have enough balance.");
+                continue;
+            }
+
+            balances.put(row.walletId(), newBalance);
+            transactions.add(new NewTransaction(
+                    row.walletId(),
+                    row.amount(),
+                    row.category(),
+                    row.description(),
+                    row.date(),
+                    wallet.currency()
+            ));
+            monthlyTotals.computeIfAbsent(
+                    new MonthlyTotalKey(row.date().withDayOfMonth(1), row.category(), wallet.currency()),
+                    key -> new MonthlyTotal()
+            ).add(row.amount());
+            months.add(YearMonth.from(row.date()));
+        }
+
+        if (!transactions.isEmpty()) {
+            importRepository.insertTransactions(userId, transactions);
+            importRepository.updateWalletBalances(balances);
+            monthlyTotals.forEach((key, total) -> financeMonthlyTotalService.addToTotal(
+                    userId,
+                    key.monthStart(),
+                    key.category(),
+                    key.currency(),
+                    total.amount,
+                    total.count
+            ));
+        }
+
+        return new ChunkResult(rows.size(), transactions.size(), errors, months);
+    }
+
+    public record ChunkResult(
+            int read,
+            int imported,
+            List<String> errors,
+            Set<YearMonth> months
+    ) { }
+
+    private record MonthlyTotalKey(
+            LocalDate monthStart,
+            ExpenseCategory category,
+            Currency currency
+    ) { }
+
+    private static class MonthlyTotal {
+        private BigDecimal amount = BigDecimal.ZERO;
+        private int count;
+
+        private void add(BigDecimal value) {
+            amount = amount.add(value);
+            count++;
+        }
+    }
+}
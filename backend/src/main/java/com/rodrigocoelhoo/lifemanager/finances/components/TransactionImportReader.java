@@ -0,0 +1,10 @@
+package com.rodrigocoelhoo.lifemanager.finances.components;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface TransactionImportReader extends Closeable {
+
+    // The next row, or null at the end of the input
+    ImportedTransaction next() throws IOException;
+}
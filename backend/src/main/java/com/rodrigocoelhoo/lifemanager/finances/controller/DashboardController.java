@@ -25,4 +25,10 @@ public class DashboardController {
             ) {
         return ResponseEntity.ok(dashboardService.getMonthOverview(yearMonth, currency));
     }
+
+    @PostMapping("/monthly-totals/rebuild")
+    public ResponseEntity<Void> rebuildMonthlyTotals() {
+        dashboardService.rebuildMonthlyTotals();
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.rodrigocoelhoo.lifemanager.finances.controller;
 
+import com.rodrigocoelhoo.lifemanager.common.SliceResponseDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.PageResponseDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.TransactionDTO;
+import com.rodrigocoelhoo.lifemanager.finances.dto.TransactionImportJobDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.TransactionResponseDTO;
 import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
 import com.rodrigocoelhoo.lifemanager.finances.model.TransactionModel;
+import com.rodrigocoelhoo.lifemanager.finances.service.TransactionImportService;
 import com.rodrigocoelhoo.lifemanager.finances.service.TransactionService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
@@ -16,6 +19,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 
 @RestController
@@ -23,11 +28,14 @@ import java.time.LocalDate;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionImportService transactionImportService;
 
     public TransactionController(
-            TransactionService transactionService
+            TransactionService transactionService,
+            TransactionImportService transactionImportService
     ) {
         this.transactionService = transactionService;
+        this.transactionImportService = transactionImportService;
     }
 
     @GetMapping
@@ -63,6 +71,32 @@ public class TransactionController {
         return ResponseEntity.ok(PageResponseDTO.fromPage(response));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<SliceResponseDTO<TransactionResponseDTO>> getTransactionsByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+
+            @RequestParam(required = false) Long walletId,
+            @RequestParam(required = false) ExpenseCategory category,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate startDate,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate endDate
+    ) {
+        return ResponseEntity.ok(transactionService.getTransactionsAfter(
+                after,
+                size,
+                walletId,
+                category,
+                startDate,
+                endDate
+        ));
+    }
+
     @PostMapping
     public ResponseEntity<TransactionResponseDTO> createTransaction(
             @RequestBody @Valid TransactionDTO data
@@ -71,6 +105,32 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(TransactionResponseDTO.fromEntity(transaction));
     }
 
+    // The raw CSV or OFX file is the request body
+    @PostMapping("/import")
+    public ResponseEntity<TransactionImportJobDTO> importTransactions(
+            @RequestParam String format,
+            @RequestParam(required = false) Long walletId,
+            @RequestParam(required = false) String expenseCategory,
+            @RequestParam(required = false) String incomeCategory,
+            InputStream body
+    ) throws IOException {
+        TransactionImportJobDTO job = transactionImportService.startImport(
+                body,
+                format,
+                walletId,
+                expenseCategory,
+                incomeCategory
+        );
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @GetMapping("/import/{id}")
+    public ResponseEntity<TransactionImportJobDTO> getImport(
+            @PathVariable String id
+    ) {
+        return ResponseEntity.ok(transactionImportService.getImport(id));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TransactionResponseDTO> updateTransaction(
             @PathVariable Long id,
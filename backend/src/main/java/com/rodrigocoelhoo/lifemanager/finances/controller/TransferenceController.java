@@ -1,5 +1,6 @@
 package com.rodrigocoelhoo.lifemanager.finances.controller;
 
+import com.rodrigocoelhoo.lifemanager.common.SliceResponseDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.PageResponseDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.TransferenceDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.TransferenceResponseDTO;
@@ -62,6 +63,32 @@ public class TransferenceController {
         return ResponseEntity.ok(PageResponseDTO.fromPage(transferences));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<SliceResponseDTO<TransferenceResponseDTO>> getTransferencesByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+
+            @RequestParam(required = false) Long senderId,
+            @RequestParam(required = false) Long receiverId,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate startDate,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate endDate
+    ) {
+        return ResponseEntity.ok(transferenceService.getTransferencesAfter(
+                after,
+                size,
+                senderId,
+                receiverId,
+                startDate,
+                endDate
+        ));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TransferenceResponseDTO> getTransference(
             @PathVariable Long id
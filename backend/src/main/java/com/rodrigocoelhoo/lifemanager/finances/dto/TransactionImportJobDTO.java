@@ -0,0 +1,19 @@
+package com.rodrigocoelhoo.lifemanager.finances.dto;
+
+import java.util.List;
+
+public record TransactionImportJobDTO(
+        String id,
+        Status status,
+        long read,
+        long imported,
+        long rejected,
+        List<String> errors,
+        String failure
+) {
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
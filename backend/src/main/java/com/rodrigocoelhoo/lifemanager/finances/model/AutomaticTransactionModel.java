@@ -19,7 +19,8 @@ import java.time.LocalDate;
 public class AutomaticTransactionModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_automatic_transactions_seq")
+    @SequenceGenerator(name = "tb_automatic_transactions_seq", sequenceName = "tb_automatic_transactions_seq", allocationSize = 50)
     @Column(nullable = false)
     private Long id;
 
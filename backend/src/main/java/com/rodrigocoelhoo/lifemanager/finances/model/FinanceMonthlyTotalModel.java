@@ -0,0 +1,44 @@
+package com.rodrigocoelhoo.lifemanager.finances.model;
+
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "tb_finance_monthly_totals")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FinanceMonthlyTotalModel {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_finance_monthly_totals_seq")
+    @SequenceGenerator(name = "tb_finance_monthly_totals_seq", sequenceName = "tb_finance_monthly_totals_seq", allocationSize = 50)
+    @Column(nullable = false)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    private UserModel user;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ExpenseCategory category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Currency currency;
+
+    @Column(precision = 18, scale = 2, nullable = false)
+    private BigDecimal total;
+
+    @Column(name = "transaction_count", nullable = false)
+    private int transactionCount;
+}
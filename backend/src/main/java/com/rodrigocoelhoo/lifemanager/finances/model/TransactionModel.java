@@ -17,7 +17,8 @@ import java.time.LocalDate;
 @Builder
 public class TransactionModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_transactions_seq")
+    @SequenceGenerator(name = "tb_transactions_seq", sequenceName = "tb_transactions_seq", allocationSize = 50)
     @Column(nullable = false)
     private Long id;
 
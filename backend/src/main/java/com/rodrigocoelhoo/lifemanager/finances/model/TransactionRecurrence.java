@@ -1,5 +1,6 @@
 package com.rodrigocoelhoo.lifemanager.finances.model;
 
+import java.time.LocalDate;
 import java.util.EnumSet;
 
 public enum TransactionRecurrence {
@@ -11,4 +12,13 @@ public enum TransactionRecurrence {
     public static EnumSet<TransactionRecurrence> all() {
         return EnumSet.allOf(TransactionRecurrence.class);
     }
+
+    public LocalDate next(LocalDate date, int interval) {
+        return switch (this) {
+            case DAILY -> date.plusDays(interval);
+            case WEEKLY -> date.plusWeeks(interval);
+            case MONTHLY -> date.plusMonths(interval);
+            case YEARLY -> date.plusYears(interval);
+        };
+    }
 }
\ No newline at end of file
@@ -17,7 +17,8 @@ import java.time.LocalDate;
 @Builder
 public class TransferenceModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_transferences_seq")
+    @SequenceGenerator(name = "tb_transferences_seq", sequenceName = "tb_transferences_seq", allocationSize = 50)
     @Column(nullable = false)
     private Long id;
 
@@ -18,7 +18,8 @@ import java.math.BigDecimal;
 @Builder
 public class WalletModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_wallets_seq")
+    @SequenceGenerator(name = "tb_wallets_seq", sequenceName = "tb_wallets_seq", allocationSize = 50)
     @Column(nullable = false)
     private Long id;
 
@@ -0,0 +1,144 @@
+package com.rodrigocoelhoo.lifemanager.finances.repository;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.Currency;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseType;
+import com.rodrigocoelhoo.lifemanager.finances.model.TransactionRecurrence;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.*;
+
+@Repository
+public class AutomaticTransactionBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public AutomaticTransactionBatchRepository(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    // Locks the claimed rules until the surrounding transaction ends; rules locked by another
+    // worker or node are skipped instead of waited for.
+    public List<DueAutomaticTransaction> claimDue(LocalDate today, long afterId, int limit) {
+        return jdbcTemplate.query("""
+                SELECT a.id, a.user_id, a.wallet_id, a.amount, a.type, a.category, a.description,
+                       a.recurrence, a.recurrence_interval, a.next_transaction_date,
+                       (SELECT w.currency FROM tb_wallets w WHERE w.id = a.wallet_id) AS currency,
+                       (SELECT u.username FROM tb_users u WHERE u.id = a.user_id) AS username
+                FROM tb_automatic_transactions a
+                WHERE a.next_transaction_date <= ? AND a.id > ?
+                ORDER BY a.id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+                """,
+                (rs, rowNum) -> new DueAutomaticTransaction(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getString("username"),
+                        rs.getLong("wallet_id"),
+                        rs.getBigDecimal("amount"),
+                        ExpenseType.valueOf(rs.getString("type")),
+                        ExpenseCategory.valueOf(rs.getString("category")),
+                        rs.getString("description"),
+                        TransactionRecurrence.valueOf(rs.getString("recurrence")),
+                        rs.getShort("recurrence_interval"),
+                        rs.getDate("next_transaction_date").toLocalDate(),
+                        Currency.valueOf(rs.getString("currency"))
+                ),
+                Date.valueOf(today), afterId, limit
+        );
+    }
+
+    public Map<Long, BigDecimal> lockWalletBalances(Collection<Long> walletIds) {
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        if (walletIds.isEmpty()) {
+            return balances;
+        }
+
+        namedParameterJdbcTemplate.query(
+                "SELECT id, balance FROM tb_wallets WHERE id IN (:ids) ORDER BY id FOR UPDATE",
+                Map.of("ids", walletIds),
+                rs -> {
+                    balances.put(rs.getLong("id"), rs.getBigDecimal("balance"));
+                }
+        );
+        return balances;
+    }
+
+    public void insertTransactions(List<GeneratedTransaction> transactions) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tb_transactions (user_id, wallet_id, amount, type, description, date, category, currency)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """,
+                transactions,
+                transactions.size(),
+                (ps, tx) -> {
+                    DueAutomaticTransaction rule = tx.rule();
+                    ps.setLong(1, rule.userId());
+                    ps.setLong(2, rule.walletId());
+                    ps.setBigDecimal(3, rule.amount());
+                    ps.setString(4, rule.type().name());
+                    ps.setString(5, rule.description());
+                    ps.setDate(6, Date.valueOf(tx.date()));
+                    ps.setString(7, rule.category().name());
+                    ps.setString(8, rule.currency().name());
+                }
+        );
+    }
+
+    public void updateWalletBalances(Map<Long, BigDecimal> balances) {
+        List<Map.Entry<Long, BigDecimal>> entries = List.copyOf(balances.entrySet());
+        jdbcTemplate.batchUpdate(
+                "UPDATE tb_wallets SET balance = ? WHERE id = ?",
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setBigDecimal(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                }
+        );
+    }
+
+    public void updateNextTransactionDates(Map<Long, LocalDate> nextDates) {
+        List<Map.Entry<Long, LocalDate>> entries = List.copyOf(nextDates.entrySet());
+        jdbcTemplate.batchUpdate(
+                "UPDATE tb_automatic_transactions SET next_transaction_date = ? WHERE id = ?",
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setDate(1, Date.valueOf(entry.getValue()));
+                    ps.setLong(2, entry.getKey());
+                }
+        );
+    }
+
+    public record DueAutomaticTransaction(
+            Long id,
+            Long userId,
+            String username,
+            Long walletId,
+            BigDecimal amount,
+            ExpenseType type,
+            ExpenseCategory category,
+            String description,
+            TransactionRecurrence recurrence,
+            short interval,
+            LocalDate nextTransactionDate,
+            Currency currency
+    ) { }
+
+    public record GeneratedTransaction(
+            DueAutomaticTransaction rule,
+            LocalDate date
+    ) { }
+}
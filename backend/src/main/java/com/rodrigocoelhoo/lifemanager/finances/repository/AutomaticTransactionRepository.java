@@ -2,13 +2,14 @@ package com.rodrigocoelhoo.lifemanager.finances.repository;
 
 import com.rodrigocoelhoo.lifemanager.finances.model.AutomaticTransactionModel;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +19,9 @@ public interface AutomaticTransactionRepository extends JpaRepository<AutomaticT
     Page<AutomaticTransactionModel> findAllByUser(UserModel user, Pageable pageable);
     @EntityGraph(attributePaths = {"wallet"})
     Optional<AutomaticTransactionModel> findByUserAndId(UserModel user, Long id);
-    List<AutomaticTransactionModel> findByNextTransactionDateLessThanEqual(LocalDate nextTransactionDate);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = {"wallet"})
+    Optional<AutomaticTransactionModel> findForUpdateByUserAndId(UserModel user, Long id);
     @EntityGraph(attributePaths = {"wallet"})
     List<AutomaticTransactionModel> findTop5ByUserOrderByNextTransactionDateAscIdDesc(UserModel user);
 }
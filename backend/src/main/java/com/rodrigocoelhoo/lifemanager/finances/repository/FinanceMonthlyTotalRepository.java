@@ -0,0 +1,76 @@
+package com.rodrigocoelhoo.lifemanager.finances.repository;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.FinanceMonthlyTotalModel;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface FinanceMonthlyTotalRepository extends JpaRepository<FinanceMonthlyTotalModel, Long> {
+
+    List<FinanceMonthlyTotalModel> findAllByUserAndMonthStartBetweenAndTransactionCountGreaterThan(
+            UserModel user,
+            LocalDate from,
+            LocalDate to,
+            int transactionCount
+    );
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_finance_monthly_totals (user_id, month_start, category, currency, total, transaction_count)
+            VALUES (:userId, :monthStart, :category, :currency, :amount, :count)
+            ON CONFLICT (user_id, month_start, category, currency) DO UPDATE
+            SET total = tb_finance_monthly_totals.total + EXCLUDED.total,
+                transaction_count = tb_finance_monthly_totals.transaction_count + EXCLUDED.transaction_count
+            """, nativeQuery = true)
+    void addToTotal(
+            @Param("userId") Long userId,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("category") String category,
+            @Param("currency") String currency,
+            @Param("amount") BigDecimal amount,
+            @Param("count") int count
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE tb_finance_monthly_totals t
+            SET total = t.total - s.total,
+                transaction_count = t.transaction_count - s.transaction_count
+            FROM (
+                SELECT user_id, CAST(DATE_TRUNC('MONTH', date) AS DATE) AS month_start, category, currency,
+                       SUM(amount) AS total, COUNT(*) AS transaction_count
+                FROM tb_transactions
+                WHERE wallet_id = :walletId
+                GROUP BY user_id, CAST(DATE_TRUNC('MONTH', date) AS DATE), category, currency
+            ) s
+            WHERE t.user_id = s.user_id
+              AND t.month_start = s.month_start
+              AND t.category = s.category
+              AND t.currency = s.currency
+            """, nativeQuery = true)
+    void subtractWalletTransactions(@Param("walletId") Long walletId);
+
+    @Modifying
+    @Query("DELETE FROM FinanceMonthlyTotalModel t WHERE t.user = :user AND t.transactionCount <= 0")
+    void deleteEmpty(@Param("user") UserModel user);
+
+    @Modifying
+    @Query("DELETE FROM FinanceMonthlyTotalModel t WHERE t.user.id = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO tb_finance_monthly_totals (user_id, month_start, category, currency, total, transaction_count)
+            SELECT user_id, CAST(DATE_TRUNC('MONTH', date) AS DATE), category, currency, SUM(amount), COUNT(*)
+            FROM tb_transactions
+            WHERE user_id = :userId
+            GROUP BY user_id, CAST(DATE_TRUNC('MONTH', date) AS DATE), category, currency
+            """, nativeQuery = true)
+    int insertFromTransactions(@Param("userId") Long userId);
+}
@@ -0,0 +1,95 @@
+package com.rodrigocoelhoo.lifemanager.finances.repository;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.Currency;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.*;
+
+@Repository
+public class TransactionImportRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public TransactionImportRepository(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    // Locks the user's wallets among the given ids until the surrounding transaction ends; ids of
+    // other users' wallets are left out
+    public Map<Long, WalletBalance> lockWallets(Long userId, Collection<Long> walletIds) {
+        Map<Long, WalletBalance> wallets = new HashMap<>();
+        if (walletIds.isEmpty()) {
+            return wallets;
+        }
+
+        namedParameterJdbcTemplate.query(
+                "SELECT id, balance, currency FROM tb_wallets WHERE user_id = :userId AND id IN (:ids) ORDER BY id FOR UPDATE",
+                Map.of("userId", userId, "ids", walletIds),
+                rs -> {
+                    wallets.put(rs.getLong("id"), new WalletBalance(
+                            rs.getBigDecimal("balance"),
+                            Currency.valueOf(rs.getString("currency"))
+                    ));
+                }
+        );
+        return wallets;
+    }
+
+    public void insertTransactions(Long userId, List<NewTransaction> transactions) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tb_transactions (user_id, wallet_id, amount, type, description, date, category, currency)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """,
+                transactions,
+                transactions.size(),
+                (ps, tx) -> {
+                    ps.setLong(1, userId);
+                    ps.setLong(2, tx.walletId());
+                    ps.setBigDecimal(3, tx.amount());
+                    ps.setString(4, tx.category().getType().name());
+                    ps.setString(5, tx.description());
+                    ps.setDate(6, Date.valueOf(tx.date()));
+                    ps.setString(7, tx.category().name());
+                    ps.setString(8, tx.currency().name());
+                }
+        );
+    }
+
+    public void updateWalletBalances(Map<Long, BigDecimal> balances) {
+        List<Map.Entry<Long, BigDecimal>> entries = List.copyOf(balances.entrySet());
+        jdbcTemplate.batchUpdate(
+                "UPDATE tb_wallets SET balance = ? WHERE id = ?",
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setBigDecimal(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                }
+        );
+    }
+
+    public record WalletBalance(
+            BigDecimal balance,
+            Currency currency
+    ) { }
+
+    public record NewTransaction(
+            Long walletId,
+            BigDecimal amount,
+            ExpenseCategory category,
+            String description,
+            LocalDate date,
+            Currency currency
+    ) { }
+}
@@ -1,25 +1,40 @@
 package com.rodrigocoelhoo.lifemanager.finances.repository;
 
+import com.rodrigocoelhoo.lifemanager.common.KeysetCursor;
+import com.rodrigocoelhoo.lifemanager.finances.model.Currency;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseType;
 import com.rodrigocoelhoo.lifemanager.finances.model.TransactionModel;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TransactionRepository extends JpaRepository<TransactionModel, Long>, JpaSpecificationExecutor<TransactionModel> {
     Page<TransactionModel> findAllByUser(UserModel user, Pageable pageable);
     Optional<TransactionModel> findByUserAndId(UserModel user, Long id);
     @EntityGraph(attributePaths = {"wallet"})
     List<TransactionModel> findAllByUserAndDateBetweenOrderByDateDescIdDesc(UserModel user, LocalDate start, LocalDate end);
+    @EntityGraph(attributePaths = {"wallet"})
+    List<TransactionModel> findTop5ByUserAndDateBetweenOrderByDateDescIdDesc(UserModel user, LocalDate start, LocalDate end);
 
     @EntityGraph(attributePaths = {"wallet"})
     @Override
@@ -27,4 +42,48 @@ public interface TransactionRepository extends JpaRepository<TransactionModel, L
             @Nullable Specification<TransactionModel> spec,
             @NonNull Pageable pageable
     );
+
+    default Window<TransactionModel> findAllAfter(
+            Specification<TransactionModel> spec,
+            ScrollPosition position,
+            Limit limit
+    ) {
+        // Scrolling ignores projections, so the wallet is fetched through the specification
+        Specification<TransactionModel> withWallet = spec.and((root, query, cb) -> {
+            root.fetch("wallet");
+            return null;
+        });
+
+        return findBy(withWallet, query -> query
+                .sortBy(KeysetCursor.SORT)
+                .limit(limit.max())
+                .scroll(position)
+        );
+    }
+
+    // Read through a forward-only cursor as projections, so neither the driver nor the persistence
+    // context holds more than one fetch of rows
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new com.rodrigocoelhoo.lifemanager.finances.repository.TransactionRepository$ExportRow(
+            t.id, t.date, t.type, t.category, t.amount, t.currency, t.description, w.id, w.name
+        )
+        FROM TransactionModel t
+        JOIN t.wallet w
+        WHERE t.user.id = :userId
+        ORDER BY t.date, t.id
+    """)
+    Stream<ExportRow> streamExportRows(Long userId);
+
+    record ExportRow(
+            Long id,
+            LocalDate date,
+            ExpenseType type,
+            ExpenseCategory category,
+            BigDecimal amount,
+            Currency currency,
+            String description,
+            Long walletId,
+            String walletName
+    ) { }
 }
@@ -1,20 +1,29 @@
 package com.rodrigocoelhoo.lifemanager.finances.repository;
 
-import com.rodrigocoelhoo.lifemanager.finances.model.TransactionModel;
+import com.rodrigocoelhoo.lifemanager.common.KeysetCursor;
 import com.rodrigocoelhoo.lifemanager.finances.model.TransferenceModel;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TransferenceRepository extends JpaRepository<TransferenceModel, Long>, JpaSpecificationExecutor<TransferenceModel> {
     Page<TransferenceModel> findAllByUser(UserModel user, Pageable pageable);
@@ -28,4 +37,47 @@ public interface TransferenceRepository extends JpaRepository<TransferenceModel,
             @Nullable Specification<TransferenceModel> spec,
             @NonNull Pageable pageable
     );
+
+    default Window<TransferenceModel> findAllAfter(
+            Specification<TransferenceModel> spec,
+            ScrollPosition position,
+            Limit limit
+    ) {
+        // Both wallets are to-one, so they are fetched in the same seek query
+        Specification<TransferenceModel> withWallets = spec.and((root, query, cb) -> {
+            root.fetch("fromWallet");
+            root.fetch("toWallet");
+            return null;
+        });
+
+        return findBy(withWallets, query -> query
+                .sortBy(KeysetCursor.SORT)
+                .limit(limit.max())
+                .scroll(position)
+        );
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new com.rodrigocoelhoo.lifemanager.finances.repository.TransferenceRepository$ExportRow(
+            t.id, t.date, t.amount, t.description, f.id, f.name, tw.id, tw.name
+        )
+        FROM TransferenceModel t
+        JOIN t.fromWallet f
+        JOIN t.toWallet tw
+        WHERE t.user.id = :userId
+        ORDER BY t.date, t.id
+    """)
+    Stream<ExportRow> streamExportRows(Long userId);
+
+    record ExportRow(
+            Long id,
+            LocalDate date,
+            BigDecimal amount,
+            String description,
+            Long fromWalletId,
+            String fromWalletName,
+            Long toWalletId,
+            String toWalletName
+    ) { }
 }
@@ -5,11 +5,18 @@ import com.rodrigocoelhoo.lifemanager.users.UserModel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
 public interface WalletRepository extends JpaRepository<WalletModel, Long> {
     Page<WalletModel> findAllByUser(UserModel user, Pageable pageable);
     Optional<WalletModel> findByUserAndId(UserModel user, Long id);
+    @Query("""
+        SELECT w
+        FROM WalletModel w
+        WHERE w.user = :user
+          AND w.name ILIKE CONCAT('%', :#{escape(#name)}, '%') ESCAPE :#{escapeCharacter()}
+    """)
     Page<WalletModel> findByUserAndNameContainingIgnoreCase(UserModel user, String name, Pageable pageable);
 }
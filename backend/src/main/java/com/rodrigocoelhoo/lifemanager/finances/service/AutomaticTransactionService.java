@@ -2,6 +2,7 @@ package com.rodrigocoelhoo.lifemanager.finances.service;
 
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import com.rodrigocoelhoo.lifemanager.finances.components.AutomaticTransactionBatchProcessor;
 import com.rodrigocoelhoo.lifemanager.finances.dto.AutomaticTransactionDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.AutomaticTransactionResponseDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.AutomaticTransactionSimple;
@@ -11,16 +12,19 @@ import com.rodrigocoelhoo.lifemanager.finances.repository.TransactionRepository;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
 import com.rodrigocoelhoo.lifemanager.users.UserService;
 import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.util.List;
 
+@Slf4j
 @Service
 public class AutomaticTransactionService {
 
@@ -29,6 +33,8 @@ public class AutomaticTransactionService {
     private final WalletService walletService;
     private final TransactionRepository transactionRepository;
     private final RedisCacheService redisCacheService;
+    private final FinanceMonthlyTotalService financeMonthlyTotalService;
+    private final AutomaticTransactionBatchProcessor automaticTransactionBatchProcessor;
 
     private static final String CACHE_LIST = "bills";
     private static final String CACHE_NEXT = "nextBills";
@@ -38,13 +44,17 @@ public class AutomaticTransactionService {
             AutomaticTransactionRepository automaticTransactionRepository,
             WalletService walletService,
             TransactionRepository transactionRepository,
-            RedisCacheService redisCacheService
+            RedisCacheService redisCacheService,
+            FinanceMonthlyTotalService financeMonthlyTotalService,
+            AutomaticTransactionBatchProcessor automaticTransactionBatchProcessor
     ) {
         this.userService = userService;
         this.automaticTransactionRepository = automaticTransactionRepository;
         this.walletService = walletService;
         this.transactionRepository = transactionRepository;
         this.redisCacheService = redisCacheService;
+        this.financeMonthlyTotalService = financeMonthlyTotalService;
+        this.automaticTransactionBatchProcessor = automaticTransactionBatchProcessor;
     }
 
     public AutomaticTransactionModel getAutomaticTransaction(Long id) {
@@ -162,59 +172,67 @@ public class AutomaticTransactionService {
 
     public void processDailyAutomaticTransactions() {
         LocalDate today = LocalDate.now(ZoneOffset.UTC);
-        List<AutomaticTransactionModel> dueTransactions = automaticTransactionRepository.findByNextTransactionDateLessThanEqual(today);
-
-        for (AutomaticTransactionModel autoTx : dueTransactions) {
-            processAutomaticTransaction(autoTx);
-        }
-        redisCacheService.evictUserCache(CACHE_LIST);
-        redisCacheService.evictUserCache(CACHE_NEXT);
-        redisCacheService.evictUserCache("transactions");
-        redisCacheService.evictUserCacheSpecific("financesDashboard", "yearMonth:" + YearMonth.now() + "*");
+        AutomaticTransactionBatchProcessor.Result result = automaticTransactionBatchProcessor.processDue(today);
+        log.info("Created {} transactions from automatic transactions due until {} for {} users",
+                result.created(), today, result.affectedMonths().size());
+
+        // Scheduler threads have no authenticated user, so evict explicitly for everyone affected
+        RedisCacheService.Evictions evictions = new RedisCacheService.Evictions();
+        result.affectedMonths().forEach((username, months) -> {
+            evictions.evict(username, CACHE_LIST)
+                    .evict(username, CACHE_NEXT)
+                    .evict(username, "transactions")
+                    .evict(username, "wallets")
+                    .evictScope(username, "financesDashboard", "yearMonth:" + YearMonth.now());
+            months.forEach(month -> evictions.evictScope(username, "financesDashboard", "yearMonth:" + month));
+        });
+        redisCacheService.evict(evictions);
     }
 
+    @Transactional
     public void processAutomaticTransaction(Long id) {
-        processAutomaticTransaction(getAutomaticTransaction(id));
+        UserModel user = userService.getLoggedInUser();
+        AutomaticTransactionModel automaticTransaction = automaticTransactionRepository.findForUpdateByUserAndId(user, id)
+                .orElseThrow(() -> new BadRequestException("Automatic transaction with ID '" + id + "' doesn't belong to the current user"));
+
+        YearMonth transactionMonth = YearMonth.from(automaticTransaction.getNextTransactionDate());
+        processAutomaticTransaction(automaticTransaction);
+
         redisCacheService.evictUserCache(CACHE_LIST);
         redisCacheService.evictUserCache(CACHE_NEXT);
         redisCacheService.evictUserCache("transactions");
+        redisCacheService.evictUserCache("wallets");
+        redisCacheService.evictUserCacheSpecific("financesDashboard", "yearMonth:" + transactionMonth + "*");
         redisCacheService.evictUserCacheSpecific("financesDashboard", "yearMonth:" + YearMonth.now() + "*");
     }
 
     public void processAutomaticTransaction(AutomaticTransactionModel autoTx) {
-        try {
-            TransactionModel transaction = TransactionModel.builder()
-                    .user(autoTx.getUser())
-                    .wallet(autoTx.getWallet())
-                    .amount(autoTx.getAmount())
-                    .category(autoTx.getCategory())
-                    .type(autoTx.getType())
-                    .description(autoTx.getDescription())
-                    .currency(autoTx.getWallet().getCurrency())
-                    .date(autoTx.getNextTransactionDate())
-                    .build();
-
-            transactionRepository.save(transaction);
-
-            LocalDate nextDate = calculateNextDate(
-                    autoTx.getNextTransactionDate(),
-                    autoTx.getRecurrence(),
-                    autoTx.getInterval()
-            );
-            autoTx.setNextTransactionDate(nextDate);
-            automaticTransactionRepository.save(autoTx);
-        } catch (Exception e) {
-            System.err.println("Failed to process automatic transaction " + autoTx.getId() + ": " + e.getMessage());
+        WalletModel wallet = autoTx.getWallet();
+        BigDecimal newBalance = wallet.getBalance().add(
+                ExpenseType.normalize(autoTx.getType(), autoTx.getAmount())
+        );
+        if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
+            throw new BadRequestException("Wallet ID '" + wallet.getId() + "' doesn't have enough balance.");
         }
-    }
+        wallet.setBalance(newBalance);
+
+        TransactionModel transaction = TransactionModel.builder()
+                .user(autoTx.getUser())
+                .wallet(wallet)
+                .amount(autoTx.getAmount())
+                .category(autoTx.getCategory())
+                .type(autoTx.getType())
+                .description(autoTx.getDescription())
+                .currency(wallet.getCurrency())
+                .date(autoTx.getNextTransactionDate())
+                .build();
+
+        transactionRepository.save(transaction);
+        financeMonthlyTotalService.addTransaction(transaction);
 
-    private LocalDate calculateNextDate(LocalDate currentDate, TransactionRecurrence recurrence, int interval) {
-        return switch (recurrence) {
-            case DAILY -> currentDate.plusDays(interval);
-            case WEEKLY -> currentDate.plusWeeks(interval);
-            case MONTHLY -> currentDate.plusMonths(interval);
-            case YEARLY -> currentDate.plusYears(interval);
-            default -> throw new IllegalArgumentException("Unknown recurrence: " + recurrence);
-        };
+        autoTx.setNextTransactionDate(
+                autoTx.getRecurrence().next(autoTx.getNextTransactionDate(), autoTx.getInterval())
+        );
+        automaticTransactionRepository.save(autoTx);
     }
 }
@@ -1,8 +1,10 @@
 package com.rodrigocoelhoo.lifemanager.finances.service;
 
+import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.finances.dto.*;
 import com.rodrigocoelhoo.lifemanager.finances.model.*;
 import com.rodrigocoelhoo.lifemanager.finances.model.Currency;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
@@ -23,6 +25,9 @@ public class DashboardService {
     private final WalletService walletService;
     private final TransferenceService transferenceService;
     private final AutomaticTransactionService automaticTransactionService;
+    private final FinanceMonthlyTotalService financeMonthlyTotalService;
+    private final UserService userService;
+    private final RedisCacheService redisCacheService;
 
     private static final String CACHE_DASHBOARD = "financesDashboard";
 
@@ -30,25 +35,38 @@ public class DashboardService {
             TransactionService transactionService,
             WalletService walletService,
             TransferenceService transferenceService,
-            AutomaticTransactionService automaticTransactionService
+            AutomaticTransactionService automaticTransactionService,
+            FinanceMonthlyTotalService financeMonthlyTotalService,
+            UserService userService,
+            RedisCacheService redisCacheService
     ) {
         this.transactionService = transactionService;
         this.walletService = walletService;
         this.transferenceService = transferenceService;
         this.automaticTransactionService = automaticTransactionService;
+        this.financeMonthlyTotalService = financeMonthlyTotalService;
+        this.userService = userService;
+        this.redisCacheService = redisCacheService;
+    }
+
+    // The rebuild commits before the dashboard is evicted, so no read caches the old totals again
+    public void rebuildMonthlyTotals() {
+        financeMonthlyTotalService.rebuildTotals(userService.getLoggedInUser().getId());
+        redisCacheService.evictUserCache(CACHE_DASHBOARD);
     }
 
     @Cacheable(
             value = CACHE_DASHBOARD,
-            key = "T(com.rodrigocoelhoo.lifemanager.config.RedisCacheService).getCurrentUsername() + " +
-                    "'::yearMonth:' + #yearMonth + " +
+            key = "@redisCacheService.userKey('financesDashboard', 'yearMonth:' + #yearMonth) + " +
                     "'::currency:' + #currency.name()"
     )
     public MonthOverviewDTO getMonthOverview(YearMonth yearMonth, Currency currency) {
         LocalDate start = yearMonth.atDay(1);
         LocalDate end   = yearMonth.atEndOfMonth();
 
-        List<TransactionInternalDTO> currentMonthTransactions = transactionService.getTransactionsByRange(start, end);
+        boolean isCurrentMonth = YearMonth.now().equals(yearMonth);
+        YearMonth firstMonth = isCurrentMonth ? yearMonth.minusMonths(5) : yearMonth;
+        List<FinanceMonthlyTotalModel> monthlyTotals = financeMonthlyTotalService.getMonthlyTotals(firstMonth, yearMonth);
 
         BigDecimal totalExpenses = BigDecimal.ZERO;
         LinkedHashMap<ExpenseCategory, BigDecimal> expenses = new LinkedHashMap<>();
@@ -56,33 +74,28 @@ public class DashboardService {
         BigDecimal totalIncome = BigDecimal.ZERO;
         LinkedHashMap<ExpenseCategory, BigDecimal> income = new LinkedHashMap<>();
 
-        for(TransactionInternalDTO transaction : currentMonthTransactions) {
-            ExpenseCategory transactionCategory = transaction.category();
-            BigDecimal amount = transaction.currency().convertTo(transaction.amount(), currency);
+        for (FinanceMonthlyTotalModel total : monthlyTotals) {
+            if (!YearMonth.from(total.getMonthStart()).equals(yearMonth)) {
+                continue;
+            }
+
+            ExpenseCategory category = total.getCategory();
+            BigDecimal amount = total.getCurrency().convertTo(total.getTotal(), currency);
 
-            if (transactionCategory.getType().equals(ExpenseType.EXPENSE)) {
+            if (category.getType().equals(ExpenseType.EXPENSE)) {
                 totalExpenses = totalExpenses.add(amount);
-
-                expenses.put(transactionCategory,
-                    expenses.getOrDefault(transactionCategory, BigDecimal.ZERO)
-                            .add(amount)
-                );
+                expenses.merge(category, amount, BigDecimal::add);
             }
             else {
                 totalIncome = totalIncome.add(amount);
-
-                income.put(transactionCategory,
-                        income.getOrDefault(transactionCategory, BigDecimal.ZERO)
-                                .add(amount)
-                );
+                income.merge(category, amount, BigDecimal::add);
             }
         }
 
         BigDecimal netBalance = totalIncome.subtract(totalExpenses);
-        List<TransactionInternalDTO> recentTransactions = currentMonthTransactions.subList(0, Math.min(currentMonthTransactions.size(), 5));
+        List<TransactionInternalDTO> recentTransactions = transactionService.get5RecentTransactions(start, end);
         List<TransferenceResponseDTO> recentTransferences = transferenceService.get5RecentTransferences(start, end);
 
-        boolean isCurrentMonth = YearMonth.now().equals(yearMonth);
         List<WalletResponseDTO> wallets = new ArrayList<>();
         List<AutomaticTransactionSimple> automaticTransactions = new ArrayList<>();
         LinkedHashMap<YearMonth, Netbalance> previousMonthsNetBalance = new LinkedHashMap<>();
@@ -94,27 +107,10 @@ public class DashboardService {
             automaticTransactions = automaticTransactionService.get5NextAutomaticTransaction();
 
             // NetBalance
-            List<TransactionInternalDTO> pastMonthTransactions = transactionService.getTransactionsByRange(
-                    yearMonth.minusMonths(5).atDay(1),
-                    yearMonth.minusMonths(1).atEndOfMonth()
-            );
-
-            LinkedHashMap<YearMonth, List<TransactionInternalDTO>> months = new LinkedHashMap<>();
-            for (int i = 1; i <= 5; i++) {
-                months.put(yearMonth.minusMonths(i), new ArrayList<>());
-            }
-
-            for (TransactionInternalDTO tx : pastMonthTransactions) {
-                YearMonth txMonth = YearMonth.from(tx.date());
-
-                if (months.containsKey(txMonth)) {
-                    months.get(txMonth).add(tx);
-                }
-            }
-
-            for (Map.Entry<YearMonth, List<TransactionInternalDTO>> entry : months.entrySet()) {
-                Netbalance monthNetbalance = calculateNetBalanceForList(entry.getValue(), currency);
-                previousMonthsNetBalance.put(entry.getKey(), monthNetbalance);
+            for (int i = 5; i >= 1; i--) {
+                previousMonthsNetBalance.put(yearMonth.minusMonths(i), calculateNetBalance(
+                        monthlyTotals, yearMonth.minusMonths(i), currency
+                ));
             }
             previousMonthsNetBalance.put(yearMonth, new Netbalance(totalIncome, totalExpenses));
         }
@@ -135,17 +131,22 @@ public class DashboardService {
         );
     }
 
-    private Netbalance calculateNetBalanceForList(
-            List<TransactionInternalDTO> txs,
+    private Netbalance calculateNetBalance(
+            List<FinanceMonthlyTotalModel> monthlyTotals,
+            YearMonth yearMonth,
             Currency targetCurrency
     ) {
         BigDecimal income = BigDecimal.ZERO;
         BigDecimal expenses = BigDecimal.ZERO;
 
-        for (TransactionInternalDTO tx : txs) {
-            BigDecimal converted = tx.wallet().currency().convertTo(tx.amount(), targetCurrency);
+        for (FinanceMonthlyTotalModel total : monthlyTotals) {
+            if (!YearMonth.from(total.getMonthStart()).equals(yearMonth)) {
+                continue;
+            }
+
+            BigDecimal converted = total.getCurrency().convertTo(total.getTotal(), targetCurrency);
 
-            if (tx.category().getType() == ExpenseType.EXPENSE) {
+            if (total.getCategory().getType() == ExpenseType.EXPENSE) {
                 expenses = expenses.add(converted);
             } else {
                 income = income.add(converted);
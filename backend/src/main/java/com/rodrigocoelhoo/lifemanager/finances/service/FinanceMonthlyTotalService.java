@@ -0,0 +1,100 @@
+package com.rodrigocoelhoo.lifemanager.finances.service;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.Currency;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
+import com.rodrigocoelhoo.lifemanager.finances.model.FinanceMonthlyTotalModel;
+import com.rodrigocoelhoo.lifemanager.finances.model.TransactionModel;
+import com.rodrigocoelhoo.lifemanager.finances.model.WalletModel;
+import com.rodrigocoelhoo.lifemanager.finances.repository.FinanceMonthlyTotalRepository;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@Service
+public class FinanceMonthlyTotalService {
+
+    private final FinanceMonthlyTotalRepository financeMonthlyTotalRepository;
+    private final UserService userService;
+
+    public FinanceMonthlyTotalService(
+            FinanceMonthlyTotalRepository financeMonthlyTotalRepository,
+            UserService userService
+    ) {
+        this.financeMonthlyTotalRepository = financeMonthlyTotalRepository;
+        this.userService = userService;
+    }
+
+    public List<FinanceMonthlyTotalModel> getMonthlyTotals(YearMonth from, YearMonth to) {
+        UserModel user = userService.getLoggedInUser();
+        return financeMonthlyTotalRepository.findAllByUserAndMonthStartBetweenAndTransactionCountGreaterThan(
+                user,
+                from.atDay(1),
+                to.atDay(1),
+                0
+        );
+    }
+
+    @Transactional
+    public void addTransaction(TransactionModel transaction) {
+        addToTotal(
+                transaction.getUser().getId(),
+                transaction.getDate(),
+                transaction.getCategory(),
+                transaction.getCurrency(),
+                transaction.getAmount(),
+                1
+        );
+    }
+
+    @Transactional
+    public void addToTotal(
+            Long userId,
+            LocalDate date,
+            ExpenseCategory category,
+            Currency currency,
+            BigDecimal amount,
+            int transactionCount
+    ) {
+        financeMonthlyTotalRepository.addToTotal(
+                userId,
+                date.withDayOfMonth(1),
+                category.name(),
+                currency.name(),
+                amount,
+                transactionCount
+        );
+    }
+
+    @Transactional
+    public void removeTransaction(TransactionModel transaction) {
+        financeMonthlyTotalRepository.addToTotal(
+                transaction.getUser().getId(),
+                transaction.getDate().withDayOfMonth(1),
+                transaction.getCategory().name(),
+                transaction.getCurrency().name(),
+                transaction.getAmount().negate(),
+                -1
+        );
+        financeMonthlyTotalRepository.deleteEmpty(transaction.getUser());
+    }
+
+    @Transactional
+    public void removeWalletTransactions(WalletModel wallet) {
+        financeMonthlyTotalRepository.subtractWalletTransactions(wallet.getId());
+        financeMonthlyTotalRepository.deleteEmpty(wallet.getUser());
+    }
+
+    // Recomputes the user's totals from their transactions, the same aggregation V24 ran once for
+    // everyone. Safe to run again whenever the totals drift; returns the number of rows written
+    @Transactional
+    public int rebuildTotals(Long userId) {
+        financeMonthlyTotalRepository.deleteAllByUserId(userId);
+        return financeMonthlyTotalRepository.insertFromTransactions(userId);
+    }
+}
@@ -0,0 +1,278 @@
+package com.rodrigocoelhoo.lifemanager.finances.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
+import com.rodrigocoelhoo.lifemanager.finances.components.TransactionImportFormat;
+import com.rodrigocoelhoo.lifemanager.finances.components.TransactionImportOptions;
+import com.rodrigocoelhoo.lifemanager.finances.components.TransactionImportProcessor;
+import com.rodrigocoelhoo.lifemanager.finances.components.TransactionImportReader;
+import com.rodrigocoelhoo.lifemanager.finances.dto.TransactionImportJobDTO;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseType;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.*;
+
+// The upload is copied to a temporary file as it arrives and imported from there on a virtual
+// thread, so the request returns a job to poll instead of waiting for thousands of rows. The node
+// running a job writes its status to Redis after every chunk, so any node can answer a poll.
+@Slf4j
+@Service
+public class TransactionImportService {
+
+    static final int MAX_ERRORS = 100;
+
+    private static final String KEY_PREFIX = "transactionImport::";
+    private static final Duration JOB_TTL = Duration.ofHours(24);
+
+    private final TransactionImportProcessor transactionImportProcessor;
+    private final UserService userService;
+    private final RedisCacheService redisCacheService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+
+    public TransactionImportService(
+            TransactionImportProcessor transactionImportProcessor,
+            UserService userService,
+            RedisCacheService redisCacheService,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${transaction-import.max-bytes:52428800}") long maxBytes
+    ) {
+        this.transactionImportProcessor = transactionImportProcessor;
+        this.userService = userService;
+        this.redisCacheService = redisCacheService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+    }
+
+    public TransactionImportJobDTO startImport(
+            InputStream body,
+            String format,
+            Long walletId,
+            String expenseCategory,
+            String incomeCategory
+    ) throws IOException {
+        TransactionImportFormat importFormat = validateFormat(format);
+        if (importFormat == TransactionImportFormat.OFX && walletId == null) {
+            throw new BadRequestException("Wallet ID must be provided for OFX imports");
+        }
+        TransactionImportOptions options = new TransactionImportOptions(
+                walletId,
+                validateCategory(expenseCategory == null ? ExpenseCategory.OTHER.name() : expenseCategory, ExpenseType.EXPENSE),
+                incomeCategory == null ? null : validateCategory(incomeCategory, ExpenseType.INCOME)
+        );
+
+        Long userId = userService.getLoggedInUser().getId();
+        String username = RedisCacheService.getCurrentUsername();
+        Path file = spool(body);
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), userId);
+        TransactionImportJobDTO started = job.toDTO();
+        try {
+            save(job.userId, started);
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        Thread.ofVirtual()
+                .name("transaction-import-" + job.id)
+                .start(() -> run(job, username, file, importFormat, options));
+        return started;
+    }
+
+    public TransactionImportJobDTO getImport(String id) {
+        StoredJob job = read(redisTemplate.opsForValue().get(KEY_PREFIX + id));
+        if (job == null || !job.userId().equals(userService.getLoggedInUser().getId())) {
+            throw new ResourceNotFound("Import with ID '" + id + "' doesn't belong to the current user");
+        }
+        return job.status();
+    }
+
+    private void run(
+            ImportJob job,
+            String username,
+            Path file,
+            TransactionImportFormat format,
+            TransactionImportOptions options
+    ) {
+        Set<YearMonth> months = new HashSet<>();
+        String failure = null;
+        try (
+                Reader input = new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8);
+                TransactionImportReader reader = format.open(input, options)
+        ) {
+            transactionImportProcessor.importAll(job.userId, reader, chunk -> {
+                months.addAll(chunk.months());
+                saveProgress(job, job.record(chunk));
+            });
+        } catch (BadRequestException e) {
+            failure = e.getMessage();
+        } catch (Exception e) {
+            log.error("Transaction import {} failed", job.id, e);
+            failure = "The import stopped on an unexpected error; the transactions counted as imported were kept";
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete import file {}", file, e);
+            }
+        }
+
+        // Caches are dropped before the job reports it finished, so a client polling for the end
+        // reads the imported transactions afterwards
+        evictCaches(username, months);
+        saveProgress(job, job.finish(failure));
+    }
+
+    private void save(Long userId, TransactionImportJobDTO status) {
+        try {
+            redisTemplate.opsForValue().set(
+                    KEY_PREFIX + status.id(),
+                    objectMapper.writeValueAsString(new StoredJob(userId, status)),
+                    JOB_TTL
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize import " + status.id(), e);
+        }
+    }
+
+    // A status that fails to reach Redis shouldn't stop the import; the next chunk writes it again
+    private void saveProgress(ImportJob job, TransactionImportJobDTO status) {
+        try {
+            save(job.userId, status);
+        } catch (RuntimeException e) {
+            log.warn("Failed to store the status of import {}", job.id, e);
+        }
+    }
+
+    private StoredJob read(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, StoredJob.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Discarding unreadable import status", e);
+            return null;
+        }
+    }
+
+    // Once per import rather than once per transaction
+    private void evictCaches(String username, Set<YearMonth> months) {
+        if (months.isEmpty()) {
+            return;
+        }
+        RedisCacheService.Evictions evictions = new RedisCacheService.Evictions()
+                .evict(username, "transactions")
+                .evict(username, "wallets")
+                .evictScope(username, "financesDashboard", "yearMonth:" + YearMonth.now());
+        months.forEach(month -> evictions.evictScope(username, "financesDashboard", "yearMonth:" + month));
+        redisCacheService.evict(evictions);
+    }
+
+    private Path spool(InputStream body) throws IOException {
+        Path file = Files.createTempFile("transaction-import-", ".tmp");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new BadRequestException("The file is larger than " + maxBytes / (1024 * 1024) + " MB");
+                }
+                out.write(buffer, 0, read);
+            }
+            if (total == 0) {
+                throw new BadRequestException("The file is empty");
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private TransactionImportFormat validateFormat(String format) {
+        try {
+            return TransactionImportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException("Format '" + format.toUpperCase() + "' doesn't exist.\n" +
+                    "Valid Formats: " + TransactionImportFormat.all());
+        }
+    }
+
+    private ExpenseCategory validateCategory(String category, ExpenseType type) {
+        ExpenseCategory expenseCategory;
+        try {
+            expenseCategory = ExpenseCategory.valueOf(category.toUpperCase());
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException("Category '" + category.toUpperCase() + "' doesn't exist.\n" +
+                    "Valid Categories: " + ExpenseCategory.all());
+        }
+        if (expenseCategory.getType() != type) {
+            throw new BadRequestException("Category '" + expenseCategory + "' isn't an " + type.name().toLowerCase() + " category");
+        }
+        return expenseCategory;
+    }
+
+    private static final class ImportJob {
+
+        private final String id;
+        private final Long userId;
+        private TransactionImportJobDTO.Status status = TransactionImportJobDTO.Status.RUNNING;
+        private long read;
+        private long imported;
+        private final List<String> errors = new ArrayList<>();
+        private String failure;
+
+        private ImportJob(String id, Long userId) {
+            this.id = id;
+            this.userId = userId;
+        }
+
+        private synchronized TransactionImportJobDTO record(TransactionImportProcessor.ChunkResult chunk) {
+            read += chunk.read();
+            imported += chunk.imported();
+            chunk.errors().stream()
+                    .limit(Math.max(0, MAX_ERRORS - errors.size()))
+                    .forEach(errors::add);
+            return toDTO();
+        }
+
+        private synchronized TransactionImportJobDTO finish(String failure) {
+            this.failure = failure;
+            this.status = failure == null
+                    ? TransactionImportJobDTO.Status.COMPLETED
+                    : TransactionImportJobDTO.Status.FAILED;
+            return toDTO();
+        }
+
+        private synchronized TransactionImportJobDTO toDTO() {
+            return new TransactionImportJobDTO(id, status, read, imported, read - imported, List.copyOf(errors), failure);
+        }
+    }
+
+    private record StoredJob(Long userId, TransactionImportJobDTO status) {
+    }
+}
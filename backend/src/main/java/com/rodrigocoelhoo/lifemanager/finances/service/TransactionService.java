@@ -1,5 +1,7 @@
 package com.rodrigocoelhoo.lifemanager.finances.service;
 
+import com.rodrigocoelhoo.lifemanager.common.KeysetCursor;
+import com.rodrigocoelhoo.lifemanager.common.SliceResponseDTO;
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
@@ -19,6 +21,7 @@ import jakarta.validation.Valid;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
@@ -34,6 +37,7 @@ public class TransactionService {
     private final TransactionRepository transactionRepository;
     private final WalletService walletService;
     private final RedisCacheService redisCacheService;
+    private final FinanceMonthlyTotalService financeMonthlyTotalService;
 
     private static final String CACHE_LIST = "transactions";
 
@@ -41,12 +45,14 @@ public class TransactionService {
             UserService userService,
             TransactionRepository transactionRepository,
             WalletService walletService,
-            RedisCacheService redisCacheService
+            RedisCacheService redisCacheService,
+            FinanceMonthlyTotalService financeMonthlyTotalService
     ) {
         this.userService = userService;
         this.transactionRepository = transactionRepository;
         this.walletService = walletService;
         this.redisCacheService = redisCacheService;
+        this.financeMonthlyTotalService = financeMonthlyTotalService;
     }
 
     @Cacheable(value = CACHE_LIST, keyGenerator = "userAwareKeyGenerator")
@@ -71,9 +77,37 @@ public class TransactionService {
         return transactionRepository.findAll(spec, pageable).map(TransactionResponseDTO::fromEntity);
     }
 
+    @Cacheable(value = CACHE_LIST, keyGenerator = "userAwareKeyGenerator")
+    public SliceResponseDTO<TransactionResponseDTO> getTransactionsAfter(
+            String after,
+            int size,
+            Long walletId,
+            ExpenseCategory category,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        UserModel user = userService.getLoggedInUser();
+
+        Specification<TransactionModel> spec =
+                TransactionSpecification.withFilters(
+                        user,
+                        walletId,
+                        category,
+                        startDate,
+                        endDate
+                );
+
+        Window<TransactionModel> window = transactionRepository.findAllAfter(
+                spec,
+                KeysetCursor.decode(after, LocalDate::parse),
+                KeysetCursor.limit(size)
+        );
+        return SliceResponseDTO.fromWindow(window.map(TransactionResponseDTO::fromEntity));
+    }
+
     @Cacheable(
             value = CACHE_LIST,
-            key = "T(com.rodrigocoelhoo.lifemanager.config.RedisCacheService).getCurrentUsername() + " +
+            key = "@redisCacheService.userKey('transactions') + " +
                     "'::byRange:' + #start + '|' + #end"
     )
     public List<TransactionInternalDTO> getTransactionsByRange(
@@ -86,6 +120,16 @@ public class TransactionService {
                 .toList();
     }
 
+    public List<TransactionInternalDTO> get5RecentTransactions(
+            LocalDate start,
+            LocalDate end
+    ) {
+        UserModel user = userService.getLoggedInUser();
+        return transactionRepository.findTop5ByUserAndDateBetweenOrderByDateDescIdDesc(user, start, end)
+                .stream().map(TransactionInternalDTO::fromEntity)
+                .toList();
+    }
+
     public TransactionModel getTransaction(
             Long id
     ) {
@@ -134,6 +178,7 @@ public class TransactionService {
                 .build();
 
         TransactionModel saved = transactionRepository.save(transaction);
+        financeMonthlyTotalService.addTransaction(saved);
 
         YearMonth yearMonth = YearMonth.from(transaction.getDate());
         redisCacheService.evictUserCache(CACHE_LIST);
@@ -156,6 +201,8 @@ public class TransactionService {
         WalletModel currentWallet = transaction.getWallet();
 
         adjustWalletBalance(currentWallet, newWallet, newCategory.getType(), data.amount(), transaction);
+        financeMonthlyTotalService.removeTransaction(transaction);
+        YearMonth previousYearMonth = YearMonth.from(transaction.getDate());
 
         transaction.setWallet(newWallet);
         transaction.setAmount(data.amount());
@@ -166,10 +213,12 @@ public class TransactionService {
         transaction.setCurrency(newWallet.getCurrency());
 
         TransactionModel saved = transactionRepository.save(transaction);
+        financeMonthlyTotalService.addTransaction(saved);
 
         YearMonth yearMonth = YearMonth.from(transaction.getDate());
         redisCacheService.evictUserCache(CACHE_LIST);
         redisCacheService.evictUserCache("wallets");
+        redisCacheService.evictUserCacheSpecific("financesDashboard", "yearMonth:" + previousYearMonth + "*");
         redisCacheService.evictUserCacheSpecific("financesDashboard", "yearMonth:" + yearMonth + "*");
         redisCacheService.evictUserCacheSpecific("financesDashboard", "yearMonth:" + YearMonth.now() + "*");
         return saved;
@@ -236,6 +285,7 @@ public class TransactionService {
         wallet.setBalance(newBalance);
 
         transactionRepository.delete(transaction);
+        financeMonthlyTotalService.removeTransaction(transaction);
 
         YearMonth yearMonth = YearMonth.from(transaction.getDate());
         redisCacheService.evictUserCache(CACHE_LIST);
@@ -1,5 +1,7 @@
 package com.rodrigocoelhoo.lifemanager.finances.service;
 
+import com.rodrigocoelhoo.lifemanager.common.KeysetCursor;
+import com.rodrigocoelhoo.lifemanager.common.SliceResponseDTO;
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
@@ -17,6 +19,7 @@ import jakarta.transaction.Transactional;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
@@ -75,6 +78,34 @@ public class TransferenceService {
         return transferenceRepository.findAll(spec, pageable).map(TransferenceResponseDTO::fromEntity);
     }
 
+    @Cacheable(value = CACHE_LIST, keyGenerator = "userAwareKeyGenerator")
+    public SliceResponseDTO<TransferenceResponseDTO> getTransferencesAfter(
+            String after,
+            int size,
+            Long sender,
+            Long receiver,
+            LocalDate startDate,
+            LocalDate endDate
+    ) {
+        UserModel user = userService.getLoggedInUser();
+
+        Specification<TransferenceModel> spec =
+                TransferenceSpecification.withFilters(
+                        user,
+                        sender,
+                        receiver,
+                        startDate,
+                        endDate
+                );
+
+        Window<TransferenceModel> window = transferenceRepository.findAllAfter(
+                spec,
+                KeysetCursor.decode(after, LocalDate::parse),
+                KeysetCursor.limit(size)
+        );
+        return SliceResponseDTO.fromWindow(window.map(TransferenceResponseDTO::fromEntity));
+    }
+
     public TransferenceModel getTransference(Long id) {
         UserModel user = userService.getLoggedInUser();
         return transferenceRepository.findByUserAndId(user, id)
@@ -83,7 +114,7 @@ public class TransferenceService {
 
     @Cacheable(
             value = CACHE_LIST,
-            key = "T(com.rodrigocoelhoo.lifemanager.config.RedisCacheService).getCurrentUsername() + " +
+            key = "@redisCacheService.userKey('transferences') + " +
                     "'::recent5:' + #start + '|' + #end"
     )
     public List<TransferenceResponseDTO> get5RecentTransferences(
@@ -27,17 +27,20 @@ public class WalletService {
     private final UserService userService;
     private final WalletRepository walletRepository;
     private final RedisCacheService redisCacheService;
+    private final FinanceMonthlyTotalService financeMonthlyTotalService;
 
     private static final String CACHE_LIST = "wallets";
 
     public WalletService(
             UserService userService,
             WalletRepository walletRepository,
-            RedisCacheService redisCacheService
+            RedisCacheService redisCacheService,
+            FinanceMonthlyTotalService financeMonthlyTotalService
     ) {
         this.userService = userService;
         this.walletRepository = walletRepository;
         this.redisCacheService = redisCacheService;
+        this.financeMonthlyTotalService = financeMonthlyTotalService;
     }
 
     @Cacheable(value = CACHE_LIST, keyGenerator = "userAwareKeyGenerator")
@@ -124,12 +127,13 @@ public class WalletService {
     @Transactional
     public void deleteWallet(Long id) {
         WalletModel wallet = getWallet(id);
+        financeMonthlyTotalService.removeWalletTransactions(wallet);
         walletRepository.delete(wallet);
 
         redisCacheService.evictUserCache(CACHE_LIST);
         redisCacheService.evictUserCache("transactions");
         redisCacheService.evictUserCache("transferences");
         redisCacheService.evictUserCache("bills");
-        redisCacheService.evictUserCacheSpecific("financesDashboard", "yearMonth:" + YearMonth.now() + "*");
+        redisCacheService.evictUserCache("financesDashboard");
     }
 }
@@ -0,0 +1,104 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
+import com.rodrigocoelhoo.lifemanager.nutrition.repository.RecipeRepository;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+
+// Keeps each user's recipe/ingredient incidence in memory so "cookable with what I have" is a bitset
+// subset test instead of a grouped query. Every recipe mutation bumps the user's recipes cache
+// generation once the transaction commits; the node that made it then applies the change in place
+// and moves its index to the new generation, but only if the index was current before that bump.
+// An index that had already fallen behind (another node wrote first) is dropped instead, as is the
+// index of any other node, and the next read rebuilds it from a single query. A rolled back change
+// bumps nothing and is never applied.
+// Indexes are also rebuilt every few minutes, which bounds what two nodes bumping at once could miss.
+@Component
+public class RecipeAvailabilityIndex {
+
+    private static final String CACHE_RECIPES = "recipes";
+
+    private final RecipeRepository recipeRepository;
+    private final RedisCacheService redisCacheService;
+    private final Cache<Long, RecipeIncidence> incidences = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public RecipeAvailabilityIndex(
+            RecipeRepository recipeRepository,
+            RedisCacheService redisCacheService
+    ) {
+        this.recipeRepository = recipeRepository;
+        this.redisCacheService = redisCacheService;
+    }
+
+    public List<Long> findAvailable(UserModel user, Collection<Long> ingredientIds) {
+        return incidence(user).available(ingredientIds);
+    }
+
+    public List<RecipeMatch> rankAlmostAvailable(UserModel user, Collection<Long> ingredientIds, int maxMissing) {
+        return incidence(user).ranked(ingredientIds, maxMissing);
+    }
+
+    // Called after the recipe is saved and the recipes cache evicted, so the generation bump
+    // registered by the eviction runs first; applied after commit
+    public void putRecipe(UserModel user, Long recipeId, Collection<Long> ingredientIds) {
+        update(user, incidence -> incidence.put(recipeId, ingredientIds));
+    }
+
+    public void removeRecipe(UserModel user, Long recipeId) {
+        update(user, incidence -> incidence.remove(recipeId));
+    }
+
+    public void removeIngredient(UserModel user, Long ingredientId) {
+        update(user, incidence -> incidence.removeIngredient(ingredientId));
+    }
+
+    RecipeIncidence incidence(UserModel user) {
+        String generation = redisCacheService.userKey(CACHE_RECIPES);
+        RecipeIncidence incidence = incidences.getIfPresent(user.getId());
+        if (incidence == null || !incidence.isAt(generation)) {
+            Map<Long, List<Long>> ingredientsByRecipe = new HashMap<>();
+            recipeRepository.findIngredientLinksByUser(user).forEach(link -> ingredientsByRecipe
+                    .computeIfAbsent(link.recipeId(), id -> new ArrayList<>())
+                    .add(link.ingredientId()));
+
+            incidence = RecipeIncidence.build(ingredientsByRecipe, generation);
+            incidences.put(user.getId(), incidence);
+        }
+        return incidence;
+    }
+
+    private void update(UserModel user, Consumer<RecipeIncidence> change) {
+        Long userId = user.getId();
+        // Outside a transaction the eviction has already bumped the generation, so there is no
+        // telling whether the index was current before it
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            incidences.invalidate(userId);
+            return;
+        }
+
+        String previousGeneration = redisCacheService.userKey(CACHE_RECIPES);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // A read between the commit and this point may have rebuilt the index from the
+                // committed rows; the changes are idempotent, so applying them again is harmless
+                String generation = redisCacheService.userKey(CACHE_RECIPES);
+                RecipeIncidence incidence = incidences.getIfPresent(userId);
+                if (incidence != null && !incidence.apply(change, previousGeneration, generation)) {
+                    incidences.invalidate(userId);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,257 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.components;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+// Recipe/ingredient incidence of one user as long[] bitsets. Ingredients and recipes get dense
+// positions; each recipe slot holds the bits of the ingredients it needs and each ingredient bit the
+// slots of the recipes using it. Positions freed by removals are reused.
+final class RecipeIncidence {
+
+    private final Map<Long, Integer> ingredientBits = new HashMap<>();
+    private final Map<Long, Integer> recipeSlots = new HashMap<>();
+    private final ArrayDeque<Integer> freeBits = new ArrayDeque<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+
+    private long[] recipeIds = new long[16];
+    private int[] requiredCounts = new int[16];
+    private long[][] required = new long[16][];
+    private long[] ingredientIds = new long[16];
+    private long[][] recipesByIngredient = new long[16][];
+    private int bitCount;
+    private int slotCount;
+    private String generation;
+
+    RecipeIncidence(String generation) {
+        this.generation = generation;
+    }
+
+    static RecipeIncidence build(Map<Long, ? extends Collection<Long>> ingredientsByRecipe, String generation) {
+        RecipeIncidence incidence = new RecipeIncidence(generation);
+        ingredientsByRecipe.forEach(incidence::put);
+        return incidence;
+    }
+
+    synchronized boolean isAt(String generation) {
+        return generation != null && generation.equals(this.generation);
+    }
+
+    // Applies the change only if this incidence is at the generation preceding it, or already at the
+    // generation it produced; otherwise it misses changes made elsewhere and must be rebuilt
+    synchronized boolean apply(Consumer<RecipeIncidence> change, String previousGeneration, String generation) {
+        if (!isAt(previousGeneration) && !isAt(generation)) {
+            return false;
+        }
+
+        change.accept(this);
+        this.generation = generation;
+        return true;
+    }
+
+    synchronized void put(Long recipeId, Collection<Long> ingredientIds) {
+        remove(recipeId);
+        if (ingredientIds.isEmpty()) {
+            return;
+        }
+
+        int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+        if (slot == recipeIds.length) {
+            recipeIds = Arrays.copyOf(recipeIds, slot * 2);
+            requiredCounts = Arrays.copyOf(requiredCounts, slot * 2);
+            required = Arrays.copyOf(required, slot * 2);
+        }
+
+        long[] bits = new long[0];
+        for (Long ingredientId : ingredientIds) {
+            int bit = ingredientBit(ingredientId);
+            bits = set(bits, bit);
+            recipesByIngredient[bit] = set(recipesByIngredient[bit], slot);
+        }
+
+        recipeIds[slot] = recipeId;
+        requiredCounts[slot] = popCount(bits);
+        required[slot] = bits;
+        recipeSlots.put(recipeId, slot);
+    }
+
+    synchronized void remove(Long recipeId) {
+        Integer slot = recipeSlots.remove(recipeId);
+        if (slot == null) {
+            return;
+        }
+
+        long[] bits = required[slot];
+        for (int bit = nextSetBit(bits, 0); bit >= 0; bit = nextSetBit(bits, bit + 1)) {
+            clear(recipesByIngredient[bit], slot);
+        }
+        required[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    // Only an ingredient no recipe uses can be deleted, so its bit is free to be reused
+    synchronized void removeIngredient(Long ingredientId) {
+        Integer bit = ingredientBits.get(ingredientId);
+        if (bit == null || nextSetBit(recipesByIngredient[bit], 0) >= 0) {
+            return;
+        }
+
+        ingredientBits.remove(ingredientId);
+        recipesByIngredient[bit] = new long[0];
+        freeBits.push(bit);
+    }
+
+    // Recipes whose ingredients are all in the given set, by descending id
+    synchronized List<Long> available(Collection<Long> ingredientIds) {
+        long[] have = pantry(ingredientIds);
+        long[] candidates = candidates(have);
+
+        List<Long> ids = new ArrayList<>();
+        for (int slot = nextSetBit(candidates, 0); slot >= 0; slot = nextSetBit(candidates, slot + 1)) {
+            if (isSubset(required[slot], have)) {
+                ids.add(recipeIds[slot]);
+            }
+        }
+        ids.sort(Comparator.reverseOrder());
+        return ids;
+    }
+
+    // Recipes using at least one of the given ingredients and missing at most maxMissing others, best first
+    synchronized List<RecipeMatch> ranked(Collection<Long> ingredientIds, int maxMissing) {
+        long[] have = pantry(ingredientIds);
+        long[] candidates = candidates(have);
+
+        List<RecipeMatch> matches = new ArrayList<>();
+        for (int slot = nextSetBit(candidates, 0); slot >= 0; slot = nextSetBit(candidates, slot + 1)) {
+            long[] bits = required[slot];
+            int missing = 0;
+            for (int i = 0; i < bits.length && missing <= maxMissing; i++) {
+                missing += Long.bitCount(bits[i] & ~word(have, i));
+            }
+            if (missing <= maxMissing) {
+                matches.add(new RecipeMatch(recipeIds[slot], missing, requiredCounts[slot], missingIngredients(bits, have)));
+            }
+        }
+        matches.sort(RecipeMatch.RANKING);
+        return matches;
+    }
+
+    synchronized int size() {
+        return recipeSlots.size();
+    }
+
+    private long[] pantry(Collection<Long> ingredientIds) {
+        long[] have = new long[words(bitCount)];
+        for (Long ingredientId : ingredientIds) {
+            Integer bit = ingredientBits.get(ingredientId);
+            if (bit != null) {
+                have[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return have;
+    }
+
+    private long[] candidates(long[] have) {
+        long[] candidates = new long[words(slotCount)];
+        for (int bit = nextSetBit(have, 0); bit >= 0; bit = nextSetBit(have, bit + 1)) {
+            or(candidates, recipesByIngredient[bit]);
+        }
+        return candidates;
+    }
+
+    private List<Long> missingIngredients(long[] bits, long[] have) {
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < bits.length; i++) {
+            long word = bits[i] & ~word(have, i);
+            while (word != 0) {
+                missing.add(ingredientIds[(i << 6) + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+            }
+        }
+        return missing;
+    }
+
+    private int ingredientBit(Long ingredientId) {
+        Integer bit = ingredientBits.get(ingredientId);
+        if (bit != null) {
+            return bit;
+        }
+
+        int next = freeBits.isEmpty() ? bitCount++ : freeBits.pop();
+        if (next == recipesByIngredient.length) {
+            recipesByIngredient = Arrays.copyOf(recipesByIngredient, next * 2);
+            ingredientIds = Arrays.copyOf(ingredientIds, next * 2);
+        }
+        if (recipesByIngredient[next] == null) {
+            recipesByIngredient[next] = new long[0];
+        }
+        ingredientIds[next] = ingredientId;
+        ingredientBits.put(ingredientId, next);
+        return next;
+    }
+
+    static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    static long[] set(long[] words, int bit) {
+        int word = bit >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+        }
+        words[word] |= 1L << bit;
+        return words;
+    }
+
+    static void clear(long[] words, int bit) {
+        int word = bit >>> 6;
+        if (word < words.length) {
+            words[word] &= ~(1L << bit);
+        }
+    }
+
+    static void or(long[] target, long[] source) {
+        int length = Math.min(target.length, source.length);
+        for (int i = 0; i < length; i++) {
+            target[i] |= source[i];
+        }
+    }
+
+    static boolean isSubset(long[] bits, long[] of) {
+        for (int i = 0; i < bits.length; i++) {
+            if ((bits[i] & ~word(of, i)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int popCount(long[] words) {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static long word(long[] words, int index) {
+        return index < words.length ? words[index] : 0L;
+    }
+
+    static int nextSetBit(long[] words, int from) {
+        int word = from >>> 6;
+        if (word >= words.length) {
+            return -1;
+        }
+
+        long current = words[word] & (-1L << from);
+        while (true) {
+            if (current != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(current);
+            }
+            if (++word == words.length) {
+                return -1;
+            }
+            current = words[word];
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.components;
+
+import java.util.Comparator;
+import java.util.List;
+
+public record RecipeMatch(
+        Long recipeId,
+        int missing,
+        int required,
+        List<Long> missingIngredientIds
+) {
+    // Fewest missing first, then the highest share of the recipe already available, then newest
+    public static final Comparator<RecipeMatch> RANKING = Comparator.comparingInt(RecipeMatch::missing)
+            .thenComparing(Comparator.comparingDouble(RecipeMatch::coverage).reversed())
+            .thenComparing(Comparator.comparing(RecipeMatch::recipeId).reversed());
+
+    public double coverage() {
+        return (double) (required - missing) / required;
+    }
+}
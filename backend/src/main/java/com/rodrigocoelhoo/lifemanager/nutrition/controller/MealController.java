@@ -1,5 +1,6 @@
 package com.rodrigocoelhoo.lifemanager.nutrition.controller;
 
+import com.rodrigocoelhoo.lifemanager.common.SliceResponseDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.PageResponseDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.MealDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.MealDetailsDTO;
@@ -40,6 +41,14 @@ public class MealController {
         return ResponseEntity.ok(PageResponseDTO.fromPage(mealService.getAllMeals(pageable)));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<SliceResponseDTO<MealDetailsDTO>> getMealsByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(mealService.getMealsAfter(after, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<MealDetailsDTO> getMeal(
             @PathVariable Long id
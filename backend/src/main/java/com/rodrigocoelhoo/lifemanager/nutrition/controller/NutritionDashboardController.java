@@ -1,11 +1,14 @@
 package com.rodrigocoelhoo.lifemanager.nutrition.controller;
 
+import com.rodrigocoelhoo.lifemanager.nutrition.dto.NutritionTrendDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.WeekOverviewDTO;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.TrendBucket;
 import com.rodrigocoelhoo.lifemanager.nutrition.service.NutritionDashboardService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDate;
@@ -27,4 +30,13 @@ public class NutritionDashboardController {
         return ResponseEntity.ok(nutritionDashboardService.getWeekOverview(date));
     }
 
+    @GetMapping("/trend")
+    public ResponseEntity<NutritionTrendDTO> getTrend(
+            @RequestParam(defaultValue = "1") int months,
+            @RequestParam(defaultValue = "DAY") TrendBucket bucket,
+            @RequestParam(required = false) LocalDate to
+    ) {
+        return ResponseEntity.ok(nutritionDashboardService.getTrend(months, bucket, to != null ? to : LocalDate.now()));
+    }
+
 }
@@ -1,6 +1,7 @@
 package com.rodrigocoelhoo.lifemanager.nutrition.controller;
 
 import com.rodrigocoelhoo.lifemanager.finances.dto.PageResponseDTO;
+import com.rodrigocoelhoo.lifemanager.nutrition.dto.AlmostAvailableRecipeDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.RecipeDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.RecipeDetailsDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.model.RecipeModel;
@@ -49,6 +50,20 @@ public class RecipeController {
         return ResponseEntity.ok(PageResponseDTO.fromPage(recipeService.getAvailableRecipes(ingredientIds, pageable)));
     }
 
+    @GetMapping("/almost-available")
+    public ResponseEntity<PageResponseDTO<AlmostAvailableRecipeDTO>> getAlmostAvailableRecipes(
+            @RequestParam List<Long> ingredientIds,
+            @RequestParam(defaultValue = "1") int maxMissing,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size);
+
+        return ResponseEntity.ok(PageResponseDTO.fromPage(
+                recipeService.getAlmostAvailableRecipes(ingredientIds, maxMissing, pageable)
+        ));
+    }
+
 
     @GetMapping("/{id}")
     public ResponseEntity<RecipeDetailsDTO> getRecipe(
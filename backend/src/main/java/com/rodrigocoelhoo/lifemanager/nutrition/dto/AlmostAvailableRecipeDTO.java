@@ -0,0 +1,22 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.dto;
+
+import com.rodrigocoelhoo.lifemanager.nutrition.components.RecipeMatch;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record AlmostAvailableRecipeDTO(
+        RecipeDetailsDTO recipe,
+        int missing,
+        double coverage,
+        List<Long> missingIngredientIds
+) implements Serializable {
+    public static AlmostAvailableRecipeDTO fromMatch(RecipeDetailsDTO recipe, RecipeMatch match) {
+        return new AlmostAvailableRecipeDTO(
+                recipe,
+                match.missing(),
+                match.coverage(),
+                match.missingIngredientIds()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.dto;
+
+import com.rodrigocoelhoo.lifemanager.nutrition.model.TrendBucket;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+// Columnar: the i-th entry of every array belongs to the bucket starting at periods[i]
+public record NutritionTrendDTO(
+        TrendBucket bucket,
+        List<LocalDate> periods,
+        int[] loggedDays,
+        double[] calories,
+        double[] proteins,
+        double[] carbo,
+        double[] fat,
+        double[] fiber
+) implements Serializable { }
@@ -0,0 +1,36 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.model;
+
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "tb_daily_nutrition")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyNutritionModel {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_daily_nutrition_seq")
+    @SequenceGenerator(name = "tb_daily_nutrition_seq", sequenceName = "tb_daily_nutrition_seq", allocationSize = 50)
+    @Column(nullable = false)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    private UserModel user;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private NutritionalTag tag;
+
+    @Column(nullable = false)
+    private Double total;
+}
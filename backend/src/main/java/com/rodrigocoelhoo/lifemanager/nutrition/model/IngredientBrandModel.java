@@ -3,7 +3,6 @@ package com.rodrigocoelhoo.lifemanager.nutrition.model;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.util.List;
 import java.util.Set;
 
 @Entity
@@ -11,11 +10,10 @@ import java.util.Set;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 public class IngredientBrandModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_ingredientbrands_seq")
+    @SequenceGenerator(name = "tb_ingredientbrands_seq", sequenceName = "tb_ingredientbrands_seq", allocationSize = 50)
     @Column(nullable = false)
     private Long id;
 
@@ -29,4 +27,59 @@ public class IngredientBrandModel {
     @OneToMany(mappedBy = "ingredientBrand", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private Set<NutritionalValueModel> nutritionalValues;
 
+    // Per 100 units, indexed by NutritionalTag ordinal; built on first use and dropped when the values change.
+    // Lives as long as this loaded instance, so it is shared by the meals of one request, not across requests
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private double[] nutrientVector;
+
+    // Bit per NutritionalTag ordinal, set for the tags this brand declares
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long nutrientMask;
+
+    // The nutrient vector is derived state, so it is left out of the builder
+    @Builder
+    public IngredientBrandModel(
+            Long id,
+            IngredientModel ingredient,
+            String name,
+            Set<NutritionalValueModel> nutritionalValues
+    ) {
+        this.id = id;
+        this.ingredient = ingredient;
+        this.name = name;
+        this.nutritionalValues = nutritionalValues;
+    }
+
+    public double[] getNutrientVector() {
+        if (nutrientVector == null) {
+            double[] vector = new double[NutritionalTag.values().length];
+            long mask = 0;
+            for (NutritionalValueModel value : nutritionalValues) {
+                vector[value.getTag().ordinal()] += value.getPer100units();
+                mask |= 1L << value.getTag().ordinal();
+            }
+            nutrientMask = mask;
+            nutrientVector = vector;
+        }
+        return nutrientVector;
+    }
+
+    public long getNutrientMask() {
+        getNutrientVector();
+        return nutrientMask;
+    }
+
+    public void setNutritionalValues(Set<NutritionalValueModel> nutritionalValues) {
+        this.nutritionalValues = nutritionalValues;
+        invalidateNutrientVector();
+    }
+
+    public void invalidateNutrientVector() {
+        nutrientVector = null;
+        nutrientMask = 0;
+    }
 }
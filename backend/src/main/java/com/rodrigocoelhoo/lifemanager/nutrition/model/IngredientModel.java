@@ -17,7 +17,8 @@ import java.util.Set;
 public class IngredientModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_ingredients_seq")
+    @SequenceGenerator(name = "tb_ingredients_seq", sequenceName = "tb_ingredients_seq", allocationSize = 50)
     @Column(nullable = false)
     private Long id;
 
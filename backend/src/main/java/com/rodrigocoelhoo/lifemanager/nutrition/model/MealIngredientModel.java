@@ -13,7 +13,8 @@ import lombok.*;
 public class MealIngredientModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_meal_ingredients_seq")
+    @SequenceGenerator(name = "tb_meal_ingredients_seq", sequenceName = "tb_meal_ingredients_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
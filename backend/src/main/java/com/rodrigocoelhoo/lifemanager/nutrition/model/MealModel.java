@@ -18,7 +18,8 @@ import java.util.Set;
 public class MealModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_meals_seq")
+    @SequenceGenerator(name = "tb_meals_seq", sequenceName = "tb_meals_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -12,7 +12,8 @@ import lombok.*;
 @Builder
 public class NutritionalValueModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_nutritionalvalues_seq")
+    @SequenceGenerator(name = "tb_nutritionalvalues_seq", sequenceName = "tb_nutritionalvalues_seq", allocationSize = 50)
     @Column(nullable = false)
     private Long id;
 
@@ -13,7 +13,8 @@ import lombok.*;
 public class RecipeIngredientModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_recipe_ingredients_seq")
+    @SequenceGenerator(name = "tb_recipe_ingredients_seq", sequenceName = "tb_recipe_ingredients_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false)
@@ -16,7 +16,8 @@ import java.util.List;
 public class RecipeModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_recipes_seq")
+    @SequenceGenerator(name = "tb_recipes_seq", sequenceName = "tb_recipes_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
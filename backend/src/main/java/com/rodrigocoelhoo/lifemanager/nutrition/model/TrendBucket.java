@@ -0,0 +1,47 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+public enum TrendBucket {
+    DAY {
+        @Override
+        public LocalDate start(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public int index(LocalDate from, LocalDate date) {
+            return (int) ChronoUnit.DAYS.between(from, date);
+        }
+
+        @Override
+        public LocalDate next(LocalDate start) {
+            return start.plusDays(1);
+        }
+    },
+    WEEK {
+        @Override
+        public LocalDate start(LocalDate date) {
+            return date.with(DayOfWeek.MONDAY);
+        }
+
+        @Override
+        public int index(LocalDate from, LocalDate date) {
+            return (int) ChronoUnit.WEEKS.between(from, date);
+        }
+
+        @Override
+        public LocalDate next(LocalDate start) {
+            return start.plusWeeks(1);
+        }
+    };
+
+    public abstract LocalDate start(LocalDate date);
+
+    // Position of the bucket holding date, counted from the bucket starting at from
+    public abstract int index(LocalDate from, LocalDate date);
+
+    public abstract LocalDate next(LocalDate start);
+}
@@ -1,5 +1,14 @@
 package com.rodrigocoelhoo.lifemanager.nutrition.model;
 
 public enum Unit {
-    MG, G, KG, ML, L
+    MG, G, KG, ML, L;
+
+    // Nutritional values are given per 100 g or 100 ml
+    public double toBaseUnit(double amount) {
+        return switch (this) {
+            case MG -> amount / 1000;
+            case G, ML -> amount;
+            case KG, L -> amount * 1000;
+        };
+    }
 }
@@ -0,0 +1,22 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.repository;
+
+import com.rodrigocoelhoo.lifemanager.nutrition.model.DailyNutritionModel;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DailyNutritionRepository extends JpaRepository<DailyNutritionModel, Long> {
+    List<DailyNutritionModel> findAllByUserAndDateBetween(UserModel user, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM DailyNutritionModel d WHERE d.user = :user AND d.date IN :dates")
+    void deleteByUserAndDateIn(@Param("user") UserModel user, @Param("dates") Collection<LocalDate> dates);
+}
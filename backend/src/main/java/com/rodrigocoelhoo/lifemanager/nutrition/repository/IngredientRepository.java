@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,9 +14,13 @@ import java.util.Optional;
 
 @Repository
 public interface IngredientRepository extends JpaRepository<IngredientModel, Long> {
-    @EntityGraph(attributePaths = {"brands", "brands.nutritionalValues"})
     Page<IngredientModel> findAllByUser(UserModel user, Pageable pageable);
-    @EntityGraph(attributePaths = {"brands", "brands.nutritionalValues"})
+    @Query("""
+        SELECT i
+        FROM IngredientModel i
+        WHERE i.user = :user
+          AND i.name ILIKE CONCAT('%', :#{escape(#name)}, '%') ESCAPE :#{escapeCharacter()}
+    """)
     Page<IngredientModel> findByUserAndNameContainingIgnoreCase(UserModel user, String name, Pageable pageable);
 
     @EntityGraph(attributePaths = {"brands", "brands.nutritionalValues"})
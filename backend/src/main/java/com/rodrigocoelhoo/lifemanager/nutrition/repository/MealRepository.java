@@ -1,16 +1,34 @@
 package com.rodrigocoelhoo.lifemanager.nutrition.repository;
 
+import com.rodrigocoelhoo.lifemanager.nutrition.model.IngredientBrandModel;
 import com.rodrigocoelhoo.lifemanager.nutrition.model.MealModel;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.NutritionalTag;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.Unit;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MealRepository extends JpaRepository<MealModel, Long> {
@@ -18,6 +36,104 @@ public interface MealRepository extends JpaRepository<MealModel, Long> {
     Page<MealModel> findAllByUser(UserModel user, Pageable pageable);
     Optional<MealModel> findByUserAndId(UserModel user, Long id);
 
+    Window<MealModel> findByUser(UserModel user, ScrollPosition position, Sort sort, Limit limit);
+
     @EntityGraph(attributePaths = {"ingredients", "ingredients.ingredient", "ingredients.brand", "ingredients.brand.nutritionalValues"})
-    List<MealModel> findAllByUserAndDateBetweenOrderByDateDescIdDesc(UserModel user, LocalDateTime start, LocalDateTime end);
-}
\ No newline at end of file
+    List<MealModel> findAllByIdIn(Collection<Long> ids);
+
+    // One row per day, tag and unit; a day with meals but no nutritional values comes back with a null tag.
+    // Amounts are summed in the unit they were logged in and converted by Unit, the only place that knows the factors
+    @Query("""
+        SELECT new com.rodrigocoelhoo.lifemanager.nutrition.repository.MealRepository$UnitNutrient(
+            CAST(m.date AS LocalDate),
+            nv.tag,
+            mi.unit,
+            SUM(nv.per100units * mi.amount)
+        )
+        FROM MealModel m
+        LEFT JOIN m.ingredients mi
+        LEFT JOIN mi.brand b
+        LEFT JOIN b.nutritionalValues nv
+        WHERE m.user = :user
+          AND m.date BETWEEN :start AND :end
+          AND CAST(m.date AS LocalDate) IN :dates
+        GROUP BY CAST(m.date AS LocalDate), nv.tag, mi.unit
+    """)
+    List<UnitNutrient> sumNutrientsByDayAndUnit(UserModel user, LocalDateTime start, LocalDateTime end, Collection<LocalDate> dates);
+
+    // The range keeps the (user_id, date) index usable for scattered dates
+    default List<DailyNutrient> sumNutrientsOnDates(UserModel user, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return List.of();
+        }
+        LocalDate first = Collections.min(dates);
+        LocalDate last = Collections.max(dates);
+
+        Map<DailyNutrient, Double> totals = new LinkedHashMap<>();
+        for (UnitNutrient row : sumNutrientsByDayAndUnit(user, first.atStartOfDay(), last.atTime(LocalTime.MAX), dates)) {
+            DailyNutrient day = new DailyNutrient(row.date(), row.tag(), null);
+            if (row.tag() == null) {
+                totals.putIfAbsent(day, null);
+                continue;
+            }
+            totals.merge(day, row.unit().toBaseUnit(row.total()) / 100, Double::sum);
+        }
+
+        return totals.entrySet().stream()
+                .map(entry -> new DailyNutrient(entry.getKey().date(), entry.getKey().tag(), entry.getValue()))
+                .toList();
+    }
+
+    @Query("""
+        SELECT DISTINCT CAST(m.date AS LocalDate)
+        FROM MealModel m
+        JOIN m.ingredients mi
+        WHERE mi.brand = :brand
+    """)
+    List<LocalDate> findMealDatesByBrand(IngredientBrandModel brand);
+
+    @Query("""
+        SELECT COUNT(DISTINCT CAST(m.date AS LocalDate))
+        FROM MealModel m
+        WHERE m.user = :user
+          AND m.date BETWEEN :start AND :end
+    """)
+    long countMealDays(UserModel user, LocalDateTime start, LocalDateTime end);
+
+    // One row per meal ingredient; a meal without ingredients comes back once with null ingredient columns
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new com.rodrigocoelhoo.lifemanager.nutrition.repository.MealRepository$ExportRow(
+            m.id, m.date, i.name, b.name, mi.amount, mi.unit
+        )
+        FROM MealModel m
+        LEFT JOIN m.ingredients mi
+        LEFT JOIN mi.ingredient i
+        LEFT JOIN mi.brand b
+        WHERE m.user.id = :userId
+        ORDER BY m.date, m.id, mi.id
+    """)
+    Stream<ExportRow> streamExportRows(Long userId);
+
+    record DailyNutrient(
+            LocalDate date,
+            NutritionalTag tag,
+            Double total
+    ) { }
+
+    record UnitNutrient(
+            LocalDate date,
+            NutritionalTag tag,
+            Unit unit,
+            Double total
+    ) { }
+
+    record ExportRow(
+            Long mealId,
+            LocalDateTime date,
+            String ingredient,
+            String brand,
+            Double amount,
+            Unit unit
+    ) { }
+}
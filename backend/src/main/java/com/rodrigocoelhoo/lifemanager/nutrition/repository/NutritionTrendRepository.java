@@ -0,0 +1,56 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.repository;
+
+import com.rodrigocoelhoo.lifemanager.nutrition.model.NutritionalTag;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+
+@Repository
+public class NutritionTrendRepository {
+
+    static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NutritionTrendRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Forward-only cursor over the daily totals in date order; Postgres only honours the fetch size inside a transaction
+    public void forEachDailyTotal(Long userId, LocalDate from, LocalDate to, DailyTotalHandler handler) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement("""
+                            SELECT date, tag, total
+                            FROM tb_daily_nutrition
+                            WHERE user_id = ? AND date BETWEEN ? AND ?
+                            ORDER BY date
+                            """,
+                            ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY
+                    );
+                    statement.setFetchSize(FETCH_SIZE);
+                    statement.setLong(1, userId);
+                    statement.setDate(2, Date.valueOf(from));
+                    statement.setDate(3, Date.valueOf(to));
+                    return statement;
+                },
+                rs -> {
+                    handler.accept(
+                            rs.getDate("date").toLocalDate(),
+                            NutritionalTag.valueOf(rs.getString("tag")),
+                            rs.getDouble("total")
+                    );
+                }
+        );
+    }
+
+    @FunctionalInterface
+    public interface DailyTotalHandler {
+        void accept(LocalDate date, NutritionalTag tag, double total);
+    }
+}
@@ -1,39 +1,67 @@
 package com.rodrigocoelhoo.lifemanager.nutrition.repository;
 
 import com.rodrigocoelhoo.lifemanager.nutrition.model.RecipeModel;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.Unit;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RecipeRepository extends JpaRepository<RecipeModel, Long> {
-    @EntityGraph(attributePaths = {"ingredients", "ingredients.ingredient", "ingredients.ingredient.brands"})
     Page<RecipeModel> findAllByUser(UserModel user, Pageable pageable);
-
-    @EntityGraph(attributePaths = {"ingredients", "ingredients.ingredient", "ingredients.ingredient.brands"})
+    @Query("""
+        SELECT r
+        FROM RecipeModel r
+        WHERE r.user = :user
+          AND r.name ILIKE CONCAT('%', :#{escape(#name)}, '%') ESCAPE :#{escapeCharacter()}
+    """)
     Page<RecipeModel> findByUserAndNameContainingIgnoreCase(UserModel user, String name, Pageable pageable);
     Optional<RecipeModel> findByUserAndId(UserModel user, Long id);
 
+    @EntityGraph(attributePaths = {"ingredients", "ingredients.ingredient", "ingredients.ingredient.brands"})
+    List<RecipeModel> findAllByIdIn(Collection<Long> ids);
+
     @Query("""
-        SELECT r
+        SELECT new com.rodrigocoelhoo.lifemanager.nutrition.repository.RecipeRepository$RecipeIngredientLink(
+            ri.recipe.id, ri.ingredient.id
+        )
+        FROM RecipeIngredientModel ri
+        WHERE ri.recipe.user = :user
+    """)
+    List<RecipeIngredientLink> findIngredientLinksByUser(UserModel user);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new com.rodrigocoelhoo.lifemanager.nutrition.repository.RecipeRepository$ExportRow(
+            r.id, r.name, i.name, ri.amount, ri.unit
+        )
         FROM RecipeModel r
-        JOIN r.ingredients ri
-        WHERE r.user = :user
-        GROUP BY r
-        HAVING COUNT(ri)
-             = COUNT(
-                 CASE
-                     WHEN ri.ingredient.id IN :ingredientIds
-                     THEN 1
-                 END
-             )
+        LEFT JOIN r.ingredients ri
+        LEFT JOIN ri.ingredient i
+        WHERE r.user.id = :userId
+        ORDER BY r.name, r.id, ri.id
     """)
-    Page<RecipeModel> findAvailableRecipes(UserModel user, List<Long> ingredientIds, Pageable pageable);
+    Stream<ExportRow> streamExportRows(Long userId);
+
+    record RecipeIngredientLink(Long recipeId, Long ingredientId) { }
+
+    record ExportRow(
+            Long recipeId,
+            String name,
+            String ingredient,
+            Double amount,
+            Unit unit
+    ) { }
 }
@@ -0,0 +1,76 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.service;
+
+import com.rodrigocoelhoo.lifemanager.nutrition.model.DailyNutritionModel;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.IngredientBrandModel;
+import com.rodrigocoelhoo.lifemanager.nutrition.repository.DailyNutritionRepository;
+import com.rodrigocoelhoo.lifemanager.nutrition.repository.MealRepository;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import com.rodrigocoelhoo.lifemanager.users.UserRepository;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class DailyNutritionService {
+
+    private final DailyNutritionRepository dailyNutritionRepository;
+    private final MealRepository mealRepository;
+    private final UserService userService;
+    private final UserRepository userRepository;
+
+    public DailyNutritionService(
+            DailyNutritionRepository dailyNutritionRepository,
+            MealRepository mealRepository,
+            UserService userService,
+            UserRepository userRepository
+    ) {
+        this.dailyNutritionRepository = dailyNutritionRepository;
+        this.mealRepository = mealRepository;
+        this.userService = userService;
+        this.userRepository = userRepository;
+    }
+
+    public List<DailyNutritionModel> getDailyTotals(LocalDate from, LocalDate to) {
+        UserModel user = userService.getLoggedInUser();
+        return dailyNutritionRepository.findAllByUserAndDateBetween(user, from, to);
+    }
+
+    // Replaces the totals of the given days with a fresh sum of their meals.
+    // Recomputes of one user are serialized on the user row: a concurrent one would not see the rows
+    // another just inserted, so its insert would hit uq_daily_nutrition, and its sum would miss the
+    // other's meal. Postgres takes the lock as FOR NO KEY UPDATE, which meal inserts don't wait on.
+    @Transactional
+    public void recomputeDays(UserModel user, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return;
+        }
+
+        userRepository.findForUpdateById(user.getId());
+        Set<LocalDate> distinctDates = Set.copyOf(dates);
+        dailyNutritionRepository.deleteByUserAndDateIn(user, distinctDates);
+
+        List<DailyNutritionModel> totals = mealRepository.sumNutrientsOnDates(user, distinctDates).stream()
+                .filter(row -> row.tag() != null && row.total() != null)
+                .map(row -> DailyNutritionModel.builder()
+                        .user(user)
+                        .date(row.date())
+                        .tag(row.tag())
+                        .total(row.total())
+                        .build())
+                .toList();
+        dailyNutritionRepository.saveAll(totals);
+    }
+
+    // Returns the recomputed days, so callers can evict just the weeks they belong to
+    @Transactional
+    public List<LocalDate> recomputeBrand(IngredientBrandModel brand) {
+        List<LocalDate> dates = mealRepository.findMealDatesByBrand(brand);
+        recomputeDays(brand.getIngredient().getUser(), dates);
+        return dates;
+    }
+}
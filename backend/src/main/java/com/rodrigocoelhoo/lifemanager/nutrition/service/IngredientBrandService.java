@@ -13,6 +13,8 @@ import com.rodrigocoelhoo.lifemanager.nutrition.repository.IngredientBrandReposi
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -23,15 +25,18 @@ public class IngredientBrandService {
     private final IngredientService ingredientService;
     private final IngredientBrandRepository ingredientBrandRepository;
     private final RedisCacheService redisCacheService;
+    private final DailyNutritionService dailyNutritionService;
 
     public IngredientBrandService(
             IngredientService ingredientService,
             IngredientBrandRepository ingredientBrandRepository,
-            RedisCacheService redisCacheService
+            RedisCacheService redisCacheService,
+            DailyNutritionService dailyNutritionService
     ) {
         this.ingredientService = ingredientService;
         this.ingredientBrandRepository = ingredientBrandRepository;
         this.redisCacheService = redisCacheService;
+        this.dailyNutritionService = dailyNutritionService;
     }
 
     public Set<IngredientBrandModel> getAllIngredientBrands(Long ingredientId) {
@@ -109,12 +114,18 @@ public class IngredientBrandService {
 
             ingredientBrand.getNutritionalValues().add(value);
         });
+        ingredientBrand.invalidateNutrientVector();
 
         IngredientBrandModel saved = ingredientBrandRepository.save(ingredientBrand);
+        List<LocalDate> mealDates = dailyNutritionService.recomputeBrand(saved);
+
         redisCacheService.evictUserCache("ingredients");
         redisCacheService.evictUserCache("recipes");
         redisCacheService.evictUserCache("meals");
-        redisCacheService.evictUserCache("nutritionDashboard");
+        mealDates.stream()
+                .map(date -> date.with(DayOfWeek.MONDAY))
+                .distinct()
+                .forEach(week -> redisCacheService.evictUserCacheSpecific("nutritionDashboard", "week:" + week));
         return saved;
     }
 
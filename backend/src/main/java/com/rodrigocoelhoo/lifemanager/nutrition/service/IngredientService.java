@@ -2,6 +2,7 @@ package com.rodrigocoelhoo.lifemanager.nutrition.service;
 
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
+import com.rodrigocoelhoo.lifemanager.nutrition.components.RecipeAvailabilityIndex;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.IngredientDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.IngredientDetailsDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.model.IngredientModel;
@@ -12,12 +13,16 @@ import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class IngredientService {
@@ -25,17 +30,20 @@ public class IngredientService {
     private final IngredientRepository ingredientRepository;
     private final UserService userService;
     private final RedisCacheService redisCacheService;
+    private final RecipeAvailabilityIndex recipeAvailabilityIndex;
 
     private static final String CACHE_LIST = "ingredients";
 
     public IngredientService(
             IngredientRepository ingredientRepository,
             UserService userService,
-            RedisCacheService redisCacheService
+            RedisCacheService redisCacheService,
+            RecipeAvailabilityIndex recipeAvailabilityIndex
     ) {
         this.ingredientRepository = ingredientRepository;
         this.userService = userService;
         this.redisCacheService = redisCacheService;
+        this.recipeAvailabilityIndex = recipeAvailabilityIndex;
     }
 
     @Cacheable(value = CACHE_LIST, keyGenerator = "userAwareKeyGenerator")
@@ -50,7 +58,19 @@ public class IngredientService {
         else
             page = ingredientRepository.findByUserAndNameContainingIgnoreCase(user, name, pageable);
 
-        return page.map(IngredientDetailsDTO::fromEntity);
+        // The page only holds ingredient rows; brands and their values are fetched for just those ids
+        Map<Long, IngredientModel> ingredients = new HashMap<>();
+        if (page.hasContent()) {
+            ingredientRepository.findAllByUserAndIdIn(user, page.map(IngredientModel::getId).getContent())
+                    .forEach(ingredient -> ingredients.put(ingredient.getId(), ingredient));
+        }
+
+        List<IngredientDetailsDTO> content = page.stream()
+                .map(ingredient -> ingredients.get(ingredient.getId()))
+                .filter(Objects::nonNull)
+                .map(IngredientDetailsDTO::fromEntity)
+                .toList();
+        return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
     }
 
     public IngredientModel getIngredient(Long id) {
@@ -97,6 +117,7 @@ public class IngredientService {
         redisCacheService.evictUserCache("recipes");
         redisCacheService.evictUserCache("meals");
         redisCacheService.evictUserCache("nutritionDashboard");
+        recipeAvailabilityIndex.removeIngredient(userService.getLoggedInUser(), id);
     }
 
     public List<IngredientModel> getIngredients(List<Long> ids) {
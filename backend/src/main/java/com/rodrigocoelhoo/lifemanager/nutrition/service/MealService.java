@@ -1,5 +1,7 @@
 package com.rodrigocoelhoo.lifemanager.nutrition.service;
 
+import com.rodrigocoelhoo.lifemanager.common.KeysetCursor;
+import com.rodrigocoelhoo.lifemanager.common.SliceResponseDTO;
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
@@ -16,6 +18,7 @@ import jakarta.validation.Valid;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
@@ -30,19 +33,23 @@ public class MealService {
     private final UserService userService;
     private final MealRepository mealRepository;
     private final RedisCacheService redisCacheService;
+    private final DailyNutritionService dailyNutritionService;
 
     private static final String CACHE_LIST = "meals";
+    private static final NutritionalTag[] NUTRITIONAL_TAGS = NutritionalTag.values();
 
     public MealService(
             IngredientService ingredientService,
             UserService userService,
             MealRepository mealRepository,
-            RedisCacheService redisCacheService
+            RedisCacheService redisCacheService,
+            DailyNutritionService dailyNutritionService
     ) {
         this.ingredientService = ingredientService;
         this.userService = userService;
         this.mealRepository = mealRepository;
         this.redisCacheService = redisCacheService;
+        this.dailyNutritionService = dailyNutritionService;
     }
 
 
@@ -54,18 +61,41 @@ public class MealService {
         );
     }
 
+    @Cacheable(value = CACHE_LIST, keyGenerator = "userAwareKeyGenerator")
+    public SliceResponseDTO<MealDetailsDTO> getMealsAfter(String after, int size) {
+        UserModel user = userService.getLoggedInUser();
+        Window<MealModel> window = mealRepository.findByUser(
+                user,
+                KeysetCursor.decode(after, LocalDateTime::parse),
+                KeysetCursor.SORT,
+                KeysetCursor.limit(size)
+        );
+
+        // The seek only reads meal rows; the ingredient graph is loaded for just those ids
+        Map<Long, MealModel> meals = new HashMap<>();
+        mealRepository.findAllByIdIn(window.map(MealModel::getId).getContent())
+                .forEach(meal -> meals.put(meal.getId(), meal));
+
+        List<MealDetailsDTO> content = window.stream()
+                .map(meal -> meals.get(meal.getId()))
+                .filter(Objects::nonNull)
+                .map(meal -> MealDetailsDTO.fromEntities(meal, getNutritionalLabel(meal)))
+                .toList();
+        return SliceResponseDTO.fromWindow(window, content);
+    }
+
     public MealModel getMeal(Long id) {
         UserModel user = userService.getLoggedInUser();
         return mealRepository.findByUserAndId(user, id)
                 .orElseThrow(() -> new ResourceNotFound("Meal with ID '" + id + "' doesn't belong to the current user"));
     }
 
-    public List<MealModel> getMealsByRange(
+    public long countMealDaysByRange(
             LocalDateTime start,
             LocalDateTime end
     ) {
         UserModel user = userService.getLoggedInUser();
-        return mealRepository.findAllByUserAndDateBetweenOrderByDateDescIdDesc(user, start, end);
+        return mealRepository.countMealDays(user, start, end);
     }
 
     private Map<Long, IngredientBrandModel> mapIngredientsBrand(
@@ -157,6 +187,7 @@ public class MealService {
         populateMealIngredients(meal, data);
 
         MealModel saved = mealRepository.save(meal);
+        dailyNutritionService.recomputeDays(user, List.of(meal.getDate().toLocalDate()));
 
         LocalDate date = meal.getDate().toLocalDate().with(DayOfWeek.MONDAY);
 
@@ -171,15 +202,24 @@ public class MealService {
         validateUnits(data);
 
         MealModel meal = getMeal(id);
+        LocalDateTime previousDate = meal.getDate();
         meal.setDate(data.date());
         meal.getIngredients().clear();
         populateMealIngredients(meal, data);
 
         MealModel saved = mealRepository.save(meal);
+        dailyNutritionService.recomputeDays(
+                meal.getUser(),
+                List.of(previousDate.toLocalDate(), meal.getDate().toLocalDate())
+        );
 
         LocalDate date = meal.getDate().toLocalDate().with(DayOfWeek.MONDAY);
+        LocalDate previousWeek = previousDate.toLocalDate().with(DayOfWeek.MONDAY);
         redisCacheService.evictUserCache(CACHE_LIST);
         redisCacheService.evictUserCacheSpecific("nutritionDashboard", "week:" + date);
+        if (!previousWeek.equals(date)) {
+            redisCacheService.evictUserCacheSpecific("nutritionDashboard", "week:" + previousWeek);
+        }
 
         return saved;
     }
@@ -188,6 +228,7 @@ public class MealService {
     public void deleteMeal(Long id) {
         MealModel meal = getMeal(id);
         mealRepository.delete(meal);
+        dailyNutritionService.recomputeDays(meal.getUser(), List.of(meal.getDate().toLocalDate()));
 
         LocalDate date = meal.getDate().toLocalDate().with(DayOfWeek.MONDAY);
         redisCacheService.evictUserCache(CACHE_LIST);
@@ -195,39 +236,27 @@ public class MealService {
     }
 
     public LinkedHashMap<NutritionalTag, Double> getNutritionalLabel(MealModel meal) {
-        Map<NutritionalTag, Double> temp = new HashMap<>();
+        double[] totals = new double[NUTRITIONAL_TAGS.length];
+        long present = 0;
 
         for (MealIngredientModel ingredient : meal.getIngredients()) {
-            Set<NutritionalValueModel> nutritionalValues = ingredient.getBrand().getNutritionalValues();
+            IngredientBrandModel brand = ingredient.getBrand();
+            double[] per100units = brand.getNutrientVector();
+            double factor = ingredient.getUnit().toBaseUnit(ingredient.getAmount()) / 100;
 
-            addNutrients(temp, nutritionalValues, ingredient.getAmount(), ingredient.getUnit());
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] = Math.fma(per100units[i], factor, totals[i]);
+            }
+            present |= brand.getNutrientMask();
         }
 
         LinkedHashMap<NutritionalTag, Double> orderedResult = new LinkedHashMap<>();
-        for (NutritionalTag tag : NutritionalTag.values()) {
-            if (temp.containsKey(tag)) {
-                orderedResult.put(tag, temp.get(tag));
+        for (NutritionalTag tag : NUTRITIONAL_TAGS) {
+            if ((present & (1L << tag.ordinal())) != 0) {
+                orderedResult.put(tag, totals[tag.ordinal()]);
             }
         }
 
         return orderedResult;
     }
-
-    private void addNutrients(Map<NutritionalTag, Double> result, Set<NutritionalValueModel> nutritionalValues, Double amount, Unit unit) {
-        double ingredientAmountInGramsOrMl = convertToBaseUnit(amount, unit);
-
-        for (NutritionalValueModel nutrient : nutritionalValues) {
-            NutritionalTag tag = nutrient.getTag();
-            double existing = result.getOrDefault(tag, 0.0);
-            result.put(tag, existing + (nutrient.getPer100units() * ingredientAmountInGramsOrMl) / 100);
-        }
-    }
-
-    private double convertToBaseUnit(Double amount, Unit unit) {
-        return switch (unit) {
-            case MG -> amount / 1000;
-            case G, ML -> amount;
-            case KG, L -> amount * 1000;
-        };
-    }
 }
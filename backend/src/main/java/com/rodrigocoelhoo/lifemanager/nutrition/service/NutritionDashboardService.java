@@ -1,12 +1,15 @@
 package com.rodrigocoelhoo.lifemanager.nutrition.service;
 
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.DayDTO;
-import com.rodrigocoelhoo.lifemanager.nutrition.dto.NutritionalLabelEntrieDTO;
+import com.rodrigocoelhoo.lifemanager.nutrition.dto.NutritionTrendDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.WeekOverviewDTO;
-import com.rodrigocoelhoo.lifemanager.nutrition.model.MealIngredientModel;
-import com.rodrigocoelhoo.lifemanager.nutrition.model.MealModel;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.DailyNutritionModel;
 import com.rodrigocoelhoo.lifemanager.nutrition.model.NutritionalTag;
-import com.rodrigocoelhoo.lifemanager.nutrition.model.NutritionalValueModel;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.TrendBucket;
+import com.rodrigocoelhoo.lifemanager.nutrition.repository.NutritionTrendRepository;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import jakarta.transaction.Transactional;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -19,49 +22,59 @@ import java.util.*;
 public class NutritionDashboardService {
 
     private final MealService mealService;
+    private final DailyNutritionService dailyNutritionService;
+    private final NutritionTrendRepository nutritionTrendRepository;
+    private final UserService userService;
 
     public NutritionDashboardService(
-            MealService mealService1
+            MealService mealService1,
+            DailyNutritionService dailyNutritionService,
+            NutritionTrendRepository nutritionTrendRepository,
+            UserService userService
     ) {
         this.mealService = mealService1;
+        this.dailyNutritionService = dailyNutritionService;
+        this.nutritionTrendRepository = nutritionTrendRepository;
+        this.userService = userService;
     }
     private static final String CACHE_DASHBOARD = "nutritionDashboard";
+    public static final int MAX_TREND_MONTHS = 12;
 
     @Cacheable(
             value = CACHE_DASHBOARD,
-            key = "T(com.rodrigocoelhoo.lifemanager.config.RedisCacheService).getCurrentUsername() + " +
+            key = "@redisCacheService.userKey('nutritionDashboard') + " +
                     "'::week:' + T(com.rodrigocoelhoo.lifemanager.nutrition.service.NutritionDashboardService).getWeekStart(#date)"
     )
     public WeekOverviewDTO getWeekOverview(LocalDate date) {
         LocalDateTime start = date.with(DayOfWeek.MONDAY).atTime(0,0,0);
         LocalDateTime end = start.plusDays(6).toLocalDate().atTime(23,59,59);
 
-        List<MealModel> meals = mealService.getMealsByRange(start, end);
-        LinkedHashMap<LocalDate, List<MealModel>> week = populateMap(meals, start.toLocalDate(), end.toLocalDate());
+        Map<LocalDate, EnumMap<NutritionalTag, Double>> nutrientsByDay = new HashMap<>();
+        for (DailyNutritionModel row : dailyNutritionService.getDailyTotals(start.toLocalDate(), end.toLocalDate())) {
+            nutrientsByDay.computeIfAbsent(row.getDate(), day -> new EnumMap<>(NutritionalTag.class))
+                    .merge(row.getTag(), row.getTotal(), Double::sum);
+        }
 
         List<DayDTO> days = new ArrayList<>();
-        for (LocalDate mealDate : week.keySet()) {
-            days.add(getDayDTO(mealDate, week.get(mealDate)));
+        EnumMap<NutritionalTag, Double> weekNutrients = new EnumMap<>(NutritionalTag.class);
+        for (LocalDate day = start.toLocalDate(); !day.isAfter(end.toLocalDate()); day = day.plusDays(1)) {
+            LinkedHashMap<NutritionalTag, Double> totalDayNutrients = new LinkedHashMap<>();
+            nutrientsByDay.getOrDefault(day, new EnumMap<>(NutritionalTag.class)).forEach((tag, amount) -> {
+                if (amount != 0.0) {
+                    totalDayNutrients.put(tag, amount);
+                    weekNutrients.merge(tag, amount, Double::sum);
+                }
+            });
+            days.add(DayDTO.fromEntity(day, totalDayNutrients));
         }
 
-        double totalCalories = 0;
-        double totalProteins = 0;
-        double totalFiber = 0;
-        double totalCarbo = 0;
-        double totalFat = 0;
-
-        for (DayDTO day : days) {
-            totalCalories += getNutrientValue(day, NutritionalTag.CALORIES);
-            totalProteins += getNutrientValue(day, NutritionalTag.PROTEIN);
-            totalFiber += getNutrientValue(day, NutritionalTag.FIBER);
-            totalCarbo += getNutrientValue(day, NutritionalTag.CARBOHYDRATES);
-            totalFat += getNutrientValue(day, NutritionalTag.FAT);
-        }
+        double totalCalories = weekNutrients.getOrDefault(NutritionalTag.CALORIES, 0.0);
+        double totalProteins = weekNutrients.getOrDefault(NutritionalTag.PROTEIN, 0.0);
+        double totalFiber = weekNutrients.getOrDefault(NutritionalTag.FIBER, 0.0);
+        double totalCarbo = weekNutrients.getOrDefault(NutritionalTag.CARBOHYDRATES, 0.0);
+        double totalFat = weekNutrients.getOrDefault(NutritionalTag.FAT, 0.0);
 
-        int daysCount = (int) week.entrySet().stream()
-                .filter(entry -> !entry.getValue().isEmpty())
-                .count();
-        if (daysCount == 0) daysCount = 1;
+        int daysCount = (int) Math.max(mealService.countMealDaysByRange(start, end), 1);
 
         WeekOverviewDTO.MacroTotalsDTO macroTotals = new WeekOverviewDTO.MacroTotalsDTO(
                 totalCalories, totalCalories / daysCount,
@@ -74,58 +87,45 @@ public class NutritionDashboardService {
         return new WeekOverviewDTO(macroTotals, days);
     }
 
-    private DayDTO getDayDTO(LocalDate date, List<MealModel> mealModels) {
-        LinkedHashMap<NutritionalTag, Double> totalDayNutrients = new LinkedHashMap<>();
-        for (NutritionalTag tag : NutritionalTag.values()) {
-            totalDayNutrients.put(tag, 0.0);
-        }
-
-        for (MealModel meal : mealModels) {
-            for (MealIngredientModel ingredient : meal.getIngredients())
-            {
-                Set<NutritionalValueModel> nutrients = ingredient.getBrand().getNutritionalValues();
-
-                for (NutritionalValueModel nutrient : nutrients) {
-                    totalDayNutrients.merge(
-                            nutrient.getTag(),
-                            nutrient.getPer100units() * ingredient.getAmount() / 100,
-                            Double::sum
-                    );
-                }
-            }
-        }
-
-        for (NutritionalTag tag : NutritionalTag.values()) {
-            if(totalDayNutrients.get(tag) == 0.0)
-                totalDayNutrients.remove(tag);
+    @Transactional
+    public NutritionTrendDTO getTrend(int months, TrendBucket bucket, LocalDate to) {
+        if (months < 1 || months > MAX_TREND_MONTHS) {
+            throw new BadRequestException("Months must be between 1 and " + MAX_TREND_MONTHS + ".");
         }
 
-        return DayDTO.fromEntity(date, totalDayNutrients);
-    }
-
-    private LinkedHashMap<LocalDate, List<MealModel>> populateMap(List<MealModel> meals, LocalDate start, LocalDate end) {
-        LinkedHashMap<LocalDate, List<MealModel>> result = new LinkedHashMap<>();
-
-        LocalDate current = start;
-        while (!current.isAfter(end)) {
-            result.put(current, new ArrayList<>());
-            current = current.plusDays(1);
-        }
+        LocalDate from = bucket.start(to.minusMonths(months).plusDays(1));
 
-        for (MealModel meal : meals) {
-            LocalDate mealDate = meal.getDate().toLocalDate();
-            result.get(mealDate).add(meal);
+        List<LocalDate> periods = new ArrayList<>();
+        for (LocalDate period = from; !period.isAfter(to); period = bucket.next(period)) {
+            periods.add(period);
         }
 
-        return result;
-    }
+        int size = periods.size();
+        int[] loggedDays = new int[size];
+        double[] calories = new double[size];
+        double[] proteins = new double[size];
+        double[] carbo = new double[size];
+        double[] fat = new double[size];
+        double[] fiber = new double[size];
+
+        LocalDate[] lastDay = new LocalDate[1];
+        nutritionTrendRepository.forEachDailyTotal(userService.getLoggedInUser().getId(), from, to, (date, tag, total) -> {
+            int index = bucket.index(from, date);
+            if (!date.equals(lastDay[0])) {
+                loggedDays[index]++;
+                lastDay[0] = date;
+            }
+            switch (tag) {
+                case CALORIES -> calories[index] += total;
+                case PROTEIN -> proteins[index] += total;
+                case CARBOHYDRATES -> carbo[index] += total;
+                case FAT -> fat[index] += total;
+                case FIBER -> fiber[index] += total;
+                default -> { }
+            }
+        });
 
-    private double getNutrientValue(DayDTO day, NutritionalTag tag) {
-        return day.tags().stream()
-                .filter(entry -> entry.nutrient().equals(tag.toString()))
-                .mapToDouble(NutritionalLabelEntrieDTO::amount)
-                .findFirst()
-                .orElse(0.0);
+        return new NutritionTrendDTO(bucket, periods, loggedDays, calories, proteins, carbo, fat, fiber);
     }
 
     public static LocalDate getWeekStart(LocalDate date) {
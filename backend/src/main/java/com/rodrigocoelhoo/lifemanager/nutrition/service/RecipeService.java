@@ -3,6 +3,9 @@ package com.rodrigocoelhoo.lifemanager.nutrition.service;
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
+import com.rodrigocoelhoo.lifemanager.nutrition.components.RecipeAvailabilityIndex;
+import com.rodrigocoelhoo.lifemanager.nutrition.components.RecipeMatch;
+import com.rodrigocoelhoo.lifemanager.nutrition.dto.AlmostAvailableRecipeDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.RecipeDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.RecipeDetailsDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.RecipeIngredientDTO;
@@ -14,10 +17,14 @@ import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class RecipeService {
@@ -26,19 +33,23 @@ public class RecipeService {
     private final RecipeRepository recipeRepository;
     private final IngredientService ingredientService;
     private final RedisCacheService redisCacheService;
+    private final RecipeAvailabilityIndex recipeAvailabilityIndex;
 
     private static final String CACHE_LIST = "recipes";
+    public static final int MAX_MISSING_INGREDIENTS = 5;
 
     public RecipeService(
             UserService userService,
             RecipeRepository recipeRepository,
             IngredientService ingredientService,
-            RedisCacheService redisCacheService
+            RedisCacheService redisCacheService,
+            RecipeAvailabilityIndex recipeAvailabilityIndex
     ) {
         this.userService = userService;
         this.recipeRepository = recipeRepository;
         this.ingredientService = ingredientService;
         this.redisCacheService = redisCacheService;
+        this.recipeAvailabilityIndex = recipeAvailabilityIndex;
     }
 
     @Cacheable(value = CACHE_LIST, keyGenerator = "userAwareKeyGenerator")
@@ -50,23 +61,76 @@ public class RecipeService {
         else
             page = recipeRepository.findByUserAndNameContainingIgnoreCase(user, name, pageable);
 
-        return page.map(RecipeDetailsDTO::fromEntity);
+        return toDetails(page);
     }
 
-    @Cacheable(value = CACHE_LIST, keyGenerator = "userAwareKeyGenerator")
+    // Not cached: the index answers in microseconds and the ingredient list would make every key unique
     public Page<RecipeDetailsDTO> getAvailableRecipes(
             List<Long> ingredientIds,
             Pageable pageable
     ) {
         UserModel user = userService.getLoggedInUser();
-        Page<RecipeModel> page;
         if (ingredientIds == null || ingredientIds.isEmpty()) {
-            page = recipeRepository.findAllByUser(user, pageable);
-        } else {
-            page = recipeRepository.findAvailableRecipes(user, ingredientIds, pageable);
+            return toDetails(recipeRepository.findAllByUser(user, pageable));
         }
 
-        return page.map(RecipeDetailsDTO::fromEntity);
+        // The index yields ids by descending id, the order the recipe listings use
+        List<Long> available = recipeAvailabilityIndex.findAvailable(user, ingredientIds);
+        return new PageImpl<>(hydrate(slice(available, pageable)), pageable, available.size());
+    }
+
+    public Page<AlmostAvailableRecipeDTO> getAlmostAvailableRecipes(
+            List<Long> ingredientIds,
+            int maxMissing,
+            Pageable pageable
+    ) {
+        if (maxMissing < 0 || maxMissing > MAX_MISSING_INGREDIENTS) {
+            throw new BadRequestException("Missing ingredients must be between 0 and " + MAX_MISSING_INGREDIENTS + ".");
+        }
+        if (ingredientIds == null || ingredientIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        UserModel user = userService.getLoggedInUser();
+        List<RecipeMatch> ranked = recipeAvailabilityIndex.rankAlmostAvailable(user, ingredientIds, maxMissing);
+        List<RecipeMatch> matches = slice(ranked, pageable);
+
+        Map<Long, RecipeDetailsDTO> recipes = new HashMap<>();
+        hydrate(matches.stream().map(RecipeMatch::recipeId).toList())
+                .forEach(recipe -> recipes.put(recipe.id(), recipe));
+
+        List<AlmostAvailableRecipeDTO> content = matches.stream()
+                .filter(match -> recipes.containsKey(match.recipeId()))
+                .map(match -> AlmostAvailableRecipeDTO.fromMatch(recipes.get(match.recipeId()), match))
+                .toList();
+        return new PageImpl<>(content, pageable, ranked.size());
+    }
+
+    private static <T> List<T> slice(List<T> items, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return items;
+        }
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        return items.subList(from, Math.min(from + pageable.getPageSize(), items.size()));
+    }
+
+    private Page<RecipeDetailsDTO> toDetails(Page<RecipeModel> page) {
+        List<RecipeDetailsDTO> content = hydrate(page.map(RecipeModel::getId).getContent());
+        return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
+    }
+
+    // Pages only hold recipe ids; their ingredients are fetched for just those ids, keeping the order
+    private List<RecipeDetailsDTO> hydrate(List<Long> ids) {
+        Map<Long, RecipeModel> recipes = new HashMap<>();
+        if (!ids.isEmpty()) {
+            recipeRepository.findAllByIdIn(ids).forEach(recipe -> recipes.put(recipe.getId(), recipe));
+        }
+
+        return ids.stream()
+                .map(recipes::get)
+                .filter(Objects::nonNull)
+                .map(RecipeDetailsDTO::fromEntity)
+                .toList();
     }
 
 
@@ -132,6 +196,7 @@ public class RecipeService {
         RecipeModel saved = recipeRepository.save(recipe);
 
         redisCacheService.evictUserCache(CACHE_LIST);
+        recipeAvailabilityIndex.putRecipe(user, saved.getId(), ingredients.stream().map(IngredientModel::getId).toList());
 
         return saved;
     }
@@ -169,6 +234,9 @@ public class RecipeService {
         RecipeModel saved = recipeRepository.save(recipe);
 
         redisCacheService.evictUserCache(CACHE_LIST);
+        recipeAvailabilityIndex.putRecipe(
+                userService.getLoggedInUser(), id, ingredients.stream().map(IngredientModel::getId).toList()
+        );
 
         return saved;
     }
@@ -178,5 +246,6 @@ public class RecipeService {
         RecipeModel recipe = getRecipe(id);
         recipeRepository.delete(recipe);
         redisCacheService.evictUserCache(CACHE_LIST);
+        recipeAvailabilityIndex.removeRecipe(userService.getLoggedInUser(), id);
     }
 }
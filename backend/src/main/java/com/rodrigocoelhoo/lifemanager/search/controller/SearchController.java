@@ -0,0 +1,38 @@
+package com.rodrigocoelhoo.lifemanager.search.controller;
+
+import com.rodrigocoelhoo.lifemanager.search.dto.NameMatchDTO;
+import com.rodrigocoelhoo.lifemanager.search.model.SearchTarget;
+import com.rodrigocoelhoo.lifemanager.search.service.NameSearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final NameSearchService nameSearchService;
+
+    public SearchController(NameSearchService nameSearchService) {
+        this.nameSearchService = nameSearchService;
+    }
+
+    @GetMapping("/{target}")
+    public ResponseEntity<List<NameMatchDTO>> search(
+            @PathVariable String target,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(nameSearchService.search(SearchTarget.fromPath(target), q, limit));
+    }
+
+    @GetMapping("/{target}/autocomplete")
+    public ResponseEntity<List<NameMatchDTO>> autocomplete(
+            @PathVariable String target,
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(nameSearchService.autocomplete(SearchTarget.fromPath(target), prefix, limit));
+    }
+}
@@ -0,0 +1,9 @@
+package com.rodrigocoelhoo.lifemanager.search.dto;
+
+import java.io.Serializable;
+
+public record NameMatchDTO(
+        Long id,
+        String name,
+        double score
+) implements Serializable { }
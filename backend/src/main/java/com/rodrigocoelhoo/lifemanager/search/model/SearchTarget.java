@@ -0,0 +1,29 @@
+package com.rodrigocoelhoo.lifemanager.search.model;
+
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+
+import java.util.Arrays;
+
+public enum SearchTarget {
+    INGREDIENTS("tb_ingredients"),
+    RECIPES("tb_recipes"),
+    EXERCISES("tb_exercises"),
+    WALLETS("tb_wallets");
+
+    private final String table;
+
+    SearchTarget(String table) {
+        this.table = table;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public static SearchTarget fromPath(String path) {
+        return Arrays.stream(values())
+                .filter(target -> target.name().equalsIgnoreCase(path))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Cannot search '" + path + "'."));
+    }
+}
@@ -0,0 +1,97 @@
+package com.rodrigocoelhoo.lifemanager.search.repository;
+
+import com.rodrigocoelhoo.lifemanager.search.dto.NameMatchDTO;
+import com.rodrigocoelhoo.lifemanager.search.model.SearchTarget;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+
+// Name lookups shared by every searchable table. PostgreSQL ranks by pg_trgm similarity and is served
+// by the trigram and prefix indexes of V28; other databases (H2 in tests) fall back to LIKE with a
+// coarse score: exact match, then prefix, then substring.
+@Repository
+public class NameSearchRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean trigrams;
+
+    public NameSearchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.trigrams = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())
+        ));
+    }
+
+    public List<NameMatchDTO> search(SearchTarget target, Long userId, String query, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("query", query)
+                .addValue("limit", limit);
+
+        if (trigrams) {
+            params.addValue("pattern", "%" + escape(query) + "%");
+            return jdbcTemplate.query("""
+                    SELECT id, name, similarity(name, :query) AS score
+                    FROM %s
+                    WHERE user_id = :userId
+                      AND (name ILIKE :pattern ESCAPE '\\' OR name %% :query)
+                    ORDER BY score DESC, name, id
+                    LIMIT :limit
+                    """.formatted(target.getTable()), params, this::toMatch);
+        }
+
+        String lower = query.toLowerCase(Locale.ROOT);
+        params.addValue("lower", lower)
+                .addValue("prefix", escape(lower) + "%")
+                .addValue("pattern", "%" + escape(lower) + "%");
+        return jdbcTemplate.query("""
+                SELECT id, name,
+                       CASE WHEN LOWER(name) = :lower THEN 1.0
+                            WHEN LOWER(name) LIKE :prefix ESCAPE '\\' THEN 0.75
+                            ELSE 0.5
+                       END AS score
+                FROM %s
+                WHERE user_id = :userId
+                  AND LOWER(name) LIKE :pattern ESCAPE '\\'
+                ORDER BY score DESC, name, id
+                LIMIT :limit
+                """.formatted(target.getTable()), params, this::toMatch);
+    }
+
+    // Shortest names first, so the closest completion of the prefix leads
+    public List<NameMatchDTO> autocomplete(SearchTarget target, Long userId, String prefix, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("prefix", escape(prefix.toLowerCase(Locale.ROOT)) + "%")
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query("""
+                SELECT id, name
+                FROM %s
+                WHERE user_id = :userId
+                  AND LOWER(name) LIKE :prefix ESCAPE '\\'
+                ORDER BY LENGTH(name), LOWER(name), id
+                LIMIT :limit
+                """.formatted(target.getTable()), params, (rs, rowNum) -> {
+            String name = rs.getString("name");
+            return new NameMatchDTO(rs.getLong("id"), name, (double) prefix.length() / name.length());
+        });
+    }
+
+    private NameMatchDTO toMatch(ResultSet rs, int rowNum) throws SQLException {
+        return new NameMatchDTO(rs.getLong("id"), rs.getString("name"), rs.getDouble("score"));
+    }
+
+    static String escape(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
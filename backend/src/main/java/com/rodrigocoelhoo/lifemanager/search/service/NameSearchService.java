@@ -0,0 +1,46 @@
+package com.rodrigocoelhoo.lifemanager.search.service;
+
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import com.rodrigocoelhoo.lifemanager.search.dto.NameMatchDTO;
+import com.rodrigocoelhoo.lifemanager.search.model.SearchTarget;
+import com.rodrigocoelhoo.lifemanager.search.repository.NameSearchRepository;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class NameSearchService {
+
+    public static final int MAX_LIMIT = 50;
+
+    private final NameSearchRepository nameSearchRepository;
+    private final UserService userService;
+
+    public NameSearchService(
+            NameSearchRepository nameSearchRepository,
+            UserService userService
+    ) {
+        this.nameSearchRepository = nameSearchRepository;
+        this.userService = userService;
+    }
+
+    public List<NameMatchDTO> search(SearchTarget target, String query, int limit) {
+        validate(query, limit);
+        return nameSearchRepository.search(target, userService.getLoggedInUser().getId(), query.trim(), limit);
+    }
+
+    public List<NameMatchDTO> autocomplete(SearchTarget target, String prefix, int limit) {
+        validate(prefix, limit);
+        return nameSearchRepository.autocomplete(target, userService.getLoggedInUser().getId(), prefix.trim(), limit);
+    }
+
+    private void validate(String text, int limit) {
+        if (text == null || text.isBlank()) {
+            throw new BadRequestException("Search text must not be blank.");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.rodrigocoelhoo.lifemanager.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record AuthenticatedUser(
+        Long id,
+        String username,
+        List<String> roles
+) implements AuthenticatedPrincipal, Serializable {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                .toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.rodrigocoelhoo.lifemanager.security;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,6 +50,10 @@ public class SecurityConfiguration {
                         .requestMatchers(HttpMethod.POST,"/api/auth/refresh").permitAll()
                         //.requestMatchers(HttpMethod.POST, "/api/...").hasRole("ADMIN")
 
+                        // Streamed responses (exports) finish on an async dispatch that carries no token;
+                        // the request that started them was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         .requestMatchers(
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
@@ -1,6 +1,6 @@
 package com.rodrigocoelhoo.lifemanager.security;
 
-import com.rodrigocoelhoo.lifemanager.users.UserRepository;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,20 +8,17 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 public class SecurityFilter extends OncePerRequestFilter {
 
     @Autowired
     private TokenService tokenService;
-    @Autowired
-    private UserRepository userRepository;
 
     @Override
     protected void doFilterInternal(
@@ -42,11 +39,8 @@ public class SecurityFilter extends OncePerRequestFilter {
 
         var token = this.recoverToken(request);
         if (token != null) {
-            var subject = tokenService.validateAccessToken(token);
-            if (subject != null && !subject.isEmpty()) {
-                UserDetails user = userRepository.findByUsername(subject)
-                        .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-
+            AuthenticatedUser user = resolvePrincipal(token);
+            if (user != null) {
                 var authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
@@ -54,6 +48,21 @@ public class SecurityFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // Access tokens without the identity claims predate them and have expired by now
+    private AuthenticatedUser resolvePrincipal(String token) {
+        DecodedJWT decoded = tokenService.decodeAccessToken(token);
+        if (decoded == null || decoded.getSubject() == null || decoded.getSubject().isEmpty()) {
+            return null;
+        }
+
+        Long id = decoded.getClaim("uid").asLong();
+        List<String> roles = decoded.getClaim("roles").asList(String.class);
+        if (id == null || roles == null) {
+            return null;
+        }
+        return new AuthenticatedUser(id, decoded.getSubject(), roles);
+    }
+
     private String recoverToken(HttpServletRequest request) {
         var authHeader = request.getHeader("Authorization");
         if(authHeader == null) return null;
@@ -1,26 +1,50 @@
 package com.rodrigocoelhoo.lifemanager.security;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 
 @Service
 public class TokenService {
 
-    @Value("${api.security.token.secret}")
-    private String secret;
+    private static final Duration MAX_VERIFIED_LIFETIME = Duration.ofMinutes(15);
 
-    private Algorithm getAlgorithm() {
-        return Algorithm.HMAC256(secret);
+    private final Algorithm algorithm;
+    private final JWTVerifier accessVerifier;
+    private final JWTVerifier refreshVerifier;
+
+    // Tokens whose signature and claims were already checked, kept until they expire
+    private final Cache<String, DecodedJWT> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfter(Expiry.creating((String token, DecodedJWT decoded) -> remainingLifetime(decoded)))
+            .build();
+
+    public TokenService(
+            @Value("${api.security.token.secret}") String secret
+    ) {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.accessVerifier = JWT.require(algorithm)
+                .withIssuer("auth-api")
+                .withClaim("type", "access")
+                .build();
+        this.refreshVerifier = JWT.require(algorithm)
+                .withIssuer("auth-api")
+                .withClaim("type", "refresh")
+                .build();
     }
 
     // ------------------------ ACCESS TOKEN --------------------------------
@@ -31,24 +55,22 @@ public class TokenService {
                     .withIssuer("auth-api")
                     .withSubject(user.getUsername())
                     .withClaim("type", "access")
+                    .withClaim("uid", user.getId())
+                    .withClaim("roles", user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList())
                     .withExpiresAt(Instant.now().plus(15, ChronoUnit.MINUTES))
-                    .sign(getAlgorithm());
+                    .sign(algorithm);
         } catch (JWTCreationException exception) {
             throw new RuntimeException("Error while generating access token", exception);
         }
     }
 
     public String validateAccessToken(String token) {
-        try {
-            return JWT.require(getAlgorithm())
-                    .withIssuer("auth-api")
-                    .withClaim("type", "access")
-                    .build()
-                    .verify(token)
-                    .getSubject();
-        } catch (JWTVerificationException exception) {
-            return "";
-        }
+        DecodedJWT decoded = decodeAccessToken(token);
+        return decoded != null ? decoded.getSubject() : "";
+    }
+
+    public DecodedJWT decodeAccessToken(String token) {
+        return verify(accessVerifier, token);
     }
 
     // ------------------------ REFRESH TOKEN --------------------------------
@@ -60,22 +82,44 @@ public class TokenService {
                     .withSubject(user.getUsername())
                     .withClaim("type", "refresh")
                     .withExpiresAt(Instant.now().plus(30, ChronoUnit.DAYS))
-                    .sign(getAlgorithm());
+                    .sign(algorithm);
         } catch (JWTCreationException exception) {
             throw new RuntimeException("Error while generating refresh token", exception);
         }
     }
 
     public String validateRefreshToken(String token) {
+        DecodedJWT decoded = verify(refreshVerifier, token);
+        return decoded != null ? decoded.getSubject() : "";
+    }
+
+    private DecodedJWT verify(JWTVerifier verifier, String token) {
+        DecodedJWT cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return isVerifiedBy(verifier, cached) ? cached : null;
+        }
+
         try {
-            return JWT.require(getAlgorithm())
-                    .withIssuer("auth-api")
-                    .withClaim("type", "refresh")
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            DecodedJWT decoded = verifier.verify(token);
+            if (decoded.getExpiresAtAsInstant() != null) {
+                verifiedTokens.put(token, decoded);
+            }
+            return decoded;
         } catch (JWTVerificationException exception) {
-            return "";
+            return null;
+        }
+    }
+
+    private boolean isVerifiedBy(JWTVerifier verifier, DecodedJWT decoded) {
+        String type = verifier == accessVerifier ? "access" : "refresh";
+        return type.equals(decoded.getClaim("type").asString());
+    }
+
+    private static Duration remainingLifetime(DecodedJWT decoded) {
+        Duration remaining = Duration.between(Instant.now(), decoded.getExpiresAtAsInstant());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
         }
+        return remaining.compareTo(MAX_VERIFIED_LIFETIME) > 0 ? MAX_VERIFIED_LIFETIME : remaining;
     }
 }
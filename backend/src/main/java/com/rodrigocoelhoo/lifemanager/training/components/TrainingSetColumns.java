@@ -0,0 +1,274 @@
+package com.rodrigocoelhoo.lifemanager.training.components;
+
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.E1rmCurveDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.PersonalRecordDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.TrainingFrequencyDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.WeeklyVolumeDTO;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Every set of one user as parallel primitive arrays sorted by session date, so a date range is
+// an index range found by binary search and each query is a single pass over a few columns.
+// A snapshot never changes; a new sessions cache generation gets a new one.
+public final class TrainingSetColumns {
+
+    private final String generation;
+    private final int size;
+
+    // Session date-time as epoch seconds read at UTC, and its epoch day
+    private final long[] timestamps;
+    private final int[] days;
+    private final long[] sessionIds;
+    // Index into exerciseIds, which is sorted so an exercise is found by binary search
+    private final int[] exercises;
+    private final long[] exerciseIds;
+    private final int[] reps;
+    private final double[] weights;
+    private final int[] durations;
+    private final int[] distances;
+    private final double[] volumes;
+    private final double[] e1rms;
+
+    private TrainingSetColumns(Builder builder, String generation) {
+        this.generation = generation;
+        this.size = builder.size;
+        this.timestamps = Arrays.copyOf(builder.timestamps, size);
+        this.sessionIds = Arrays.copyOf(builder.sessionIds, size);
+        this.reps = Arrays.copyOf(builder.reps, size);
+        this.weights = Arrays.copyOf(builder.weights, size);
+        this.durations = Arrays.copyOf(builder.durations, size);
+        this.distances = Arrays.copyOf(builder.distances, size);
+
+        this.exerciseIds = Arrays.stream(builder.exerciseIds, 0, size).sorted().distinct().toArray();
+        this.exercises = new int[size];
+        this.days = new int[size];
+        this.volumes = new double[size];
+        this.e1rms = new double[size];
+        for (int i = 0; i < size; i++) {
+            exercises[i] = Arrays.binarySearch(exerciseIds, builder.exerciseIds[i]);
+            days[i] = (int) Math.floorDiv(timestamps[i], 86_400L);
+            volumes[i] = weights[i] * reps[i];
+            e1rms[i] = weights[i] * (1 + reps[i] / 30.0);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    boolean isAt(String generation) {
+        return this.generation.equals(generation);
+    }
+
+    public E1rmCurveDTO e1rmCurve(Long exerciseId, LocalDate from, LocalDate to) {
+        int exercise = Arrays.binarySearch(exerciseIds, exerciseId);
+        int lo = lowerBound(from);
+        int hi = lowerBound(to.plusDays(1));
+
+        int[] curveDays = new int[Math.max(0, hi - lo)];
+        double[] curve = new double[curveDays.length];
+        int points = 0;
+        for (int i = lo; exercise >= 0 && i < hi; i++) {
+            if (exercises[i] != exercise || reps[i] == 0) {
+                continue;
+            }
+            if (points == 0 || curveDays[points - 1] != days[i]) {
+                curveDays[points++] = days[i];
+            }
+            curve[points - 1] = Math.max(curve[points - 1], e1rms[i]);
+        }
+
+        List<LocalDate> dates = new ArrayList<>(points);
+        for (int i = 0; i < points; i++) {
+            dates.add(LocalDate.ofEpochDay(curveDays[i]));
+        }
+        return new E1rmCurveDTO(exerciseId, dates, Arrays.copyOf(curve, points));
+    }
+
+    public WeeklyVolumeDTO weeklyVolume(LocalDate from, LocalDate to) {
+        LocalDate start = weekStart(from);
+        List<LocalDate> weeks = weeks(start, to);
+        int firstDay = (int) start.toEpochDay();
+        int lo = lowerBound(start);
+        int hi = lowerBound(to.plusDays(1));
+
+        double[][] volume = new double[exerciseIds.length][];
+        for (int i = lo; i < hi; i++) {
+            if (reps[i] == 0) {
+                continue;
+            }
+            double[] row = volume[exercises[i]];
+            if (row == null) {
+                row = volume[exercises[i]] = new double[weeks.size()];
+            }
+            row[(days[i] - firstDay) / 7] += volumes[i];
+        }
+
+        List<WeeklyVolumeDTO.ExerciseVolume> result = new ArrayList<>();
+        for (int exercise = 0; exercise < volume.length; exercise++) {
+            if (volume[exercise] != null) {
+                result.add(new WeeklyVolumeDTO.ExerciseVolume(exerciseIds[exercise], volume[exercise]));
+            }
+        }
+        return new WeeklyVolumeDTO(weeks, result);
+    }
+
+    // A day's best e1RM of an exercise is a record when it beats every earlier day, so the scan
+    // starts at the first set ever logged and only reports days inside the range
+    public List<PersonalRecordDTO> personalRecords(LocalDate from, LocalDate to) {
+        int fromDay = (int) from.toEpochDay();
+        int hi = lowerBound(to.plusDays(1));
+
+        double[] best = new double[exerciseIds.length];
+        int[] dayBest = new int[exerciseIds.length];
+        Arrays.fill(dayBest, -1);
+        int[] touched = new int[exerciseIds.length];
+        int touchedCount = 0;
+
+        List<PersonalRecordDTO> records = new ArrayList<>();
+        for (int i = 0; i <= hi; i++) {
+            if (i == hi || (i > 0 && days[i] != days[i - 1])) {
+                for (int t = 0; t < touchedCount; t++) {
+                    int exercise = touched[t];
+                    int row = dayBest[exercise];
+                    if (e1rms[row] > best[exercise]) {
+                        if (best[exercise] > 0 && days[row] >= fromDay) {
+                            records.add(new PersonalRecordDTO(
+                                    exerciseIds[exercise],
+                                    LocalDate.ofEpochDay(days[row]),
+                                    reps[row],
+                                    weights[row],
+                                    e1rms[row],
+                                    best[exercise]
+                            ));
+                        }
+                        best[exercise] = e1rms[row];
+                    }
+                    dayBest[exercise] = -1;
+                }
+                touchedCount = 0;
+            }
+            if (i == hi || reps[i] == 0) {
+                continue;
+            }
+
+            int exercise = exercises[i];
+            if (dayBest[exercise] < 0) {
+                touched[touchedCount++] = exercise;
+                dayBest[exercise] = i;
+            } else if (e1rms[i] > e1rms[dayBest[exercise]]) {
+                dayBest[exercise] = i;
+            }
+        }
+        return records;
+    }
+
+    public TrainingFrequencyDTO frequency(LocalDate from, LocalDate to) {
+        LocalDate start = weekStart(from);
+        List<LocalDate> weeks = weeks(start, to);
+        int firstDay = (int) start.toEpochDay();
+        int lo = lowerBound(start);
+        int hi = lowerBound(to.plusDays(1));
+
+        int[] sessions = new int[weeks.size()];
+        int[] trainingDays = new int[weeks.size()];
+        int[] durationSecs = new int[weeks.size()];
+        int[] distance = new int[weeks.size()];
+        for (int i = lo; i < hi; i++) {
+            int week = (days[i] - firstDay) / 7;
+            if (i == lo || sessionIds[i] != sessionIds[i - 1]) {
+                sessions[week]++;
+            }
+            if (i == lo || days[i] != days[i - 1]) {
+                trainingDays[week]++;
+            }
+            durationSecs[week] += durations[i];
+            distance[week] += distances[i];
+        }
+        return new TrainingFrequencyDTO(weeks, sessions, trainingDays, durationSecs, distance);
+    }
+
+    private int lowerBound(LocalDate date) {
+        long timestamp = date.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (timestamps[mid] < timestamp) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.minusDays(date.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+    }
+
+    private static List<LocalDate> weeks(LocalDate start, LocalDate to) {
+        List<LocalDate> weeks = new ArrayList<>();
+        for (LocalDate week = start; !week.isAfter(to); week = week.plusWeeks(1)) {
+            weeks.add(week);
+        }
+        return weeks;
+    }
+
+    // Sets must be added in session date order
+    public static final class Builder {
+
+        private int size;
+        private long[] timestamps = new long[64];
+        private long[] sessionIds = new long[64];
+        private long[] exerciseIds = new long[64];
+        private int[] reps = new int[64];
+        private double[] weights = new double[64];
+        private int[] durations = new int[64];
+        private int[] distances = new int[64];
+
+        public Builder add(
+                LocalDateTime date,
+                long sessionId,
+                long exerciseId,
+                int reps,
+                double weight,
+                int durationSecs,
+                int distance
+        ) {
+            if (size == timestamps.length) {
+                grow();
+            }
+            this.timestamps[size] = date.toEpochSecond(ZoneOffset.UTC);
+            this.sessionIds[size] = sessionId;
+            this.exerciseIds[size] = exerciseId;
+            this.reps[size] = reps;
+            this.weights[size] = weight;
+            this.durations[size] = durationSecs;
+            this.distances[size] = distance;
+            size++;
+            return this;
+        }
+
+        public TrainingSetColumns build(String generation) {
+            return new TrainingSetColumns(this, generation);
+        }
+
+        private void grow() {
+            int capacity = timestamps.length * 2;
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            sessionIds = Arrays.copyOf(sessionIds, capacity);
+            exerciseIds = Arrays.copyOf(exerciseIds, capacity);
+            reps = Arrays.copyOf(reps, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            durations = Arrays.copyOf(durations, capacity);
+            distances = Arrays.copyOf(distances, capacity);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.rodrigocoelhoo.lifemanager.training.components;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
+import com.rodrigocoelhoo.lifemanager.training.repository.TrainingSetRepository;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Holds a columnar snapshot of each active user's sets. Session and exercise changes bump the
+// trainingSessions cache generation once they commit, and a snapshot from an older generation is
+// rebuilt with one streamed query on its next read. The cache is bounded by the total number of
+// sets it holds, and snapshots are rebuilt at least every 30 minutes however often they're read.
+@Component
+public class TrainingSetStore {
+
+    static final long MAX_CACHED_SETS = 2_000_000;
+
+    private static final String CACHE_SESSIONS = "trainingSessions";
+
+    private final TrainingSetRepository trainingSetRepository;
+    private final RedisCacheService redisCacheService;
+    private final Cache<Long, TrainingSetColumns> snapshots = Caffeine.newBuilder()
+            .maximumWeight(MAX_CACHED_SETS)
+            .weigher((Long userId, TrainingSetColumns columns) -> Math.max(1, columns.size()))
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    public TrainingSetStore(
+            TrainingSetRepository trainingSetRepository,
+            RedisCacheService redisCacheService
+    ) {
+        this.trainingSetRepository = trainingSetRepository;
+        this.redisCacheService = redisCacheService;
+    }
+
+    public TrainingSetColumns columns(UserModel user) {
+        String generation = redisCacheService.userKey(CACHE_SESSIONS);
+        TrainingSetColumns columns = snapshots.getIfPresent(user.getId());
+        if (columns == null || !columns.isAt(generation)) {
+            TrainingSetColumns.Builder builder = new TrainingSetColumns.Builder();
+            trainingSetRepository.forEachSet(user.getId(), builder::add);
+
+            columns = builder.build(generation);
+            snapshots.put(user.getId(), columns);
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,64 @@
+package com.rodrigocoelhoo.lifemanager.training.controller;
+
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.E1rmCurveDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.PersonalRecordDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.TrainingFrequencyDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.WeeklyVolumeDTO;
+import com.rodrigocoelhoo.lifemanager.training.service.TrainingAnalyticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/dashboard/training/analytics")
+public class TrainingAnalyticsController {
+
+    private final TrainingAnalyticsService trainingAnalyticsService;
+
+    public TrainingAnalyticsController(TrainingAnalyticsService trainingAnalyticsService) {
+        this.trainingAnalyticsService = trainingAnalyticsService;
+    }
+
+    @GetMapping("/e1rm/{exerciseId}")
+    public ResponseEntity<E1rmCurveDTO> getE1rmCurve(
+            @PathVariable Long exerciseId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        return ResponseEntity.ok(trainingAnalyticsService.getE1rmCurve(exerciseId, from != null ? from : end.minusYears(1), end));
+    }
+
+    @GetMapping("/weekly-volume")
+    public ResponseEntity<WeeklyVolumeDTO> getWeeklyVolume(
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        return ResponseEntity.ok(trainingAnalyticsService.getWeeklyVolume(from != null ? from : end.minusMonths(3), end));
+    }
+
+    @GetMapping("/records")
+    public ResponseEntity<List<PersonalRecordDTO>> getPersonalRecords(
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        return ResponseEntity.ok(trainingAnalyticsService.getPersonalRecords(from != null ? from : end.minusMonths(3), end));
+    }
+
+    @GetMapping("/frequency")
+    public ResponseEntity<TrainingFrequencyDTO> getFrequency(
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        return ResponseEntity.ok(trainingAnalyticsService.getFrequency(from != null ? from : end.minusMonths(3), end));
+    }
+}
@@ -1,5 +1,6 @@
 package com.rodrigocoelhoo.lifemanager.training.controller;
 
+import com.rodrigocoelhoo.lifemanager.common.SliceResponseDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.PageResponseDTO;
 import com.rodrigocoelhoo.lifemanager.training.dto.exercisedto.ExerciseResponseDTO;
 import com.rodrigocoelhoo.lifemanager.training.dto.exercisedto.ExerciseStats;
@@ -40,6 +41,14 @@ public class TrainingSessionController {
         return ResponseEntity.ok(PageResponseDTO.fromPage(trainingSessionService.getAllSessions(pageable)));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<SliceResponseDTO<TrainingSessionResponseDTO>> getSessionsByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(trainingSessionService.getSessionsAfter(after, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<SessionDetailsDTO> getSessionDetails(@PathVariable Long id) {
         SessionDetailsDTO session = trainingSessionService.getSessionDetails(id);
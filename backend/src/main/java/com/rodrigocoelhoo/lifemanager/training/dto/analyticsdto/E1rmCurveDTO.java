@@ -0,0 +1,12 @@
+package com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+// Best e1RM of each day the exercise was trained, e1rm[i] belonging to dates[i]
+public record E1rmCurveDTO(
+        Long exerciseId,
+        List<LocalDate> dates,
+        double[] e1rm
+) implements Serializable { }
@@ -0,0 +1,13 @@
+package com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+public record PersonalRecordDTO(
+        Long exerciseId,
+        LocalDate date,
+        int reps,
+        double weight,
+        double e1rm,
+        double previousE1rm
+) implements Serializable { }
@@ -0,0 +1,14 @@
+package com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+// Columnar: the i-th entry of every array belongs to the week starting at weeks[i]
+public record TrainingFrequencyDTO(
+        List<LocalDate> weeks,
+        int[] sessions,
+        int[] trainingDays,
+        int[] durationSecs,
+        int[] distance
+) implements Serializable { }
@@ -0,0 +1,13 @@
+package com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+// Columnar: volume[i] of every exercise belongs to the week starting at weeks[i]
+public record WeeklyVolumeDTO(
+        List<LocalDate> weeks,
+        List<ExerciseVolume> exercises
+) implements Serializable {
+    public record ExerciseVolume(Long exerciseId, double[] volume) implements Serializable { }
+}
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 @Builder
 public class ExerciseModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_exercises_seq")
+    @SequenceGenerator(name = "tb_exercises_seq", sequenceName = "tb_exercises_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -0,0 +1,49 @@
+package com.rodrigocoelhoo.lifemanager.training.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "tb_exercise_monthly_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExerciseMonthlyStatsModel {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_exercise_monthly_stats_seq")
+    @SequenceGenerator(name = "tb_exercise_monthly_stats_seq", sequenceName = "tb_exercise_monthly_stats_seq", allocationSize = 50)
+    @Column(nullable = false)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "exercise_id")
+    private ExerciseModel exercise;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(nullable = false)
+    private int sets;
+
+    @Column(nullable = false)
+    private int reps;
+
+    @Column(nullable = false)
+    private double volume;
+
+    @Column(name = "max_weight", nullable = false)
+    private double maxWeight;
+
+    @Column(name = "max_e1rm", nullable = false)
+    private double maxE1rm;
+
+    @Column(name = "best_set_reps", nullable = false)
+    private int bestSetReps;
+
+    @Column(name = "best_set_weight", nullable = false)
+    private double bestSetWeight;
+}
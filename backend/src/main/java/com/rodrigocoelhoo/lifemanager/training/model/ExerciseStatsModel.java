@@ -0,0 +1,38 @@
+package com.rodrigocoelhoo.lifemanager.training.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "tb_exercise_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExerciseStatsModel {
+    @Id
+    @Column(name = "exercise_id")
+    private Long exerciseId;
+
+    @Column(nullable = false)
+    private int sets;
+
+    @Column(nullable = false)
+    private int reps;
+
+    @Column(nullable = false)
+    private double volume;
+
+    @Column(name = "max_weight", nullable = false)
+    private double maxWeight;
+
+    @Column(nullable = false)
+    private double e1rm;
+
+    @Column(name = "best_set_reps", nullable = false)
+    private int bestSetReps;
+
+    @Column(name = "best_set_weight", nullable = false)
+    private double bestSetWeight;
+}
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class SessionExerciseModel {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_session_exercises_seq")
+    @SequenceGenerator(name = "tb_session_exercises_seq", sequenceName = "tb_session_exercises_seq", allocationSize = 50)
     @Column(nullable = false)
     private Long id;
 
@@ -19,7 +19,8 @@ import java.util.List;
 @Builder
 public class TrainingPlanModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_trainingplans_seq")
+    @SequenceGenerator(name = "tb_trainingplans_seq", sequenceName = "tb_trainingplans_seq", allocationSize = 50)
     @Column(nullable = false)
     private Long id;
 
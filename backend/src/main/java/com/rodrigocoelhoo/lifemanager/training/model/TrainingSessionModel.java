@@ -18,7 +18,8 @@ import java.util.List;
 @Builder
 public class TrainingSessionModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_trainingsessions_seq")
+    @SequenceGenerator(name = "tb_trainingsessions_seq", sequenceName = "tb_trainingsessions_seq", allocationSize = 50)
     @Column(nullable = false)
     private Long id;
 
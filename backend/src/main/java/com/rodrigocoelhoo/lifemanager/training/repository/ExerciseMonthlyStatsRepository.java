@@ -0,0 +1,19 @@
+package com.rodrigocoelhoo.lifemanager.training.repository;
+
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseMonthlyStatsModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ExerciseMonthlyStatsRepository extends JpaRepository<ExerciseMonthlyStatsModel, Long> {
+    Optional<ExerciseMonthlyStatsModel> findByExerciseAndMonthStart(ExerciseModel exercise, LocalDate monthStart);
+
+    List<ExerciseMonthlyStatsModel> findAllByExerciseOrderByMonthStart(ExerciseModel exercise);
+
+    List<ExerciseMonthlyStatsModel> findAllByExerciseAndMonthStartBetween(ExerciseModel exercise, LocalDate from, LocalDate to);
+}
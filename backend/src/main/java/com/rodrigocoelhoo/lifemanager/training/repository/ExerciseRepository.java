@@ -5,6 +5,7 @@ import com.rodrigocoelhoo.lifemanager.users.UserModel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,6 +14,12 @@ import java.util.Optional;
 @Repository
 public interface ExerciseRepository extends JpaRepository<ExerciseModel, Long> {
     Page<ExerciseModel> findAllByUser(UserModel user, Pageable pageable);
+    @Query("""
+        SELECT e
+        FROM ExerciseModel e
+        WHERE e.user = :user
+          AND e.name ILIKE CONCAT('%', :#{escape(#name)}, '%') ESCAPE :#{escapeCharacter()}
+    """)
     Page<ExerciseModel> findByUserAndNameContainingIgnoreCase(UserModel user, String name, Pageable pageable);
     List<ExerciseModel> findAllByIdInAndUser(List<Long> ids, UserModel user);
     Optional<ExerciseModel> findByIdAndUser(Long id, UserModel user);
@@ -0,0 +1,9 @@
+package com.rodrigocoelhoo.lifemanager.training.repository;
+
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseStatsModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ExerciseStatsRepository extends JpaRepository<ExerciseStatsModel, Long> {
+}
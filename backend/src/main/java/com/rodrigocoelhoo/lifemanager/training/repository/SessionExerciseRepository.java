@@ -2,12 +2,33 @@ package com.rodrigocoelhoo.lifemanager.training.repository;
 
 import com.rodrigocoelhoo.lifemanager.training.model.ExerciseModel;
 import com.rodrigocoelhoo.lifemanager.training.model.SessionExerciseModel;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SessionExerciseRepository extends JpaRepository<SessionExerciseModel, Long> {
-    @EntityGraph(attributePaths = {"session"})
-    List<SessionExerciseModel> findAllByExercise(ExerciseModel exercise);
+    @Query("""
+        SELECT new com.rodrigocoelhoo.lifemanager.training.repository.SessionExerciseRepository$SetTotals(
+            COUNT(s), SUM(s.reps), SUM(s.weight * s.reps), MAX(s.weight), MAX(s.weight * (1 + s.reps / 30.0))
+        )
+        FROM SessionExerciseModel s
+        WHERE s.exercise = :exercise
+          AND s.reps IS NOT NULL AND s.weight IS NOT NULL
+          AND s.session.date >= :from AND s.session.date < :to
+    """)
+    SetTotals sumSets(ExerciseModel exercise, LocalDateTime from, LocalDateTime to);
+
+    @Query("""
+        SELECT s FROM SessionExerciseModel s
+        WHERE s.exercise = :exercise
+          AND s.reps IS NOT NULL AND s.weight IS NOT NULL
+          AND s.session.date >= :from AND s.session.date < :to
+        ORDER BY s.reps * s.weight DESC, s.id DESC
+    """)
+    List<SessionExerciseModel> findBestSets(ExerciseModel exercise, LocalDateTime from, LocalDateTime to, Limit limit);
+
+    record SetTotals(Long sets, Long reps, Double volume, Double maxWeight, Double maxE1rm) { }
 }
@@ -2,15 +2,25 @@ package com.rodrigocoelhoo.lifemanager.training.repository;
 
 import com.rodrigocoelhoo.lifemanager.training.model.TrainingSessionModel;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TrainingSessionRepository extends JpaRepository<TrainingSessionModel, Long> {
@@ -18,6 +28,36 @@ public interface TrainingSessionRepository extends JpaRepository<TrainingSession
     Page<TrainingSessionModel> findAllByUser(UserModel user, Pageable pageable);
     @EntityGraph(attributePaths = {"exercises", "exercises.exercise"})
     Optional<TrainingSessionModel> findByIdAndUser(Long id, UserModel user);
+
+    Window<TrainingSessionModel> findByUser(UserModel user, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = {"exercises", "exercises.exercise"})
+    List<TrainingSessionModel> findAllByIdIn(Collection<Long> ids);
     @EntityGraph(attributePaths = {"exercises", "exercises.exercise"})
     List<TrainingSessionModel> findAllByUserAndDateBetweenOrderByDateDescIdDesc(UserModel user, LocalDateTime start, LocalDateTime end);
+
+    // One row per set; a session without sets comes back once with null set columns
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new com.rodrigocoelhoo.lifemanager.training.repository.TrainingSessionRepository$ExportRow(
+            s.id, s.date, e.name, se.setNumber, se.reps, se.weight, se.durationSecs, se.distance
+        )
+        FROM TrainingSessionModel s
+        LEFT JOIN s.exercises se
+        LEFT JOIN se.exercise e
+        WHERE s.user.id = :userId
+        ORDER BY s.date, s.id, se.id
+    """)
+    Stream<ExportRow> streamExportRows(Long userId);
+
+    record ExportRow(
+            Long sessionId,
+            LocalDateTime date,
+            String exercise,
+            Integer setNumber,
+            Integer reps,
+            Double weight,
+            Integer durationSecs,
+            Integer distance
+    ) { }
 }
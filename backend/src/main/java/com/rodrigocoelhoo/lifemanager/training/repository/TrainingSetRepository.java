@@ -0,0 +1,67 @@
+package com.rodrigocoelhoo.lifemanager.training.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+
+@Repository
+public class TrainingSetRepository {
+
+    static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TrainingSetRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Every set of the user in (session date, session, set) order, streamed without building entities.
+    // Columns of the other exercise type come back as 0
+    public void forEachSet(Long userId, SetHandler handler) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement("""
+                            SELECT s.date, s.id AS session_id, se.exercise_id,
+                                   se.reps, se.weight, se.duration_secs, se.distance
+                            FROM tb_trainingsessions s
+                            JOIN tb_session_exercises se ON se.session_id = s.id
+                            WHERE s.user_id = ? AND s.date IS NOT NULL
+                            ORDER BY s.date, s.id, se.id
+                            """,
+                            ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY
+                    );
+                    statement.setFetchSize(FETCH_SIZE);
+                    statement.setLong(1, userId);
+                    return statement;
+                },
+                rs -> {
+                    handler.accept(
+                            rs.getTimestamp("date").toLocalDateTime(),
+                            rs.getLong("session_id"),
+                            rs.getLong("exercise_id"),
+                            rs.getInt("reps"),
+                            rs.getDouble("weight"),
+                            rs.getInt("duration_secs"),
+                            rs.getInt("distance")
+                    );
+                }
+        );
+    }
+
+    @FunctionalInterface
+    public interface SetHandler {
+        void accept(
+                LocalDateTime date,
+                long sessionId,
+                long exerciseId,
+                int reps,
+                double weight,
+                int durationSecs,
+                int distance
+        );
+    }
+}
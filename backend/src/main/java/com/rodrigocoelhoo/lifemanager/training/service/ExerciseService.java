@@ -7,10 +7,12 @@ import com.rodrigocoelhoo.lifemanager.training.dto.exercisedto.ExerciseResponseD
 import com.rodrigocoelhoo.lifemanager.training.dto.exercisedto.ExerciseStats;
 import com.rodrigocoelhoo.lifemanager.training.dto.exercisedto.ExerciseUpdateDTO;
 import com.rodrigocoelhoo.lifemanager.training.model.ExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseMonthlyStatsModel;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseStatsModel;
 import com.rodrigocoelhoo.lifemanager.training.model.ExerciseType;
-import com.rodrigocoelhoo.lifemanager.training.model.SessionExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.repository.ExerciseMonthlyStatsRepository;
 import com.rodrigocoelhoo.lifemanager.training.repository.ExerciseRepository;
-import com.rodrigocoelhoo.lifemanager.training.repository.SessionExerciseRepository;
+import com.rodrigocoelhoo.lifemanager.training.repository.ExerciseStatsRepository;
 import com.rodrigocoelhoo.lifemanager.training.repository.TrainingPlanRepository;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
 import com.rodrigocoelhoo.lifemanager.users.UserService;
@@ -31,7 +33,8 @@ public class ExerciseService {
     private final UserService userService;
     private final ExerciseRepository exerciseRepository;
     private final TrainingPlanRepository trainingPlanRepository;
-    private final SessionExerciseRepository sessionExerciseRepository;
+    private final ExerciseStatsRepository exerciseStatsRepository;
+    private final ExerciseMonthlyStatsRepository exerciseMonthlyStatsRepository;
     private final RedisCacheService redisCacheService;
 
     private static final String CACHE_LIST = "exercises";
@@ -41,13 +44,15 @@ public class ExerciseService {
             ExerciseRepository exerciseRepository,
             UserService userService,
             TrainingPlanRepository trainingPlanRepository,
-            SessionExerciseRepository sessionExerciseRepository,
+            ExerciseStatsRepository exerciseStatsRepository,
+            ExerciseMonthlyStatsRepository exerciseMonthlyStatsRepository,
             RedisCacheService redisCacheService
     ) {
         this.exerciseRepository = exerciseRepository;
         this.userService = userService;
         this.trainingPlanRepository = trainingPlanRepository;
-        this.sessionExerciseRepository = sessionExerciseRepository;
+        this.exerciseStatsRepository = exerciseStatsRepository;
+        this.exerciseMonthlyStatsRepository = exerciseMonthlyStatsRepository;
         this.redisCacheService = redisCacheService;
     }
 
@@ -133,7 +138,7 @@ public class ExerciseService {
 
     @Cacheable(
             value = CACHE_STATS,
-            key = "T(com.rodrigocoelhoo.lifemanager.config.RedisCacheService).getCurrentUsername() + " +
+            key = "@redisCacheService.userKey('exerciseStats') + " +
                     "'::exercise:' + #exerciseId"
     )
     public ExerciseStats getExerciseStats(Long exerciseId) {
@@ -142,14 +147,8 @@ public class ExerciseService {
             return null;
         }
 
-        List<SessionExerciseModel> sessions = sessionExerciseRepository.findAllByExercise(exercise);
-
-        double volume = 0.0;
-        int reps = 0;
-        int sets = sessions.size();
-        double maxWeight = 0.0;
-        TrainingDashboardService.ExercisePR.RepSet bestRepSet = new TrainingDashboardService.ExercisePR.RepSet(0,0.0);
-        double e1rm = 0.0;
+        ExerciseStatsModel stats = exerciseStatsRepository.findById(exercise.getId())
+                .orElseGet(() -> ExerciseStatsModel.builder().exerciseId(exercise.getId()).build());
 
         YearMonth cutoff = YearMonth.now().minusMonths(5);
         YearMonth current = YearMonth.now();
@@ -161,22 +160,24 @@ public class ExerciseService {
             cutoff = cutoff.plusMonths(1);
         }
 
-        for(SessionExerciseModel session : sessions) {
-            reps += session.getReps();
-            volume += session.getWeight() * session.getReps();
-            maxWeight = Math.max(maxWeight, session.getWeight());
-            double setE1RM = session.getWeight() * (1 + session.getReps() / 30.0);
-            e1rm = Math.max(e1rm, setE1RM);
-
-            double currentBestRepSet = bestRepSet.reps() * bestRepSet.weight();
-            double sessionRepSet = session.getReps() * session.getWeight();
-            bestRepSet = currentBestRepSet > sessionRepSet ? bestRepSet : new TrainingDashboardService.ExercisePR.RepSet(session.getReps(), session.getWeight());
-
-            YearMonth setYearMonth = YearMonth.from(session.getSession().getDate());
-            if (!monthlyMaxE1RM.containsKey(setYearMonth)) continue;
-            monthlyMaxE1RM.merge(setYearMonth, setE1RM, Math::max);
+        List<ExerciseMonthlyStatsModel> months = exerciseMonthlyStatsRepository.findAllByExerciseAndMonthStartBetween(
+                exercise,
+                current.minusMonths(5).atDay(1),
+                current.atDay(1)
+        );
+        for (ExerciseMonthlyStatsModel month : months) {
+            monthlyMaxE1RM.put(YearMonth.from(month.getMonthStart()), month.getMaxE1rm());
         }
 
-        return new ExerciseStats(exercise.getName(), volume, sets, reps, maxWeight, bestRepSet, e1rm, monthlyMaxE1RM);
+        return new ExerciseStats(
+                exercise.getName(),
+                stats.getVolume(),
+                stats.getSets(),
+                stats.getReps(),
+                stats.getMaxWeight(),
+                new TrainingDashboardService.ExercisePR.RepSet(stats.getBestSetReps(), stats.getBestSetWeight()),
+                stats.getE1rm(),
+                monthlyMaxE1RM
+        );
     }
 }
@@ -0,0 +1,158 @@
+package com.rodrigocoelhoo.lifemanager.training.service;
+
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseMonthlyStatsModel;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseStatsModel;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseType;
+import com.rodrigocoelhoo.lifemanager.training.model.SessionExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.model.TrainingSessionModel;
+import com.rodrigocoelhoo.lifemanager.training.repository.ExerciseMonthlyStatsRepository;
+import com.rodrigocoelhoo.lifemanager.training.repository.ExerciseStatsRepository;
+import com.rodrigocoelhoo.lifemanager.training.repository.SessionExerciseRepository;
+import com.rodrigocoelhoo.lifemanager.users.UserRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+public class ExerciseStatsService {
+
+    private final ExerciseStatsRepository exerciseStatsRepository;
+    private final ExerciseMonthlyStatsRepository exerciseMonthlyStatsRepository;
+    private final SessionExerciseRepository sessionExerciseRepository;
+    private final UserRepository userRepository;
+
+    public ExerciseStatsService(
+            ExerciseStatsRepository exerciseStatsRepository,
+            ExerciseMonthlyStatsRepository exerciseMonthlyStatsRepository,
+            SessionExerciseRepository sessionExerciseRepository,
+            UserRepository userRepository
+    ) {
+        this.exerciseStatsRepository = exerciseStatsRepository;
+        this.exerciseMonthlyStatsRepository = exerciseMonthlyStatsRepository;
+        this.sessionExerciseRepository = sessionExerciseRepository;
+        this.userRepository = userRepository;
+    }
+
+    public record ExerciseMonth(ExerciseModel exercise, YearMonth month) { }
+
+    // The SET_REP exercises of a session and the month it falls in, collected before and after a change
+    public Set<ExerciseMonth> monthsOf(TrainingSessionModel session) {
+        Set<ExerciseMonth> months = new HashSet<>();
+        YearMonth month = YearMonth.from(session.getDate());
+        for (SessionExerciseModel set : session.getExercises()) {
+            if (set.getExercise().getType() == ExerciseType.SET_REP) {
+                months.add(new ExerciseMonth(set.getExercise(), month));
+            }
+        }
+        return months;
+    }
+
+    // Max values cannot be decremented, so each touched month is summed again from its own sets
+    // and the all-time row is folded from the monthly rows.
+    // Recomputes of one user are serialized on the user row, as for the daily nutrition totals:
+    // a concurrent one would miss the other's uncommitted sets or insert the same monthly row twice.
+    @Transactional
+    public void recompute(Collection<ExerciseMonth> months) {
+        if (months.isEmpty()) {
+            return;
+        }
+
+        userRepository.findForUpdateById(months.iterator().next().exercise().getUser().getId());
+        Map<Long, ExerciseModel> exercises = new LinkedHashMap<>();
+        Map<Long, Set<YearMonth>> monthsByExercise = new LinkedHashMap<>();
+        for (ExerciseMonth month : months) {
+            exercises.putIfAbsent(month.exercise().getId(), month.exercise());
+            monthsByExercise.computeIfAbsent(month.exercise().getId(), id -> new TreeSet<>()).add(month.month());
+        }
+
+        monthsByExercise.forEach((id, exerciseMonths) -> {
+            ExerciseModel exercise = exercises.get(id);
+            exerciseMonths.forEach(month -> recomputeMonth(exercise, month));
+            recomputeTotals(exercise);
+        });
+    }
+
+    private void recomputeMonth(ExerciseModel exercise, YearMonth month) {
+        LocalDate monthStart = month.atDay(1);
+        LocalDateTime from = monthStart.atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        SessionExerciseRepository.SetTotals totals = sessionExerciseRepository.sumSets(exercise, from, to);
+        Optional<ExerciseMonthlyStatsModel> existing =
+                exerciseMonthlyStatsRepository.findByExerciseAndMonthStart(exercise, monthStart);
+
+        if (totals.sets() == 0) {
+            existing.ifPresent(exerciseMonthlyStatsRepository::delete);
+            return;
+        }
+
+        SessionExerciseModel bestSet = sessionExerciseRepository.findBestSets(exercise, from, to, Limit.of(1)).getFirst();
+        ExerciseMonthlyStatsModel row = existing.orElseGet(() -> ExerciseMonthlyStatsModel.builder()
+                .exercise(exercise)
+                .monthStart(monthStart)
+                .build());
+
+        row.setSets(totals.sets().intValue());
+        row.setReps(totals.reps().intValue());
+        row.setVolume(totals.volume());
+        row.setMaxWeight(totals.maxWeight());
+        row.setMaxE1rm(totals.maxE1rm());
+        row.setBestSetReps(bestSet.getReps());
+        row.setBestSetWeight(bestSet.getWeight());
+        exerciseMonthlyStatsRepository.save(row);
+    }
+
+    private void recomputeTotals(ExerciseModel exercise) {
+        List<ExerciseMonthlyStatsModel> months = exerciseMonthlyStatsRepository.findAllByExerciseOrderByMonthStart(exercise);
+        Optional<ExerciseStatsModel> existing = exerciseStatsRepository.findById(exercise.getId());
+
+        if (months.isEmpty()) {
+            existing.ifPresent(exerciseStatsRepository::delete);
+            return;
+        }
+
+        ExerciseStatsModel stats = existing.orElseGet(() -> ExerciseStatsModel.builder()
+                .exerciseId(exercise.getId())
+                .build());
+
+        int sets = 0;
+        int reps = 0;
+        double volume = 0.0;
+        double maxWeight = 0.0;
+        double e1rm = 0.0;
+        ExerciseMonthlyStatsModel best = months.getFirst();
+
+        for (ExerciseMonthlyStatsModel month : months) {
+            sets += month.getSets();
+            reps += month.getReps();
+            volume += month.getVolume();
+            maxWeight = Math.max(maxWeight, month.getMaxWeight());
+            e1rm = Math.max(e1rm, month.getMaxE1rm());
+            if (month.getBestSetReps() * month.getBestSetWeight() >= best.getBestSetReps() * best.getBestSetWeight()) {
+                best = month;
+            }
+        }
+
+        stats.setSets(sets);
+        stats.setReps(reps);
+        stats.setVolume(volume);
+        stats.setMaxWeight(maxWeight);
+        stats.setE1rm(e1rm);
+        stats.setBestSetReps(best.getBestSetReps());
+        stats.setBestSetWeight(best.getBestSetWeight());
+        exerciseStatsRepository.save(stats);
+    }
+}
@@ -0,0 +1,79 @@
+package com.rodrigocoelhoo.lifemanager.training.service;
+
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import com.rodrigocoelhoo.lifemanager.training.components.TrainingSetColumns;
+import com.rodrigocoelhoo.lifemanager.training.components.TrainingSetStore;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.E1rmCurveDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.PersonalRecordDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.TrainingFrequencyDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.WeeklyVolumeDTO;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseType;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+public class TrainingAnalyticsService {
+
+    static final int MAX_RANGE_YEARS = 10;
+
+    private final TrainingSetStore trainingSetStore;
+    private final ExerciseService exerciseService;
+    private final UserService userService;
+
+    public TrainingAnalyticsService(
+            TrainingSetStore trainingSetStore,
+            ExerciseService exerciseService,
+            UserService userService
+    ) {
+        this.trainingSetStore = trainingSetStore;
+        this.exerciseService = exerciseService;
+        this.userService = userService;
+    }
+
+    @Transactional
+    public E1rmCurveDTO getE1rmCurve(Long exerciseId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        ExerciseModel exercise = exerciseService.getExercise(exerciseId);
+        if (exercise.getType() != ExerciseType.SET_REP) {
+            throw new BadRequestException("Only SET_REP exercises have an e1RM curve.");
+        }
+
+        return columns().e1rmCurve(exerciseId, from, to);
+    }
+
+    @Transactional
+    public WeeklyVolumeDTO getWeeklyVolume(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return columns().weeklyVolume(from, to);
+    }
+
+    @Transactional
+    public List<PersonalRecordDTO> getPersonalRecords(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return columns().personalRecords(from, to);
+    }
+
+    @Transactional
+    public TrainingFrequencyDTO getFrequency(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return columns().frequency(from, to);
+    }
+
+    private TrainingSetColumns columns() {
+        return trainingSetStore.columns(userService.getLoggedInUser());
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("Start date must not be after the end date.");
+        }
+        if (from.plusYears(MAX_RANGE_YEARS).isBefore(to)) {
+            throw new BadRequestException("Range must not exceed " + MAX_RANGE_YEARS + " years.");
+        }
+    }
+}
@@ -30,7 +30,7 @@ public class TrainingDashboardService {
 
     @Cacheable(
             value = CACHE_DASHBOARD,
-            key = "T(com.rodrigocoelhoo.lifemanager.config.RedisCacheService).getCurrentUsername() + " +
+            key = "@redisCacheService.userKey('trainingDashboard') + " +
                     "'::month:' + #date"
     )
     public MonthOverviewDTO getMonthOverview(YearMonth date) {
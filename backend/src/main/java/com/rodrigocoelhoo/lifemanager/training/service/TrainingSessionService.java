@@ -1,5 +1,7 @@
 package com.rodrigocoelhoo.lifemanager.training.service;
 
+import com.rodrigocoelhoo.lifemanager.common.KeysetCursor;
+import com.rodrigocoelhoo.lifemanager.common.SliceResponseDTO;
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
 import com.rodrigocoelhoo.lifemanager.training.dto.exercisedto.ExerciseDetailsDTO;
@@ -13,14 +15,18 @@ import jakarta.transaction.Transactional;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +36,7 @@ public class TrainingSessionService {
     private final UserService userService;
     private final ExerciseService exerciseService;
     private final SessionExerciseMapper mapper;
+    private final ExerciseStatsService exerciseStatsService;
     private final RedisCacheService redisCacheService;
 
     private static final String CACHE_LIST = "trainingSessions";
@@ -40,12 +47,14 @@ public class TrainingSessionService {
             UserService userService,
             ExerciseService exerciseService,
             SessionExerciseMapper mapper,
+            ExerciseStatsService exerciseStatsService,
             RedisCacheService redisCacheService
     ) {
         this.trainingSessionRepository = trainingSessionRepository;
         this.userService = userService;
         this.exerciseService = exerciseService;
         this.mapper = mapper;
+        this.exerciseStatsService = exerciseStatsService;
         this.redisCacheService = redisCacheService;
     }
 
@@ -56,9 +65,32 @@ public class TrainingSessionService {
         return page.map(TrainingSessionResponseDTO::fromEntity);
     }
 
+    @Cacheable(value = CACHE_LIST, keyGenerator = "userAwareKeyGenerator")
+    public SliceResponseDTO<TrainingSessionResponseDTO> getSessionsAfter(String after, int size) {
+        UserModel user = userService.getLoggedInUser();
+        Window<TrainingSessionModel> window = trainingSessionRepository.findByUser(
+                user,
+                KeysetCursor.decode(after, LocalDateTime::parse),
+                KeysetCursor.SORT,
+                KeysetCursor.limit(size)
+        );
+
+        // The seek only reads session rows; the exercises are loaded for just those ids
+        Map<Long, TrainingSessionModel> sessions = new HashMap<>();
+        trainingSessionRepository.findAllByIdIn(window.map(TrainingSessionModel::getId).getContent())
+                .forEach(session -> sessions.put(session.getId(), session));
+
+        List<TrainingSessionResponseDTO> content = window.stream()
+                .map(session -> sessions.get(session.getId()))
+                .filter(Objects::nonNull)
+                .map(TrainingSessionResponseDTO::fromEntity)
+                .toList();
+        return SliceResponseDTO.fromWindow(window, content);
+    }
+
     @Cacheable(
             value = CACHE_SINGLE,
-            key = "T(com.rodrigocoelhoo.lifemanager.config.RedisCacheService).getCurrentUsername() + " +
+            key = "@redisCacheService.userKey('trainingSession') + " +
                     "'::session:' + #id"
     )
     public TrainingSessionModel getSession(Long id) {
@@ -69,7 +101,7 @@ public class TrainingSessionService {
 
     @Cacheable(
             value = CACHE_SINGLE,
-            key = "T(com.rodrigocoelhoo.lifemanager.config.RedisCacheService).getCurrentUsername() + " +
+            key = "@redisCacheService.userKey('trainingSession') + " +
                     "'::session:' + #id + ':details'"
     )
     public SessionDetailsDTO getSessionDetails(Long id) {
@@ -115,6 +147,7 @@ public class TrainingSessionService {
 
         applySessionData(session, data);
         TrainingSessionModel saved = trainingSessionRepository.save(session);
+        refreshExerciseStats(exerciseStatsService.monthsOf(saved));
 
         YearMonth date = YearMonth.from(saved.getDate());
 
@@ -131,8 +164,12 @@ public class TrainingSessionService {
             TrainingSessionDTO data
     ) {
         TrainingSessionModel session = getSession(id);
+        Set<ExerciseStatsService.ExerciseMonth> months = exerciseStatsService.monthsOf(session);
+
         applySessionData(session, data);
         TrainingSessionModel saved = trainingSessionRepository.save(session);
+        months.addAll(exerciseStatsService.monthsOf(saved));
+        refreshExerciseStats(months);
 
         YearMonth date = YearMonth.from(saved.getDate());
 
@@ -148,7 +185,10 @@ public class TrainingSessionService {
     @Transactional
     public void deleteSession(Long id) {
         TrainingSessionModel session = getSession(id);
+        Set<ExerciseStatsService.ExerciseMonth> months = exerciseStatsService.monthsOf(session);
+
         trainingSessionRepository.delete(session);
+        refreshExerciseStats(months);
 
         YearMonth date = YearMonth.from(session.getDate());
 
@@ -158,13 +198,31 @@ public class TrainingSessionService {
         redisCacheService.evictUserCacheSpecific("trainingDashboard", "month:" + date);
     }
 
+    private void refreshExerciseStats(Set<ExerciseStatsService.ExerciseMonth> months) {
+        exerciseStatsService.recompute(months);
+        months.stream()
+                .map(month -> month.exercise().getId())
+                .distinct()
+                .forEach(exerciseId -> redisCacheService.evictUserCacheSpecific("exerciseStats", "exercise:" + exerciseId));
+    }
+
     private void applySessionData(TrainingSessionModel session, TrainingSessionDTO data) {
         session.setDate(data.date());
 
         List<SessionExerciseModel> newExercises = new ArrayList<>();
 
+        // One query for every exercise in the payload instead of one lookup per exercise
+        List<Long> exerciseIds = data.exercises().stream()
+                .map(SessionExerciseDTO::exerciseId)
+                .distinct()
+                .toList();
+        Map<Long, ExerciseModel> exercises = exerciseIds.isEmpty()
+                ? Map.of()
+                : exerciseService.getExercisesForUser(exerciseIds).stream()
+                        .collect(Collectors.toMap(ExerciseModel::getId, exercise -> exercise));
+
         for (SessionExerciseDTO ex : data.exercises()) {
-            ExerciseModel exercise = exerciseService.getExercise(ex.exerciseId());
+            ExerciseModel exercise = exercises.get(ex.exerciseId());
 
             List<SessionExerciseSetDTO> exerciseSets = ex.sets();
 
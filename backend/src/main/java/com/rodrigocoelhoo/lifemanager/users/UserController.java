@@ -19,7 +19,7 @@ public class UserController {
 
     @GetMapping("/profile")
     public ResponseEntity<UserResponseDTO> getProfile() {
-        UserModel user = userService.getLoggedInUser();
+        UserModel user = userService.getLoggedInUserDetails();
         return ResponseEntity.ok(UserResponseDTO.fromEntity(user));
     }
 
@@ -25,7 +25,8 @@ import java.util.List;
 public class UserModel implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tb_users_seq")
+    @SequenceGenerator(name = "tb_users_seq", sequenceName = "tb_users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50, unique = true)
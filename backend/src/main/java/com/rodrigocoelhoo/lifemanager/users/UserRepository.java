@@ -1,6 +1,8 @@
 package com.rodrigocoelhoo.lifemanager.users;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +12,6 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<UserModel, Long> {
     Optional<UserModel> findByUsername(String username);
     Optional<UserModel> findByEmail(String email);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<UserModel> findForUpdateById(Long id);
 }
@@ -3,6 +3,7 @@ package com.rodrigocoelhoo.lifemanager.users;
 import com.rodrigocoelhoo.lifemanager.exceptions.DuplicateFieldException;
 import com.rodrigocoelhoo.lifemanager.exceptions.InvalidCredentialsException;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
+import com.rodrigocoelhoo.lifemanager.security.AuthenticatedUser;
 import com.rodrigocoelhoo.lifemanager.security.dto.SignUpDTO;
 import com.rodrigocoelhoo.lifemanager.users.dto.UpdatePasswordDTO;
 import com.rodrigocoelhoo.lifemanager.users.dto.UserDTO;
@@ -50,7 +51,7 @@ public class UserService {
     }
 
     public UserModel updateUser(UserDTO data) {
-        UserModel user = getLoggedInUser();
+        UserModel user = getLoggedInUserDetails();
 
         boolean matches = passwordEncoder.matches(
                 data.passwordConfirmation(),
@@ -80,7 +81,7 @@ public class UserService {
     }
 
     public void updatePassword(UpdatePasswordDTO data) {
-        UserModel user = getLoggedInUser();
+        UserModel user = getLoggedInUserDetails();
 
         boolean matches = passwordEncoder.matches(
                 data.passwordConfirmation(),
@@ -115,7 +116,18 @@ public class UserService {
 
     public UserModel getLoggedInUser() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth.getPrincipal() instanceof AuthenticatedUser principal) {
+            return userRepository.getReferenceById(principal.id());
+        }
         String username = auth.getName();
         return getUser(username);
     }
+
+    public UserModel getLoggedInUserDetails() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth.getPrincipal() instanceof AuthenticatedUser principal) {
+            return getUser(principal.id());
+        }
+        return getUser(auth.getName());
+    }
 }
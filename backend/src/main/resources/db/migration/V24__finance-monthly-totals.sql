@@ -0,0 +1,20 @@
+CREATE TABLE tb_finance_monthly_totals(
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    month_start DATE NOT NULL,
+    category VARCHAR(30) NOT NULL,
+    currency VARCHAR(10) NOT NULL,
+    total NUMERIC(18,2) NOT NULL,
+    transaction_count INT NOT NULL,
+
+    CONSTRAINT fk_finance_monthly_total_user FOREIGN KEY (user_id)
+            REFERENCES tb_users(id)
+            ON DELETE CASCADE,
+
+    CONSTRAINT uq_finance_monthly_total UNIQUE (user_id, month_start, category, currency)
+);
+
+INSERT INTO tb_finance_monthly_totals (user_id, month_start, category, currency, total, transaction_count)
+SELECT user_id, CAST(DATE_TRUNC('MONTH', date) AS DATE), category, currency, SUM(amount), COUNT(*)
+FROM tb_transactions
+GROUP BY user_id, CAST(DATE_TRUNC('MONTH', date) AS DATE), category, currency;
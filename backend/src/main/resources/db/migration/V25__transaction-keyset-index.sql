@@ -0,0 +1,2 @@
+DROP INDEX IF EXISTS idx_transaction_user_date;
+CREATE INDEX idx_transaction_user_date_id ON tb_transactions(user_id, date DESC, id DESC);
@@ -0,0 +1,3 @@
+CREATE INDEX idx_transference_user_date_id ON tb_transferences(user_id, date DESC, id DESC);
+CREATE INDEX idx_meal_user_date_id ON tb_meals(user_id, date DESC, id DESC);
+CREATE INDEX idx_trainingsession_user_date_id ON tb_trainingsessions(user_id, date DESC, id DESC);
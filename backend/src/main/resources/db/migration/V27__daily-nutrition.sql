@@ -0,0 +1,28 @@
+CREATE TABLE tb_daily_nutrition(
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    tag VARCHAR(50) NOT NULL,
+    total DOUBLE PRECISION NOT NULL,
+
+    CONSTRAINT fk_daily_nutrition_user FOREIGN KEY (user_id)
+            REFERENCES tb_users(id)
+            ON DELETE CASCADE,
+
+    CONSTRAINT uq_daily_nutrition UNIQUE (user_id, date, tag)
+);
+
+CREATE INDEX idx_meal_ingredients_brand_id ON tb_meal_ingredients(brand_id);
+
+INSERT INTO tb_daily_nutrition (user_id, date, tag, total)
+SELECT m.user_id, CAST(m.date AS DATE), nv.tag,
+       SUM(nv.per100units * mi.amount * CASE mi.unit
+           WHEN 'MG' THEN 0.001
+           WHEN 'KG' THEN 1000
+           WHEN 'L' THEN 1000
+           ELSE 1
+       END / 100)
+FROM tb_meals m
+JOIN tb_meal_ingredients mi ON mi.meal_id = m.id
+JOIN tb_nutritionalvalues nv ON nv.ingredient_brand_id = mi.brand_id
+GROUP BY m.user_id, CAST(m.date AS DATE), nv.tag;
@@ -0,0 +1,65 @@
+CREATE TABLE tb_exercise_monthly_stats(
+    id BIGSERIAL PRIMARY KEY,
+    exercise_id BIGINT NOT NULL,
+    month_start DATE NOT NULL,
+    sets INT NOT NULL,
+    reps INT NOT NULL,
+    volume DOUBLE PRECISION NOT NULL,
+    max_weight DOUBLE PRECISION NOT NULL,
+    max_e1rm DOUBLE PRECISION NOT NULL,
+    best_set_reps INT NOT NULL,
+    best_set_weight DOUBLE PRECISION NOT NULL,
+
+    CONSTRAINT fk_exercise_monthly_stats_exercise FOREIGN KEY (exercise_id)
+            REFERENCES tb_exercises(id)
+            ON DELETE CASCADE,
+
+    CONSTRAINT uq_exercise_monthly_stats UNIQUE (exercise_id, month_start)
+);
+
+CREATE TABLE tb_exercise_stats(
+    exercise_id BIGINT PRIMARY KEY,
+    sets INT NOT NULL,
+    reps INT NOT NULL,
+    volume DOUBLE PRECISION NOT NULL,
+    max_weight DOUBLE PRECISION NOT NULL,
+    e1rm DOUBLE PRECISION NOT NULL,
+    best_set_reps INT NOT NULL,
+    best_set_weight DOUBLE PRECISION NOT NULL,
+
+    CONSTRAINT fk_exercise_stats_exercise FOREIGN KEY (exercise_id)
+            REFERENCES tb_exercises(id)
+            ON DELETE CASCADE
+);
+
+CREATE INDEX idx_session_exercises_exercise_id ON tb_session_exercises(exercise_id);
+
+INSERT INTO tb_exercise_monthly_stats (
+    exercise_id, month_start, sets, reps, volume, max_weight, max_e1rm, best_set_reps, best_set_weight
+)
+SELECT exercise_id, month_start, COUNT(*), SUM(reps), SUM(weight * reps), MAX(weight), MAX(weight * (1 + reps / 30.0)),
+       MAX(CASE WHEN best_rank = 1 THEN reps END), MAX(CASE WHEN best_rank = 1 THEN weight END)
+FROM (
+    SELECT se.exercise_id, CAST(DATE_TRUNC('MONTH', s.date) AS DATE) AS month_start, se.reps, se.weight,
+           ROW_NUMBER() OVER (
+               PARTITION BY se.exercise_id, CAST(DATE_TRUNC('MONTH', s.date) AS DATE)
+               ORDER BY se.reps * se.weight DESC, se.id DESC
+           ) AS best_rank
+    FROM tb_session_exercises se
+    JOIN tb_trainingsessions s ON s.id = se.session_id
+    WHERE se.reps IS NOT NULL AND se.weight IS NOT NULL
+) monthly_sets
+GROUP BY exercise_id, month_start;
+
+INSERT INTO tb_exercise_stats (exercise_id, sets, reps, volume, max_weight, e1rm, best_set_reps, best_set_weight)
+SELECT exercise_id, SUM(sets), SUM(reps), SUM(volume), MAX(max_weight), MAX(max_e1rm),
+       MAX(CASE WHEN best_rank = 1 THEN best_set_reps END), MAX(CASE WHEN best_rank = 1 THEN best_set_weight END)
+FROM (
+    SELECT m.*,
+           ROW_NUMBER() OVER (
+               PARTITION BY m.exercise_id
+               ORDER BY m.best_set_reps * m.best_set_weight DESC, m.month_start DESC
+           ) AS best_rank
+    FROM tb_exercise_monthly_stats m
+) months
+GROUP BY exercise_id;
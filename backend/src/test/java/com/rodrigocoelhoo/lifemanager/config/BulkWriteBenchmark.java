@@ -0,0 +1,208 @@
+package com.rodrigocoelhoo.lifemanager.config;
+
+import com.rodrigocoelhoo.lifemanager.LifemanagerApplication;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.*;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.model.SessionExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.model.TrainingSessionModel;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.Entity;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Rows written per second by the bulk write paths: a session with its sets, a meal with its
+// ingredients and a brand with its nutritional values, each persisted in one transaction.
+// Needs Docker. Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+//   -Dexec.mainClass=com.rodrigocoelhoo.lifemanager.config.BulkWriteBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkWriteBenchmark {
+
+    private static final int SETS = 40;
+    private static final int MEAL_INGREDIENTS = 20;
+    private static final int NUTRITIONAL_VALUES = 10;
+
+    // 1 sends every insert on its own round trip, as the identity columns forced before
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private GenericContainer<?> postgres;
+    private SessionFactory sessionFactory;
+    private long userId;
+    private long exerciseId;
+    private long ingredientId;
+    private long brandId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new GenericContainer<>("postgres:16-alpine")
+                .withEnv("POSTGRES_PASSWORD", "postgres")
+                .withExposedPorts(5432)
+                .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+        postgres.start();
+        String url = "jdbc:postgresql://" + postgres.getHost() + ":" + postgres.getMappedPort(5432) + "/postgres";
+
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(url, "postgres", "postgres", true);
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+                .load()
+                .migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        userId = jdbcTemplate.queryForObject("""
+                INSERT INTO tb_users (username, first_name, last_name, email, password, role)
+                VALUES ('bench', 'Bench', 'User', 'bench@bench.com', 'hash', 'USER')
+                RETURNING id
+                """, Long.class);
+        exerciseId = jdbcTemplate.queryForObject(
+                "INSERT INTO tb_exercises (user_id, name, type) VALUES (?, 'Squat', 'SET_REP') RETURNING id",
+                Long.class, userId
+        );
+        ingredientId = jdbcTemplate.queryForObject(
+                "INSERT INTO tb_ingredients (user_id, name) VALUES (?, 'Oats') RETURNING id", Long.class, userId
+        );
+        brandId = jdbcTemplate.queryForObject(
+                "INSERT INTO tb_ingredientbrands (ingredient_id, name) VALUES (?, 'Generic') RETURNING id",
+                Long.class, ingredientId
+        );
+        dataSource.destroy();
+
+        // The same mapping and settings as the application, outside of Spring
+        Configuration configuration = new Configuration()
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, url)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "postgres")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "postgres")
+                .setProperty(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true");
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        for (BeanDefinition entity : scanner.findCandidateComponents(LifemanagerApplication.class.getPackageName())) {
+            try {
+                configuration.addAnnotatedClass(Class.forName(entity.getBeanClassName()));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SETS + 1)
+    public Long sessionWithSets() {
+        return write(session -> {
+            TrainingSessionModel training = TrainingSessionModel.builder()
+                    .user(session.getReference(UserModel.class, userId))
+                    .date(LocalDateTime.now())
+                    .exercises(new ArrayList<>())
+                    .build();
+            ExerciseModel exercise = session.getReference(ExerciseModel.class, exerciseId);
+            for (int i = 0; i < SETS; i++) {
+                training.getExercises().add(SessionExerciseModel.builder()
+                        .session(training)
+                        .exercise(exercise)
+                        .setNumber(i + 1)
+                        .reps(8)
+                        .weight(100.0)
+                        .build());
+            }
+            session.persist(training);
+            return training.getId();
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MEAL_INGREDIENTS + 1)
+    public Long mealWithIngredients() {
+        return write(session -> {
+            MealModel meal = MealModel.builder()
+                    .user(session.getReference(UserModel.class, userId))
+                    .date(LocalDateTime.now())
+                    .ingredients(new HashSet<>())
+                    .build();
+            IngredientModel ingredient = session.getReference(IngredientModel.class, ingredientId);
+            IngredientBrandModel brand = session.getReference(IngredientBrandModel.class, brandId);
+            for (int i = 0; i < MEAL_INGREDIENTS; i++) {
+                meal.getIngredients().add(MealIngredientModel.builder()
+                        .meal(meal)
+                        .ingredient(ingredient)
+                        .brand(brand)
+                        .amount(10.0 + i)
+                        .unit(Unit.G)
+                        .build());
+            }
+            session.persist(meal);
+            return meal.getId();
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUTRITIONAL_VALUES + 1)
+    public Long brandWithValues() {
+        return write(session -> {
+            IngredientBrandModel brand = IngredientBrandModel.builder()
+                    .ingredient(session.getReference(IngredientModel.class, ingredientId))
+                    .name("Brand")
+                    .nutritionalValues(new HashSet<>())
+                    .build();
+            for (int i = 0; i < NUTRITIONAL_VALUES; i++) {
+                brand.getNutritionalValues().add(NutritionalValueModel.builder()
+                        .ingredientBrand(brand)
+                        .tag(NutritionalTag.values()[i])
+                        .per100units(1.0 + i)
+                        .build());
+            }
+            session.persist(brand);
+            return brand.getId();
+        });
+    }
+
+    private Long write(Function<Session, Long> work) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            Long id = work.apply(session);
+            transaction.commit();
+            return id;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BulkWriteBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
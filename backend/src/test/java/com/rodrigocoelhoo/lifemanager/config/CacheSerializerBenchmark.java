@@ -0,0 +1,92 @@
+package com.rodrigocoelhoo.lifemanager.config;
+
+import com.rodrigocoelhoo.lifemanager.LifemanagerApplication;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+//   -Dexec.mainClass=com.rodrigocoelhoo.lifemanager.config.CacheSerializerBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    private static final List<String> VALUES = List.of("financesMonthOverview", "nutritionWeekOverview", "sessionDetails", "transactionsPage");
+    private static final List<String> FORMATS = List.of("jdk", "kryo", "kryo-lz4");
+
+    @Param({"financesMonthOverview", "nutritionWeekOverview", "sessionDetails", "transactionsPage"})
+    public String value;
+
+    @Param({"jdk", "kryo", "kryo-lz4"})
+    public String format;
+
+    private RedisSerializer<Object> serializer;
+    private Object entry;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        serializer = serializer(format);
+        entry = entry(value);
+        bytes = serializer.serialize(entry);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(entry);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(bytes);
+    }
+
+    private static RedisSerializer<Object> serializer(String format) {
+        return switch (format) {
+            case "jdk" -> new JdkSerializationRedisSerializer();
+            case "kryo" -> new KryoRedisSerializer(applicationTypes(), 0);
+            case "kryo-lz4" -> new KryoRedisSerializer(applicationTypes(), 1024);
+            default -> throw new IllegalArgumentException(format);
+        };
+    }
+
+    private static List<Class<?>> applicationTypes() {
+        return KryoRedisSerializer.applicationTypes(LifemanagerApplication.class.getPackageName());
+    }
+
+    private static Object entry(String value) {
+        return switch (value) {
+            case "financesMonthOverview" -> CacheValueFixtures.financesMonthOverview();
+            case "nutritionWeekOverview" -> CacheValueFixtures.nutritionWeekOverview();
+            case "sessionDetails" -> CacheValueFixtures.sessionDetails();
+            case "transactionsPage" -> CacheValueFixtures.transactionsPage();
+            default -> throw new IllegalArgumentException(value);
+        };
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        System.out.printf("%-24s%12s%12s%12s%n", "bytes per entry", "jdk", "kryo", "kryo-lz4");
+        for (String value : VALUES) {
+            System.out.printf("%-24s", value);
+            for (String format : FORMATS) {
+                System.out.printf("%12d", serializer(format).serialize(entry(value)).length);
+            }
+            System.out.println();
+        }
+
+        new Runner(new OptionsBuilder()
+                .include(CacheSerializerBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
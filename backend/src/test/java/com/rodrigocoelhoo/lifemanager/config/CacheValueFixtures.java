@@ -0,0 +1,133 @@
+package com.rodrigocoelhoo.lifemanager.config;
+
+import com.rodrigocoelhoo.lifemanager.finances.dto.MonthOverviewDTO;
+import com.rodrigocoelhoo.lifemanager.finances.dto.TransactionInternalDTO;
+import com.rodrigocoelhoo.lifemanager.finances.dto.TransactionResponseDTO;
+import com.rodrigocoelhoo.lifemanager.finances.dto.WalletResponseDTO;
+import com.rodrigocoelhoo.lifemanager.finances.model.*;
+import com.rodrigocoelhoo.lifemanager.finances.service.DashboardService;
+import com.rodrigocoelhoo.lifemanager.nutrition.dto.DayDTO;
+import com.rodrigocoelhoo.lifemanager.nutrition.dto.WeekOverviewDTO;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.NutritionalTag;
+import com.rodrigocoelhoo.lifemanager.training.dto.exercisedto.ExerciseDetailsDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.trainingsessiondto.SessionDetailsDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.trainingsessiondto.SessionExerciseBaseDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.trainingsessiondto.SessionExerciseSetRepDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.trainingsessiondto.SessionSimpleDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+// Values shaped like the ones the dashboards and list endpoints put in the cache
+final class CacheValueFixtures {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 1);
+
+    private CacheValueFixtures() {
+    }
+
+    static MonthOverviewDTO financesMonthOverview() {
+        List<WalletResponseDTO> wallets = IntStream.range(0, 5)
+                .mapToObj(i -> WalletResponseDTO.fromEntity(wallet(i)))
+                .toList();
+
+        List<TransactionInternalDTO> transactions = IntStream.range(0, 5)
+                .mapToObj(i -> TransactionInternalDTO.fromEntity(transaction(i)))
+                .toList();
+
+        LinkedHashMap<YearMonth, DashboardService.Netbalance> netBalances = new LinkedHashMap<>();
+        for (int i = 5; i >= 0; i--) {
+            netBalances.put(MONTH.minusMonths(i), new DashboardService.Netbalance(new BigDecimal("2500.00"), new BigDecimal(1200 + i)));
+        }
+
+        return MonthOverviewDTO.fromEntities(
+                MONTH,
+                Currency.EUR,
+                new BigDecimal("2500.00"),
+                Map.of(ExpenseCategory.SALARY, new BigDecimal("2500.00")),
+                new BigDecimal("1234.56"),
+                Map.of(ExpenseCategory.FOOD, new BigDecimal("734.56"), ExpenseCategory.TRANSPORTATION, new BigDecimal("500.00")),
+                new BigDecimal("1265.44"),
+                wallets,
+                transactions,
+                List.of(),
+                new ArrayList<>(),
+                netBalances
+        );
+    }
+
+    static WeekOverviewDTO nutritionWeekOverview() {
+        List<DayDTO> week = IntStream.range(0, 7)
+                .mapToObj(i -> {
+                    LinkedHashMap<NutritionalTag, Double> label = new LinkedHashMap<>();
+                    for (NutritionalTag tag : NutritionalTag.values()) {
+                        label.put(tag, 10.0 * (i + 1) + tag.ordinal());
+                    }
+                    return DayDTO.fromEntity(MONTH.atDay(i + 1), label);
+                })
+                .toList();
+
+        return new WeekOverviewDTO(
+                new WeekOverviewDTO.MacroTotalsDTO(14000, 2000, 700, 100, 1750, 250, 420, 60, 210, 30),
+                week
+        );
+    }
+
+    static SessionDetailsDTO sessionDetails() {
+        List<ExerciseDetailsDTO> exercises = IntStream.range(0, 6)
+                .mapToObj(i -> new ExerciseDetailsDTO(
+                        (long) i,
+                        "Exercise " + i,
+                        "SET_REP",
+                        "https://example.com/demo/" + i,
+                        IntStream.range(0, 4)
+                                .<SessionExerciseBaseDTO>mapToObj(set -> new SessionExerciseSetRepDTO(set + 1, 10 - set, 60.0 + set * 2.5))
+                                .toList()
+                ))
+                .toList();
+
+        return new SessionDetailsDTO(new SessionSimpleDTO(1L, LocalDateTime.of(2026, 1, 10, 18, 30)), exercises);
+    }
+
+    static Page<TransactionResponseDTO> transactionsPage() {
+        List<TransactionResponseDTO> content = IntStream.range(0, 20)
+                .mapToObj(i -> TransactionResponseDTO.fromEntity(transaction(i)))
+                .toList();
+
+        return new PageImpl<>(content, PageRequest.of(0, 20, Sort.by("date").descending()), 134);
+    }
+
+    private static WalletModel wallet(int i) {
+        WalletModel wallet = new WalletModel();
+        wallet.setId((long) i);
+        wallet.setName("Wallet " + i);
+        wallet.setType(WalletType.BANK);
+        wallet.setCurrency(Currency.EUR);
+        wallet.setBalance(new BigDecimal(1000 * (i + 1)));
+        return wallet;
+    }
+
+    private static TransactionModel transaction(int i) {
+        TransactionModel transaction = new TransactionModel();
+        transaction.setId((long) i);
+        transaction.setWallet(wallet(i % 3));
+        transaction.setAmount(new BigDecimal("12.50").add(BigDecimal.valueOf(i)));
+        transaction.setCategory(ExpenseCategory.FOOD);
+        transaction.setType(ExpenseType.EXPENSE);
+        transaction.setDescription("Groceries " + i);
+        transaction.setDate(LocalDate.of(2026, 1, 1 + i % 28));
+        transaction.setCurrency(Currency.EUR);
+        return transaction;
+    }
+}
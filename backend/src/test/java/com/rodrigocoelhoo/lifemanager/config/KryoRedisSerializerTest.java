@@ -0,0 +1,225 @@
+package com.rodrigocoelhoo.lifemanager.config;
+
+import com.rodrigocoelhoo.lifemanager.LifemanagerApplication;
+import com.rodrigocoelhoo.lifemanager.common.SliceResponseDTO;
+import com.rodrigocoelhoo.lifemanager.finances.dto.MonthOverviewDTO;
+import com.rodrigocoelhoo.lifemanager.finances.model.Currency;
+import com.rodrigocoelhoo.lifemanager.nutrition.dto.WeekOverviewDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.trainingsessiondto.SessionDetailsDTO;
+import com.rodrigocoelhoo.lifemanager.training.service.TrainingDashboardService;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import com.rodrigocoelhoo.lifemanager.users.UserRole;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KryoRedisSerializer Tests")
+class KryoRedisSerializerTest {
+
+    private static List<Class<?>> applicationTypes;
+
+    @BeforeAll
+    static void scan() {
+        applicationTypes = KryoRedisSerializer.applicationTypes(LifemanagerApplication.class.getPackageName());
+    }
+
+    private static KryoRedisSerializer serializer(int compressionThreshold) {
+        return new KryoRedisSerializer(applicationTypes, compressionThreshold);
+    }
+
+    @Nested
+    @DisplayName("round trip")
+    class RoundTripTests {
+
+        private final KryoRedisSerializer serializer = serializer(0);
+
+        @Test
+        @DisplayName("should restore the finances dashboard")
+        void shouldRestoreFinancesDashboard() {
+            MonthOverviewDTO overview = CacheValueFixtures.financesMonthOverview();
+
+            assertThat(serializer.deserialize(serializer.serialize(overview))).isEqualTo(overview);
+        }
+
+        @Test
+        @DisplayName("should restore the nutrition week overview")
+        void shouldRestoreWeekOverview() {
+            WeekOverviewDTO overview = CacheValueFixtures.nutritionWeekOverview();
+
+            assertThat(serializer.deserialize(serializer.serialize(overview))).isEqualTo(overview);
+        }
+
+        @Test
+        @DisplayName("should restore session details with polymorphic sets")
+        void shouldRestoreSessionDetails() {
+            SessionDetailsDTO details = CacheValueFixtures.sessionDetails();
+
+            assertThat(serializer.deserialize(serializer.serialize(details))).isEqualTo(details);
+        }
+
+        @Test
+        @DisplayName("should restore records nested in services")
+        void shouldRestoreServiceRecords() {
+            var overview = com.rodrigocoelhoo.lifemanager.training.dto.MonthOverviewDTO.fromEntities(
+                    List.of(LocalDate.of(2026, 1, 3)),
+                    1200.0,
+                    3600,
+                    5.2,
+                    new HashMap<>(Map.of(1L, new TrainingDashboardService.ExercisePR(
+                            "Squat", 140.0, new TrainingDashboardService.ExercisePR.RepSet(5, 120.0), 163.3
+                    )))
+            );
+
+            assertThat(serializer.deserialize(serializer.serialize(overview))).isEqualTo(overview);
+        }
+
+        @Test
+        @DisplayName("should restore pages with their pageable and total")
+        void shouldRestorePage() {
+            Page<?> page = CacheValueFixtures.transactionsPage();
+
+            Page<?> restored = (Page<?>) serializer.deserialize(serializer.serialize(page));
+
+            assertThat(restored.getContent()).isEqualTo(page.getContent());
+            assertThat(restored.getPageable()).isEqualTo(page.getPageable());
+            assertThat(restored.getTotalElements()).isEqualTo(134);
+        }
+
+        @Test
+        @DisplayName("should restore keyset slices")
+        void shouldRestoreSlice() {
+            SliceResponseDTO<?> slice = new SliceResponseDTO<>(
+                    List.copyOf(CacheValueFixtures.transactionsPage().getContent()), 20, true, "MjAyNi0wMS0wNXw5"
+            );
+
+            assertThat(serializer.deserialize(serializer.serialize(slice))).isEqualTo(slice);
+        }
+
+        @Test
+        @DisplayName("should restore unpaged pages")
+        void shouldRestoreUnpagedPage() {
+            Page<String> page = new PageImpl<>(List.of("a", "b"), Pageable.unpaged(), 2);
+
+            Page<?> restored = (Page<?>) serializer.deserialize(serializer.serialize(page));
+
+            assertThat(restored.getContent()).isEqualTo(List.of("a", "b"));
+            assertThat(restored.getPageable().isUnpaged()).isTrue();
+        }
+
+        @Test
+        @DisplayName("should restore the cached user")
+        void shouldRestoreUser() {
+            UserModel user = new UserModel("testuser", "Test", "User", "test@user.com", "hash");
+            user.setId(7L);
+            user.setRole(UserRole.USER);
+
+            UserModel restored = (UserModel) serializer.deserialize(serializer.serialize(user));
+
+            assertThat(restored.getId()).isEqualTo(7L);
+            assertThat(restored.getUsername()).isEqualTo("testuser");
+            assertThat(restored.getRole()).isEqualTo(UserRole.USER);
+        }
+
+        @Test
+        @DisplayName("should restore enum constants with bodies")
+        void shouldRestoreEnums() {
+            assertThat(serializer.deserialize(serializer.serialize(List.of(Currency.values()))))
+                    .isEqualTo(List.of(Currency.values()));
+        }
+
+        @Test
+        @DisplayName("should treat null and empty payloads as no value")
+        void shouldHandleNull() {
+            assertThat(serializer.serialize(null)).isEmpty();
+            assertThat(serializer.deserialize(new byte[0])).isNull();
+            assertThat(serializer.deserialize(null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("registry")
+    class RegistryTests {
+
+        @Test
+        @DisplayName("should reject classes outside the registry")
+        void shouldRejectUnregisteredClasses() {
+            KryoRedisSerializer serializer = serializer(0);
+
+            assertThatThrownBy(() -> serializer.serialize(new Object()))
+                    .isInstanceOf(SerializationException.class);
+        }
+
+        @Test
+        @DisplayName("should produce the same fingerprint regardless of input order")
+        void shouldHaveStableFingerprint() {
+            List<Class<?>> reversed = new ArrayList<>(applicationTypes);
+            Collections.reverse(reversed);
+
+            assertThat(new KryoRedisSerializer(reversed, 0).getFingerprint())
+                    .isEqualTo(serializer(0).getFingerprint());
+            assertThat(new KryoRedisSerializer(reversed, 0).getTypes())
+                    .isEqualTo(serializer(0).getTypes());
+        }
+
+        @Test
+        @DisplayName("should change the fingerprint when the registry changes")
+        void shouldChangeFingerprint() {
+            List<Class<?>> fewer = applicationTypes.subList(1, applicationTypes.size());
+
+            assertThat(new KryoRedisSerializer(fewer, 0).getFingerprint())
+                    .isNotEqualTo(serializer(0).getFingerprint());
+        }
+    }
+
+    @Nested
+    @DisplayName("compression")
+    class CompressionTests {
+
+        @Test
+        @DisplayName("should compress payloads above the threshold and restore them")
+        void shouldCompressLargePayloads() {
+            Page<?> page = CacheValueFixtures.transactionsPage();
+
+            byte[] raw = serializer(0).serialize(page);
+            byte[] compressed = serializer(256).serialize(page);
+
+            assertThat(raw[0]).isZero();
+            assertThat(compressed[0]).isEqualTo((byte) 1);
+            assertThat(compressed.length).isLessThan(raw.length);
+            assertThat(((Page<?>) serializer(0).deserialize(compressed)).getContent()).isEqualTo(page.getContent());
+        }
+
+        @Test
+        @DisplayName("should leave payloads below the threshold uncompressed")
+        void shouldNotCompressSmallPayloads() {
+            byte[] bytes = serializer(4096).serialize(CacheValueFixtures.sessionDetails());
+
+            assertThat(bytes[0]).isZero();
+        }
+
+        @Test
+        @DisplayName("should be smaller than JDK serialization")
+        void shouldBeSmallerThanJdk() {
+            JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+            MonthOverviewDTO overview = CacheValueFixtures.financesMonthOverview();
+
+            assertThat(serializer(1024).serialize(overview).length).isLessThan(jdk.serialize(overview).length / 2);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.rodrigocoelhoo.lifemanager.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisCacheService Redis Integration Tests")
+class RedisCacheServiceIntegrationTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisCacheService redisCacheService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379))
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            connection.serverCommands().resetConfigStats();
+            return null;
+        });
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                RedisCacheManager.create(connectionFactory),
+                Caffeine.newBuilder().maximumSize(1_000).build(),
+                redisTemplate,
+                new SimpleMeterRegistry()
+        );
+        redisCacheService = new RedisCacheService(redisTemplate, cacheManager);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("testuser", null, List.of())
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("should invalidate cached keys of the user's namespace")
+    void shouldInvalidateNamespace() {
+        String before = "transactions::" + redisCacheService.userKey("transactions") + ":getAllTransactions";
+        redisTemplate.opsForValue().set(before, "cached");
+
+        redisCacheService.evictUserCache("transactions");
+
+        String after = "transactions::" + redisCacheService.userKey("transactions") + ":getAllTransactions";
+        assertThat(after).isNotEqualTo(before);
+        assertThat(redisTemplate.opsForValue().get(after)).isNull();
+    }
+
+    @Test
+    @DisplayName("should invalidate a scope without touching its siblings")
+    void shouldInvalidateScope() {
+        String january = redisCacheService.userKey("financesDashboard", "yearMonth:2024-01");
+        String february = redisCacheService.userKey("financesDashboard", "yearMonth:2024-02");
+
+        redisCacheService.evictUserCacheSpecific("financesDashboard", "yearMonth:2024-01*");
+
+        assertThat(redisCacheService.userKey("financesDashboard", "yearMonth:2024-01")).isNotEqualTo(january);
+        assertThat(redisCacheService.userKey("financesDashboard", "yearMonth:2024-02")).isEqualTo(february);
+    }
+
+    @Test
+    @DisplayName("should issue the same commands regardless of keyspace size")
+    void shouldNotDependOnKeyspaceSize() {
+        Map<String, Long> small = evictionCommands(100);
+        Map<String, Long> large = evictionCommands(50_000);
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).doesNotContainKeys("keys", "scan");
+    }
+
+    private Map<String, Long> evictionCommands(int keyspaceSize) {
+        setUp();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < keyspaceSize; i++) {
+                connection.stringCommands().set(
+                        ("transactions::user" + i + ":v0:getAllTransactions").getBytes(),
+                        "cached".getBytes()
+                );
+            }
+            return null;
+        });
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().resetConfigStats();
+            return null;
+        });
+
+        redisCacheService.evictUserCache("transactions");
+        redisCacheService.evictUserCacheSpecific("financesDashboard", "yearMonth:2024-01*");
+        redisCacheService.evictUserCacheSpecific("trainingSession", "session:5");
+        redisCacheService.userKey("financesDashboard", "yearMonth:2024-01");
+
+        Properties stats = redisTemplate.execute(
+                (RedisCallback<Properties>) connection -> connection.serverCommands().info("commandstats")
+        );
+
+        Map<String, Long> calls = new HashMap<>();
+        stats.forEach((name, value) -> {
+            String command = name.toString().replace("cmdstat_", "");
+            if (command.equals("info") || command.equals("config|resetstat") || command.equals("config")) {
+                return;
+            }
+            String count = value.toString().split(",")[0].replace("calls=", "");
+            calls.put(command, Long.parseLong(count));
+        });
+        return calls;
+    }
+}
@@ -0,0 +1,301 @@
+package com.rodrigocoelhoo.lifemanager.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RedisCacheService Tests")
+class RedisCacheServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    @InjectMocks
+    private RedisCacheService redisCacheService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("testuser", null, List.of())
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("userKey")
+    class UserKeyTests {
+
+        @Test
+        @DisplayName("should start at generation zero")
+        void shouldStartAtGenerationZero() {
+            when(valueOperations.get("cacheGeneration::transactions::testuser")).thenReturn(null);
+
+            assertThat(redisCacheService.userKey("transactions")).isEqualTo("testuser:v0");
+        }
+
+        @Test
+        @DisplayName("should fold the current generation into the key")
+        void shouldFoldGeneration() {
+            when(valueOperations.get("cacheGeneration::transactions::testuser")).thenReturn("7");
+
+            assertThat(redisCacheService.userKey("transactions")).isEqualTo("testuser:v7");
+        }
+
+        @Test
+        @DisplayName("should serve repeated lookups from the local generations")
+        void shouldServeRepeatedLookupsLocally() {
+            when(valueOperations.get("cacheGeneration::transactions::testuser")).thenReturn("7");
+
+            redisCacheService.userKey("transactions");
+            redisCacheService.userKey("transactions");
+
+            verify(valueOperations, times(1)).get("cacheGeneration::transactions::testuser");
+        }
+
+        @Test
+        @DisplayName("should reload a generation dropped by the invalidation channel")
+        void shouldReloadForgottenGeneration() {
+            when(valueOperations.get("cacheGeneration::transactions::testuser")).thenReturn("7", "8");
+
+            redisCacheService.userKey("transactions");
+            redisCacheService.forgetGeneration("cacheGeneration::transactions::testuser");
+
+            assertThat(redisCacheService.userKey("transactions")).isEqualTo("testuser:v8");
+        }
+
+        @Test
+        @DisplayName("should fold namespace and scope generations with a single round trip")
+        void shouldFoldScopeGeneration() {
+            when(valueOperations.multiGet(anyCollection())).thenAnswer(invocation -> {
+                Collection<String> keys = invocation.getArgument(0);
+                return keys.stream()
+                        .map(key -> key.equals("cacheGeneration::financesDashboard::testuser") ? "2" : null)
+                        .toList();
+            });
+
+            String key = redisCacheService.userKey("financesDashboard", "yearMonth:2024-01");
+
+            assertThat(key).isEqualTo("testuser:v2::yearMonth:2024-01:v0");
+            verify(valueOperations, times(1)).multiGet(anyCollection());
+            verify(valueOperations, never()).get(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("evictUserCache")
+    class EvictUserCacheTests {
+
+        @Test
+        @DisplayName("should bump the generation without scanning the keyspace")
+        void shouldIncrementGeneration() {
+            when(valueOperations.increment("cacheGeneration::transactions::testuser")).thenReturn(4L);
+
+            redisCacheService.evictUserCache("transactions");
+
+            verify(valueOperations).increment("cacheGeneration::transactions::testuser");
+            verify(redisTemplate).convertAndSend(
+                    CacheInvalidation.CHANNEL,
+                    "GENERATION||cacheGeneration::transactions::testuser"
+            );
+            assertThat(redisCacheService.userKey("transactions")).isEqualTo("testuser:v4");
+            verify(redisTemplate, never()).keys(anyString());
+            verify(redisTemplate, never()).delete(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("evictUserCache in a transaction")
+    class EvictUserCacheInTransactionTests {
+
+        @AfterEach
+        void clearSynchronization() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("should bump the generation only once the transaction commits")
+        void shouldIncrementAfterCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            redisCacheService.evictUserCache("trainingSessions");
+            verify(valueOperations, never()).increment(anyString());
+
+            SecurityContextHolder.clearContext();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            verify(valueOperations).increment("cacheGeneration::trainingSessions::testuser");
+        }
+
+        @Test
+        @DisplayName("should leave the generation alone when the transaction rolls back")
+        void shouldNotIncrementAfterRollback() {
+            TransactionSynchronizationManager.initSynchronization();
+
+            redisCacheService.evictUserCache("trainingSessions");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            verify(valueOperations, never()).increment(anyString());
+        }
+
+        @Test
+        @DisplayName("should defer specific evictions until the transaction commits")
+        void shouldEvictSpecificAfterCommit() {
+            when(valueOperations.get("cacheGeneration::trainingSession::testuser")).thenReturn("3");
+            when(cacheManager.getCache("trainingSession")).thenReturn(cache);
+            TransactionSynchronizationManager.initSynchronization();
+
+            redisCacheService.evictUserCacheSpecific("financesDashboard", "yearMonth:2024-01*");
+            redisCacheService.evictUserCacheSpecific("trainingSession", "session:5");
+            verify(valueOperations, never()).increment(anyString());
+            verify(cache, never()).evict(any());
+
+            SecurityContextHolder.clearContext();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            verify(valueOperations).increment("cacheGeneration::financesDashboard::testuser::yearMonth:2024-01");
+            verify(cache).evict("testuser:v3::session:5");
+        }
+    }
+
+    @Nested
+    @DisplayName("evictCacheForUser")
+    class EvictCacheForUserTests {
+
+        @Test
+        @DisplayName("should target the given user instead of the authenticated one")
+        void shouldIncrementGenerationOfGivenUser() {
+            SecurityContextHolder.clearContext();
+
+            redisCacheService.evictCacheForUser("alice", "transactions");
+            redisCacheService.evictCacheScopeForUser("alice", "financesDashboard", "yearMonth:2024-01");
+
+            verify(valueOperations).increment("cacheGeneration::transactions::alice");
+            verify(valueOperations).increment("cacheGeneration::financesDashboard::alice::yearMonth:2024-01");
+            verify(valueOperations, never()).increment(contains("anonymous"));
+        }
+    }
+
+    @Nested
+    @DisplayName("evict")
+    class EvictBatchTests {
+
+        @Test
+        @DisplayName("should bump all generations in one pipeline and publish a single message")
+        void shouldPipelineGenerationsAndPublishOnce() {
+            when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+                RedisOperations<String, String> operations = mock();
+                when(operations.opsForValue()).thenReturn(valueOperations);
+                invocation.<SessionCallback<?>>getArgument(0).execute(operations);
+                return List.of(5L, 2L);
+            });
+
+            RedisCacheService.Evictions evictions = new RedisCacheService.Evictions()
+                    .evict("alice", "transactions")
+                    .evictScope("bob", "financesDashboard", "yearMonth:2024-01")
+                    .evict("alice", "transactions");
+
+            redisCacheService.evict(evictions);
+
+            verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+            verify(valueOperations).increment("cacheGeneration::transactions::alice");
+            verify(valueOperations).increment("cacheGeneration::financesDashboard::bob::yearMonth:2024-01");
+            verify(redisTemplate, times(1)).convertAndSend(
+                    CacheInvalidation.CHANNEL,
+                    "GENERATION||cacheGeneration::transactions::alice\ncacheGeneration::financesDashboard::bob::yearMonth:2024-01"
+            );
+        }
+
+        @Test
+        @DisplayName("should do nothing for an empty batch")
+        void shouldSkipEmptyBatch() {
+            redisCacheService.evict(new RedisCacheService.Evictions());
+
+            verifyNoInteractions(valueOperations);
+            verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("should decode every generation key of a batched message")
+        void shouldDecodeBatchedGenerations() {
+            CacheInvalidation invalidation = CacheInvalidation.decode(
+                    CacheInvalidation.generations(List.of("cacheGeneration::a::alice", "cacheGeneration::b::bob")).encode()
+            );
+
+            assertThat(invalidation.generationKeys()).containsExactly("cacheGeneration::a::alice", "cacheGeneration::b::bob");
+        }
+    }
+
+    @Nested
+    @DisplayName("evictUserCacheSpecific")
+    class EvictUserCacheSpecificTests {
+
+        @Test
+        @DisplayName("should bump the scope generation for a trailing wildcard")
+        void shouldIncrementScopeGeneration() {
+            redisCacheService.evictUserCacheSpecific("financesDashboard", "yearMonth:2024-01*");
+
+            verify(valueOperations).increment("cacheGeneration::financesDashboard::testuser::yearMonth:2024-01");
+            verify(redisTemplate, never()).keys(anyString());
+        }
+
+        @Test
+        @DisplayName("should evict the exact key of the current generation")
+        void shouldEvictExactKey() {
+            when(valueOperations.get("cacheGeneration::trainingSession::testuser")).thenReturn("3");
+            when(cacheManager.getCache("trainingSession")).thenReturn(cache);
+
+            redisCacheService.evictUserCacheSpecific("trainingSession", "session:5");
+
+            verify(cache).evict("testuser:v3::session:5");
+            verify(redisTemplate, never()).keys(anyString());
+        }
+
+        @Test
+        @DisplayName("should reject wildcards that are not trailing")
+        void shouldRejectInnerWildcard() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    redisCacheService.evictUserCacheSpecific("financesDashboard", "yearMonth:*:currency"));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.rodrigocoelhoo.lifemanager.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TwoLevelCache Tests")
+class TwoLevelCacheTest {
+
+    @Mock
+    private Cache redisCache;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisCache.getName()).thenReturn("transactions");
+
+        cache = new TwoLevelCache(redisCache, Caffeine.newBuilder().maximumSize(100).build(), redisTemplate);
+    }
+
+    @Nested
+    @DisplayName("get")
+    class GetTests {
+
+        @Test
+        @DisplayName("should serve repeated reads from the local tier")
+        void shouldServeFromLocalTier() {
+            when(redisCache.get("testuser:v0:getAll")).thenReturn(new SimpleValueWrapper("value"));
+
+            assertThat(cache.get("testuser:v0:getAll").get()).isEqualTo("value");
+            assertThat(cache.get("testuser:v0:getAll").get()).isEqualTo("value");
+
+            verify(redisCache, times(1)).get("testuser:v0:getAll");
+            assertThat(cache.getLocalHits()).isEqualTo(1);
+            assertThat(cache.getRedisHits()).isEqualTo(1);
+            assertThat(cache.getLocalHitRatio()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("should count a miss in both tiers")
+        void shouldCountMisses() {
+            when(redisCache.get("missing")).thenReturn(null);
+
+            assertThat(cache.get("missing")).isNull();
+
+            assertThat(cache.getLocalMisses()).isEqualTo(1);
+            assertThat(cache.getRedisMisses()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should load and store in both tiers")
+        void shouldLoadWithValueLoader() {
+            String value = cache.get("key", () -> "loaded");
+
+            assertThat(value).isEqualTo("loaded");
+            verify(redisCache).put("key", "loaded");
+            assertThat(cache.get("key").get()).isEqualTo("loaded");
+        }
+    }
+
+    @Nested
+    @DisplayName("evict")
+    class EvictTests {
+
+        @Test
+        @DisplayName("should evict both tiers and broadcast the key")
+        void shouldEvictAndBroadcast() {
+            cache.put("key", "value");
+
+            cache.evict("key");
+
+            verify(redisCache).evict("key");
+            verify(redisTemplate).convertAndSend(CacheInvalidation.CHANNEL, "ENTRY|transactions|key");
+            assertThat(cache.get("key")).isNull();
+        }
+
+        @Test
+        @DisplayName("should drop the local copy when another node evicts")
+        void shouldEvictLocalOnly() {
+            cache.put("key", "value");
+            when(redisCache.get("key")).thenReturn(new SimpleValueWrapper("fresh"));
+
+            cache.evictLocal("key");
+
+            assertThat(cache.get("key").get()).isEqualTo("fresh");
+            verify(redisCache, never()).evict(any());
+        }
+    }
+}
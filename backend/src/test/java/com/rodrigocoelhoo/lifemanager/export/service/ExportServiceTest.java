@@ -0,0 +1,261 @@
+package com.rodrigocoelhoo.lifemanager.export.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodrigocoelhoo.lifemanager.config.JacksonConfig;
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import com.rodrigocoelhoo.lifemanager.export.components.ExportFormat;
+import com.rodrigocoelhoo.lifemanager.export.model.ExportDataset;
+import com.rodrigocoelhoo.lifemanager.finances.components.ImportedTransaction;
+import com.rodrigocoelhoo.lifemanager.finances.components.TransactionImportFormat;
+import com.rodrigocoelhoo.lifemanager.finances.components.TransactionImportOptions;
+import com.rodrigocoelhoo.lifemanager.finances.components.TransactionImportReader;
+import com.rodrigocoelhoo.lifemanager.finances.model.*;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.*;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseType;
+import com.rodrigocoelhoo.lifemanager.training.model.SessionExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.model.TrainingSessionModel;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ExportService.class, JacksonConfig.class})
+class ExportServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 15);
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    ExportService exportService;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @MockitoBean
+    UserService userService;
+
+    private UserModel user;
+    private UserModel other;
+    private WalletModel bank;
+    private WalletModel cash;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+        other = new UserModel("Other", "Other", "User", "other@user.com", "Password-123");
+        entityManager.persist(other);
+        when(userService.getLoggedInUser()).thenReturn(user);
+
+        bank = createWallet(user, "Bank");
+        cash = createWallet(user, "Cash");
+        createTransaction(user, bank, TODAY, "12.50", ExpenseCategory.FOOD, "Lunch, with \"friends\"");
+        createTransaction(user, bank, TODAY.minusDays(10), "1500.00", ExpenseCategory.SALARY, "Pay");
+        createTransaction(other, createWallet(other, "Other"), TODAY, "99.00", ExpenseCategory.FOOD, "Not mine");
+    }
+
+    @Test
+    @DisplayName("NDJSON has one object per line, oldest first, with only the user's rows")
+    void exportTransactions_asNdjson() throws IOException {
+        String body = export(ExportDataset.TRANSACTIONS, ExportFormat.NDJSON);
+
+        assertThat(body).endsWith("\n");
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(lines)
+                .extracting(
+                        node -> node.get("date").asText(),
+                        node -> node.get("category").asText(),
+                        node -> node.get("type").asText(),
+                        node -> node.get("walletName").asText(),
+                        node -> node.get("description").asText()
+                )
+                .containsExactly(
+                        tuple("2026-03-05", "SALARY", "INCOME", "Bank", "Pay"),
+                        tuple("2026-03-15", "FOOD", "EXPENSE", "Bank", "Lunch, with \"friends\"")
+                );
+        assertThat(lines.get(1).get("amount").decimalValue()).isEqualByComparingTo("12.50");
+    }
+
+    @Test
+    @DisplayName("A transactions CSV can be imported again")
+    void exportTransactions_asCsvReadsBackThroughImport() throws IOException {
+        String body = export(ExportDataset.TRANSACTIONS, ExportFormat.CSV);
+
+        assertThat(body.lines().findFirst()).contains(
+                "id,date,type,category,amount,currency,description,wallet_id,wallet_name"
+        );
+        assertThat(body).contains(",12.50,EUR,\"Lunch, with \"\"friends\"\"\"," + bank.getId() + ",Bank\r\n");
+
+        List<ImportedTransaction> imported = new ArrayList<>();
+        try (TransactionImportReader reader = TransactionImportFormat.CSV.open(
+                new StringReader(body), new TransactionImportOptions(null, ExpenseCategory.OTHER, null))) {
+            ImportedTransaction row;
+            while ((row = reader.next()) != null) {
+                imported.add(row);
+            }
+        }
+        assertThat(imported)
+                .extracting(ImportedTransaction::walletId, ImportedTransaction::date, ImportedTransaction::category,
+                        ImportedTransaction::description, ImportedTransaction::error)
+                .containsExactly(
+                        tuple(bank.getId(), TODAY.minusDays(10), ExpenseCategory.SALARY, "Pay", null),
+                        tuple(bank.getId(), TODAY, ExpenseCategory.FOOD, "Lunch, with \"friends\"", null)
+                );
+    }
+
+    @Test
+    @DisplayName("Transferences name both wallets")
+    void exportTransferences() throws IOException {
+        entityManager.persist(TransferenceModel.builder()
+                .user(user)
+                .fromWallet(bank)
+                .toWallet(cash)
+                .amount(new BigDecimal("40.00"))
+                .date(TODAY)
+                .description("ATM")
+                .build());
+        entityManager.flush();
+
+        String body = export(ExportDataset.TRANSFERENCES, ExportFormat.CSV);
+
+        assertThat(body.lines().toList()).element(1).asString()
+                .endsWith(",2026-03-15,40.00,ATM," + bank.getId() + ",Bank," + cash.getId() + ",Cash");
+    }
+
+    @Test
+    @DisplayName("Meals, sessions and recipes have a row per child and keep parents without children")
+    void exportNestedData_flattensChildren() throws IOException {
+        IngredientModel oats = IngredientModel.builder().user(user).name("Oats").brands(new HashSet<>()).build();
+        entityManager.persist(oats);
+        IngredientBrandModel brand = IngredientBrandModel.builder()
+                .ingredient(oats)
+                .name("Generic")
+                .nutritionalValues(new HashSet<>())
+                .build();
+        entityManager.persist(brand);
+
+        MealModel breakfast = MealModel.builder().user(user).date(TODAY.atTime(8, 0)).ingredients(new HashSet<>()).build();
+        breakfast.getIngredients().add(MealIngredientModel.builder()
+                .meal(breakfast).ingredient(oats).brand(brand).amount(80.0).unit(Unit.G).build());
+        entityManager.persist(breakfast);
+        MealModel dinner = MealModel.builder().user(user).date(TODAY.atTime(20, 0)).ingredients(new HashSet<>()).build();
+        entityManager.persist(dinner);
+
+        ExerciseModel squat = ExerciseModel.builder().user(user).name("Squat").type(ExerciseType.SET_REP).build();
+        entityManager.persist(squat);
+        TrainingSessionModel session = TrainingSessionModel.builder()
+                .user(user).date(LocalDateTime.of(2026, 3, 1, 18, 0)).exercises(new ArrayList<>()).build();
+        for (int set = 1; set <= 2; set++) {
+            session.getExercises().add(SessionExerciseModel.builder()
+                    .session(session).exercise(squat).setNumber(set).reps(5).weight(100.0).build());
+        }
+        entityManager.persist(session);
+
+        entityManager.persist(RecipeModel.builder().user(user).name("Empty").ingredients(new ArrayList<>()).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(export(ExportDataset.MEALS, ExportFormat.CSV).lines().toList()).containsExactly(
+                "meal_id,date,ingredient,brand,amount,unit",
+                breakfast.getId() + ",2026-03-15T08:00,Oats,Generic,80.0,G",
+                dinner.getId() + ",2026-03-15T20:00,,,,"
+        );
+        assertThat(export(ExportDataset.SESSIONS, ExportFormat.NDJSON).lines())
+                .hasSize(2)
+                .allSatisfy(line -> assertThat(objectMapper.readTree(line).get("exercise").asText()).isEqualTo("Squat"));
+        assertThat(export(ExportDataset.RECIPES, ExportFormat.NDJSON).lines())
+                .singleElement()
+                .satisfies(line -> assertThat(objectMapper.readTree(line).get("ingredient").isNull()).isTrue());
+    }
+
+    @Test
+    @DisplayName("An export without rows is just the CSV header")
+    void export_withoutRows() throws IOException {
+        when(userService.getLoggedInUser()).thenReturn(new UserModel());
+
+        assertThat(export(ExportDataset.TRANSACTIONS, ExportFormat.NDJSON)).isEmpty();
+        assertThat(export(ExportDataset.RECIPES, ExportFormat.CSV)).isEqualTo("recipe_id,name,ingredient,amount,unit\r\n");
+    }
+
+    @Test
+    @DisplayName("Unknown datasets and formats are rejected")
+    void export_rejectsUnknownParameters() {
+        assertThatThrownBy(() -> ExportDataset.fromPath("wallets"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Cannot export 'wallets'.");
+        assertThatThrownBy(() -> ExportFormat.fromParam("xlsx"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Format 'XLSX' doesn't exist");
+        assertThat(ExportFormat.fromParam("csv")).isEqualTo(ExportFormat.CSV);
+    }
+
+    private String export(ExportDataset dataset, ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(dataset, format).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private WalletModel createWallet(UserModel owner, String name) {
+        WalletModel wallet = WalletModel.builder()
+                .user(owner)
+                .name(name)
+                .type(WalletType.BANK)
+                .balance(new BigDecimal("100.00"))
+                .currency(Currency.EUR)
+                .build();
+        entityManager.persist(wallet);
+        return wallet;
+    }
+
+    private void createTransaction(
+            UserModel owner,
+            WalletModel wallet,
+            LocalDate date,
+            String amount,
+            ExpenseCategory category,
+            String description
+    ) {
+        entityManager.persist(TransactionModel.builder()
+                .user(owner)
+                .wallet(wallet)
+                .amount(new BigDecimal(amount))
+                .type(category.getType())
+                .category(category)
+                .description(description)
+                .date(date)
+                .currency(wallet.getCurrency())
+                .build());
+    }
+}
@@ -0,0 +1,276 @@
+package com.rodrigocoelhoo.lifemanager.finances.components;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.*;
+import com.rodrigocoelhoo.lifemanager.finances.model.Currency;
+import com.rodrigocoelhoo.lifemanager.finances.repository.AutomaticTransactionBatchRepository;
+import com.rodrigocoelhoo.lifemanager.finances.repository.AutomaticTransactionBatchRepository.DueAutomaticTransaction;
+import com.rodrigocoelhoo.lifemanager.finances.repository.AutomaticTransactionBatchRepository.GeneratedTransaction;
+import com.rodrigocoelhoo.lifemanager.finances.service.FinanceMonthlyTotalService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AutomaticTransactionBatchProcessor Tests")
+class AutomaticTransactionBatchProcessorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 15);
+
+    @Mock
+    private AutomaticTransactionBatchRepository batchRepository;
+
+    @Mock
+    private FinanceMonthlyTotalService financeMonthlyTotalService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private AutomaticTransactionBatchProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)
+        );
+        processor = new AutomaticTransactionBatchProcessor(
+                batchRepository,
+                financeMonthlyTotalService,
+                transactionTemplate,
+                2,
+                1
+        );
+    }
+
+    @Test
+    @DisplayName("should claim due rules by id range and commit each chunk separately")
+    void shouldProcessChunksByIdRange() {
+        DueAutomaticTransaction first = rule(1L, 10L, ExpenseType.INCOME, TransactionRecurrence.MONTHLY, TODAY);
+        DueAutomaticTransaction second = rule(2L, 10L, ExpenseType.INCOME, TransactionRecurrence.MONTHLY, TODAY);
+        DueAutomaticTransaction third = rule(3L, 20L, ExpenseType.INCOME, TransactionRecurrence.MONTHLY, TODAY);
+
+        when(batchRepository.claimDue(TODAY, 0L, 2)).thenReturn(List.of(first, second));
+        when(batchRepository.claimDue(TODAY, 2L, 2)).thenReturn(List.of(third));
+        when(batchRepository.lockWalletBalances(any())).thenReturn(balances(10L, "0", 20L, "0"));
+
+        AutomaticTransactionBatchProcessor.Result result = processor.processDue(TODAY);
+
+        assertThat(result.created()).isEqualTo(3);
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(batchRepository, times(2)).insertTransactions(anyList());
+        verify(batchRepository).claimDue(TODAY, 3L, 2);
+    }
+
+    @Test
+    @DisplayName("should catch up every overdue period and advance the next date past today")
+    void shouldCatchUpOverduePeriods() {
+        DueAutomaticTransaction rule = rule(1L, 10L, ExpenseType.EXPENSE, TransactionRecurrence.MONTHLY, LocalDate.of(2026, 1, 1));
+
+        when(batchRepository.claimDue(TODAY, 0L, 2)).thenReturn(List.of(rule));
+        when(batchRepository.lockWalletBalances(any())).thenReturn(balances(10L, "100"));
+
+        AutomaticTransactionBatchProcessor.Result result = processor.processDue(TODAY);
+
+        assertThat(result.created()).isEqualTo(3);
+
+        ArgumentCaptor<List<GeneratedTransaction>> transactions = ArgumentCaptor.captor();
+        verify(batchRepository).insertTransactions(transactions.capture());
+        assertThat(transactions.getValue()).extracting(GeneratedTransaction::date).containsExactly(
+                LocalDate.of(2026, 1, 1),
+                LocalDate.of(2026, 2, 1),
+                LocalDate.of(2026, 3, 1)
+        );
+
+        verify(batchRepository).updateWalletBalances(Map.of(10L, new BigDecimal("70")));
+        verify(batchRepository).updateNextTransactionDates(Map.of(1L, LocalDate.of(2026, 4, 1)));
+        assertThat(result.affectedMonths()).containsOnlyKeys("testuser");
+        assertThat(result.affectedMonths().get("testuser")).containsExactlyInAnyOrder(
+                YearMonth.of(2026, 1),
+                YearMonth.of(2026, 2),
+                YearMonth.of(2026, 3)
+        );
+        verify(financeMonthlyTotalService, times(3)).addToTotal(
+                eq(1L), any(), eq(ExpenseCategory.FOOD), eq(Currency.EUR), eq(BigDecimal.TEN), eq(1)
+        );
+    }
+
+    @Test
+    @DisplayName("should stop catching up when the wallet would become negative")
+    void shouldStopWhenBalanceWouldBeNegative() {
+        DueAutomaticTransaction rule = rule(1L, 10L, ExpenseType.EXPENSE, TransactionRecurrence.MONTHLY, LocalDate.of(2026, 1, 1));
+
+        when(batchRepository.claimDue(TODAY, 0L, 2)).thenReturn(List.of(rule));
+        when(batchRepository.lockWalletBalances(any())).thenReturn(balances(10L, "15"));
+
+        AutomaticTransactionBatchProcessor.Result result = processor.processDue(TODAY);
+
+        assertThat(result.created()).isEqualTo(1);
+        verify(batchRepository).updateWalletBalances(Map.of(10L, new BigDecimal("5")));
+        verify(batchRepository).updateNextTransactionDates(Map.of(1L, LocalDate.of(2026, 2, 1)));
+    }
+
+    @Test
+    @DisplayName("should share the running balance between rules of the same wallet")
+    void shouldShareWalletBalanceWithinChunk() {
+        DueAutomaticTransaction first = rule(1L, 10L, ExpenseType.EXPENSE, TransactionRecurrence.MONTHLY, TODAY);
+        DueAutomaticTransaction second = rule(2L, 10L, ExpenseType.EXPENSE, TransactionRecurrence.MONTHLY, TODAY);
+
+        when(batchRepository.claimDue(TODAY, 0L, 2)).thenReturn(List.of(first, second));
+        when(batchRepository.lockWalletBalances(any())).thenReturn(balances(10L, "15"));
+
+        AutomaticTransactionBatchProcessor.Result result = processor.processDue(TODAY);
+
+        assertThat(result.created()).isEqualTo(1);
+        verify(batchRepository).updateWalletBalances(Map.of(10L, new BigDecimal("5")));
+        verify(batchRepository).updateNextTransactionDates(Map.of(1L, TODAY.plusMonths(1)));
+    }
+
+    @Test
+    @DisplayName("should keep going with the next chunk when a chunk fails")
+    void shouldContinueAfterFailedChunk() {
+        DueAutomaticTransaction first = rule(1L, 10L, ExpenseType.INCOME, TransactionRecurrence.DAILY, TODAY);
+        DueAutomaticTransaction second = rule(2L, 10L, ExpenseType.INCOME, TransactionRecurrence.DAILY, TODAY);
+        DueAutomaticTransaction third = rule(3L, 20L, ExpenseType.INCOME, TransactionRecurrence.DAILY, TODAY);
+
+        when(batchRepository.claimDue(TODAY, 0L, 2)).thenReturn(List.of(first, second));
+        when(batchRepository.claimDue(TODAY, 2L, 2)).thenReturn(List.of(third));
+        when(batchRepository.lockWalletBalances(any()))
+                .thenThrow(new IllegalStateException("Lock timeout"))
+                .thenReturn(balances(20L, "0"));
+
+        AutomaticTransactionBatchProcessor.Result result = processor.processDue(TODAY);
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.affectedMonths().get("testuser")).containsExactly(YearMonth.from(TODAY));
+        verify(batchRepository).claimDue(TODAY, 2L, 2);
+    }
+
+    @Test
+    @DisplayName("should retry a failed chunk rule by rule and skip only the rule that fails")
+    void shouldRetryFailedChunkPerRule() {
+        DueAutomaticTransaction first = rule(1L, 10L, ExpenseType.INCOME, TransactionRecurrence.MONTHLY, TODAY);
+        DueAutomaticTransaction broken = rule(2L, 20L, ExpenseType.INCOME, TransactionRecurrence.MONTHLY, TODAY);
+
+        when(batchRepository.claimDue(TODAY, 0L, 2)).thenReturn(List.of(first, broken));
+        when(batchRepository.claimDue(TODAY, 0L, 1)).thenReturn(List.of(first));
+        when(batchRepository.claimDue(TODAY, 1L, 1)).thenReturn(List.of(broken));
+        when(batchRepository.lockWalletBalances(any())).thenReturn(balances(10L, "0", 20L, "0"));
+        doAnswer(invocation -> {
+            if (invocation.<List<GeneratedTransaction>>getArgument(0).stream().anyMatch(tx -> tx.rule() == broken)) {
+                throw new IllegalStateException("value too long");
+            }
+            return null;
+        }).when(batchRepository).insertTransactions(anyList());
+
+        AutomaticTransactionBatchProcessor.Result result = processor.processDue(TODAY);
+
+        assertThat(result.created()).isEqualTo(1);
+        verify(batchRepository).updateNextTransactionDates(Map.of(1L, TODAY.plusMonths(1)));
+        verify(batchRepository, never()).updateNextTransactionDates(Map.of(2L, TODAY.plusMonths(1)));
+        verify(batchRepository).claimDue(TODAY, 2L, 2);
+    }
+
+    @Test
+    @DisplayName("should not post a rule again when another worker took it before the retry")
+    void shouldSkipRetryOfRuleClaimedElsewhere() {
+        DueAutomaticTransaction first = rule(1L, 10L, ExpenseType.INCOME, TransactionRecurrence.MONTHLY, TODAY);
+        DueAutomaticTransaction later = rule(5L, 10L, ExpenseType.INCOME, TransactionRecurrence.MONTHLY, TODAY);
+
+        when(batchRepository.claimDue(TODAY, 0L, 2)).thenReturn(List.of(first));
+        when(batchRepository.claimDue(TODAY, 0L, 1)).thenReturn(List.of(later));
+        when(batchRepository.lockWalletBalances(any())).thenThrow(new IllegalStateException("Lock timeout"));
+
+        AutomaticTransactionBatchProcessor.Result result = processor.processDue(TODAY);
+
+        assertThat(result.created()).isZero();
+        verify(batchRepository, times(1)).lockWalletBalances(any());
+    }
+
+    @Test
+    @DisplayName("should post each rule exactly once when several workers claim concurrently")
+    void shouldSplitRulesBetweenWorkers() {
+        Queue<DueAutomaticTransaction> unclaimed = new ConcurrentLinkedQueue<>();
+        for (long id = 1; id <= 50; id++) {
+            unclaimed.add(rule(id, id, ExpenseType.INCOME, TransactionRecurrence.MONTHLY, TODAY));
+        }
+
+        // Mimics SKIP LOCKED: a rule handed to one worker is never handed to another
+        when(batchRepository.claimDue(eq(TODAY), anyLong(), eq(2))).thenAnswer(invocation -> {
+            List<DueAutomaticTransaction> chunk = new ArrayList<>();
+            DueAutomaticTransaction next;
+            while (chunk.size() < 2 && (next = unclaimed.poll()) != null) {
+                chunk.add(next);
+            }
+            return chunk;
+        });
+        when(batchRepository.lockWalletBalances(any())).thenAnswer(invocation -> {
+            Map<Long, BigDecimal> balances = new HashMap<>();
+            invocation.<Collection<Long>>getArgument(0).forEach(id -> balances.put(id, BigDecimal.ZERO));
+            return balances;
+        });
+
+        List<Long> posted = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            invocation.<List<GeneratedTransaction>>getArgument(0).forEach(tx -> posted.add(tx.rule().id()));
+            return null;
+        }).when(batchRepository).insertTransactions(anyList());
+
+        AutomaticTransactionBatchProcessor parallelProcessor = new AutomaticTransactionBatchProcessor(
+                batchRepository,
+                financeMonthlyTotalService,
+                transactionTemplate,
+                2,
+                4
+        );
+
+        AutomaticTransactionBatchProcessor.Result result = parallelProcessor.processDue(TODAY);
+
+        assertThat(result.created()).isEqualTo(50);
+        assertThat(posted).hasSize(50).doesNotHaveDuplicates();
+    }
+
+    private DueAutomaticTransaction rule(
+            Long id,
+            Long walletId,
+            ExpenseType type,
+            TransactionRecurrence recurrence,
+            LocalDate nextTransactionDate
+    ) {
+        return new DueAutomaticTransaction(
+                id,
+                1L,
+                "testuser",
+                walletId,
+                BigDecimal.TEN,
+                type,
+                type == ExpenseType.EXPENSE ? ExpenseCategory.FOOD : ExpenseCategory.SALARY,
+                "",
+                recurrence,
+                (short) 1,
+                nextTransactionDate,
+                Currency.EUR
+        );
+    }
+
+    private Map<Long, BigDecimal> balances(Object... walletBalances) {
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        for (int i = 0; i < walletBalances.length; i += 2) {
+            balances.put((Long) walletBalances[i], new BigDecimal((String) walletBalances[i + 1]));
+        }
+        return balances;
+    }
+}
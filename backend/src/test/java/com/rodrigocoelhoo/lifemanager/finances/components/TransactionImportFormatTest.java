@@ -0,0 +1,201 @@
+package com.rodrigocoelhoo.lifemanager.finances.components;
+
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("TransactionImportFormat Tests")
+class TransactionImportFormatTest {
+
+    private static final TransactionImportOptions OPTIONS =
+            new TransactionImportOptions(7L, ExpenseCategory.OTHER, ExpenseCategory.SALARY);
+
+    private static List<ImportedTransaction> readAll(TransactionImportFormat format, String input, TransactionImportOptions options)
+            throws IOException {
+        List<ImportedTransaction> rows = new ArrayList<>();
+        try (TransactionImportReader reader = format.open(new StringReader(input), options)) {
+            ImportedTransaction row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class CsvTests {
+
+        @Test
+        @DisplayName("should read rows by header name with quoted fields")
+        void shouldReadRows() throws IOException {
+            String csv = """
+                    Category,Date,Amount,Description
+                    food,2026-01-05,12.50,"Lunch, with ""friends""\"
+                    SALARY,2026-01-31,1500,Pay
+
+                    housing,2026-02-01,700,"Rent
+                    February"
+                    """;
+
+            List<ImportedTransaction> rows = readAll(TransactionImportFormat.CSV, csv, OPTIONS);
+
+            assertThat(rows)
+                    .extracting(ImportedTransaction::line, ImportedTransaction::walletId, ImportedTransaction::date,
+                            ImportedTransaction::category, ImportedTransaction::description)
+                    .containsExactly(
+                            tuple(2L, 7L, LocalDate.of(2026, 1, 5), ExpenseCategory.FOOD, "Lunch, with \"friends\""),
+                            tuple(3L, 7L, LocalDate.of(2026, 1, 31), ExpenseCategory.SALARY, "Pay"),
+                            tuple(5L, 7L, LocalDate.of(2026, 2, 1), ExpenseCategory.HOUSING, "Rent\nFebruary")
+                    );
+            assertThat(rows.getFirst().amount()).isEqualByComparingTo("12.50");
+        }
+
+        @Test
+        @DisplayName("should take the wallet from the row when there is a wallet_id column")
+        void shouldReadWalletColumn() throws IOException {
+            String csv = "date,amount,category,wallet_id\r\n2026-01-05,10,FOOD,3\r\n2026-01-06,10,FOOD,\r\n";
+
+            List<ImportedTransaction> rows = readAll(TransactionImportFormat.CSV, csv, OPTIONS);
+
+            assertThat(rows).extracting(ImportedTransaction::walletId).containsExactly(3L, 7L);
+            assertThat(rows).extracting(ImportedTransaction::description).containsOnly("");
+        }
+
+        @Test
+        @DisplayName("should report invalid rows with their line and keep reading")
+        void shouldReportInvalidRows() throws IOException {
+            String csv = """
+                    date,amount,category
+                    2026-01-05,10,GROCERIES
+                    05/01/2026,10,FOOD
+                    2026-01-05,ten,FOOD
+                    2026-01-05,-10,FOOD
+                    2026-01-05,10.005,FOOD
+                    2026-01-05,10
+                    2026-01-05,10,FOOD
+                    """;
+
+            List<ImportedTransaction> rows = readAll(TransactionImportFormat.CSV, csv, OPTIONS);
+
+            assertThat(rows).extracting(ImportedTransaction::line, ImportedTransaction::error).containsExactly(
+                    tuple(2L, "Category 'GROCERIES' doesn't exist"),
+                    tuple(3L, "Date '05/01/2026' isn't a yyyy-MM-dd date"),
+                    tuple(4L, "Amount 'ten' isn't a number"),
+                    tuple(5L, "Amount must be positive"),
+                    tuple(6L, "Amount '10.005' has more than two decimal places"),
+                    tuple(7L, "Expected 3 columns but found 2"),
+                    tuple(8L, null)
+            );
+        }
+
+        @Test
+        @DisplayName("should reject a header without the required columns")
+        void shouldRejectMissingColumns() {
+            assertThatThrownBy(() -> readAll(TransactionImportFormat.CSV, "date,category\n", OPTIONS))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("'amount'");
+            assertThatThrownBy(() -> readAll(TransactionImportFormat.CSV, "date,amount,category\n",
+                    new TransactionImportOptions(null, ExpenseCategory.OTHER, null)))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("wallet");
+        }
+    }
+
+    @Nested
+    @DisplayName("OFX")
+    class OfxTests {
+
+        @Test
+        @DisplayName("should read SGML statements, picking the category by sign")
+        void shouldReadSgml() throws IOException {
+            String ofx = """
+                    OFXHEADER:100
+                    DATA:OFXSGML
+                    VERSION:102
+
+                    <OFX>
+                    <BANKMSGSRSV1><STMTTRNRS><STMTRS>
+                    <BANKTRANLIST>
+                    <DTSTART>20260101
+                    <STMTTRN>
+                    <TRNTYPE>DEBIT
+                    <DTPOSTED>20260105120000[-3:BRT]
+                    <TRNAMT>-12.50
+                    <FITID>1
+                    <NAME>SUPERMARKET
+                    <MEMO>Card &amp; cash
+                    </STMTTRN>
+                    <STMTTRN>
+                    <TRNTYPE>CREDIT
+                    <DTPOSTED>20260131
+                    <TRNAMT>1500,00
+                    <FITID>2
+                    <NAME>ACME PAYROLL
+                    </STMTTRN>
+                    </BANKTRANLIST>
+                    </STMTRS></STMTTRNRS></BANKMSGSRSV1>
+                    </OFX>
+                    """;
+
+            List<ImportedTransaction> rows = readAll(TransactionImportFormat.OFX, ofx, OPTIONS);
+
+            assertThat(rows)
+                    .extracting(ImportedTransaction::line, ImportedTransaction::walletId, ImportedTransaction::date,
+                            ImportedTransaction::category, ImportedTransaction::description)
+                    .containsExactly(
+                            tuple(9L, 7L, LocalDate.of(2026, 1, 5), ExpenseCategory.OTHER, "SUPERMARKET - Card & cash"),
+                            tuple(17L, 7L, LocalDate.of(2026, 1, 31), ExpenseCategory.SALARY, "ACME PAYROLL")
+                    );
+            assertThat(rows).extracting(ImportedTransaction::amount)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactly(new BigDecimal("12.50"), new BigDecimal("1500"));
+        }
+
+        @Test
+        @DisplayName("should read XML statements")
+        void shouldReadXml() throws IOException {
+            String ofx = """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <?OFX OFXHEADER="200" VERSION="220"?>
+                    <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                    <STMTTRN><TRNTYPE>DEBIT</TRNTYPE><DTPOSTED>20260210</DTPOSTED><TRNAMT>-40.00</TRNAMT><MEMO>Fuel</MEMO></STMTTRN>
+                    </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+                    """;
+
+            List<ImportedTransaction> rows = readAll(TransactionImportFormat.OFX, ofx, OPTIONS);
+
+            assertThat(rows).singleElement().satisfies(row -> {
+                assertThat(row.isValid()).isTrue();
+                assertThat(row.date()).isEqualTo(LocalDate.of(2026, 2, 10));
+                assertThat(row.amount()).isEqualByComparingTo("40");
+                assertThat(row.description()).isEqualTo("Fuel");
+            });
+        }
+
+        @Test
+        @DisplayName("should reject credits when no income category was given")
+        void shouldRejectCreditsWithoutCategory() throws IOException {
+            String ofx = "<STMTTRN><DTPOSTED>20260131<TRNAMT>100</STMTTRN>";
+
+            List<ImportedTransaction> rows = readAll(TransactionImportFormat.OFX, ofx,
+                    new TransactionImportOptions(7L, ExpenseCategory.OTHER, null));
+
+            assertThat(rows).extracting(ImportedTransaction::error)
+                    .containsExactly("No income category was given for credits");
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.rodrigocoelhoo.lifemanager.finances.components;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.Currency;
+import com.rodrigocoelhoo.lifemanager.finances.model.ExpenseCategory;
+import com.rodrigocoelhoo.lifemanager.finances.repository.TransactionImportRepository;
+import com.rodrigocoelhoo.lifemanager.finances.repository.TransactionImportRepository.NewTransaction;
+import com.rodrigocoelhoo.lifemanager.finances.repository.TransactionImportRepository.WalletBalance;
+import com.rodrigocoelhoo.lifemanager.finances.service.FinanceMonthlyTotalService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TransactionImportProcessor Tests")
+class TransactionImportProcessorTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate JANUARY = LocalDate.of(2026, 1, 10);
+    private static final LocalDate FEBRUARY = LocalDate.of(2026, 2, 10);
+
+    @Mock
+    private TransactionImportRepository importRepository;
+
+    @Mock
+    private FinanceMonthlyTotalService financeMonthlyTotalService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TransactionImportProcessor processor;
+    private final List<TransactionImportProcessor.ChunkResult> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)
+        );
+        processor = new TransactionImportProcessor(importRepository, financeMonthlyTotalService, transactionTemplate, 2);
+    }
+
+    @Test
+    @DisplayName("should commit each chunk separately and report progress per chunk")
+    void shouldImportInChunks() throws IOException {
+        when(importRepository.lockWallets(eq(USER_ID), any())).thenReturn(wallets(10L, "0"));
+
+        processor.importAll(USER_ID, reader(
+                row(1, 10L, JANUARY, "100", ExpenseCategory.SALARY),
+                row(2, 10L, JANUARY, "100", ExpenseCategory.SALARY),
+                row(3, 10L, FEBRUARY, "100", ExpenseCategory.SALARY)
+        ), chunks::add);
+
+        assertThat(chunks).extracting(TransactionImportProcessor.ChunkResult::read).containsExactly(2, 1);
+        assertThat(chunks).extracting(TransactionImportProcessor.ChunkResult::imported).containsExactly(2, 1);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(importRepository, times(2)).insertTransactions(eq(USER_ID), anyList());
+    }
+
+    @Test
+    @DisplayName("should write one balance per wallet and one total per month and category")
+    void shouldAggregateWrites() throws IOException {
+        processor = new TransactionImportProcessor(importRepository, financeMonthlyTotalService, transactionTemplate, 500);
+        when(importRepository.lockWallets(eq(USER_ID), any())).thenReturn(wallets(10L, "100", 20L, "50"));
+
+        processor.importAll(USER_ID, reader(
+                row(1, 10L, JANUARY, "30", ExpenseCategory.FOOD),
+                row(2, 10L, JANUARY, "20", ExpenseCategory.FOOD),
+                row(3, 20L, FEBRUARY, "200", ExpenseCategory.SALARY),
+                row(4, 10L, FEBRUARY, "10", ExpenseCategory.FOOD)
+        ), chunks::add);
+
+        ArgumentCaptor<Map<Long, BigDecimal>> balances = ArgumentCaptor.captor();
+        verify(importRepository).updateWalletBalances(balances.capture());
+        assertThat(balances.getValue()).containsOnlyKeys(10L, 20L);
+        assertThat(balances.getValue().get(10L)).isEqualByComparingTo("40");
+        assertThat(balances.getValue().get(20L)).isEqualByComparingTo("250");
+
+        ArgumentCaptor<List<NewTransaction>> inserted = ArgumentCaptor.captor();
+        verify(importRepository).insertTransactions(eq(USER_ID), inserted.capture());
+        assertThat(inserted.getValue()).hasSize(4).allSatisfy(tx -> assertThat(tx.currency()).isEqualTo(Currency.EUR));
+
+        verify(financeMonthlyTotalService).addToTotal(
+                USER_ID, JANUARY.withDayOfMonth(1), ExpenseCategory.FOOD, Currency.EUR, new BigDecimal("50"), 2
+        );
+        verify(financeMonthlyTotalService, times(3)).addToTotal(any(), any(), any(), any(), any(), anyInt());
+        assertThat(chunks.getFirst().months()).containsExactlyInAnyOrder(YearMonth.from(JANUARY), YearMonth.from(FEBRUARY));
+    }
+
+    @Test
+    @DisplayName("should reject invalid rows, unknown wallets and overdrafts with their line")
+    void shouldRejectRows() throws IOException {
+        when(importRepository.lockWallets(eq(USER_ID), any())).thenReturn(wallets(10L, "15"));
+        processor = new TransactionImportProcessor(importRepository, financeMonthlyTotalService, transactionTemplate, 500);
+
+        processor.importAll(USER_ID, reader(
+                ImportedTransaction.invalid(2, "Category 'X' doesn't exist"),
+                row(3, 99L, JANUARY, "10", ExpenseCategory.FOOD),
+                row(4, 10L, JANUARY, "10", ExpenseCategory.FOOD),
+                row(5, 10L, JANUARY, "10", ExpenseCategory.FOOD)
+        ), chunks::add);
+
+        TransactionImportProcessor.ChunkResult chunk = chunks.getFirst();
+        assertThat(chunk.read()).isEqualTo(4);
+        assertThat(chunk.imported()).isEqualTo(1);
+        assertThat(chunk.errors()).containsExactly(
+                "Line 2: Category 'X' doesn't exist",
+                "Line 3: Wallet with ID '99' doesn't belong to the current user",
+                "Line 5: Wallet ID '10' doesn't have enough balance."
+        );
+        verify(importRepository).lockWallets(USER_ID, new TreeSet<>(List.of(10L, 99L)));
+    }
+
+    @Test
+    @DisplayName("should not write anything for a chunk without valid rows")
+    void shouldSkipWritesForEmptyChunks() throws IOException {
+        when(importRepository.lockWallets(eq(USER_ID), any())).thenReturn(Map.of());
+
+        processor.importAll(USER_ID, reader(ImportedTransaction.invalid(2, "Amount must be positive")), chunks::add);
+
+        assertThat(chunks).singleElement().satisfies(chunk -> assertThat(chunk.imported()).isZero());
+        verify(importRepository, never()).insertTransactions(any(), any());
+        verify(importRepository, never()).updateWalletBalances(any());
+        verifyNoInteractions(financeMonthlyTotalService);
+    }
+
+    private static ImportedTransaction row(long line, Long walletId, LocalDate date, String amount, ExpenseCategory category) {
+        return ImportedTransaction.of(line, walletId, date, new BigDecimal(amount), "Imported", category);
+    }
+
+    private static TransactionImportReader reader(ImportedTransaction... rows) {
+        Iterator<ImportedTransaction> iterator = List.of(rows).iterator();
+        return new TransactionImportReader() {
+            @Override
+            public ImportedTransaction next() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static Map<Long, WalletBalance> wallets(Object... idsAndBalances) {
+        Map<Long, WalletBalance> wallets = new HashMap<>();
+        for (int i = 0; i < idsAndBalances.length; i += 2) {
+            wallets.put((Long) idsAndBalances[i], new WalletBalance(new BigDecimal((String) idsAndBalances[i + 1]), Currency.EUR));
+        }
+        return wallets;
+    }
+}
@@ -0,0 +1,188 @@
+package com.rodrigocoelhoo.lifemanager.finances.repository;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.*;
+import com.rodrigocoelhoo.lifemanager.finances.repository.AutomaticTransactionBatchRepository.DueAutomaticTransaction;
+import com.rodrigocoelhoo.lifemanager.finances.repository.AutomaticTransactionBatchRepository.GeneratedTransaction;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(AutomaticTransactionBatchRepository.class)
+class AutomaticTransactionBatchRepositoryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 15);
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    AutomaticTransactionBatchRepository batchRepository;
+
+    @Autowired
+    TransactionRepository transactionRepository;
+
+    private UserModel user;
+    private WalletModel wallet;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+
+        wallet = WalletModel.builder()
+                .user(user)
+                .name("Bank")
+                .type(WalletType.BANK)
+                .balance(new BigDecimal("100.00"))
+                .currency(Currency.EUR)
+                .build();
+        entityManager.persist(wallet);
+    }
+
+    @Test
+    @DisplayName("Only due rules after the given id are returned, in id order and limited")
+    void claimDue_returnsDueRulesAfterIdInOrder() {
+        AutomaticTransactionModel first = createRule(TODAY.minusDays(3));
+        AutomaticTransactionModel notDue = createRule(TODAY.plusDays(1));
+        AutomaticTransactionModel second = createRule(TODAY);
+        AutomaticTransactionModel third = createRule(TODAY.minusMonths(2));
+        entityManager.flush();
+
+        List<DueAutomaticTransaction> page = batchRepository.claimDue(TODAY, 0L, 2);
+        assertThat(page).extracting(DueAutomaticTransaction::id).containsExactly(first.getId(), second.getId());
+        assertThat(page.getFirst().currency()).isEqualTo(Currency.EUR);
+        assertThat(page.getFirst().username()).isEqualTo("RodrigoCoelho");
+        assertThat(page.getFirst().nextTransactionDate()).isEqualTo(TODAY.minusDays(3));
+
+        List<DueAutomaticTransaction> next = batchRepository.claimDue(TODAY, second.getId(), 2);
+        assertThat(next).extracting(DueAutomaticTransaction::id).containsExactly(third.getId());
+        assertThat(next).extracting(DueAutomaticTransaction::id).doesNotContain(notDue.getId());
+    }
+
+    @Test
+    @DisplayName("Batch writes insert transactions and update wallets and next dates")
+    void batchWrites_persistChanges() {
+        AutomaticTransactionModel rule = createRule(TODAY.minusMonths(1));
+        entityManager.flush();
+
+        DueAutomaticTransaction due = batchRepository.claimDue(TODAY, 0L, 10).getFirst();
+        Map<Long, BigDecimal> balances = batchRepository.lockWalletBalances(List.of(wallet.getId()));
+        assertThat(balances.get(wallet.getId())).isEqualByComparingTo("100");
+
+        batchRepository.insertTransactions(List.of(
+                new GeneratedTransaction(due, TODAY.minusMonths(1)),
+                new GeneratedTransaction(due, TODAY)
+        ));
+        batchRepository.updateWalletBalances(Map.of(wallet.getId(), new BigDecimal("80.00")));
+        batchRepository.updateNextTransactionDates(Map.of(rule.getId(), TODAY.plusMonths(1)));
+        entityManager.clear();
+
+        assertThat(transactionRepository.findAllByUserAndDateBetweenOrderByDateDescIdDesc(user, TODAY.minusYears(1), TODAY))
+                .hasSize(2)
+                .allSatisfy(tx -> assertThat(tx.getCurrency()).isEqualTo(Currency.EUR));
+        assertThat(entityManager.find(WalletModel.class, wallet.getId()).getBalance()).isEqualByComparingTo("80");
+        assertThat(entityManager.find(AutomaticTransactionModel.class, rule.getId()).getNextTransactionDate())
+                .isEqualTo(TODAY.plusMonths(1));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Rules claimed by an open transaction are skipped by other claims")
+    void claimDue_skipsRulesLockedByAnotherTransaction() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Long> ruleIds = transactionTemplate.execute(status -> {
+            setUp();
+            return List.of(
+                    createRule(TODAY).getId(),
+                    createRule(TODAY).getId(),
+                    createRule(TODAY).getId()
+            );
+        });
+
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<List<Long>> firstClaim = executor.submit(() -> transactionTemplate.execute(status -> {
+                List<Long> ids = batchRepository.claimDue(TODAY, 0L, 2).stream().map(DueAutomaticTransaction::id).toList();
+                claimed.countDown();
+                awaitQuietly(release);
+                return ids;
+            }));
+
+            claimed.await(10, TimeUnit.SECONDS);
+            List<Long> secondClaim = transactionTemplate.execute(status ->
+                    batchRepository.claimDue(TODAY, 0L, 2).stream().map(DueAutomaticTransaction::id).toList()
+            );
+            release.countDown();
+
+            assertThat(firstClaim.get(10, TimeUnit.SECONDS)).containsExactly(ruleIds.get(0), ruleIds.get(1));
+            assertThat(secondClaim).containsExactly(ruleIds.get(2));
+        } finally {
+            release.countDown();
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM tb_automatic_transactions WHERE user_id = ?", user.getId());
+                jdbcTemplate.update("DELETE FROM tb_wallets WHERE user_id = ?", user.getId());
+                jdbcTemplate.update("DELETE FROM tb_users WHERE id = ?", user.getId());
+            });
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private AutomaticTransactionModel createRule(LocalDate nextTransactionDate) {
+        AutomaticTransactionModel rule = AutomaticTransactionModel.builder()
+                .user(user)
+                .wallet(wallet)
+                .name("Groceries")
+                .amount(BigDecimal.TEN)
+                .type(ExpenseType.EXPENSE)
+                .category(ExpenseCategory.FOOD)
+                .recurrence(TransactionRecurrence.MONTHLY)
+                .interval((short) 1)
+                .description("")
+                .nextTransactionDate(nextTransactionDate)
+                .build();
+
+        entityManager.persist(rule);
+        return rule;
+    }
+}
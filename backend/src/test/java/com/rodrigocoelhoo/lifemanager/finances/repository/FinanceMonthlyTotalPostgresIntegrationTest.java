@@ -0,0 +1,159 @@
+package com.rodrigocoelhoo.lifemanager.finances.repository;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.*;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// The monthly totals are maintained with Postgres-only SQL (ON CONFLICT, UPDATE ... FROM), which
+// the H2 tests can't run
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("FinanceMonthlyTotalRepository PostgreSQL Integration Tests")
+class FinanceMonthlyTotalPostgresIntegrationTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2026, 1, 1);
+    private static final LocalDate FEBRUARY = LocalDate.of(2026, 2, 1);
+
+    @Container
+    static final GenericContainer<?> POSTGRES = new GenericContainer<>("postgres:16-alpine")
+            .withEnv("POSTGRES_PASSWORD", "postgres")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () ->
+                "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(5432) + "/postgres");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    FinanceMonthlyTotalRepository financeMonthlyTotalRepository;
+
+    private UserModel user;
+    private WalletModel bank;
+    private WalletModel cash;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+        bank = createWallet("Bank");
+        cash = createWallet("Cash");
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("addToTotal inserts the first row of a key and adds to it afterwards")
+    void addToTotal_upsertsByKey() {
+        financeMonthlyTotalRepository.addToTotal(user.getId(), JANUARY, "FOOD", "EUR", new BigDecimal("10.00"), 1);
+        financeMonthlyTotalRepository.addToTotal(user.getId(), JANUARY, "FOOD", "EUR", new BigDecimal("5.50"), 2);
+        financeMonthlyTotalRepository.addToTotal(user.getId(), JANUARY, "FOOD", "USD", new BigDecimal("7.00"), 1);
+
+        assertThat(totals())
+                .extracting(FinanceMonthlyTotalModel::getCurrency, FinanceMonthlyTotalModel::getTotal,
+                        FinanceMonthlyTotalModel::getTransactionCount)
+                .containsExactlyInAnyOrder(
+                        tuple(Currency.EUR, new BigDecimal("15.50"), 3),
+                        tuple(Currency.USD, new BigDecimal("7.00"), 1)
+                );
+    }
+
+    @Test
+    @DisplayName("subtractWalletTransactions takes one wallet's transactions out, per month, and deleteEmpty drops spent rows")
+    void subtractWalletTransactions_thenDeleteEmpty() {
+        createTransaction(bank, JANUARY.plusDays(3), "10.00", ExpenseCategory.FOOD);
+        createTransaction(bank, JANUARY.plusDays(20), "20.00", ExpenseCategory.FOOD);
+        createTransaction(cash, JANUARY.plusDays(5), "4.00", ExpenseCategory.FOOD);
+        createTransaction(bank, FEBRUARY.plusDays(1), "700.00", ExpenseCategory.HOUSING);
+        entityManager.flush();
+        financeMonthlyTotalRepository.insertFromTransactions(user.getId());
+
+        financeMonthlyTotalRepository.subtractWalletTransactions(bank.getId());
+        assertThat(totals())
+                .extracting(FinanceMonthlyTotalModel::getMonthStart, FinanceMonthlyTotalModel::getTotal,
+                        FinanceMonthlyTotalModel::getTransactionCount)
+                .containsExactlyInAnyOrder(
+                        tuple(JANUARY, new BigDecimal("4.00"), 1),
+                        tuple(FEBRUARY, new BigDecimal("0.00"), 0)
+                );
+
+        financeMonthlyTotalRepository.deleteEmpty(user);
+        assertThat(totals()).extracting(FinanceMonthlyTotalModel::getMonthStart).containsExactly(JANUARY);
+    }
+
+    @Test
+    @DisplayName("Rebuilding replaces drifted totals with the aggregate of the user's transactions")
+    void rebuild_reaggregatesTransactions() {
+        createTransaction(bank, JANUARY.plusDays(3), "10.00", ExpenseCategory.FOOD);
+        createTransaction(cash, JANUARY.plusDays(9), "2.50", ExpenseCategory.FOOD);
+        entityManager.flush();
+        financeMonthlyTotalRepository.addToTotal(user.getId(), JANUARY, "FOOD", "EUR", new BigDecimal("999.00"), 9);
+        financeMonthlyTotalRepository.addToTotal(user.getId(), FEBRUARY, "SALARY", "EUR", new BigDecimal("1.00"), 1);
+
+        financeMonthlyTotalRepository.deleteAllByUserId(user.getId());
+        int rows = financeMonthlyTotalRepository.insertFromTransactions(user.getId());
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(totals())
+                .extracting(FinanceMonthlyTotalModel::getMonthStart, FinanceMonthlyTotalModel::getCategory,
+                        FinanceMonthlyTotalModel::getTotal, FinanceMonthlyTotalModel::getTransactionCount)
+                .containsExactly(tuple(JANUARY, ExpenseCategory.FOOD, new BigDecimal("12.50"), 2));
+    }
+
+    private List<FinanceMonthlyTotalModel> totals() {
+        entityManager.clear();
+        return financeMonthlyTotalRepository.findAllByUserAndMonthStartBetweenAndTransactionCountGreaterThan(
+                user, JANUARY.minusYears(1), FEBRUARY, -1
+        );
+    }
+
+    private WalletModel createWallet(String name) {
+        WalletModel wallet = WalletModel.builder()
+                .user(user)
+                .name(name)
+                .type(WalletType.BANK)
+                .balance(new BigDecimal("1000.00"))
+                .currency(Currency.EUR)
+                .build();
+        entityManager.persist(wallet);
+        return wallet;
+    }
+
+    private void createTransaction(WalletModel wallet, LocalDate date, String amount, ExpenseCategory category) {
+        entityManager.persist(TransactionModel.builder()
+                .user(user)
+                .wallet(wallet)
+                .amount(new BigDecimal(amount))
+                .type(category.getType())
+                .category(category)
+                .description("")
+                .date(date)
+                .currency(Currency.EUR)
+                .build());
+    }
+}
@@ -0,0 +1,114 @@
+package com.rodrigocoelhoo.lifemanager.finances.repository;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.*;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class FinanceMonthlyTotalRepositoryTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2026, 1, 1);
+    private static final LocalDate FEBRUARY = LocalDate.of(2026, 2, 1);
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    FinanceMonthlyTotalRepository financeMonthlyTotalRepository;
+
+    private UserModel user;
+    private UserModel other;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+        other = new UserModel("Other", "Other", "User", "other@user.com", "Password-123");
+        entityManager.persist(other);
+    }
+
+    @Test
+    @DisplayName("A rebuild replaces one user's totals with the aggregate of their transactions and can run again")
+    void rebuild_reaggregatesOneUser() {
+        WalletModel wallet = createWallet(user);
+        createTransaction(user, wallet, JANUARY.plusDays(3), "10.00", ExpenseCategory.FOOD);
+        createTransaction(user, wallet, JANUARY.plusDays(20), "2.50", ExpenseCategory.FOOD);
+        createTransaction(user, wallet, FEBRUARY.plusDays(1), "1500.00", ExpenseCategory.SALARY);
+        createTransaction(other, createWallet(other), JANUARY.plusDays(3), "99.00", ExpenseCategory.FOOD);
+        createTotal(user, JANUARY, ExpenseCategory.FOOD, "999.00", 9);
+        createTotal(user, JANUARY, ExpenseCategory.HOUSING, "700.00", 1);
+        createTotal(other, JANUARY, ExpenseCategory.FOOD, "5.00", 1);
+        entityManager.flush();
+
+        for (int run = 0; run < 2; run++) {
+            financeMonthlyTotalRepository.deleteAllByUserId(user.getId());
+            assertThat(financeMonthlyTotalRepository.insertFromTransactions(user.getId())).isEqualTo(2);
+        }
+        entityManager.clear();
+
+        assertThat(totals(user))
+                .extracting(FinanceMonthlyTotalModel::getMonthStart, FinanceMonthlyTotalModel::getCategory,
+                        FinanceMonthlyTotalModel::getTotal, FinanceMonthlyTotalModel::getTransactionCount)
+                .containsExactlyInAnyOrder(
+                        tuple(JANUARY, ExpenseCategory.FOOD, new BigDecimal("12.50"), 2),
+                        tuple(FEBRUARY, ExpenseCategory.SALARY, new BigDecimal("1500.00"), 1)
+                );
+        assertThat(totals(other)).extracting(FinanceMonthlyTotalModel::getTotal).containsExactly(new BigDecimal("5.00"));
+    }
+
+    private List<FinanceMonthlyTotalModel> totals(UserModel owner) {
+        return financeMonthlyTotalRepository.findAllByUserAndMonthStartBetweenAndTransactionCountGreaterThan(
+                owner, JANUARY, FEBRUARY, 0
+        );
+    }
+
+    private WalletModel createWallet(UserModel owner) {
+        WalletModel wallet = WalletModel.builder()
+                .user(owner)
+                .name("Bank")
+                .type(WalletType.BANK)
+                .balance(new BigDecimal("100.00"))
+                .currency(Currency.EUR)
+                .build();
+        entityManager.persist(wallet);
+        return wallet;
+    }
+
+    private void createTransaction(UserModel owner, WalletModel wallet, LocalDate date, String amount, ExpenseCategory category) {
+        entityManager.persist(TransactionModel.builder()
+                .user(owner)
+                .wallet(wallet)
+                .amount(new BigDecimal(amount))
+                .type(category.getType())
+                .category(category)
+                .description("")
+                .date(date)
+                .currency(Currency.EUR)
+                .build());
+    }
+
+    private void createTotal(UserModel owner, LocalDate monthStart, ExpenseCategory category, String total, int count) {
+        entityManager.persist(FinanceMonthlyTotalModel.builder()
+                .user(owner)
+                .monthStart(monthStart)
+                .category(category)
+                .currency(Currency.EUR)
+                .total(new BigDecimal(total))
+                .transactionCount(count)
+                .build());
+    }
+}
@@ -0,0 +1,97 @@
+package com.rodrigocoelhoo.lifemanager.finances.repository;
+
+import com.rodrigocoelhoo.lifemanager.finances.model.*;
+import com.rodrigocoelhoo.lifemanager.finances.repository.TransactionImportRepository.NewTransaction;
+import com.rodrigocoelhoo.lifemanager.finances.repository.TransactionImportRepository.WalletBalance;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TransactionImportRepository.class)
+class TransactionImportRepositoryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 15);
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    TransactionImportRepository importRepository;
+
+    @Autowired
+    TransactionRepository transactionRepository;
+
+    private UserModel user;
+    private WalletModel wallet;
+    private WalletModel otherWallet;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+        UserModel other = new UserModel("Other", "Other", "User", "other@user.com", "Password-123");
+        entityManager.persist(other);
+
+        wallet = createWallet(user, Currency.EUR);
+        otherWallet = createWallet(other, Currency.USD);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Only the user's own wallets are locked and returned")
+    void lockWallets_skipsOtherUsersWallets() {
+        Map<Long, WalletBalance> wallets = importRepository.lockWallets(user.getId(), List.of(wallet.getId(), otherWallet.getId()));
+
+        assertThat(wallets).containsOnlyKeys(wallet.getId());
+        assertThat(wallets.get(wallet.getId()).balance()).isEqualByComparingTo("100");
+        assertThat(wallets.get(wallet.getId()).currency()).isEqualTo(Currency.EUR);
+        assertThat(importRepository.lockWallets(user.getId(), List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Batch writes insert transactions and update balances")
+    void batchWrites_persistChanges() {
+        importRepository.insertTransactions(user.getId(), List.of(
+                new NewTransaction(wallet.getId(), new BigDecimal("12.50"), ExpenseCategory.FOOD, "Lunch", TODAY, Currency.EUR),
+                new NewTransaction(wallet.getId(), new BigDecimal("1500.00"), ExpenseCategory.SALARY, "", TODAY.minusDays(1), Currency.EUR)
+        ));
+        importRepository.updateWalletBalances(Map.of(wallet.getId(), new BigDecimal("1587.50")));
+        entityManager.clear();
+
+        assertThat(transactionRepository.findAllByUserAndDateBetweenOrderByDateDescIdDesc(user, TODAY.minusYears(1), TODAY))
+                .extracting(TransactionModel::getCategory, TransactionModel::getType, TransactionModel::getDescription)
+                .containsExactly(
+                        tuple(ExpenseCategory.FOOD, ExpenseType.EXPENSE, "Lunch"),
+                        tuple(ExpenseCategory.SALARY, ExpenseType.INCOME, "")
+                );
+        assertThat(entityManager.find(WalletModel.class, wallet.getId()).getBalance()).isEqualByComparingTo("1587.50");
+    }
+
+    private WalletModel createWallet(UserModel owner, Currency currency) {
+        WalletModel created = WalletModel.builder()
+                .user(owner)
+                .name("Bank")
+                .type(WalletType.BANK)
+                .balance(new BigDecimal("100.00"))
+                .currency(currency)
+                .build();
+        entityManager.persist(created);
+        return created;
+    }
+}
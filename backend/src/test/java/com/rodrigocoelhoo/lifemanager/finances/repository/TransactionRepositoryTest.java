@@ -0,0 +1,158 @@
+package com.rodrigocoelhoo.lifemanager.finances.repository;
+
+import com.rodrigocoelhoo.lifemanager.common.KeysetCursor;
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import com.rodrigocoelhoo.lifemanager.finances.model.*;
+import com.rodrigocoelhoo.lifemanager.finances.specification.TransactionSpecification;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Window;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class TransactionRepositoryTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    TransactionRepository transactionRepository;
+
+    private UserModel user;
+    private WalletModel wallet;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+
+        wallet = WalletModel.builder()
+                .user(user)
+                .name("Bank")
+                .type(WalletType.BANK)
+                .balance(new BigDecimal("100.00"))
+                .currency(Currency.EUR)
+                .build();
+        entityManager.persist(wallet);
+    }
+
+    @Test
+    @DisplayName("Following the cursor walks every transaction once in (date desc, id desc) order")
+    void findAllAfter_followingCursor_visitsEveryTransactionOnce() {
+        List<TransactionModel> created = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            // Several transactions share a date so the id breaks the ties
+            created.add(createTransaction(LocalDate.of(2026, 1, 1 + i / 3)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> expected = created.stream()
+                .sorted(Comparator.comparing(TransactionModel::getDate).thenComparing(TransactionModel::getId).reversed())
+                .map(TransactionModel::getId)
+                .toList();
+
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Window<TransactionModel> window = transactionRepository.findAllAfter(
+                    TransactionSpecification.withFilters(user, null, null, null, null),
+                    KeysetCursor.decode(cursor, LocalDate::parse),
+                    KeysetCursor.limit(5)
+            );
+            window.forEach(transaction -> visited.add(transaction.getId()));
+            cursor = KeysetCursor.encode(window);
+            pages++;
+        } while (cursor != null);
+
+        assertThat(visited).isEqualTo(expected);
+        assertThat(pages).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("The wallet is fetched together with the slice")
+    void findAllAfter_fetchesWallet() {
+        createTransaction(LocalDate.of(2026, 1, 1));
+        entityManager.flush();
+        entityManager.clear();
+
+        Window<TransactionModel> window = transactionRepository.findAllAfter(
+                TransactionSpecification.withFilters(user, null, null, null, null),
+                KeysetCursor.decode(null, LocalDate::parse),
+                KeysetCursor.limit(5)
+        );
+
+        assertThat(window.hasNext()).isFalse();
+        assertThat(KeysetCursor.encode(window)).isNull();
+        assertThat(Hibernate.isInitialized(window.getContent().getFirst().getWallet())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Filters still apply after the cursor")
+    void findAllAfter_appliesFilters() {
+        for (int i = 0; i < 6; i++) {
+            createTransaction(LocalDate.of(2026, 1, 1 + i));
+        }
+        entityManager.flush();
+
+        Window<TransactionModel> window = transactionRepository.findAllAfter(
+                TransactionSpecification.withFilters(user, null, null, LocalDate.of(2026, 1, 3), LocalDate.of(2026, 1, 5)),
+                KeysetCursor.decode(null, LocalDate::parse),
+                KeysetCursor.limit(2)
+        );
+        Window<TransactionModel> next = transactionRepository.findAllAfter(
+                TransactionSpecification.withFilters(user, null, null, LocalDate.of(2026, 1, 3), LocalDate.of(2026, 1, 5)),
+                KeysetCursor.decode(KeysetCursor.encode(window), LocalDate::parse),
+                KeysetCursor.limit(2)
+        );
+
+        assertThat(window.map(TransactionModel::getDate).getContent())
+                .containsExactly(LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 4));
+        assertThat(next.map(TransactionModel::getDate).getContent())
+                .containsExactly(LocalDate.of(2026, 1, 3));
+        assertThat(next.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Malformed cursors and sizes are rejected")
+    void keysetCursor_rejectsInvalidInput() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor", LocalDate::parse))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> KeysetCursor.limit(0))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> KeysetCursor.limit(KeysetCursor.MAX_SIZE + 1))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private TransactionModel createTransaction(LocalDate date) {
+        TransactionModel transaction = TransactionModel.builder()
+                .user(user)
+                .wallet(wallet)
+                .amount(new BigDecimal("10.00"))
+                .type(ExpenseType.EXPENSE)
+                .category(ExpenseCategory.FOOD)
+                .description("Groceries")
+                .date(date)
+                .currency(Currency.EUR)
+                .build();
+        entityManager.persist(transaction);
+        return transaction;
+    }
+}
@@ -2,6 +2,7 @@ package com.rodrigocoelhoo.lifemanager.finances.service;
 
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import com.rodrigocoelhoo.lifemanager.finances.components.AutomaticTransactionBatchProcessor;
 import com.rodrigocoelhoo.lifemanager.finances.dto.AutomaticTransactionDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.AutomaticTransactionResponseDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.AutomaticTransactionSimple;
@@ -11,6 +12,7 @@ import com.rodrigocoelhoo.lifemanager.finances.repository.TransactionRepository;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
 import com.rodrigocoelhoo.lifemanager.users.UserService;
 import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -20,8 +22,11 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -48,6 +53,12 @@ class AutomaticTransactionServiceTest {
     @Mock
     private RedisCacheService redisCacheService;
 
+    @Mock
+    private FinanceMonthlyTotalService financeMonthlyTotalService;
+
+    @Mock
+    private AutomaticTransactionBatchProcessor automaticTransactionBatchProcessor;
+
     private UserModel user;
 
     @BeforeEach
@@ -293,6 +304,7 @@ class AutomaticTransactionServiceTest {
         void shouldProcessAutomaticTransactionSuccessfully() {
             WalletModel wallet = new WalletModel();
             wallet.setCurrency(Currency.EUR);
+            wallet.setBalance(new BigDecimal(100));
 
             AutomaticTransactionModel autoTx = AutomaticTransactionModel.builder()
                     .user(user)
@@ -308,20 +320,91 @@ class AutomaticTransactionServiceTest {
             automaticTransactionService.processAutomaticTransaction(autoTx);
 
             assertThat(autoTx.getNextTransactionDate()).isEqualTo(LocalDate.of(2026, 2, 1));
+            assertThat(wallet.getBalance()).isEqualTo(new BigDecimal(90));
             verify(transactionRepository).save(any(TransactionModel.class));
+            verify(financeMonthlyTotalService).addTransaction(any(TransactionModel.class));
             verify(automaticTransactionRepository).save(autoTx);
         }
 
         @Test
-        @DisplayName("should process all due automatic transactions")
+        @DisplayName("should throw BadRequestException if wallet doesn't have enough balance")
+        void shouldThrowIfInsufficientBalance() {
+            WalletModel wallet = new WalletModel();
+            wallet.setId(1L);
+            wallet.setCurrency(Currency.EUR);
+            wallet.setBalance(BigDecimal.ONE);
+
+            AutomaticTransactionModel autoTx = AutomaticTransactionModel.builder()
+                    .user(user)
+                    .wallet(wallet)
+                    .amount(BigDecimal.TEN)
+                    .category(ExpenseCategory.FOOD)
+                    .type(ExpenseType.EXPENSE)
+                    .recurrence(TransactionRecurrence.MONTHLY)
+                    .interval((short) 1)
+                    .nextTransactionDate(LocalDate.of(2026, 1, 1))
+                    .build();
+
+            BadRequestException exception = assertThrows(BadRequestException.class,
+                    () -> automaticTransactionService.processAutomaticTransaction(autoTx));
+
+            assertThat(exception.getMessage()).isEqualTo("Wallet ID '1' doesn't have enough balance.");
+            assertThat(autoTx.getNextTransactionDate()).isEqualTo(LocalDate.of(2026, 1, 1));
+            verify(transactionRepository, never()).save(any(TransactionModel.class));
+        }
+
+        @Test
+        @DisplayName("should lock the automatic transaction before processing it by id")
+        void shouldLockAutomaticTransactionWhenProcessingById() {
+            WalletModel wallet = new WalletModel();
+            wallet.setCurrency(Currency.EUR);
+            wallet.setBalance(BigDecimal.ZERO);
+
+            AutomaticTransactionModel autoTx = AutomaticTransactionModel.builder()
+                    .user(user)
+                    .wallet(wallet)
+                    .amount(BigDecimal.TEN)
+                    .category(ExpenseCategory.SALARY)
+                    .type(ExpenseType.INCOME)
+                    .recurrence(TransactionRecurrence.WEEKLY)
+                    .interval((short) 2)
+                    .nextTransactionDate(LocalDate.of(2026, 1, 1))
+                    .build();
+
+            when(automaticTransactionRepository.findForUpdateByUserAndId(user, 1L)).thenReturn(Optional.of(autoTx));
+
+            automaticTransactionService.processAutomaticTransaction(1L);
+
+            assertThat(autoTx.getNextTransactionDate()).isEqualTo(LocalDate.of(2026, 1, 15));
+            assertThat(wallet.getBalance()).isEqualTo(BigDecimal.TEN);
+            verify(automaticTransactionRepository).findForUpdateByUserAndId(user, 1L);
+            verify(automaticTransactionRepository, never()).findByUserAndId(any(), any());
+        }
+
+        @Test
+        @DisplayName("should process all due automatic transactions and evict caches of the affected users")
         void shouldProcessDailyAutomaticTransactions() {
-            when(automaticTransactionRepository
-                    .findByNextTransactionDateLessThanEqual(any()))
-                    .thenReturn(List.of(new AutomaticTransactionModel()));
+            YearMonth month = YearMonth.of(2025, 11);
+            when(automaticTransactionBatchProcessor.processDue(any())).thenReturn(
+                    new AutomaticTransactionBatchProcessor.Result(3, Map.of("alice", Set.of(month)))
+            );
 
             automaticTransactionService.processDailyAutomaticTransactions();
 
-            verify(automaticTransactionRepository).findByNextTransactionDateLessThanEqual(any());
+            verify(automaticTransactionBatchProcessor).processDue(any());
+
+            ArgumentCaptor<RedisCacheService.Evictions> evictions = ArgumentCaptor.forClass(RedisCacheService.Evictions.class);
+            verify(redisCacheService).evict(evictions.capture());
+            assertThat(evictions.getValue().generationKeys()).containsExactlyInAnyOrder(
+                    "cacheGeneration::bills::alice",
+                    "cacheGeneration::nextBills::alice",
+                    "cacheGeneration::transactions::alice",
+                    "cacheGeneration::wallets::alice",
+                    "cacheGeneration::financesDashboard::alice::yearMonth:" + YearMonth.now(),
+                    "cacheGeneration::financesDashboard::alice::yearMonth:" + month
+            );
+            verify(redisCacheService, never()).evictUserCache(anyString());
+            verify(redisCacheService, never()).evictUserCacheSpecific(anyString(), anyString());
         }
     }
 }
@@ -1,5 +1,6 @@
 package com.rodrigocoelhoo.lifemanager.finances.service;
 
+import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.finances.dto.MonthOverviewDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.TransactionInternalDTO;
 import com.rodrigocoelhoo.lifemanager.finances.dto.WalletResponseDTO;
@@ -16,7 +17,6 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
-import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -41,6 +41,12 @@ class DashboardServiceTest {
     @Mock
     private AutomaticTransactionService automaticTransactionService;
 
+    @Mock
+    private FinanceMonthlyTotalService financeMonthlyTotalService;
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
     private UserModel user;
 
     @BeforeEach
@@ -59,21 +65,21 @@ class DashboardServiceTest {
         @Test
         @DisplayName("should return month overview with correct totals")
         void shouldReturnMonthOverviewCorrectly() {
-            YearMonth yearMonth = YearMonth.of(2026, 1);
+            YearMonth yearMonth = YearMonth.now();
             Currency currency = Currency.AUD;
 
             TransactionModel t1 = new TransactionModel();
             t1.setAmount(new BigDecimal(100));
             t1.setCategory(ExpenseCategory.FOOD);
             t1.setType(ExpenseType.EXPENSE);
-            t1.setDate(LocalDate.of(2026, 1, 5));
+            t1.setDate(yearMonth.atDay(5));
             t1.setCurrency(Currency.AUD);
 
             TransactionModel t2 = new TransactionModel();
             t2.setAmount(new BigDecimal(200));
             t2.setCategory(ExpenseCategory.SALARY);
             t2.setType(ExpenseType.INCOME);
-            t2.setDate(LocalDate.of(2026, 1, 10));
+            t2.setDate(yearMonth.atDay(10));
             t2.setCurrency(Currency.AUD);
 
             WalletModel txWallet = new WalletModel();
@@ -88,7 +94,11 @@ class DashboardServiceTest {
 
             List<TransactionModel> transactions = List.of(t1, t2);
 
-            when(transactionService.getTransactionsByRange(
+            when(financeMonthlyTotalService.getMonthlyTotals(yearMonth.minusMonths(5), yearMonth)).thenReturn(List.of(
+                    monthlyTotal(yearMonth, ExpenseCategory.FOOD, Currency.AUD, new BigDecimal(100), 1),
+                    monthlyTotal(yearMonth, ExpenseCategory.SALARY, Currency.AUD, new BigDecimal(200), 1)
+            ));
+            when(transactionService.get5RecentTransactions(
                     yearMonth.atDay(1),
                     yearMonth.atEndOfMonth()
             )).thenReturn(transactions.stream().map(TransactionInternalDTO::fromEntity).toList());
@@ -117,7 +127,9 @@ class DashboardServiceTest {
 
             assertThat(result.recentTransactions()).hasSize(2);
             assertThat(result.wallets()).hasSize(1);
-            verify(transactionService).getTransactionsByRange(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+            verify(financeMonthlyTotalService).getMonthlyTotals(yearMonth.minusMonths(5), yearMonth);
+            verify(transactionService).get5RecentTransactions(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+            verify(transactionService, never()).getTransactionsByRange(any(), any());
             verify(walletService).getWallets(any(), any());
             verify(transferenceService).get5RecentTransferences(yearMonth.atDay(1), yearMonth.atEndOfMonth());
             verify(automaticTransactionService).get5NextAutomaticTransaction();
@@ -129,31 +141,21 @@ class DashboardServiceTest {
             YearMonth currentMonth = YearMonth.now();
             Currency currency = Currency.AUD;
 
-            WalletModel wallet = new WalletModel();
-            wallet.setCurrency(Currency.AUD);
-            wallet.setBalance(new BigDecimal(10000));
-
-            TransactionModel pastTx = new TransactionModel();
-            pastTx.setAmount(new BigDecimal(50));
-            pastTx.setCategory(ExpenseCategory.FOOD);
-            pastTx.setDate(currentMonth.minusMonths(1).atDay(15));
-            pastTx.setCurrency(Currency.AUD);
-            pastTx.setWallet(wallet);
-
             when(walletService.getWallets(any(), any())).thenReturn(new PageImpl<>(List.of()));
-            when(transactionService.getTransactionsByRange(
-                    currentMonth.atDay(1),
-                    currentMonth.atEndOfMonth()
-            )).thenReturn(List.of());
-
-            when(transactionService.getTransactionsByRange(
-                    currentMonth.minusMonths(5).atDay(1),
-                    currentMonth.minusMonths(1).atEndOfMonth()
-            )).thenReturn(Stream.of(pastTx).map(TransactionInternalDTO::fromEntity).toList());
+            when(transactionService.get5RecentTransactions(any(), any())).thenReturn(List.of());
+            when(financeMonthlyTotalService.getMonthlyTotals(currentMonth.minusMonths(5), currentMonth)).thenReturn(List.of(
+                    monthlyTotal(currentMonth.minusMonths(1), ExpenseCategory.FOOD, Currency.AUD, new BigDecimal(50), 1),
+                    monthlyTotal(currentMonth.minusMonths(3), ExpenseCategory.SALARY, Currency.AUD, new BigDecimal(300), 2)
+            ));
 
             MonthOverviewDTO result = dashboardService.getMonthOverview(currentMonth, currency);
 
-            assertThat(result.previousMonthsNetBalance()).isNotEmpty();
+            assertThat(result.previousMonthsNetBalance()).hasSize(6);
+            assertThat(result.previousMonthsNetBalance().get(4).yearMonth()).isEqualTo(currentMonth.minusMonths(1));
+            assertThat(result.previousMonthsNetBalance().get(4).netBalance()).isEqualByComparingTo("-50");
+            assertThat(result.previousMonthsNetBalance().get(2).yearMonth()).isEqualTo(currentMonth.minusMonths(3));
+            assertThat(result.previousMonthsNetBalance().get(2).netBalance()).isEqualByComparingTo("300");
+            assertThat(result.totalExpenses()).isEqualTo(currency.format(BigDecimal.ZERO));
         }
 
 
@@ -163,7 +165,8 @@ class DashboardServiceTest {
             YearMonth yearMonth = YearMonth.of(2026, 1);
             Currency currency = Currency.AUD;
 
-            when(transactionService.getTransactionsByRange(any(), any())).thenReturn(List.of());
+            when(financeMonthlyTotalService.getMonthlyTotals(any(), any())).thenReturn(List.of());
+            when(transactionService.get5RecentTransactions(any(), any())).thenReturn(List.of());
             when(walletService.getWallets(any(), any())).thenReturn(new PageImpl<>(List.of()));
             when(transferenceService.get5RecentTransferences(any(), any())).thenReturn(List.of());
             when(automaticTransactionService.get5NextAutomaticTransaction()).thenReturn(List.of());
@@ -178,7 +181,7 @@ class DashboardServiceTest {
         }
 
         @Test
-        @DisplayName("should limit recent transactions to 5 items")
+        @DisplayName("should use the 5 most recent transactions and the aggregated totals")
         void shouldLimitRecentTransactions() {
             YearMonth yearMonth = YearMonth.of(2026, 1);
             Currency currency = Currency.AUD;
@@ -205,8 +208,11 @@ class DashboardServiceTest {
                 tx.setDate(LocalDate.of(2026, 1, 5));
             });
 
-            when(transactionService.getTransactionsByRange(yearMonth.atDay(1), yearMonth.atEndOfMonth())).thenReturn(
-                    transactions.stream().map(TransactionInternalDTO::fromEntity).toList()
+            when(financeMonthlyTotalService.getMonthlyTotals(yearMonth, yearMonth)).thenReturn(List.of(
+                    monthlyTotal(yearMonth, ExpenseCategory.FOOD, Currency.AUD, new BigDecimal(100), transactions.size())
+            ));
+            when(transactionService.get5RecentTransactions(yearMonth.atDay(1), yearMonth.atEndOfMonth())).thenReturn(
+                    transactions.stream().limit(5).map(TransactionInternalDTO::fromEntity).toList()
             );
             when(walletService.getWallets(any(), any())).thenReturn(new PageImpl<>(List.of()));
             when(transferenceService.get5RecentTransferences(any(), any())).thenReturn(List.of());
@@ -215,6 +221,60 @@ class DashboardServiceTest {
             MonthOverviewDTO result = dashboardService.getMonthOverview(yearMonth, currency);
 
             assertThat(result.recentTransactions()).hasSize(5);
+            assertThat(result.totalExpenses()).isEqualTo(currency.format(new BigDecimal(100)));
         }
+
+        @Test
+        @DisplayName("should convert aggregated totals to the requested currency")
+        void shouldConvertAggregatedTotals() {
+            YearMonth yearMonth = YearMonth.of(2026, 1);
+            Currency currency = Currency.AUD;
+
+            when(financeMonthlyTotalService.getMonthlyTotals(yearMonth, yearMonth)).thenReturn(List.of(
+                    monthlyTotal(yearMonth, ExpenseCategory.FOOD, Currency.AUD, new BigDecimal(40), 2),
+                    monthlyTotal(yearMonth, ExpenseCategory.FOOD, Currency.EUR, new BigDecimal(10), 1)
+            ));
+            when(transactionService.get5RecentTransactions(any(), any())).thenReturn(List.of());
+            when(transferenceService.get5RecentTransferences(any(), any())).thenReturn(List.of());
+
+            MonthOverviewDTO result = dashboardService.getMonthOverview(yearMonth, currency);
+
+            BigDecimal expected = new BigDecimal(40).add(Currency.EUR.convertTo(new BigDecimal(10), currency));
+            assertThat(result.totalExpenses()).isEqualTo(currency.format(expected));
+            assertThat(result.wallets()).isEmpty();
+            verify(walletService, never()).getWallets(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuildMonthlyTotals")
+    class RebuildMonthlyTotalsTests {
+
+        @Test
+        @DisplayName("should rebuild the user's totals and then evict their dashboard")
+        void shouldRebuildThenEvict() {
+            dashboardService.rebuildMonthlyTotals();
+
+            var order = inOrder(financeMonthlyTotalService, redisCacheService);
+            order.verify(financeMonthlyTotalService).rebuildTotals(1L);
+            order.verify(redisCacheService).evictUserCache("financesDashboard");
+        }
+    }
+
+    private FinanceMonthlyTotalModel monthlyTotal(
+            YearMonth month,
+            ExpenseCategory category,
+            Currency currency,
+            BigDecimal total,
+            int count
+    ) {
+        return FinanceMonthlyTotalModel.builder()
+                .user(user)
+                .monthStart(month.atDay(1))
+                .category(category)
+                .currency(currency)
+                .total(total)
+                .transactionCount(count)
+                .build();
     }
 }
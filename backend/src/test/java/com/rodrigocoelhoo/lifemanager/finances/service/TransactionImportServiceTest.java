@@ -0,0 +1,217 @@
+package com.rodrigocoelhoo.lifemanager.finances.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
+import com.rodrigocoelhoo.lifemanager.finances.components.ImportedTransaction;
+import com.rodrigocoelhoo.lifemanager.finances.components.TransactionImportProcessor;
+import com.rodrigocoelhoo.lifemanager.finances.components.TransactionImportReader;
+import com.rodrigocoelhoo.lifemanager.finances.dto.TransactionImportJobDTO;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TransactionImportService Tests")
+class TransactionImportServiceTest {
+
+    private static final String CSV = "date,amount,category\n2026-01-05,10,FOOD\n2026-01-06,abc,FOOD\n";
+
+    @Mock
+    private TransactionImportProcessor transactionImportProcessor;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private TransactionImportService service;
+    private UserModel user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        user = new UserModel();
+        user.setId(1L);
+        when(userService.getLoggedInUser()).thenReturn(user);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        service = newService();
+    }
+
+    private TransactionImportService newService() {
+        return new TransactionImportService(
+                transactionImportProcessor, userService, redisCacheService, redisTemplate, new ObjectMapper(), 1024
+        );
+    }
+
+    @Test
+    @DisplayName("should run the import in the background and report its progress")
+    void shouldRunImportAsJob() throws Exception {
+        List<ImportedTransaction> rows = new ArrayList<>();
+        doAnswer(invocation -> {
+            TransactionImportReader reader = invocation.getArgument(1);
+            ImportedTransaction row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+            Consumer<TransactionImportProcessor.ChunkResult> progress = invocation.getArgument(2);
+            progress.accept(new TransactionImportProcessor.ChunkResult(
+                    2, 1, List.of("Line 3: Amount 'abc' isn't a number"), Set.of(YearMonth.of(2026, 1))
+            ));
+            return null;
+        }).when(transactionImportProcessor).importAll(eq(1L), any(), any());
+
+        TransactionImportJobDTO started = service.startImport(body(CSV), "csv", 5L, null, null);
+        TransactionImportJobDTO finished = await(started.id());
+
+        assertThat(finished.status()).isEqualTo(TransactionImportJobDTO.Status.COMPLETED);
+        assertThat(finished.read()).isEqualTo(2);
+        assertThat(finished.imported()).isEqualTo(1);
+        assertThat(finished.rejected()).isEqualTo(1);
+        assertThat(finished.errors()).containsExactly("Line 3: Amount 'abc' isn't a number");
+        assertThat(rows).hasSize(2);
+        assertThat(rows.getFirst().walletId()).isEqualTo(5L);
+
+        ArgumentCaptor<RedisCacheService.Evictions> evictions = ArgumentCaptor.forClass(RedisCacheService.Evictions.class);
+        verify(redisCacheService, times(1)).evict(evictions.capture());
+        assertThat(evictions.getValue().generationKeys())
+                .anySatisfy(key -> assertThat(key).contains("transactions"))
+                .anySatisfy(key -> assertThat(key).contains("wallets"))
+                .anySatisfy(key -> assertThat(key).contains("yearMonth:2026-01"));
+    }
+
+    @Test
+    @DisplayName("should fail the job with the reason the file can't be read")
+    void shouldFailOnInvalidFile() throws Exception {
+        TransactionImportJobDTO started = service.startImport(body("date,category\n"), "CSV", 5L, null, null);
+        TransactionImportJobDTO finished = await(started.id());
+
+        assertThat(finished.status()).isEqualTo(TransactionImportJobDTO.Status.FAILED);
+        assertThat(finished.failure()).contains("'amount'");
+        verifyNoInteractions(transactionImportProcessor);
+        verify(redisCacheService, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("should fail the job and keep its progress when a chunk fails")
+    void shouldFailOnUnexpectedError() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<TransactionImportProcessor.ChunkResult> progress = invocation.getArgument(2);
+            progress.accept(new TransactionImportProcessor.ChunkResult(1, 1, List.of(), Set.of(YearMonth.of(2026, 1))));
+            throw new IllegalStateException("connection lost");
+        }).when(transactionImportProcessor).importAll(eq(1L), any(), any());
+
+        TransactionImportJobDTO finished = await(service.startImport(body(CSV), "csv", 5L, null, null).id());
+
+        assertThat(finished.status()).isEqualTo(TransactionImportJobDTO.Status.FAILED);
+        assertThat(finished.imported()).isEqualTo(1);
+        verify(redisCacheService).evict(any());
+    }
+
+    @Test
+    @DisplayName("should reject bad parameters and bodies before starting a job")
+    void shouldValidateRequest() {
+        assertThatThrownBy(() -> service.startImport(body(CSV), "xlsx", 5L, null, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Format 'XLSX' doesn't exist");
+        assertThatThrownBy(() -> service.startImport(body("<OFX>"), "ofx", null, null, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Wallet ID");
+        assertThatThrownBy(() -> service.startImport(body("<OFX>"), "ofx", 5L, "SALARY", null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("isn't an expense category");
+        assertThatThrownBy(() -> service.startImport(body("<OFX>"), "ofx", 5L, null, "FOOD"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("isn't an income category");
+        assertThatThrownBy(() -> service.startImport(body(""), "csv", 5L, null, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("The file is empty");
+        assertThatThrownBy(() -> service.startImport(body("x".repeat(2048)), "csv", 5L, null, null))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("larger than");
+        verifyNoInteractions(transactionImportProcessor);
+    }
+
+    @Test
+    @DisplayName("should report a job's status from any node, expiring it after a day")
+    void shouldServeStatusFromAnyNode() throws Exception {
+        TransactionImportJobDTO started = service.startImport(body(CSV), "csv", 5L, null, null);
+        TransactionImportService otherNode = newService();
+
+        TransactionImportJobDTO finished = null;
+        for (int i = 0; i < 500 && (finished == null || finished.status() == TransactionImportJobDTO.Status.RUNNING); i++) {
+            finished = otherNode.getImport(started.id());
+            Thread.sleep(10);
+        }
+
+        assertThat(finished.status()).isEqualTo(TransactionImportJobDTO.Status.COMPLETED);
+        verify(valueOperations, atLeast(2))
+                .set(eq("transactionImport::" + started.id()), anyString(), eq(Duration.ofHours(24)));
+    }
+
+    @Test
+    @DisplayName("should hide other users' jobs")
+    void shouldHideOtherUsersJobs() throws IOException {
+        TransactionImportJobDTO started = service.startImport(body(CSV), "csv", 5L, null, null);
+
+        UserModel other = new UserModel();
+        other.setId(2L);
+        when(userService.getLoggedInUser()).thenReturn(other);
+
+        assertThatThrownBy(() -> service.getImport(started.id())).isInstanceOf(ResourceNotFound.class);
+        assertThatThrownBy(() -> service.getImport("missing")).isInstanceOf(ResourceNotFound.class);
+    }
+
+    private TransactionImportJobDTO await(String id) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            TransactionImportJobDTO job = service.getImport(id);
+            if (job.status() != TransactionImportJobDTO.Status.RUNNING) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Import " + id + " didn't finish");
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
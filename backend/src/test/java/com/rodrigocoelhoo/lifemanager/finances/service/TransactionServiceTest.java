@@ -1,5 +1,7 @@
 package com.rodrigocoelhoo.lifemanager.finances.service;
 
+import com.rodrigocoelhoo.lifemanager.common.KeysetCursor;
+import com.rodrigocoelhoo.lifemanager.common.SliceResponseDTO;
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
@@ -11,17 +13,22 @@ import com.rodrigocoelhoo.lifemanager.finances.repository.TransactionRepository;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
 import com.rodrigocoelhoo.lifemanager.users.UserService;
 import org.junit.jupiter.api.*;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,6 +53,9 @@ class TransactionServiceTest {
     @Mock
     private RedisCacheService redisCacheService;
 
+    @Mock
+    private FinanceMonthlyTotalService financeMonthlyTotalService;
+
     private UserModel user;
 
     @BeforeEach
@@ -90,6 +100,48 @@ class TransactionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getTransactionsAfter")
+    class GetTransactionsAfterTests {
+
+        @Test
+        @DisplayName("should return a slice with a cursor to the last transaction")
+        void shouldReturnSliceWithCursor() {
+            WalletModel w1 = new WalletModel();
+            w1.setBalance(new BigDecimal(10));
+            w1.setCurrency(Currency.EUR);
+
+            TransactionModel t1 = new TransactionModel();
+            t1.setId(9L);
+            t1.setWallet(w1);
+            t1.setAmount(new BigDecimal(10));
+            t1.setDate(LocalDate.of(2026, 1, 5));
+
+            Window<TransactionModel> window = Window.from(
+                    List.of(t1),
+                    i -> ScrollPosition.forward(Map.of("date", t1.getDate(), "id", t1.getId())),
+                    true
+            );
+            when(transactionRepository.findAllAfter(any(Specification.class), any(ScrollPosition.class), any(Limit.class)))
+                    .thenReturn(window);
+
+            SliceResponseDTO<TransactionResponseDTO> result = transactionService.getTransactionsAfter(null, 1, null, null, null, null);
+
+            assertThat(result.content()).containsExactly(TransactionResponseDTO.fromEntity(t1));
+            assertThat(result.hasNext()).isTrue();
+            assertThat(KeysetCursor.decode(result.nextCursor(), LocalDate::parse))
+                    .isEqualTo(ScrollPosition.forward(Map.of("date", t1.getDate(), "id", 9L)));
+        }
+
+        @Test
+        @DisplayName("should reject a malformed cursor")
+        void shouldRejectMalformedCursor() {
+            assertThrows(BadRequestException.class,
+                    () -> transactionService.getTransactionsAfter("%%%", 20, null, null, null, null));
+            verify(transactionRepository, never()).findAllAfter(any(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("getTransactionsByRange")
     class GetTransactionsByRangeTests {
@@ -192,6 +244,7 @@ class TransactionServiceTest {
             assertThat(result.getCurrency()).isEqualTo(Currency.AUD);
 
             verify(transactionRepository).save(any(TransactionModel.class));
+            verify(financeMonthlyTotalService).addTransaction(result);
         }
 
         @Test
@@ -257,6 +310,7 @@ class TransactionServiceTest {
                     .amount(new BigDecimal(100))
                     .category(ExpenseCategory.SALARY)
                     .wallet(existingWallet)
+                    .date(LocalDate.now().minusMonths(1))
                     .build();
 
             WalletModel newWallet = new WalletModel();
@@ -278,6 +332,10 @@ class TransactionServiceTest {
 
             assertThat(existingWallet.getBalance()).isEqualTo(BigDecimal.ZERO);
             verify(transactionRepository).save(any(TransactionModel.class));
+
+            InOrder totals = inOrder(financeMonthlyTotalService);
+            totals.verify(financeMonthlyTotalService).removeTransaction(existing);
+            totals.verify(financeMonthlyTotalService).addTransaction(result);
         }
 
         @Test
@@ -379,6 +437,7 @@ class TransactionServiceTest {
 
             assertThat(wallet.getBalance()).isEqualTo(new BigDecimal(25));
             verify(transactionRepository).delete(any(TransactionModel.class));
+            verify(financeMonthlyTotalService).removeTransaction(t1);
         }
 
         @Test
@@ -399,6 +458,7 @@ class TransactionServiceTest {
 
             assertThat(exception.getMessage()).isEqualTo("Cannot delete this transaction because it produces a negative balance.");
             verify(transactionRepository, never()).delete(any(TransactionModel.class));
+            verify(financeMonthlyTotalService, never()).removeTransaction(any());
         }
 
         @Test
@@ -1,5 +1,6 @@
 package com.rodrigocoelhoo.lifemanager.finances.service;
 
+import com.rodrigocoelhoo.lifemanager.common.SliceResponseDTO;
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
@@ -16,14 +17,18 @@ import org.junit.jupiter.api.*;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -100,6 +105,41 @@ class TransferenceServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getTransferencesAfter")
+    class GetTransferencesAfterTests {
+
+        @Test
+        @DisplayName("should return a slice without a cursor on the last page")
+        void shouldReturnLastSlice() {
+            WalletModel w1 = new WalletModel();
+            w1.setBalance(new BigDecimal(10));
+            w1.setCurrency(Currency.EUR);
+
+            TransferenceModel t1 = new TransferenceModel();
+            t1.setId(3L);
+            t1.setFromWallet(w1);
+            t1.setToWallet(w1);
+            t1.setAmount(new BigDecimal(1));
+            t1.setDate(LocalDate.of(2026, 1, 5));
+
+            Window<TransferenceModel> window = Window.from(
+                    List.of(t1),
+                    i -> ScrollPosition.forward(Map.of("date", t1.getDate(), "id", 3L)),
+                    false
+            );
+            when(transferenceRepository.findAllAfter(any(Specification.class), any(ScrollPosition.class), any(Limit.class)))
+                    .thenReturn(window);
+
+            SliceResponseDTO<TransferenceResponseDTO> result = transferenceService.getTransferencesAfter(null, 20, null, null, null, null);
+
+            assertThat(result.content()).containsExactly(TransferenceResponseDTO.fromEntity(t1));
+            assertThat(result.size()).isEqualTo(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("getTransference")
     class GetTransferenceTests {
@@ -13,6 +13,7 @@ import com.rodrigocoelhoo.lifemanager.finances.repository.WalletRepository;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
 import com.rodrigocoelhoo.lifemanager.users.UserService;
 import org.junit.jupiter.api.*;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -42,6 +43,9 @@ class WalletServiceTest {
     @Mock
     private RedisCacheService redisCacheService;
 
+    @Mock
+    private FinanceMonthlyTotalService financeMonthlyTotalService;
+
     private UserModel user;
 
     @BeforeEach
@@ -267,7 +271,10 @@ class WalletServiceTest {
             when(walletRepository.findByUserAndId(user, 1L)).thenReturn(Optional.of(wallet));
 
             walletService.deleteWallet(1L);
-            verify(walletRepository).delete(any(WalletModel.class));
+
+            InOrder order = inOrder(financeMonthlyTotalService, walletRepository);
+            order.verify(financeMonthlyTotalService).removeWalletTransactions(wallet);
+            order.verify(walletRepository).delete(any(WalletModel.class));
         }
 
         @Test
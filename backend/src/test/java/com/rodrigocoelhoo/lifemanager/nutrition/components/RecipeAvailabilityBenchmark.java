@@ -0,0 +1,89 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.components;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+//   -Dexec.mainClass=com.rodrigocoelhoo.lifemanager.nutrition.components.RecipeAvailabilityBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeAvailabilityBenchmark {
+
+    private static final int RECIPES = 10_000;
+    private static final int INGREDIENTS = 2_000;
+
+    @Param({"50", "400"})
+    public int pantrySize;
+
+    private RecipeIncidence incidence;
+    private Map<Long, Set<Long>> ingredientsByRecipe;
+    private List<Long> pantry;
+    private Set<Long> pantrySet;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        ingredientsByRecipe = new HashMap<>();
+        for (long recipe = 1; recipe <= RECIPES; recipe++) {
+            Set<Long> ingredients = new HashSet<>();
+            int count = 3 + random.nextInt(10);
+            while (ingredients.size() < count) {
+                ingredients.add(1L + random.nextInt(INGREDIENTS));
+            }
+            ingredientsByRecipe.put(recipe, ingredients);
+        }
+        incidence = RecipeIncidence.build(ingredientsByRecipe, "benchmark");
+
+        pantrySet = new HashSet<>();
+        while (pantrySet.size() < pantrySize) {
+            pantrySet.add(1L + random.nextInt(INGREDIENTS));
+        }
+        pantry = List.copyOf(pantrySet);
+    }
+
+    @Benchmark
+    public List<Long> available() {
+        return incidence.available(pantry);
+    }
+
+    @Benchmark
+    public List<RecipeMatch> rankedMissingTwo() {
+        return incidence.ranked(pantry, 2);
+    }
+
+    // What the ranking costs without the incidence: a set lookup per recipe ingredient
+    @Benchmark
+    public List<RecipeMatch> hashSetBaseline() {
+        List<RecipeMatch> matches = new ArrayList<>();
+        ingredientsByRecipe.forEach((recipe, ingredients) -> {
+            List<Long> missing = new ArrayList<>();
+            for (Long ingredient : ingredients) {
+                if (!pantrySet.contains(ingredient)) {
+                    missing.add(ingredient);
+                }
+            }
+            if (missing.size() <= 2 && missing.size() < ingredients.size()) {
+                matches.add(new RecipeMatch(recipe, missing.size(), ingredients.size(), missing));
+            }
+        });
+        matches.sort(RecipeMatch.RANKING);
+        return matches;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RecipeAvailabilityBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,258 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.components;
+
+import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
+import com.rodrigocoelhoo.lifemanager.nutrition.repository.RecipeRepository;
+import com.rodrigocoelhoo.lifemanager.nutrition.repository.RecipeRepository.RecipeIngredientLink;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RecipeAvailabilityIndex Tests")
+class RecipeAvailabilityIndexTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    @InjectMocks
+    private RecipeAvailabilityIndex recipeAvailabilityIndex;
+
+    private UserModel user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        user = new UserModel();
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        // Recipes: 10 = {1, 2}, 20 = {1, 2, 3}, 30 = {4}
+        when(recipeRepository.findIngredientLinksByUser(user)).thenReturn(List.of(
+                new RecipeIngredientLink(10L, 1L),
+                new RecipeIngredientLink(10L, 2L),
+                new RecipeIngredientLink(20L, 1L),
+                new RecipeIngredientLink(20L, 2L),
+                new RecipeIngredientLink(20L, 3L),
+                new RecipeIngredientLink(30L, 4L)
+        ));
+        when(redisCacheService.userKey(anyString())).thenReturn("testuser:v1");
+    }
+
+    @Nested
+    @DisplayName("findAvailable")
+    class FindAvailableTests {
+
+        @Test
+        @DisplayName("should return the recipes whose ingredients are all available, by descending id")
+        void shouldReturnContainedRecipes() {
+            assertThat(recipeAvailabilityIndex.findAvailable(user, List.of(1L, 2L, 3L))).containsExactly(20L, 10L);
+            assertThat(recipeAvailabilityIndex.findAvailable(user, List.of(2L, 1L, 4L))).containsExactly(30L, 10L);
+            assertThat(recipeAvailabilityIndex.findAvailable(user, List.of(1L, 99L))).isEmpty();
+
+            verify(recipeRepository, times(1)).findIngredientLinksByUser(user);
+        }
+
+        @Test
+        @DisplayName("should rebuild when the recipes generation changes")
+        void shouldRebuildOnNewGeneration() {
+            recipeAvailabilityIndex.findAvailable(user, List.of(4L));
+            when(redisCacheService.userKey(anyString())).thenReturn("testuser:v2");
+            when(recipeRepository.findIngredientLinksByUser(user)).thenReturn(List.of());
+
+            assertThat(recipeAvailabilityIndex.findAvailable(user, List.of(4L))).isEmpty();
+            verify(recipeRepository, times(2)).findIngredientLinksByUser(user);
+        }
+
+        @Test
+        @DisplayName("should handle recipes spanning many words of bits")
+        void shouldHandleLargeIncidence() {
+            List<RecipeIngredientLink> links = new ArrayList<>();
+            LongStream.range(0, 300).forEach(recipe -> {
+                links.add(new RecipeIngredientLink(recipe, recipe));
+                links.add(new RecipeIngredientLink(recipe, recipe + 1));
+            });
+            when(recipeRepository.findIngredientLinksByUser(user)).thenReturn(links);
+
+            assertThat(recipeAvailabilityIndex.findAvailable(user, List.of(128L, 129L, 130L, 299L)))
+                    .containsExactly(129L, 128L);
+        }
+    }
+
+    @Nested
+    @DisplayName("rankAlmostAvailable")
+    class RankAlmostAvailableTests {
+
+        @Test
+        @DisplayName("should rank by missing count, then coverage, then id")
+        void shouldRankByMissingThenCoverage() {
+            // 40 = {1, 5} is half available, 20 = {1, 2, 3} two thirds
+            recipeAvailabilityIndex.findAvailable(user, List.of());
+            commit("testuser:v2", () -> recipeAvailabilityIndex.putRecipe(user, 40L, List.of(1L, 5L)));
+
+            List<RecipeMatch> matches = recipeAvailabilityIndex.rankAlmostAvailable(user, List.of(1L, 2L), 1);
+
+            assertThat(matches)
+                    .extracting(RecipeMatch::recipeId, RecipeMatch::missing, RecipeMatch::missingIngredientIds)
+                    .containsExactly(
+                            tuple(10L, 0, List.of()),
+                            tuple(20L, 1, List.of(3L)),
+                            tuple(40L, 1, List.of(5L))
+                    );
+            assertThat(matches.get(1).coverage()).isEqualTo(2.0 / 3);
+        }
+
+        @Test
+        @DisplayName("should leave out recipes missing too many or sharing no ingredient")
+        void shouldFilterByMaxMissing() {
+            assertThat(recipeAvailabilityIndex.rankAlmostAvailable(user, List.of(1L), 1))
+                    .extracting(RecipeMatch::recipeId)
+                    .containsExactly(10L);
+            assertThat(recipeAvailabilityIndex.rankAlmostAvailable(user, List.of(1L), 2))
+                    .extracting(RecipeMatch::recipeId)
+                    .containsExactly(10L, 20L);
+            assertThat(recipeAvailabilityIndex.rankAlmostAvailable(user, List.of(99L), 5)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("incremental updates")
+    class IncrementalUpdateTests {
+
+        @AfterEach
+        void clearSynchronization() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("should apply recipe changes in place and follow the new generation")
+        void shouldApplyChangesWithoutRebuilding() {
+            recipeAvailabilityIndex.findAvailable(user, List.of(1L));
+
+            commit("testuser:v2", () -> {
+                recipeAvailabilityIndex.putRecipe(user, 40L, List.of(4L, 5L));
+                recipeAvailabilityIndex.putRecipe(user, 10L, List.of(1L, 6L));
+                recipeAvailabilityIndex.removeRecipe(user, 30L);
+            });
+
+            assertThat(recipeAvailabilityIndex.findAvailable(user, List.of(1L, 2L, 4L, 5L))).containsExactly(40L);
+            assertThat(recipeAvailabilityIndex.findAvailable(user, List.of(1L, 6L))).containsExactly(10L);
+            assertThat(recipeAvailabilityIndex.incidence(user).size()).isEqualTo(3);
+            verify(recipeRepository, times(1)).findIngredientLinksByUser(user);
+        }
+
+        @Test
+        @DisplayName("should reuse the bit of a removed ingredient")
+        void shouldReuseIngredientBits() {
+            recipeAvailabilityIndex.findAvailable(user, List.of());
+            commit("testuser:v2", () -> {
+                recipeAvailabilityIndex.putRecipe(user, 40L, List.of(5L));
+                recipeAvailabilityIndex.removeRecipe(user, 30L);
+                recipeAvailabilityIndex.removeIngredient(user, 4L);
+                recipeAvailabilityIndex.putRecipe(user, 40L, List.of(5L));
+            });
+
+            assertThat(recipeAvailabilityIndex.findAvailable(user, List.of(4L))).isEmpty();
+            assertThat(recipeAvailabilityIndex.findAvailable(user, List.of(5L))).containsExactly(40L);
+            verify(recipeRepository, times(1)).findIngredientLinksByUser(user);
+        }
+
+        @Test
+        @DisplayName("should apply a change made in a transaction only once it commits")
+        void shouldApplyChangesAfterCommit() {
+            recipeAvailabilityIndex.findAvailable(user, List.of());
+
+            TransactionSynchronizationManager.initSynchronization();
+            recipeAvailabilityIndex.putRecipe(user, 40L, List.of(5L));
+            assertThat(recipeAvailabilityIndex.incidence(user).size()).isEqualTo(3);
+
+            when(redisCacheService.userKey(anyString())).thenReturn("testuser:v2");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            assertThat(recipeAvailabilityIndex.findAvailable(user, List.of(5L))).containsExactly(40L);
+            verify(recipeRepository, times(1)).findIngredientLinksByUser(user);
+        }
+
+        @Test
+        @DisplayName("should leave the index untouched when a change is rolled back")
+        void shouldIgnoreRolledBackChanges() {
+            recipeAvailabilityIndex.findAvailable(user, List.of());
+
+            TransactionSynchronizationManager.initSynchronization();
+            recipeAvailabilityIndex.putRecipe(user, 40L, List.of(5L));
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            assertThat(recipeAvailabilityIndex.findAvailable(user, List.of(5L))).isEmpty();
+            verify(recipeRepository, times(1)).findIngredientLinksByUser(user);
+        }
+
+        @Test
+        @DisplayName("should rebuild instead of applying a change when another writer bumped the generation first")
+        void shouldRebuildWhenBehindBeforeChange() {
+            recipeAvailabilityIndex.findAvailable(user, List.of());
+
+            // Another node saved recipe 50 (v2), then this node saves recipe 40 (v3)
+            when(redisCacheService.userKey(anyString())).thenReturn("testuser:v2");
+            commit("testuser:v3", () -> recipeAvailabilityIndex.putRecipe(user, 40L, List.of(5L)));
+            when(recipeRepository.findIngredientLinksByUser(user)).thenReturn(List.of(
+                    new RecipeIngredientLink(40L, 5L),
+                    new RecipeIngredientLink(50L, 6L)
+            ));
+
+            assertThat(recipeAvailabilityIndex.findAvailable(user, List.of(5L, 6L))).containsExactly(50L, 40L);
+            verify(recipeRepository, times(2)).findIngredientLinksByUser(user);
+        }
+
+        @Test
+        @DisplayName("should drop the index when changed outside a transaction")
+        void shouldRebuildAfterChangeWithoutTransaction() {
+            recipeAvailabilityIndex.findAvailable(user, List.of());
+            recipeAvailabilityIndex.removeRecipe(user, 30L);
+
+            recipeAvailabilityIndex.findAvailable(user, List.of());
+            verify(recipeRepository, times(2)).findIngredientLinksByUser(user);
+        }
+
+        @Test
+        @DisplayName("should ignore changes while no index is loaded")
+        void shouldIgnoreChangesWithoutIndex() {
+            commit("testuser:v2", () -> recipeAvailabilityIndex.putRecipe(user, 40L, List.of(4L)));
+
+            verifyNoInteractions(recipeRepository);
+        }
+    }
+
+    // Runs the changes in a transaction that commits, with the recipes generation bumped to the given one
+    private void commit(String generation, Runnable changes) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            changes.run();
+            when(redisCacheService.userKey(anyString())).thenReturn(generation);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.repository;
+
+import com.rodrigocoelhoo.lifemanager.nutrition.model.*;
+import com.rodrigocoelhoo.lifemanager.nutrition.service.DailyNutritionService;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// Two meal writes of the same user and day, each recomputing the day in its own transaction;
+// H2 doesn't block the way Postgres does under READ COMMITTED
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DailyNutritionService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("DailyNutritionService PostgreSQL Integration Tests")
+class DailyNutritionPostgresIntegrationTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 5);
+
+    @Container
+    static final GenericContainer<?> POSTGRES = new GenericContainer<>("postgres:16-alpine")
+            .withEnv("POSTGRES_PASSWORD", "postgres")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () ->
+                "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(5432) + "/postgres");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    DailyNutritionService dailyNutritionService;
+
+    @Autowired
+    DailyNutritionRepository dailyNutritionRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    UserService userService;
+
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+    private Long brandId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            UserModel user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+            entityManager.persist(user);
+
+            IngredientModel oats = IngredientModel.builder()
+                    .user(user)
+                    .name("Oats")
+                    .brands(new HashSet<>())
+                    .build();
+            IngredientBrandModel brand = IngredientBrandModel.builder()
+                    .ingredient(oats)
+                    .name("Generic")
+                    .nutritionalValues(new HashSet<>())
+                    .build();
+            brand.getNutritionalValues().add(NutritionalValueModel.builder()
+                    .ingredientBrand(brand)
+                    .tag(NutritionalTag.CALORIES)
+                    .per100units(380.0)
+                    .build());
+            oats.getBrands().add(brand);
+            entityManager.persist(oats);
+            entityManager.flush();
+
+            userId = user.getId();
+            brandId = brand.getId();
+        });
+    }
+
+    @Test
+    @DisplayName("Concurrent meal writes on the same day both commit and the day sums both meals")
+    void recomputeDays_concurrentWritesOnSameDay() throws Exception {
+        CountDownLatch firstRecomputed = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            addMealAndRecompute(100.0);
+            firstRecomputed.countDown();
+            await(secondStarted);
+            // Keep the transaction open while the second one reaches its recompute
+            sleep();
+        }));
+
+        await(firstRecomputed);
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            secondStarted.countDown();
+            addMealAndRecompute(50.0);
+        }));
+
+        first.get(30, TimeUnit.SECONDS);
+        second.get(30, TimeUnit.SECONDS);
+
+        List<DailyNutritionModel> totals = transactionTemplate.execute(status -> dailyNutritionRepository
+                .findAllByUserAndDateBetween(entityManager.getReference(UserModel.class, userId), MONDAY, MONDAY));
+        assertThat(totals)
+                .extracting(DailyNutritionModel::getDate, DailyNutritionModel::getTag, DailyNutritionModel::getTotal)
+                .containsExactly(tuple(MONDAY, NutritionalTag.CALORIES, 570.0));
+    }
+
+    private void addMealAndRecompute(double grams) {
+        UserModel user = entityManager.find(UserModel.class, userId);
+        IngredientBrandModel brand = entityManager.find(IngredientBrandModel.class, brandId);
+
+        MealModel meal = MealModel.builder()
+                .user(user)
+                .date(MONDAY.atTime(12, 0))
+                .ingredients(new HashSet<>())
+                .build();
+        meal.getIngredients().add(MealIngredientModel.builder()
+                .meal(meal)
+                .ingredient(brand.getIngredient())
+                .brand(brand)
+                .amount(grams)
+                .unit(Unit.G)
+                .build());
+        entityManager.persist(meal);
+
+        dailyNutritionService.recomputeDays(user, List.of(MONDAY));
+        entityManager.flush();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
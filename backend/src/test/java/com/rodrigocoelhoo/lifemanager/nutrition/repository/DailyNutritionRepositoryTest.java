@@ -0,0 +1,142 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.repository;
+
+import com.rodrigocoelhoo.lifemanager.nutrition.model.*;
+import com.rodrigocoelhoo.lifemanager.nutrition.service.DailyNutritionService;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(DailyNutritionService.class)
+class DailyNutritionRepositoryTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 5);
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    DailyNutritionService dailyNutritionService;
+
+    @MockitoBean
+    UserService userService;
+
+    private UserModel user;
+    private IngredientBrandModel brand;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+        when(userService.getLoggedInUser()).thenReturn(user);
+
+        IngredientModel oats = IngredientModel.builder()
+                .user(user)
+                .name("Oats")
+                .brands(new HashSet<>())
+                .build();
+        brand = IngredientBrandModel.builder()
+                .ingredient(oats)
+                .name("Generic")
+                .nutritionalValues(new HashSet<>())
+                .build();
+        brand.getNutritionalValues().add(value(NutritionalTag.CALORIES, 380.0));
+        oats.getBrands().add(brand);
+        entityManager.persist(oats);
+    }
+
+    @Test
+    @DisplayName("Recomputing a day replaces its totals and leaves other days alone")
+    void recomputeDays_replacesOnlyTheGivenDays() {
+        MealModel breakfast = createMeal(MONDAY, 100.0);
+        createMeal(MONDAY.plusDays(1), 50.0);
+        dailyNutritionService.recomputeDays(user, List.of(MONDAY, MONDAY.plusDays(1)));
+
+        breakfast.getIngredients().iterator().next().setAmount(200.0);
+        dailyNutritionService.recomputeDays(user, List.of(MONDAY, MONDAY));
+
+        assertThat(dailyNutritionService.getDailyTotals(MONDAY, MONDAY.plusDays(6)))
+                .extracting(DailyNutritionModel::getDate, DailyNutritionModel::getTag, DailyNutritionModel::getTotal)
+                .containsExactlyInAnyOrder(
+                        tuple(MONDAY, NutritionalTag.CALORIES, 760.0),
+                        tuple(MONDAY.plusDays(1), NutritionalTag.CALORIES, 190.0)
+                );
+    }
+
+    @Test
+    @DisplayName("A day without meals left has no totals")
+    void recomputeDays_removesEmptyDays() {
+        MealModel meal = createMeal(MONDAY, 100.0);
+        dailyNutritionService.recomputeDays(user, List.of(MONDAY));
+
+        entityManager.remove(meal);
+        dailyNutritionService.recomputeDays(user, List.of(MONDAY));
+
+        assertThat(dailyNutritionService.getDailyTotals(MONDAY, MONDAY.plusDays(6))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Changing a brand recomputes every day that uses it")
+    void recomputeBrand_updatesTheDaysUsingTheBrand() {
+        createMeal(MONDAY, 100.0);
+        createMeal(MONDAY.plusDays(3), 100.0);
+        dailyNutritionService.recomputeDays(user, List.of(MONDAY, MONDAY.plusDays(3)));
+
+        brand.getNutritionalValues().clear();
+        brand.getNutritionalValues().add(value(NutritionalTag.CALORIES, 400.0));
+        brand.getNutritionalValues().add(value(NutritionalTag.PROTEIN, 12.0));
+        List<LocalDate> dates = dailyNutritionService.recomputeBrand(brand);
+
+        assertThat(dates).containsExactlyInAnyOrder(MONDAY, MONDAY.plusDays(3));
+        assertThat(dailyNutritionService.getDailyTotals(MONDAY, MONDAY.plusDays(6)))
+                .extracting(DailyNutritionModel::getDate, DailyNutritionModel::getTag, DailyNutritionModel::getTotal)
+                .containsExactlyInAnyOrder(
+                        tuple(MONDAY, NutritionalTag.CALORIES, 400.0),
+                        tuple(MONDAY, NutritionalTag.PROTEIN, 12.0),
+                        tuple(MONDAY.plusDays(3), NutritionalTag.CALORIES, 400.0),
+                        tuple(MONDAY.plusDays(3), NutritionalTag.PROTEIN, 12.0)
+                );
+    }
+
+    private NutritionalValueModel value(NutritionalTag tag, double per100units) {
+        return NutritionalValueModel.builder()
+                .ingredientBrand(brand)
+                .tag(tag)
+                .per100units(per100units)
+                .build();
+    }
+
+    private MealModel createMeal(LocalDate date, double grams) {
+        MealModel meal = MealModel.builder()
+                .user(user)
+                .date(date.atTime(12, 0))
+                .ingredients(new HashSet<>())
+                .build();
+        meal.getIngredients().add(MealIngredientModel.builder()
+                .meal(meal)
+                .ingredient(brand.getIngredient())
+                .brand(brand)
+                .amount(grams)
+                .unit(Unit.G)
+                .build());
+        entityManager.persist(meal);
+        return meal;
+    }
+}
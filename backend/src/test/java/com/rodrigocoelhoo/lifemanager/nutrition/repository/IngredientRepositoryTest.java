@@ -0,0 +1,164 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.repository;
+
+import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
+import com.rodrigocoelhoo.lifemanager.config.UserAwareKeyGenerator;
+import com.rodrigocoelhoo.lifemanager.nutrition.components.RecipeAvailabilityIndex;
+import com.rodrigocoelhoo.lifemanager.nutrition.dto.IngredientDetailsDTO;
+import com.rodrigocoelhoo.lifemanager.nutrition.dto.RecipeDetailsDTO;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.*;
+import com.rodrigocoelhoo.lifemanager.nutrition.service.IngredientService;
+import com.rodrigocoelhoo.lifemanager.nutrition.service.RecipeService;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({IngredientService.class, RecipeService.class, RecipeAvailabilityIndex.class, UserAwareKeyGenerator.class})
+class IngredientRepositoryTest {
+
+    private static final int INGREDIENTS = 2500;
+    private static final int RECIPES = 500;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    IngredientService ingredientService;
+
+    @Autowired
+    RecipeService recipeService;
+
+    @MockitoBean
+    UserService userService;
+
+    @MockitoBean
+    RedisCacheService redisCacheService;
+
+    private UserModel user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+        when(userService.getLoggedInUser()).thenReturn(user);
+        when(redisCacheService.userKey(anyString())).thenReturn("user:test");
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("A page of ingredients only loads the rows of that page")
+    void getAllIngredients_loadsOnlyThePage() {
+        List<IngredientModel> ingredients = new ArrayList<>();
+        for (int i = 0; i < INGREDIENTS; i++) {
+            ingredients.add(createIngredient("Ingredient " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Page<IngredientDetailsDTO> page = ingredientService.getAllIngredients(
+                PageRequest.of(3, PAGE_SIZE, Sort.by("id").descending()), null
+        );
+
+        assertThat(page.getTotalElements()).isEqualTo(INGREDIENTS);
+        assertThat(page.getContent())
+                .extracting(IngredientDetailsDTO::id)
+                .containsExactlyElementsOf(ingredients.reversed().subList(3 * PAGE_SIZE, 4 * PAGE_SIZE).stream()
+                        .map(IngredientModel::getId)
+                        .toList());
+        assertThat(page.getContent()).allSatisfy(ingredient -> assertThat(ingredient.brands()).hasSize(1));
+
+        // Page, count and one hydration query, and per page row one ingredient, one brand and two values
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(2L * PAGE_SIZE * 4);
+    }
+
+    @Test
+    @DisplayName("A page of recipes only loads the rows of that page")
+    void getAllRecipes_loadsOnlyThePage() {
+        IngredientModel egg = createIngredient("Egg");
+        IngredientModel cheese = createIngredient("Cheese");
+        for (int i = 0; i < RECIPES; i++) {
+            createRecipe("Recipe " + i, egg, cheese);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        Page<RecipeDetailsDTO> page = recipeService.getAllRecipes(PageRequest.of(0, PAGE_SIZE, Sort.by("id")), null);
+
+        assertThat(page.getTotalElements()).isEqualTo(RECIPES);
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allSatisfy(recipe -> assertThat(recipe.ingredients()).hasSize(2));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(PAGE_SIZE * 3 + 10L);
+    }
+
+    private IngredientModel createIngredient(String name) {
+        IngredientModel ingredient = IngredientModel.builder()
+                .user(user)
+                .name(name)
+                .brands(new HashSet<>())
+                .build();
+
+        IngredientBrandModel brand = IngredientBrandModel.builder()
+                .ingredient(ingredient)
+                .name("Generic")
+                .nutritionalValues(new HashSet<>())
+                .build();
+        brand.getNutritionalValues().addAll(Set.of(
+                NutritionalValueModel.builder().ingredientBrand(brand).tag(NutritionalTag.CALORIES).per100units(150.0).build(),
+                NutritionalValueModel.builder().ingredientBrand(brand).tag(NutritionalTag.PROTEIN).per100units(12.0).build()
+        ));
+        ingredient.getBrands().add(brand);
+
+        entityManager.persist(ingredient);
+        return ingredient;
+    }
+
+    private void createRecipe(String name, IngredientModel... ingredients) {
+        RecipeModel recipe = RecipeModel.builder()
+                .user(user)
+                .name(name)
+                .ingredients(new ArrayList<>())
+                .build();
+
+        for (IngredientModel ingredient : ingredients) {
+            recipe.getIngredients().add(RecipeIngredientModel.builder()
+                    .recipe(recipe)
+                    .ingredient(ingredient)
+                    .amount(100.0)
+                    .unit(Unit.G)
+                    .build());
+        }
+
+        entityManager.persist(recipe);
+    }
+}
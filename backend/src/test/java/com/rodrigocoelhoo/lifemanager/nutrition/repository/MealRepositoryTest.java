@@ -0,0 +1,199 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.repository;
+
+import com.rodrigocoelhoo.lifemanager.nutrition.model.*;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class MealRepositoryTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 5);
+    private static final List<LocalDate> WEEK = MONDAY.datesUntil(MONDAY.plusDays(7)).toList();
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    MealRepository mealRepository;
+
+    private UserModel user;
+    private IngredientModel oats;
+    private IngredientBrandModel oatsBrand;
+    private IngredientModel milk;
+    private IngredientBrandModel milkBrand;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+
+        oats = createIngredient("Oats");
+        oatsBrand = createBrand(oats, Map.of(NutritionalTag.CALORIES, 380.0, NutritionalTag.PROTEIN, 13.0));
+        milk = createIngredient("Milk");
+        milkBrand = createBrand(milk, Map.of(NutritionalTag.CALORIES, 60.0));
+    }
+
+    @Test
+    @DisplayName("Nutrients are summed per day and tag in the database")
+    void sumNutrientsByDay_groupsByDayAndTag() {
+        createMeal(MONDAY.atTime(8, 0), Map.of(oatsBrand, 50.0, milkBrand, 200.0));
+        createMeal(MONDAY.atTime(20, 0), Map.of(oatsBrand, 100.0));
+        createMeal(MONDAY.plusDays(1).atTime(13, 0), Map.of(milkBrand, 100.0));
+        // Outside the week
+        createMeal(MONDAY.plusDays(7).atTime(9, 0), Map.of(oatsBrand, 100.0));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MealRepository.DailyNutrient> rows = mealRepository.sumNutrientsOnDates(user, WEEK);
+
+        assertThat(rows).containsExactlyInAnyOrder(
+                new MealRepository.DailyNutrient(MONDAY, NutritionalTag.CALORIES, 190.0 + 120.0 + 380.0),
+                new MealRepository.DailyNutrient(MONDAY, NutritionalTag.PROTEIN, 6.5 + 13.0),
+                new MealRepository.DailyNutrient(MONDAY.plusDays(1), NutritionalTag.CALORIES, 60.0)
+        );
+    }
+
+    @Test
+    @DisplayName("Amounts are converted to grams or millilitres before summing")
+    void sumNutrientsByDay_convertsUnits() {
+        createMeal(MONDAY.atTime(8, 0), Map.of(oatsBrand, 0.25), Unit.KG);
+        createMeal(MONDAY.atTime(9, 0), Map.of(milkBrand, 0.5), Unit.L);
+        createMeal(MONDAY.atTime(10, 0), Map.of(oatsBrand, 5000.0), Unit.MG);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MealRepository.DailyNutrient> rows = mealRepository.sumNutrientsOnDates(user, WEEK);
+
+        assertThat(rows)
+                .filteredOn(row -> row.tag() == NutritionalTag.CALORIES)
+                .singleElement()
+                .satisfies(row -> assertThat(row.total()).isCloseTo(950.0 + 300.0 + 19.0, within(1e-9)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Unit.class)
+    @DisplayName("Every unit is converted with the same factor as Unit.toBaseUnit")
+    void sumNutrientsByDay_matchesUnitConversion(Unit unit) {
+        createMeal(MONDAY.atTime(8, 0), Map.of(oatsBrand, 2.0), unit);
+        createMeal(MONDAY.atTime(9, 0), Map.of(oatsBrand, 3.0), unit);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MealRepository.DailyNutrient> rows = mealRepository.sumNutrientsOnDates(user, WEEK);
+
+        assertThat(rows)
+                .filteredOn(row -> row.tag() == NutritionalTag.CALORIES)
+                .singleElement()
+                .satisfies(row -> assertThat(row.total()).isCloseTo(380.0 * unit.toBaseUnit(5.0) / 100, within(1e-9)));
+    }
+
+    @Test
+    @DisplayName("A day whose meals have no nutritional values still comes back")
+    void sumNutrientsByDay_keepsDaysWithoutValues() {
+        IngredientBrandModel water = createBrand(createIngredient("Water"), Map.of());
+        createMeal(MONDAY.plusDays(3).atTime(10, 0), Map.of(water, 500.0));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MealRepository.DailyNutrient> rows = mealRepository.sumNutrientsOnDates(user, WEEK);
+
+        assertThat(rows).containsExactly(new MealRepository.DailyNutrient(MONDAY.plusDays(3), null, null));
+    }
+
+    @Test
+    @DisplayName("Only the requested dates are summed")
+    void sumNutrientsOnDates_skipsOtherDates() {
+        createMeal(MONDAY.atTime(8, 0), Map.of(oatsBrand, 100.0));
+        createMeal(MONDAY.plusDays(1).atTime(8, 0), Map.of(oatsBrand, 100.0));
+        createMeal(MONDAY.plusDays(5).atTime(0, 0), Map.of(milkBrand, 100.0));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<MealRepository.DailyNutrient> rows = mealRepository.sumNutrientsOnDates(user, List.of(MONDAY, MONDAY.plusDays(5)));
+
+        assertThat(rows)
+                .extracting(MealRepository.DailyNutrient::date)
+                .containsOnly(MONDAY, MONDAY.plusDays(5));
+        assertThat(mealRepository.sumNutrientsOnDates(user, List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Meal dates using a brand and days with meals are found")
+    void findMealDatesByBrand_andCountMealDays() {
+        createMeal(MONDAY.atTime(8, 0), Map.of(oatsBrand, 100.0));
+        createMeal(MONDAY.atTime(12, 0), Map.of(oatsBrand, 50.0, milkBrand, 100.0));
+        createMeal(MONDAY.plusDays(2).atTime(8, 0), Map.of(milkBrand, 100.0));
+        createMeal(MONDAY.plusDays(3).atTime(8, 0), Map.of());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(mealRepository.findMealDatesByBrand(oatsBrand)).containsExactly(MONDAY);
+        assertThat(mealRepository.findMealDatesByBrand(milkBrand)).containsExactlyInAnyOrder(MONDAY, MONDAY.plusDays(2));
+        assertThat(mealRepository.countMealDays(user, MONDAY.atStartOfDay(), MONDAY.plusDays(6).atTime(23, 59, 59)))
+                .isEqualTo(3);
+    }
+
+    private IngredientModel createIngredient(String name) {
+        IngredientModel ingredient = IngredientModel.builder()
+                .user(user)
+                .name(name)
+                .brands(new HashSet<>())
+                .build();
+        entityManager.persist(ingredient);
+        return ingredient;
+    }
+
+    private IngredientBrandModel createBrand(IngredientModel ingredient, Map<NutritionalTag, Double> values) {
+        IngredientBrandModel brand = IngredientBrandModel.builder()
+                .ingredient(ingredient)
+                .name("Generic")
+                .nutritionalValues(new HashSet<>())
+                .build();
+        values.forEach((tag, per100units) -> brand.getNutritionalValues().add(NutritionalValueModel.builder()
+                .ingredientBrand(brand)
+                .tag(tag)
+                .per100units(per100units)
+                .build()));
+        ingredient.getBrands().add(brand);
+        entityManager.persist(brand);
+        return brand;
+    }
+
+    private void createMeal(LocalDateTime date, Map<IngredientBrandModel, Double> amounts) {
+        createMeal(date, amounts, Unit.G);
+    }
+
+    private void createMeal(LocalDateTime date, Map<IngredientBrandModel, Double> amounts, Unit unit) {
+        MealModel meal = MealModel.builder()
+                .user(user)
+                .date(date)
+                .ingredients(new HashSet<>())
+                .build();
+        amounts.forEach((brand, amount) -> meal.getIngredients().add(MealIngredientModel.builder()
+                .meal(meal)
+                .ingredient(brand.getIngredient())
+                .brand(brand)
+                .amount(amount)
+                .unit(unit)
+                .build()));
+        entityManager.persist(meal);
+    }
+}
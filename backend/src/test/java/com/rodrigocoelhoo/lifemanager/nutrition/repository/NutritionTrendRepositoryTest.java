@@ -0,0 +1,76 @@
+package com.rodrigocoelhoo.lifemanager.nutrition.repository;
+
+import com.rodrigocoelhoo.lifemanager.nutrition.model.DailyNutritionModel;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.NutritionalTag;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(NutritionTrendRepository.class)
+class NutritionTrendRepositoryTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 5);
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    NutritionTrendRepository nutritionTrendRepository;
+
+    private UserModel user;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+    }
+
+    @Test
+    @DisplayName("Daily totals of the user in the range are streamed in date order")
+    void forEachDailyTotal_streamsRangeInDateOrder() {
+        UserModel other = new UserModel("Other", "Other", "User", "other@user.com", "Password-123");
+        entityManager.persist(other);
+
+        createTotal(user, MONDAY.plusDays(2), NutritionalTag.CALORIES, 900.0);
+        createTotal(user, MONDAY, NutritionalTag.PROTEIN, 30.0);
+        createTotal(user, MONDAY.minusDays(1), NutritionalTag.CALORIES, 500.0);
+        createTotal(user, MONDAY.plusDays(7), NutritionalTag.CALORIES, 500.0);
+        createTotal(other, MONDAY, NutritionalTag.CALORIES, 100.0);
+        entityManager.flush();
+
+        List<Object[]> rows = new ArrayList<>();
+        nutritionTrendRepository.forEachDailyTotal(user.getId(), MONDAY, MONDAY.plusDays(6),
+                (date, tag, total) -> rows.add(new Object[]{date, tag, total}));
+
+        assertThat(rows)
+                .extracting(row -> row[0], row -> row[1], row -> row[2])
+                .containsExactly(
+                        tuple(MONDAY, NutritionalTag.PROTEIN, 30.0),
+                        tuple(MONDAY.plusDays(2), NutritionalTag.CALORIES, 900.0)
+                );
+    }
+
+    private void createTotal(UserModel owner, LocalDate date, NutritionalTag tag, double total) {
+        entityManager.persist(DailyNutritionModel.builder()
+                .user(owner)
+                .date(date)
+                .tag(tag)
+                .total(total)
+                .build());
+    }
+}
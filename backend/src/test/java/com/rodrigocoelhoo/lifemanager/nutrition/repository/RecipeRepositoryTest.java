@@ -1,27 +1,33 @@
 package com.rodrigocoelhoo.lifemanager.nutrition.repository;
 
+import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
+import com.rodrigocoelhoo.lifemanager.nutrition.components.RecipeAvailabilityIndex;
 import com.rodrigocoelhoo.lifemanager.nutrition.model.IngredientModel;
 import com.rodrigocoelhoo.lifemanager.nutrition.model.RecipeIngredientModel;
 import com.rodrigocoelhoo.lifemanager.nutrition.model.RecipeModel;
 import com.rodrigocoelhoo.lifemanager.nutrition.model.Unit;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
 import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(RecipeAvailabilityIndex.class)
 class RecipeRepositoryTest {
 
     @Autowired
@@ -30,9 +36,21 @@ class RecipeRepositoryTest {
     @Autowired
     RecipeRepository recipeRepository;
 
+    @Autowired
+    RecipeAvailabilityIndex recipeAvailabilityIndex;
+
+    @MockitoBean
+    RedisCacheService redisCacheService;
+
+    @BeforeEach
+    void setUp() {
+        // A fresh generation per test so no index built by another test is reused
+        when(redisCacheService.userKey(anyString())).thenReturn("user:v" + UUID.randomUUID());
+    }
+
     @Test
     @DisplayName("All ingredients match all recipes → returns all recipes")
-    void findAvailableRecipes_allIngredientsMatch_returnsAllRecipes() {
+    void findAvailable_allIngredientsMatch_returnsAllRecipes() {
         UserModel user = createUser(
                 "RodrigoCoelho",
                 "Rodrigo",
@@ -55,16 +73,14 @@ class RecipeRepositoryTest {
         createRecipeIngredient(omeletteAndBacon, cheese);
         createRecipeIngredient(omeletteAndBacon, bacon);
 
-        Pageable pageable = PageRequest.of(0, 5, Sort.by("id").descending());
-
-        List<RecipeModel> result = recipeRepository.findAvailableRecipes(user, List.of(egg.getId(), cheese.getId(), bacon.getId()), pageable).toList();
+        List<Long> result = recipeAvailabilityIndex.findAvailable(user, List.of(egg.getId(), cheese.getId(), bacon.getId()));
         assertThat(result).hasSize(2);
-        assertThat(result).containsExactlyInAnyOrder(omelette, omeletteAndBacon);
+        assertThat(result).containsExactly(omeletteAndBacon.getId(), omelette.getId());
     }
 
     @Test
     @DisplayName("Some ingredients match → returns only matching recipes")
-    void findAvailableRecipes_someIngredientsMatch_returnsPartialRecipes() {
+    void findAvailable_someIngredientsMatch_returnsPartialRecipes() {
         UserModel user = createUser(
                 "RodrigoCoelho",
                 "Rodrigo",
@@ -88,16 +104,14 @@ class RecipeRepositoryTest {
         createRecipeIngredient(omeletteAndBacon, cheese);
         createRecipeIngredient(omeletteAndBacon, bacon);
 
-        Pageable pageable = PageRequest.of(0, 5, Sort.by("id").descending());
-
-        List<RecipeModel> result = recipeRepository.findAvailableRecipes(user, List.of(egg.getId(), cheese.getId(), tomato.getId()), pageable).toList();
+        List<Long> result = recipeAvailabilityIndex.findAvailable(user, List.of(egg.getId(), cheese.getId(), tomato.getId()));
         assertThat(result).hasSize(1);
-        assertThat(result).containsExactlyInAnyOrder(omelette);
+        assertThat(result).containsExactlyInAnyOrder(omelette.getId());
     }
 
     @Test
     @DisplayName("Partial ingredients, no full match → returns empty list")
-    void findAvailableRecipes_partialIngredients_noMatch_returnsEmpty() {
+    void findAvailable_partialIngredients_noMatch_returnsEmpty() {
         UserModel user = createUser(
                 "RodrigoCoelho",
                 "Rodrigo",
@@ -120,16 +134,14 @@ class RecipeRepositoryTest {
         createRecipeIngredient(omeletteAndBacon, cheese);
         createRecipeIngredient(omeletteAndBacon, bacon);
 
-        Pageable pageable = PageRequest.of(0, 5, Sort.by("id").descending());
-
-        List<RecipeModel> result = recipeRepository.findAvailableRecipes(user, List.of(egg.getId()), pageable).toList();
+        List<Long> result = recipeAvailabilityIndex.findAvailable(user, List.of(egg.getId()));
         assertThat(result).hasSize(0);
         assertThat(result).containsExactlyInAnyOrder();
     }
 
     @Test
     @DisplayName("Empty ingredient list → returns empty list")
-    void findAvailableRecipes_emptyIngredientList_returnsEmpty() {
+    void findAvailable_emptyIngredientList_returnsEmpty() {
         UserModel user = createUser(
                 "RodrigoCoelho",
                 "Rodrigo",
@@ -152,16 +164,14 @@ class RecipeRepositoryTest {
         createRecipeIngredient(omeletteAndBacon, cheese);
         createRecipeIngredient(omeletteAndBacon, bacon);
 
-        Pageable pageable = PageRequest.of(0, 5, Sort.by("id").descending());
-
-        List<RecipeModel> result = recipeRepository.findAvailableRecipes(user, List.of(), pageable).toList();
+        List<Long> result = recipeAvailabilityIndex.findAvailable(user, List.of());
         assertThat(result).hasSize(0);
         assertThat(result).containsExactlyInAnyOrder();
     }
 
     @Test
     @DisplayName("Query for wrong user → returns empty list")
-    void findAvailableRecipes_wrongUser_returnsEmpty() {
+    void findAvailable_wrongUser_returnsEmpty() {
         UserModel user = createUser(
                 "RodrigoCoelho",
                 "Rodrigo",
@@ -192,9 +202,7 @@ class RecipeRepositoryTest {
         createRecipeIngredient(omeletteAndBacon, cheese);
         createRecipeIngredient(omeletteAndBacon, bacon);
 
-        Pageable pageable = PageRequest.of(0, 5, Sort.by("id").descending());
-
-        List<RecipeModel> result = recipeRepository.findAvailableRecipes(wrongUser, List.of(egg.getId(), cheese.getId(), bacon.getId()), pageable).toList();
+        List<Long> result = recipeAvailabilityIndex.findAvailable(wrongUser, List.of(egg.getId(), cheese.getId(), bacon.getId()));
         assertThat(result).hasSize(0);
         assertThat(result).containsExactlyInAnyOrder();
     }
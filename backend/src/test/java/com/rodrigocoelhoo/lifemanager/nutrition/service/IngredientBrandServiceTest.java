@@ -17,6 +17,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -43,6 +44,9 @@ class IngredientBrandServiceTest {
     @Mock
     private RedisCacheService redisCacheService;
 
+    @Mock
+    private DailyNutritionService dailyNutritionService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -210,6 +214,8 @@ class IngredientBrandServiceTest {
             when(ingredientService.getIngredient(1L)).thenReturn(ingredient);
 
             when(ingredientBrandRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+            when(dailyNutritionService.recomputeBrand(brand))
+                    .thenReturn(List.of(LocalDate.of(2026, 1, 7), LocalDate.of(2026, 1, 8), LocalDate.of(2026, 1, 12)));
             IngredientBrandModel result = ingredientBrandService.updateIngredientBrand(1L, 1L, ingredientBrandDTO);
 
             assertThat(result).isNotNull();
@@ -222,6 +228,39 @@ class IngredientBrandServiceTest {
 
             verify(ingredientService).getIngredient(1L);
             verify(ingredientBrandRepository).save(any());
+            verify(redisCacheService).evictUserCacheSpecific("nutritionDashboard", "week:2026-01-05");
+            verify(redisCacheService).evictUserCacheSpecific("nutritionDashboard", "week:2026-01-12");
+            verify(redisCacheService, never()).evictUserCache("nutritionDashboard");
+        }
+
+        @Test
+        @DisplayName("should rebuild the nutrient vector after the values change")
+        void shouldInvalidateNutrientVector() {
+            IngredientBrandModel brand = IngredientBrandModel.builder()
+                    .id(1L)
+                    .name("Pingo Doce")
+                    .ingredient(ingredient)
+                    .nutritionalValues(new HashSet<>(List.of(NutritionalValueModel.builder()
+                            .tag(NutritionalTag.CALORIES)
+                            .per100units(50.0)
+                            .build())))
+                    .build();
+            ingredient.getBrands().add(brand);
+            assertThat(brand.getNutrientVector()[NutritionalTag.CALORIES.ordinal()]).isEqualTo(50.0);
+
+            IngredientBrandDTO ingredientBrandDTO = new IngredientBrandDTO("Pingo Doce", new ArrayList<>(List.of(
+                    new NutritionalValueDTO(NutritionalTag.CALORIES, 120.0),
+                    new NutritionalValueDTO(NutritionalTag.FAT, 4.0)
+            )));
+
+            when(ingredientService.getIngredient(1L)).thenReturn(ingredient);
+            when(ingredientBrandRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+            IngredientBrandModel result = ingredientBrandService.updateIngredientBrand(1L, 1L, ingredientBrandDTO);
+
+            assertThat(result.getNutrientVector()[NutritionalTag.CALORIES.ordinal()]).isEqualTo(120.0);
+            assertThat(result.getNutrientVector()[NutritionalTag.FAT.ordinal()]).isEqualTo(4.0);
+            assertThat(result.getNutrientMask())
+                    .isEqualTo((1L << NutritionalTag.CALORIES.ordinal()) | (1L << NutritionalTag.FAT.ordinal()));
         }
 
         @Test
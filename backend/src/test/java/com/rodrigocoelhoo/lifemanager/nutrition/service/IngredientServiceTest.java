@@ -1,6 +1,7 @@
 package com.rodrigocoelhoo.lifemanager.nutrition.service;
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
+import com.rodrigocoelhoo.lifemanager.nutrition.components.RecipeAvailabilityIndex;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.IngredientDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.IngredientDetailsDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.model.IngredientModel;
@@ -38,6 +39,9 @@ class IngredientServiceTest {
     @Mock
     private RedisCacheService redisCacheService;
 
+    @Mock
+    private RecipeAvailabilityIndex recipeAvailabilityIndex;
+
     private UserModel user;
 
     @BeforeEach
@@ -77,6 +81,7 @@ class IngredientServiceTest {
             Page<IngredientModel> page = new PageImpl<>(List.of(ingredient1, ingredient2));
 
             when(ingredientRepository.findAllByUser(user, Pageable.unpaged())).thenReturn(page);
+            when(ingredientRepository.findAllByUserAndIdIn(user, List.of(1L, 2L))).thenReturn(List.of(ingredient2, ingredient1));
 
             Page<IngredientDetailsDTO> result = ingredientService.getAllIngredients(Pageable.unpaged(), null);
 
@@ -104,6 +109,7 @@ class IngredientServiceTest {
             Page<IngredientModel> page = new PageImpl<>(List.of(ingredient1, ingredient2));
 
             when(ingredientRepository.findAllByUser(user, Pageable.unpaged())).thenReturn(page);
+            when(ingredientRepository.findAllByUserAndIdIn(user, List.of(1L, 2L))).thenReturn(List.of(ingredient2, ingredient1));
 
             Page<IngredientDetailsDTO> result = ingredientService.getAllIngredients(Pageable.unpaged(), "");
 
@@ -131,6 +137,7 @@ class IngredientServiceTest {
             Page<IngredientModel> page = new PageImpl<>(List.of(ingredient1));
 
             when(ingredientRepository.findByUserAndNameContainingIgnoreCase(user, "eg", Pageable.unpaged())).thenReturn(page);
+            when(ingredientRepository.findAllByUserAndIdIn(user, List.of(1L))).thenReturn(List.of(ingredient1));
 
             Page<IngredientDetailsDTO> result = ingredientService.getAllIngredients(Pageable.unpaged(), "eg");
 
@@ -158,6 +165,7 @@ class IngredientServiceTest {
             Page<IngredientModel> page = new PageImpl<>(List.of(ingredient1, ingredient2));
 
             when(ingredientRepository.findAllByUser(user, Pageable.unpaged())).thenReturn(page);
+            when(ingredientRepository.findAllByUserAndIdIn(user, List.of(1L, 2L))).thenReturn(List.of(ingredient2, ingredient1));
 
             Page<IngredientDetailsDTO> result = ingredientService.getAllIngredients(Pageable.unpaged(), null);
 
@@ -285,6 +293,7 @@ class IngredientServiceTest {
 
             ingredientService.deleteIngredient(1L);
             verify(ingredientRepository).delete(existingIngredient);
+            verify(recipeAvailabilityIndex).removeIngredient(user, 1L);
         }
     }
 
@@ -1,5 +1,7 @@
 package com.rodrigocoelhoo.lifemanager.nutrition.service;
 
+import com.rodrigocoelhoo.lifemanager.common.KeysetCursor;
+import com.rodrigocoelhoo.lifemanager.common.SliceResponseDTO;
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
@@ -17,14 +19,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -46,6 +53,9 @@ class MealServiceTest {
     @Mock
     private RedisCacheService redisCacheService;
 
+    @Mock
+    private DailyNutritionService dailyNutritionService;
+
     private UserModel user;
 
     @BeforeEach
@@ -61,6 +71,48 @@ class MealServiceTest {
         doNothing().when(redisCacheService).evictUserCacheSpecific(anyString(), anyString());
     }
 
+    @Nested
+    @DisplayName("getMealsAfter")
+    class GetMealsAfterTests {
+
+        @Test
+        @DisplayName("should load the ingredients of the sought ids and keep the seek order")
+        void shouldLoadGraphForSoughtIds() {
+            MealModel newer = MealModel.builder().id(2L).user(user).date(LocalDateTime.of(2026, 1, 2, 12, 0)).build();
+            MealModel older = MealModel.builder().id(1L).user(user).date(LocalDateTime.of(2026, 1, 1, 12, 0)).build();
+            Window<MealModel> window = Window.from(
+                    List.of(newer, older),
+                    i -> ScrollPosition.forward(Map.of("date", LocalDateTime.of(2026, 1, 1, 12, 0), "id", 1L)),
+                    true
+            );
+
+            MealModel newerWithGraph = MealModel.builder().id(2L).user(user).date(newer.getDate()).ingredients(new HashSet<>()).build();
+            MealModel olderWithGraph = MealModel.builder().id(1L).user(user).date(older.getDate()).ingredients(new HashSet<>()).build();
+
+            when(mealRepository.findByUser(eq(user), eq(ScrollPosition.keyset()), eq(KeysetCursor.SORT), eq(Limit.of(2))))
+                    .thenReturn(window);
+            when(mealRepository.findAllByIdIn(List.of(2L, 1L))).thenReturn(List.of(olderWithGraph, newerWithGraph));
+
+            SliceResponseDTO<MealDetailsDTO> result = mealService.getMealsAfter(null, 2);
+
+            assertThat(result.content()).containsExactly(
+                    MealDetailsDTO.fromEntities(newerWithGraph, new LinkedHashMap<>()),
+                    MealDetailsDTO.fromEntities(olderWithGraph, new LinkedHashMap<>())
+            );
+            assertThat(result.hasNext()).isTrue();
+            assertThat(KeysetCursor.decode(result.nextCursor(), LocalDateTime::parse))
+                    .isEqualTo(ScrollPosition.forward(Map.of("date", LocalDateTime.of(2026, 1, 1, 12, 0), "id", 1L)));
+            verify(mealRepository).findAllByIdIn(List.of(2L, 1L));
+        }
+
+        @Test
+        @DisplayName("should reject sizes above the maximum")
+        void shouldRejectLargeSize() {
+            assertThrows(BadRequestException.class, () -> mealService.getMealsAfter(null, KeysetCursor.MAX_SIZE + 1));
+            verify(mealRepository, never()).findAllByIdIn(any());
+        }
+    }
+
     @Nested
     @DisplayName("getAllMeals")
     class GetAllMealsTests {
@@ -301,6 +353,7 @@ class MealServiceTest {
             verify(mealRepository).findByUserAndId(user, 1L);
             verify(ingredientService).getIngredients(List.of(1L));
             verify(mealRepository).save(any(MealModel.class));
+            verify(dailyNutritionService).recomputeDays(user, List.of(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2)));
         }
 
         @Test
@@ -464,6 +517,41 @@ class MealServiceTest {
             assertThat(label).containsEntry(NutritionalTag.PROTEIN, 10.0);
         }
 
+        @Test
+        @DisplayName("should convert amounts to the base unit and keep declared zero values")
+        void shouldConvertUnits() {
+            IngredientModel oats = IngredientModel.builder()
+                    .id(1L)
+                    .user(user)
+                    .name("Oats")
+                    .brands(new HashSet<>())
+                    .build();
+
+            IngredientBrandModel brand = IngredientBrandModel.builder()
+                    .id(1L)
+                    .ingredient(oats)
+                    .nutritionalValues(new HashSet<>(List.of(
+                            NutritionalValueModel.builder().tag(NutritionalTag.CALORIES).per100units(380.0).build(),
+                            NutritionalValueModel.builder().tag(NutritionalTag.SODIUM).per100units(0.0).build()
+                    )))
+                    .build();
+
+            MealModel meal = MealModel.builder()
+                    .id(1L)
+                    .user(user)
+                    .ingredients(new HashSet<>(List.of(
+                            MealIngredientModel.builder().ingredient(oats).brand(brand).amount(0.5).unit(Unit.KG).build(),
+                            MealIngredientModel.builder().ingredient(oats).brand(brand).amount(20000.0).unit(Unit.MG).build()
+                    )))
+                    .build();
+
+            LinkedHashMap<NutritionalTag, Double> label = mealService.getNutritionalLabel(meal);
+
+            assertThat(label.keySet()).containsExactly(NutritionalTag.CALORIES, NutritionalTag.SODIUM);
+            assertThat(label.get(NutritionalTag.CALORIES)).isCloseTo(1900.0 + 76.0, within(1e-9));
+            assertThat(label).containsEntry(NutritionalTag.SODIUM, 0.0);
+        }
+
         @Test
         @DisplayName("should return empty label if meal has no ingredients")
         void shouldReturnEmptyLabelIfNoIngredients() {
@@ -1,10 +1,16 @@
 package com.rodrigocoelhoo.lifemanager.nutrition.service;
 
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.DayDTO;
+import com.rodrigocoelhoo.lifemanager.nutrition.dto.NutritionTrendDTO;
+import com.rodrigocoelhoo.lifemanager.nutrition.dto.NutritionalLabelEntrieDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.WeekOverviewDTO;
-import com.rodrigocoelhoo.lifemanager.nutrition.model.*;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.DailyNutritionModel;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.NutritionalTag;
+import com.rodrigocoelhoo.lifemanager.nutrition.model.TrendBucket;
 import com.rodrigocoelhoo.lifemanager.nutrition.repository.MealRepository;
+import com.rodrigocoelhoo.lifemanager.nutrition.repository.NutritionTrendRepository;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
 import com.rodrigocoelhoo.lifemanager.users.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,13 +23,16 @@ import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @DisplayName("NutritionDashboardService Tests")
@@ -44,6 +53,12 @@ class NutritionDashboardServiceTest {
     @Mock
     private RedisCacheService redisCacheService;
 
+    @Mock
+    private DailyNutritionService dailyNutritionService;
+
+    @Mock
+    private NutritionTrendRepository nutritionTrendRepository;
+
     private UserModel user;
 
     @BeforeEach
@@ -66,50 +81,13 @@ class NutritionDashboardServiceTest {
         @DisplayName("should calculate correct macro totals for a week")
         void shouldCalculateWeekOverviewCorrectly() {
             LocalDate monday = LocalDate.of(2026, 1, 5); // Monday
-            LocalDateTime mealTime = monday.atTime(12, 0);
-
-
-            IngredientModel ingredient = IngredientModel.builder()
-                    .id(1L)
-                    .brands(new HashSet<>())
-                    .build();
-
-            IngredientBrandModel brand = IngredientBrandModel.builder()
-                    .id(1L)
-                    .ingredient(ingredient)
-                    .nutritionalValues(new HashSet<>())
-                    .build();
-
-            brand.getNutritionalValues().addAll(List.of(
-                    NutritionalValueModel.builder()
-                            .tag(NutritionalTag.CALORIES)
-                            .per100units(200.0)
-                            .build(),
-                    NutritionalValueModel.builder()
-                            .tag(NutritionalTag.PROTEIN)
-                            .per100units(10.0)
-                            .build()
-            ));
-            ingredient.getBrands().add(brand);
-
-            MealIngredientModel mealIngredient = MealIngredientModel.builder()
-                    .ingredient(ingredient)
-                    .brand(brand)
-                    .amount(100.0)
-                    .unit(Unit.G)
-                    .build();
-
-            MealModel meal = MealModel.builder()
-                    .user(user)
-                    .date(mealTime)
-                    .ingredients(new HashSet<>())
-                    .build();
-
-            meal.getIngredients().add(mealIngredient);
-
-            when(mealService.getMealsByRange(any(LocalDateTime.class), any(LocalDateTime.class)))
-                    .thenReturn(List.of(meal));
 
+            when(dailyNutritionService.getDailyTotals(monday, monday.plusDays(6)))
+                    .thenReturn(List.of(
+                            total(monday, NutritionalTag.CALORIES, 200.0),
+                            total(monday, NutritionalTag.PROTEIN, 10.0)
+                    ));
+            when(mealService.countMealDaysByRange(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1L);
 
             WeekOverviewDTO overview = dashboardService.getWeekOverview(monday);
 
@@ -134,10 +112,9 @@ class NutritionDashboardServiceTest {
         void shouldReturnEmptyOverviewForWeekWithNoMeals() {
             LocalDate monday = LocalDate.of(2026, 1, 6);
 
-            when(mealRepository.findAllByUserAndDateBetweenOrderByDateDescIdDesc(
-                    user,
-                    monday.with(java.time.DayOfWeek.MONDAY).atTime(0,0),
-                    monday.with(java.time.DayOfWeek.MONDAY).atTime(23,59,59).plusDays(6)
+            when(dailyNutritionService.getDailyTotals(
+                    monday.with(java.time.DayOfWeek.MONDAY),
+                    monday.with(java.time.DayOfWeek.MONDAY).plusDays(6)
             )).thenReturn(List.of());
 
             WeekOverviewDTO overview = dashboardService.getWeekOverview(monday);
@@ -150,5 +127,111 @@ class NutritionDashboardServiceTest {
             assertThat(overview.macros().totalCalories()).isEqualTo(0.0);
             assertThat(overview.macros().avgCalories()).isEqualTo(0.0);
         }
+
+        @Test
+        @DisplayName("should keep tag order and average over the days with meals")
+        void shouldAverageOverDaysWithMeals() {
+            LocalDate monday = LocalDate.of(2026, 1, 5);
+
+            // Three days have meals, one of them without any nutritional values
+            when(dailyNutritionService.getDailyTotals(monday, monday.plusDays(6)))
+                    .thenReturn(List.of(
+                            total(monday.plusDays(2), NutritionalTag.FAT, 20.0),
+                            total(monday.plusDays(2), NutritionalTag.CALORIES, 900.0),
+                            total(monday, NutritionalTag.CALORIES, 300.0),
+                            total(monday, NutritionalTag.SODIUM, 0.0)
+                    ));
+            when(mealService.countMealDaysByRange(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(3L);
+
+            WeekOverviewDTO overview = dashboardService.getWeekOverview(monday);
+
+            assertThat(overview.week().get(2).tags())
+                    .extracting(NutritionalLabelEntrieDTO::nutrient)
+                    .containsExactly(NutritionalTag.CALORIES.toString(), NutritionalTag.FAT.toString());
+            assertThat(overview.week().getFirst().tags())
+                    .extracting(NutritionalLabelEntrieDTO::nutrient)
+                    .containsExactly(NutritionalTag.CALORIES.toString());
+
+            assertThat(overview.macros().totalCalories()).isEqualTo(1200.0);
+            assertThat(overview.macros().avgCalories()).isEqualTo(400.0);
+            assertThat(overview.macros().totalFat()).isEqualTo(20.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTrend")
+    class GetTrendTests {
+
+        @Test
+        @DisplayName("should aggregate daily totals into day buckets")
+        void shouldAggregateIntoDays() {
+            LocalDate to = LocalDate.of(2026, 3, 31);
+            LocalDate from = LocalDate.of(2026, 3, 1);
+
+            doAnswer(invocation -> {
+                NutritionTrendRepository.DailyTotalHandler handler = invocation.getArgument(3);
+                handler.accept(from, NutritionalTag.CALORIES, 2000.0);
+                handler.accept(from, NutritionalTag.PROTEIN, 120.0);
+                handler.accept(from, NutritionalTag.SODIUM, 2.0);
+                handler.accept(to, NutritionalTag.FIBER, 25.0);
+                return null;
+            }).when(nutritionTrendRepository).forEachDailyTotal(eq(1L), eq(from), eq(to), any());
+
+            NutritionTrendDTO trend = dashboardService.getTrend(1, TrendBucket.DAY, to);
+
+            assertThat(trend.periods()).hasSize(31).startsWith(from).endsWith(to);
+            assertThat(trend.calories()[0]).isEqualTo(2000.0);
+            assertThat(trend.proteins()[0]).isEqualTo(120.0);
+            assertThat(trend.fiber()[30]).isEqualTo(25.0);
+            assertThat(trend.loggedDays()[0]).isEqualTo(1);
+            assertThat(trend.loggedDays()[30]).isEqualTo(1);
+            assertThat(trend.loggedDays()[15]).isZero();
+        }
+
+        @Test
+        @DisplayName("should aggregate daily totals into weeks starting on Monday")
+        void shouldAggregateIntoWeeks() {
+            LocalDate to = LocalDate.of(2026, 3, 31); // Tuesday
+            LocalDate from = LocalDate.of(2026, 2, 23); // Monday of March 1st's week
+
+            doAnswer(invocation -> {
+                NutritionTrendRepository.DailyTotalHandler handler = invocation.getArgument(3);
+                handler.accept(from.plusDays(1), NutritionalTag.CALORIES, 1800.0);
+                handler.accept(from.plusDays(6), NutritionalTag.CALORIES, 2200.0);
+                handler.accept(from.plusDays(6), NutritionalTag.FAT, 70.0);
+                handler.accept(from.plusDays(7), NutritionalTag.CALORIES, 1000.0);
+                return null;
+            }).when(nutritionTrendRepository).forEachDailyTotal(eq(1L), eq(from), eq(to), any());
+
+            NutritionTrendDTO trend = dashboardService.getTrend(1, TrendBucket.WEEK, to);
+
+            assertThat(trend.periods()).hasSize(6).startsWith(from).endsWith(LocalDate.of(2026, 3, 30));
+            assertThat(trend.calories()[0]).isEqualTo(4000.0);
+            assertThat(trend.fat()[0]).isEqualTo(70.0);
+            assertThat(trend.loggedDays()[0]).isEqualTo(2);
+            assertThat(trend.calories()[1]).isEqualTo(1000.0);
+            assertThat(trend.loggedDays()[1]).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("should reject a range outside 1 to 12 months")
+        void shouldRejectInvalidMonths() {
+            LocalDate to = LocalDate.of(2026, 3, 31);
+
+            assertThatThrownBy(() -> dashboardService.getTrend(0, TrendBucket.DAY, to))
+                    .isInstanceOf(BadRequestException.class);
+            assertThatThrownBy(() -> dashboardService.getTrend(13, TrendBucket.WEEK, to))
+                    .isInstanceOf(BadRequestException.class);
+            verifyNoInteractions(nutritionTrendRepository);
+        }
+    }
+
+    private DailyNutritionModel total(LocalDate date, NutritionalTag tag, double total) {
+        return DailyNutritionModel.builder()
+                .user(user)
+                .date(date)
+                .tag(tag)
+                .total(total)
+                .build();
     }
 }
@@ -3,6 +3,9 @@ package com.rodrigocoelhoo.lifemanager.nutrition.service;
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
+import com.rodrigocoelhoo.lifemanager.nutrition.components.RecipeAvailabilityIndex;
+import com.rodrigocoelhoo.lifemanager.nutrition.components.RecipeMatch;
+import com.rodrigocoelhoo.lifemanager.nutrition.dto.AlmostAvailableRecipeDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.RecipeDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.RecipeDetailsDTO;
 import com.rodrigocoelhoo.lifemanager.nutrition.dto.RecipeIngredientDTO;
@@ -19,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.ArrayList;
@@ -47,6 +51,9 @@ class RecipeServiceTest {
     @Mock
     private RedisCacheService redisCacheService;
 
+    @Mock
+    private RecipeAvailabilityIndex recipeAvailabilityIndex;
+
     private UserModel user;
 
     @BeforeEach
@@ -70,12 +77,14 @@ class RecipeServiceTest {
         @DisplayName("should return all recipes when name is null")
         void shouldReturnAllRecipesWhenNameIsNull() {
             RecipeModel omelette = RecipeModel.builder()
+                    .id(1L)
                     .user(user)
                     .name("Omelette")
                     .ingredients(new ArrayList<>())
                     .build();
 
             RecipeModel omeletteAndBacon = RecipeModel.builder()
+                    .id(2L)
                     .user(user)
                     .name("Omelette And Bacon")
                     .ingredients(new ArrayList<>())
@@ -83,6 +92,7 @@ class RecipeServiceTest {
 
             Page<RecipeModel> page = new PageImpl<>(List.of(omelette, omeletteAndBacon));
             when(recipeRepository.findAllByUser(user, Pageable.unpaged())).thenReturn(page);
+            when(recipeRepository.findAllByIdIn(List.of(1L, 2L))).thenReturn(List.of(omeletteAndBacon, omelette));
 
             Page<RecipeDetailsDTO> result = recipeService.getAllRecipes(Pageable.unpaged(), null);
 
@@ -99,12 +109,14 @@ class RecipeServiceTest {
         @DisplayName("should return all recipes when name is blank")
         void shouldReturnAllRecipesWhenNameIsBlank() {
             RecipeModel omelette = RecipeModel.builder()
+                    .id(1L)
                     .user(user)
                     .name("Omelette")
                     .ingredients(new ArrayList<>())
                     .build();
 
             RecipeModel omeletteAndBacon = RecipeModel.builder()
+                    .id(2L)
                     .user(user)
                     .name("Omelette And Bacon")
                     .ingredients(new ArrayList<>())
@@ -112,6 +124,7 @@ class RecipeServiceTest {
 
             Page<RecipeModel> page = new PageImpl<>(List.of(omelette, omeletteAndBacon));
             when(recipeRepository.findAllByUser(user, Pageable.unpaged())).thenReturn(page);
+            when(recipeRepository.findAllByIdIn(List.of(1L, 2L))).thenReturn(List.of(omeletteAndBacon, omelette));
 
             Page<RecipeDetailsDTO> result = recipeService.getAllRecipes(Pageable.unpaged(), "");
 
@@ -128,12 +141,14 @@ class RecipeServiceTest {
         @DisplayName("should return recipes filtered by name ignoring case")
         void shouldReturnRecipesFilteredByName() {
             RecipeModel omelette = RecipeModel.builder()
+                    .id(1L)
                     .user(user)
                     .name("Omelette")
                     .ingredients(new ArrayList<>())
                     .build();
 
             RecipeModel omeletteAndBacon = RecipeModel.builder()
+                    .id(2L)
                     .user(user)
                     .name("Omelette And Bacon")
                     .ingredients(new ArrayList<>())
@@ -141,6 +156,7 @@ class RecipeServiceTest {
 
             Page<RecipeModel> page = new PageImpl<>(List.of(omeletteAndBacon));
             when(recipeRepository.findByUserAndNameContainingIgnoreCase(user, "Bacon", Pageable.unpaged())).thenReturn(page);
+            when(recipeRepository.findAllByIdIn(List.of(2L))).thenReturn(List.of(omeletteAndBacon));
 
             Page<RecipeDetailsDTO> result = recipeService.getAllRecipes(Pageable.unpaged(), "Bacon");
 
@@ -176,6 +192,7 @@ class RecipeServiceTest {
 
             Page<RecipeModel> page = new PageImpl<>(List.of(omelette, omeletteAndBacon));
             when(recipeRepository.findAllByUser(user, Pageable.unpaged())).thenReturn(page);
+            when(recipeRepository.findAllByIdIn(List.of(1L, 2L))).thenReturn(List.of(omeletteAndBacon, omelette));
 
             Page<RecipeDetailsDTO> result = recipeService.getAvailableRecipes(null, Pageable.unpaged());
 
@@ -185,7 +202,7 @@ class RecipeServiceTest {
                     RecipeDetailsDTO.fromEntity(omeletteAndBacon)
             );
             verify(recipeRepository).findAllByUser(user, Pageable.unpaged());
-            verify(recipeRepository, never()).findAvailableRecipes(any(), any(), any());
+            verify(recipeAvailabilityIndex, never()).findAvailable(any(), any());
         }
 
         @Test
@@ -207,6 +224,7 @@ class RecipeServiceTest {
 
             Page<RecipeModel> page = new PageImpl<>(List.of(omelette, omeletteAndBacon));
             when(recipeRepository.findAllByUser(user, Pageable.unpaged())).thenReturn(page);
+            when(recipeRepository.findAllByIdIn(List.of(1L, 2L))).thenReturn(List.of(omeletteAndBacon, omelette));
 
             Page<RecipeDetailsDTO> result = recipeService.getAvailableRecipes(List.of(), Pageable.unpaged());
 
@@ -216,7 +234,7 @@ class RecipeServiceTest {
                     RecipeDetailsDTO.fromEntity(omeletteAndBacon)
             );
             verify(recipeRepository).findAllByUser(user, Pageable.unpaged());
-            verify(recipeRepository, never()).findAvailableRecipes(any(), any(), any());
+            verify(recipeAvailabilityIndex, never()).findAvailable(any(), any());
         }
 
         @Test
@@ -241,8 +259,8 @@ class RecipeServiceTest {
                     .ingredients(new ArrayList<>())
                     .build();
 
-            Page<RecipeModel> page = new PageImpl<>(List.of(omelette));
-            when(recipeRepository.findAvailableRecipes(user, List.of(1L, 2L), Pageable.unpaged())).thenReturn(page);
+            when(recipeAvailabilityIndex.findAvailable(user, List.of(1L, 2L))).thenReturn(List.of(1L));
+            when(recipeRepository.findAllByIdIn(List.of(1L))).thenReturn(List.of(omelette));
 
             Page<RecipeDetailsDTO> result = recipeService.getAvailableRecipes(List.of(1L, 2L), Pageable.unpaged());
 
@@ -251,7 +269,36 @@ class RecipeServiceTest {
                     RecipeDetailsDTO.fromEntity(omelette)
             );
             verify(recipeRepository, never()).findAllByUser(any(), any());
-            verify(recipeRepository).findAvailableRecipes(user, List.of(1L, 2L), Pageable.unpaged());
+            verify(recipeAvailabilityIndex).findAvailable(user, List.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("should page the available recipes in index order")
+        void shouldPageAvailableRecipes() {
+            RecipeModel first = RecipeModel.builder()
+                    .id(5L)
+                    .user(user)
+                    .name("Pancakes")
+                    .ingredients(new ArrayList<>())
+                    .build();
+            RecipeModel second = RecipeModel.builder()
+                    .id(3L)
+                    .user(user)
+                    .name("Omelette")
+                    .ingredients(new ArrayList<>())
+                    .build();
+
+            when(recipeAvailabilityIndex.findAvailable(user, List.of(1L, 2L))).thenReturn(List.of(9L, 7L, 5L, 3L, 1L));
+            when(recipeRepository.findAllByIdIn(List.of(5L, 3L))).thenReturn(List.of(second, first));
+
+            Page<RecipeDetailsDTO> result = recipeService.getAvailableRecipes(List.of(1L, 2L), PageRequest.of(1, 2));
+
+            assertThat(result.getContent()).containsExactly(
+                    RecipeDetailsDTO.fromEntity(first),
+                    RecipeDetailsDTO.fromEntity(second)
+            );
+            assertThat(result.getTotalElements()).isEqualTo(5);
+            assertThat(result.getTotalPages()).isEqualTo(3);
         }
 
         @Test
@@ -274,14 +321,68 @@ class RecipeServiceTest {
                     .name("Omelette And Bacon")
                     .build();
 
-            Page<RecipeModel> page = new PageImpl<>(List.of());
-            when(recipeRepository.findAvailableRecipes(user, List.of(1L), Pageable.unpaged())).thenReturn(page);
+            when(recipeAvailabilityIndex.findAvailable(user, List.of(1L))).thenReturn(List.of());
 
             Page<RecipeDetailsDTO> result = recipeService.getAvailableRecipes(List.of(1L), Pageable.unpaged());
 
             assertThat(result.getContent()).isEmpty();
             verify(recipeRepository, never()).findAllByUser(any(), any());
-            verify(recipeRepository).findAvailableRecipes(user, List.of(1L), Pageable.unpaged());
+            verify(recipeRepository, never()).findAllByIdIn(any());
+            verify(recipeAvailabilityIndex).findAvailable(user, List.of(1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("getAlmostAvailableRecipes")
+    class GetAlmostAvailableRecipesTests {
+
+        @Test
+        @DisplayName("should keep the index ranking and attach the missing ingredients")
+        void shouldReturnRankedRecipes() {
+            RecipeModel omelette = RecipeModel.builder()
+                    .id(1L)
+                    .user(user)
+                    .name("Omelette")
+                    .ingredients(new ArrayList<>())
+                    .build();
+            RecipeModel omeletteAndBacon = RecipeModel.builder()
+                    .id(2L)
+                    .user(user)
+                    .name("Omelette And Bacon")
+                    .ingredients(new ArrayList<>())
+                    .build();
+
+            when(recipeAvailabilityIndex.rankAlmostAvailable(user, List.of(1L, 2L), 1)).thenReturn(List.of(
+                    new RecipeMatch(1L, 0, 2, List.of()),
+                    new RecipeMatch(2L, 1, 3, List.of(3L))
+            ));
+            when(recipeRepository.findAllByIdIn(List.of(1L, 2L))).thenReturn(List.of(omeletteAndBacon, omelette));
+
+            Page<AlmostAvailableRecipeDTO> result = recipeService.getAlmostAvailableRecipes(List.of(1L, 2L), 1, PageRequest.of(0, 20));
+
+            assertThat(result.getContent()).containsExactly(
+                    new AlmostAvailableRecipeDTO(RecipeDetailsDTO.fromEntity(omelette), 0, 1.0, List.of()),
+                    new AlmostAvailableRecipeDTO(RecipeDetailsDTO.fromEntity(omeletteAndBacon), 1, 2.0 / 3, List.of(3L))
+            );
+            assertThat(result.getTotalElements()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("should return nothing for an empty pantry")
+        void shouldReturnEmptyForNoIngredients() {
+            Page<AlmostAvailableRecipeDTO> result = recipeService.getAlmostAvailableRecipes(List.of(), 2, PageRequest.of(0, 20));
+
+            assertThat(result.getContent()).isEmpty();
+            verifyNoInteractions(recipeAvailabilityIndex);
+        }
+
+        @Test
+        @DisplayName("should reject a missing count outside the allowed range")
+        void shouldRejectInvalidMaxMissing() {
+            assertThrows(BadRequestException.class,
+                    () -> recipeService.getAlmostAvailableRecipes(List.of(1L), -1, PageRequest.of(0, 20)));
+            assertThrows(BadRequestException.class,
+                    () -> recipeService.getAlmostAvailableRecipes(List.of(1L), RecipeService.MAX_MISSING_INGREDIENTS + 1, PageRequest.of(0, 20)));
         }
     }
 
@@ -435,6 +536,7 @@ class RecipeServiceTest {
 
             verify(ingredientService).getIngredients(List.of(1L));
             verify(recipeRepository).save(any());
+            verify(recipeAvailabilityIndex).putRecipe(user, 1L, List.of(1L));
         }
 
 
@@ -529,6 +631,7 @@ class RecipeServiceTest {
 
             verify(recipeRepository).findByUserAndId(user, 1L);
             verify(recipeRepository).delete(existingRecipe);
+            verify(recipeAvailabilityIndex).removeRecipe(user, 1L);
         }
 
         @Test
@@ -0,0 +1,123 @@
+package com.rodrigocoelhoo.lifemanager.search;
+
+import com.rodrigocoelhoo.lifemanager.search.dto.NameMatchDTO;
+import com.rodrigocoelhoo.lifemanager.search.model.SearchTarget;
+import com.rodrigocoelhoo.lifemanager.search.repository.NameSearchRepository;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Needs Docker. Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+//   -Dexec.mainClass=com.rodrigocoelhoo.lifemanager.search.NameSearchBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameSearchBenchmark {
+
+    private static final int ROWS_PER_USER = 100_000;
+    private static final String[] WORDS = {
+            "chicken", "beef", "pork", "rice", "oats", "milk", "cheese", "tomato", "onion", "garlic",
+            "pepper", "salmon", "tuna", "bread", "pasta", "butter", "yogurt", "apple", "banana", "spinach"
+    };
+
+    @Param({"chicken", "chi", "smoked salm"})
+    public String text;
+
+    private GenericContainer<?> postgres;
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private NameSearchRepository nameSearchRepository;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new GenericContainer<>("postgres:16-alpine")
+                .withEnv("POSTGRES_PASSWORD", "postgres")
+                .withExposedPorts(5432)
+                .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+        postgres.start();
+
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:postgresql://" + postgres.getHost() + ":" + postgres.getMappedPort(5432) + "/postgres",
+                "postgres", "postgres", true
+        );
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        nameSearchRepository = new NameSearchRepository(jdbcTemplate);
+
+        // Two users so the user_id filter has to do real work
+        userId = createUser("bench");
+        long otherId = createUser("other");
+        insertIngredients(userId, 1);
+        insertIngredients(otherId, 2);
+        jdbcTemplate.execute("ANALYZE tb_ingredients");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+        postgres.stop();
+    }
+
+    // What the listings ran before: derived ContainingIgnoreCase queries
+    @Benchmark
+    public List<Long> upperLikeScan() {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM tb_ingredients WHERE user_id = ? AND upper(name) LIKE upper(?) LIMIT 10",
+                Long.class, userId, "%" + text + "%"
+        );
+    }
+
+    @Benchmark
+    public List<NameMatchDTO> trigramSearch() {
+        return nameSearchRepository.search(SearchTarget.INGREDIENTS, userId, text, 10);
+    }
+
+    @Benchmark
+    public List<NameMatchDTO> prefixAutocomplete() {
+        return nameSearchRepository.autocomplete(SearchTarget.INGREDIENTS, userId, text, 10);
+    }
+
+    private long createUser(String username) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO tb_users (username, first_name, last_name, email, password, role)
+                VALUES (?, 'Bench', 'User', ?, 'hash', 'USER')
+                RETURNING id
+                """, Long.class, username, username + "@bench.com");
+    }
+
+    private void insertIngredients(long owner, long seed) {
+        Random random = new Random(seed);
+        List<Object[]> rows = new ArrayList<>(ROWS_PER_USER);
+        for (int i = 0; i < ROWS_PER_USER; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            rows.add(new Object[]{owner, name});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tb_ingredients (user_id, name) VALUES (?, ?)", rows);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NameSearchBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,93 @@
+package com.rodrigocoelhoo.lifemanager.search.repository;
+
+import com.rodrigocoelhoo.lifemanager.search.dto.NameMatchDTO;
+import com.rodrigocoelhoo.lifemanager.search.model.SearchTarget;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("NameSearchRepository PostgreSQL Integration Tests")
+class NameSearchPostgresIntegrationTest {
+
+    @Container
+    static final GenericContainer<?> POSTGRES = new GenericContainer<>("postgres:16-alpine")
+            .withEnv("POSTGRES_PASSWORD", "postgres")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    private static JdbcTemplate jdbcTemplate;
+    private static NameSearchRepository nameSearchRepository;
+    private static long userId;
+
+    @BeforeAll
+    static void migrate() {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(5432) + "/postgres",
+                "postgres", "postgres", true
+        );
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        nameSearchRepository = new NameSearchRepository(jdbcTemplate);
+
+        userId = jdbcTemplate.queryForObject("""
+                INSERT INTO tb_users (username, first_name, last_name, email, password, role)
+                VALUES ('search', 'Search', 'User', 'search@user.com', 'hash', 'USER')
+                RETURNING id
+                """, Long.class);
+        for (String name : List.of("Chicken breast", "Chicken", "Smoked chicken", "Chickpeas", "Milk 50%")) {
+            jdbcTemplate.update("INSERT INTO tb_ingredients (user_id, name) VALUES (?, ?)", userId, name);
+        }
+    }
+
+    @Test
+    @DisplayName("should rank by trigram similarity and tolerate typos")
+    void shouldRankBySimilarity() {
+        assertThat(nameSearchRepository.search(SearchTarget.INGREDIENTS, userId, "chicken", 10))
+                .extracting(NameMatchDTO::name)
+                .startsWith("Chicken")
+                .contains("Chicken breast", "Smoked chicken");
+        assertThat(nameSearchRepository.search(SearchTarget.INGREDIENTS, userId, "chiken", 10))
+                .extracting(NameMatchDTO::name)
+                .contains("Chicken");
+        assertThat(nameSearchRepository.search(SearchTarget.INGREDIENTS, userId, "50%", 10))
+                .extracting(NameMatchDTO::name)
+                .containsExactly("Milk 50%");
+    }
+
+    @Test
+    @DisplayName("should answer autocomplete and substring lookups from the new indexes")
+    void shouldUseIndexes() {
+        assertThat(nameSearchRepository.autocomplete(SearchTarget.INGREDIENTS, userId, "chi", 10))
+                .extracting(NameMatchDTO::name)
+                .containsExactly("Chicken", "Chickpeas", "Chicken breast");
+
+        jdbcTemplate.execute("SET enable_seqscan = off");
+        String substring = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM tb_ingredients WHERE user_id = " + userId + " AND name ILIKE '%cken%'", String.class
+        ));
+        String prefix = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM tb_ingredients WHERE user_id = " + userId + " AND lower(name) LIKE 'chi%'", String.class
+        ));
+        jdbcTemplate.execute("SET enable_seqscan = on");
+
+        assertThat(substring).contains("idx_ingredients_user_name_trgm");
+        assertThat(prefix).containsAnyOf("idx_ingredients_user_name_prefix", "idx_ingredients_user_name_trgm");
+    }
+}
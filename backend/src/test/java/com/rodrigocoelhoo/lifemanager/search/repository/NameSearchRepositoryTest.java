@@ -0,0 +1,92 @@
+package com.rodrigocoelhoo.lifemanager.search.repository;
+
+import com.rodrigocoelhoo.lifemanager.nutrition.model.IngredientModel;
+import com.rodrigocoelhoo.lifemanager.nutrition.repository.IngredientRepository;
+import com.rodrigocoelhoo.lifemanager.search.dto.NameMatchDTO;
+import com.rodrigocoelhoo.lifemanager.search.model.SearchTarget;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(NameSearchRepository.class)
+class NameSearchRepositoryTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    NameSearchRepository nameSearchRepository;
+
+    @Autowired
+    IngredientRepository ingredientRepository;
+
+    private UserModel user;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+
+        UserModel other = new UserModel("Other", "Other", "User", "other@user.com", "Password-123");
+        entityManager.persist(other);
+
+        createIngredient(user, "Chicken breast");
+        createIngredient(user, "Chicken");
+        createIngredient(user, "Smoked chicken");
+        createIngredient(user, "Chickpeas");
+        createIngredient(user, "Milk 50%");
+        createIngredient(user, "Milk 500");
+        createIngredient(other, "Chicken thigh");
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Matches of the user rank exact, then prefix, then substring")
+    void search_ranksExactThenPrefixThenSubstring() {
+        assertThat(nameSearchRepository.search(SearchTarget.INGREDIENTS, user.getId(), "chicken", 10))
+                .extracting(NameMatchDTO::name)
+                .containsExactly("Chicken", "Chicken breast", "Smoked chicken");
+        assertThat(nameSearchRepository.search(SearchTarget.INGREDIENTS, user.getId(), "chicken", 2))
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Autocomplete returns the shortest completions of the prefix first")
+    void autocomplete_ordersByLength() {
+        assertThat(nameSearchRepository.autocomplete(SearchTarget.INGREDIENTS, user.getId(), "chi", 10))
+                .extracting(NameMatchDTO::name)
+                .containsExactly("Chicken", "Chickpeas", "Chicken breast");
+    }
+
+    @Test
+    @DisplayName("LIKE wildcards in the text are matched literally")
+    void search_escapesWildcards() {
+        assertThat(nameSearchRepository.search(SearchTarget.INGREDIENTS, user.getId(), "50%", 10))
+                .extracting(NameMatchDTO::name)
+                .containsExactly("Milk 50%");
+        assertThat(ingredientRepository.findByUserAndNameContainingIgnoreCase(user, "MILK 50%", PageRequest.of(0, 10)))
+                .extracting(IngredientModel::getName)
+                .containsExactly("Milk 50%");
+    }
+
+    private void createIngredient(UserModel owner, String name) {
+        entityManager.persist(IngredientModel.builder()
+                .user(owner)
+                .name(name)
+                .brands(new HashSet<>())
+                .build());
+    }
+}
@@ -0,0 +1,83 @@
+package com.rodrigocoelhoo.lifemanager.search.service;
+
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import com.rodrigocoelhoo.lifemanager.search.dto.NameMatchDTO;
+import com.rodrigocoelhoo.lifemanager.search.model.SearchTarget;
+import com.rodrigocoelhoo.lifemanager.search.repository.NameSearchRepository;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("NameSearchService Tests")
+class NameSearchServiceTest {
+
+    @Mock
+    private NameSearchRepository nameSearchRepository;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private NameSearchService nameSearchService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        UserModel user = new UserModel();
+        user.setId(1L);
+        user.setUsername("testuser");
+        when(userService.getLoggedInUser()).thenReturn(user);
+    }
+
+    @Nested
+    @DisplayName("search")
+    class SearchTests {
+
+        @Test
+        @DisplayName("should search the logged in user's rows with the trimmed text")
+        void shouldSearchForLoggedInUser() {
+            List<NameMatchDTO> matches = List.of(new NameMatchDTO(3L, "Squat", 1.0));
+            when(nameSearchRepository.search(SearchTarget.EXERCISES, 1L, "squat", 5)).thenReturn(matches);
+
+            assertThat(nameSearchService.search(SearchTarget.EXERCISES, "  squat ", 5)).isEqualTo(matches);
+        }
+
+        @Test
+        @DisplayName("should reject blank text and limits out of range")
+        void shouldRejectInvalidInput() {
+            assertThatThrownBy(() -> nameSearchService.search(SearchTarget.WALLETS, " ", 5))
+                    .isInstanceOf(BadRequestException.class);
+            assertThatThrownBy(() -> nameSearchService.autocomplete(SearchTarget.WALLETS, "ba", 0))
+                    .isInstanceOf(BadRequestException.class);
+            assertThatThrownBy(() -> nameSearchService.autocomplete(SearchTarget.WALLETS, "ba", NameSearchService.MAX_LIMIT + 1))
+                    .isInstanceOf(BadRequestException.class);
+            verifyNoInteractions(nameSearchRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("SearchTarget")
+    class SearchTargetTests {
+
+        @Test
+        @DisplayName("should resolve path names case-insensitively and reject unknown ones")
+        void shouldResolvePathNames() {
+            assertThat(SearchTarget.fromPath("recipes")).isEqualTo(SearchTarget.RECIPES);
+            assertThatThrownBy(() -> SearchTarget.fromPath("tb_users"))
+                    .isInstanceOf(BadRequestException.class);
+        }
+    }
+}
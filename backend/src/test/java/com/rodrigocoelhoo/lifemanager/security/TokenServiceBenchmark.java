@@ -0,0 +1,70 @@
+package com.rodrigocoelhoo.lifemanager.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+//   -Dexec.mainClass=com.rodrigocoelhoo.lifemanager.security.TokenServiceBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private static final String SECRET = "benchmark-secret";
+
+    private TokenService tokenService;
+    private JWTVerifier verifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService(SECRET);
+
+        UserModel user = new UserModel("benchmark", "Bench", "Mark", "bench@mark.com", "password");
+        user.setId(1L);
+        token = tokenService.generateAccessToken(user);
+
+        verifier = JWT.require(Algorithm.HMAC256(SECRET))
+                .withIssuer("auth-api")
+                .withClaim("type", "access")
+                .build();
+    }
+
+    @Benchmark
+    public String rebuildVerifierPerCall() {
+        return JWT.require(Algorithm.HMAC256(SECRET))
+                .withIssuer("auth-api")
+                .withClaim("type", "access")
+                .build()
+                .verify(token)
+                .getSubject();
+    }
+
+    @Benchmark
+    public String sharedVerifier() {
+        return verifier.verify(token).getSubject();
+    }
+
+    @Benchmark
+    public String verifiedTokenCache() {
+        return tokenService.validateAccessToken(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TokenServiceBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
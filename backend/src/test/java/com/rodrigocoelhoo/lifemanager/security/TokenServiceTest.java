@@ -0,0 +1,65 @@
+package com.rodrigocoelhoo.lifemanager.security;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenService Tests")
+class TokenServiceTest {
+
+    private TokenService tokenService;
+    private UserModel user;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenService("test-secret");
+
+        user = new UserModel("testuser", "Test", "User", "test@user.com", "password");
+        user.setId(1L);
+    }
+
+    @Nested
+    @DisplayName("validateAccessToken")
+    class ValidateAccessTokenTests {
+
+        @Test
+        @DisplayName("should return the subject of a valid access token")
+        void shouldReturnSubject() {
+            String token = tokenService.generateAccessToken(user);
+
+            assertThat(tokenService.validateAccessToken(token)).isEqualTo("testuser");
+            assertThat(tokenService.validateAccessToken(token)).isEqualTo("testuser");
+        }
+
+        @Test
+        @DisplayName("should carry the user id and roles")
+        void shouldCarryIdentityClaims() {
+            DecodedJWT decoded = tokenService.decodeAccessToken(tokenService.generateAccessToken(user));
+
+            assertThat(decoded.getClaim("uid").asLong()).isEqualTo(1L);
+            assertThat(decoded.getClaim("roles").asList(String.class)).containsExactly("ROLE_USER");
+        }
+
+        @Test
+        @DisplayName("should reject a refresh token even after it was verified")
+        void shouldRejectRefreshToken() {
+            String refreshToken = tokenService.generateRefreshToken(user);
+
+            assertThat(tokenService.validateRefreshToken(refreshToken)).isEqualTo("testuser");
+            assertThat(tokenService.validateAccessToken(refreshToken)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should reject a token signed with another secret")
+        void shouldRejectForeignToken() {
+            String foreign = new TokenService("other-secret").generateAccessToken(user);
+
+            assertThat(tokenService.validateAccessToken(foreign)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.rodrigocoelhoo.lifemanager.training.components;
+
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.E1rmCurveDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.PersonalRecordDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.TrainingFrequencyDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.WeeklyVolumeDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+//   -Dexec.mainClass=com.rodrigocoelhoo.lifemanager.training.components.TrainingAnalyticsBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrainingAnalyticsBenchmark {
+
+    // Five years of five sessions a week, six exercises of four sets each per session
+    private static final int YEARS = 5;
+    private static final int EXERCISES = 60;
+
+    private static final LocalDate TO = LocalDate.of(2026, 1, 1);
+    private static final LocalDate FROM = TO.minusYears(YEARS);
+
+    private TrainingSetColumns columns;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        TrainingSetColumns.Builder builder = new TrainingSetColumns.Builder();
+
+        long session = 0;
+        for (LocalDate day = FROM; day.isBefore(TO); day = day.plusDays(1)) {
+            if (day.getDayOfWeek().getValue() > 5) {
+                continue;
+            }
+            LocalDateTime date = day.atTime(18, 0);
+            session++;
+            for (int exercise = 0; exercise < 6; exercise++) {
+                long exerciseId = 1 + random.nextInt(EXERCISES);
+                for (int set = 0; set < 4; set++) {
+                    builder.add(date, session, exerciseId, 3 + random.nextInt(10), 20 + random.nextInt(160), 0, 0);
+                }
+            }
+        }
+        columns = builder.build("benchmark");
+    }
+
+    @Benchmark
+    public E1rmCurveDTO e1rmCurve() {
+        return columns.e1rmCurve(7L, FROM, TO);
+    }
+
+    @Benchmark
+    public WeeklyVolumeDTO weeklyVolume() {
+        return columns.weeklyVolume(FROM, TO);
+    }
+
+    @Benchmark
+    public List<PersonalRecordDTO> personalRecords() {
+        return columns.personalRecords(FROM, TO);
+    }
+
+    @Benchmark
+    public TrainingFrequencyDTO frequency() {
+        return columns.frequency(FROM, TO);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TrainingAnalyticsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
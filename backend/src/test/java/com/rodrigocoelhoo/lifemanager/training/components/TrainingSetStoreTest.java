@@ -0,0 +1,193 @@
+package com.rodrigocoelhoo.lifemanager.training.components;
+
+import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.E1rmCurveDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.PersonalRecordDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.TrainingFrequencyDTO;
+import com.rodrigocoelhoo.lifemanager.training.dto.analyticsdto.WeeklyVolumeDTO;
+import com.rodrigocoelhoo.lifemanager.training.repository.TrainingSetRepository;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("TrainingSetStore Tests")
+class TrainingSetStoreTest {
+
+    private static final long BENCH = 1L;
+    private static final long SQUAT = 2L;
+    private static final long RUN = 3L;
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 5);
+    private static final LocalDate WEDNESDAY = MONDAY.plusDays(2);
+    private static final LocalDate NEXT_MONDAY = MONDAY.plusWeeks(1);
+
+    @Mock
+    private TrainingSetRepository trainingSetRepository;
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    @InjectMocks
+    private TrainingSetStore trainingSetStore;
+
+    private UserModel user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        user = new UserModel();
+        user.setId(1L);
+        user.setUsername("testuser");
+
+        doAnswer(invocation -> {
+            TrainingSetRepository.SetHandler handler = invocation.getArgument(1);
+            handler.accept(MONDAY.atTime(18, 0), 10L, BENCH, 5, 100.0, 0, 0);
+            handler.accept(MONDAY.atTime(18, 0), 10L, BENCH, 3, 105.0, 0, 0);
+            handler.accept(MONDAY.atTime(18, 0), 10L, SQUAT, 5, 140.0, 0, 0);
+            handler.accept(WEDNESDAY.atTime(8, 0), 11L, RUN, 0, 0.0, 1800, 5000);
+            handler.accept(WEDNESDAY.atTime(19, 0), 12L, BENCH, 3, 110.0, 0, 0);
+            handler.accept(WEDNESDAY.atTime(19, 0), 12L, SQUAT, 5, 130.0, 0, 0);
+            handler.accept(NEXT_MONDAY.atTime(18, 0), 13L, BENCH, 8, 100.0, 0, 0);
+            return null;
+        }).when(trainingSetRepository).forEachSet(eq(1L), any());
+        when(redisCacheService.userKey(anyString())).thenReturn("testuser:v1");
+    }
+
+    private TrainingSetColumns columns() {
+        return trainingSetStore.columns(user);
+    }
+
+    @Nested
+    @DisplayName("columns")
+    class ColumnsTests {
+
+        @Test
+        @DisplayName("should load once per sessions generation")
+        void shouldReloadOnNewGeneration() {
+            assertThat(columns().size()).isEqualTo(7);
+            assertThat(columns().size()).isEqualTo(7);
+            verify(trainingSetRepository, times(1)).forEachSet(eq(1L), any());
+
+            when(redisCacheService.userKey(anyString())).thenReturn("testuser:v2");
+
+            columns();
+            verify(trainingSetRepository, times(2)).forEachSet(eq(1L), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("e1rmCurve")
+    class E1rmCurveTests {
+
+        @Test
+        @DisplayName("should return the best e1RM of each training day")
+        void shouldReturnDailyBest() {
+            E1rmCurveDTO curve = columns().e1rmCurve(BENCH, MONDAY.minusDays(4), MONDAY.plusDays(26));
+
+            assertThat(curve.dates()).containsExactly(MONDAY, WEDNESDAY, NEXT_MONDAY);
+            assertThat(curve.e1rm()[0]).isCloseTo(100 * (1 + 5 / 30.0), within(1e-9));
+            assertThat(curve.e1rm()[1]).isCloseTo(121.0, within(1e-9));
+            assertThat(curve.e1rm()[2]).isCloseTo(100 * (1 + 8 / 30.0), within(1e-9));
+        }
+
+        @Test
+        @DisplayName("should only include days inside the range")
+        void shouldRespectRange() {
+            assertThat(columns().e1rmCurve(BENCH, WEDNESDAY, WEDNESDAY).dates()).containsExactly(WEDNESDAY);
+            assertThat(columns().e1rmCurve(99L, MONDAY, NEXT_MONDAY).dates()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("weeklyVolume")
+    class WeeklyVolumeTests {
+
+        @Test
+        @DisplayName("should sum weight times reps per exercise and week")
+        void shouldSumPerWeek() {
+            WeeklyVolumeDTO volume = columns().weeklyVolume(WEDNESDAY, NEXT_MONDAY.plusDays(6));
+
+            assertThat(volume.weeks()).containsExactly(MONDAY, NEXT_MONDAY);
+            assertThat(volume.exercises())
+                    .extracting(WeeklyVolumeDTO.ExerciseVolume::exerciseId, exercise -> exercise.volume()[0], exercise -> exercise.volume()[1])
+                    .containsExactly(
+                            tuple(BENCH, 500.0 + 315.0 + 330.0, 800.0),
+                            tuple(SQUAT, 700.0 + 650.0, 0.0)
+                    );
+        }
+    }
+
+    @Nested
+    @DisplayName("personalRecords")
+    class PersonalRecordsTests {
+
+        @Test
+        @DisplayName("should report the days that beat every earlier day")
+        void shouldReportImprovements() {
+            List<PersonalRecordDTO> records = columns().personalRecords(MONDAY, NEXT_MONDAY);
+
+            assertThat(records)
+                    .extracting(PersonalRecordDTO::exerciseId, PersonalRecordDTO::date, PersonalRecordDTO::reps, PersonalRecordDTO::weight)
+                    .containsExactly(
+                            tuple(BENCH, WEDNESDAY, 3, 110.0),
+                            tuple(BENCH, NEXT_MONDAY, 8, 100.0)
+                    );
+            assertThat(records.getFirst().previousE1rm()).isCloseTo(100 * (1 + 5 / 30.0), within(1e-9));
+        }
+
+        @Test
+        @DisplayName("should compare against history before the range")
+        void shouldUseEarlierHistory() {
+            List<PersonalRecordDTO> records = columns().personalRecords(NEXT_MONDAY, NEXT_MONDAY);
+
+            assertThat(records).singleElement().satisfies(record -> {
+                assertThat(record.date()).isEqualTo(NEXT_MONDAY);
+                assertThat(record.previousE1rm()).isCloseTo(121.0, within(1e-9));
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("frequency")
+    class FrequencyTests {
+
+        @Test
+        @DisplayName("should count sessions, training days and cardio per week")
+        void shouldCountPerWeek() {
+            TrainingFrequencyDTO frequency = columns().frequency(MONDAY, NEXT_MONDAY.plusDays(6));
+
+            assertThat(frequency.weeks()).containsExactly(MONDAY, NEXT_MONDAY);
+            assertThat(frequency.sessions()).containsExactly(3, 1);
+            assertThat(frequency.trainingDays()).containsExactly(2, 1);
+            assertThat(frequency.durationSecs()).containsExactly(1800, 0);
+            assertThat(frequency.distance()).containsExactly(5000, 0);
+        }
+
+        @Test
+        @DisplayName("should return empty weeks when nothing was logged")
+        void shouldHandleEmptyRange() {
+            TrainingFrequencyDTO frequency = columns().frequency(MONDAY.minusWeeks(4), MONDAY.minusDays(1));
+
+            assertThat(frequency.weeks()).hasSize(4);
+            assertThat(frequency.sessions()).containsOnly(0);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.rodrigocoelhoo.lifemanager.training.repository;
+
+import com.rodrigocoelhoo.lifemanager.training.model.*;
+import com.rodrigocoelhoo.lifemanager.training.service.ExerciseStatsService;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// Two sessions of the same exercise and month, each recomputing the stats in its own transaction;
+// H2 doesn't block the way Postgres does under READ COMMITTED
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ExerciseStatsService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ExerciseStatsService PostgreSQL Integration Tests")
+class ExerciseStatsPostgresIntegrationTest {
+
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2026, 1, 12, 18, 0);
+
+    @Container
+    static final GenericContainer<?> POSTGRES = new GenericContainer<>("postgres:16-alpine")
+            .withEnv("POSTGRES_PASSWORD", "postgres")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*\\s", 2));
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () ->
+                "jdbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getMappedPort(5432) + "/postgres");
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    ExerciseStatsService exerciseStatsService;
+
+    @Autowired
+    ExerciseStatsRepository exerciseStatsRepository;
+
+    @Autowired
+    ExerciseMonthlyStatsRepository exerciseMonthlyStatsRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+    private Long exerciseId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            UserModel user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+            entityManager.persist(user);
+
+            ExerciseModel bench = ExerciseModel.builder()
+                    .user(user)
+                    .name("Bench Press")
+                    .type(ExerciseType.SET_REP)
+                    .build();
+            entityManager.persist(bench);
+            entityManager.flush();
+
+            userId = user.getId();
+            exerciseId = bench.getId();
+        });
+    }
+
+    @Test
+    @DisplayName("Concurrent sessions in the same exercise-month both commit and the month counts both")
+    void recompute_concurrentSessionsInSameMonth() throws Exception {
+        CountDownLatch firstRecomputed = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            addSessionAndRecompute(JANUARY, 100.0, 5);
+            firstRecomputed.countDown();
+            await(secondStarted);
+            // Keep the transaction open while the second one reaches its recompute
+            sleep();
+        }));
+
+        await(firstRecomputed);
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            secondStarted.countDown();
+            addSessionAndRecompute(JANUARY.plusDays(2), 90.0, 10);
+        }));
+
+        first.get(30, TimeUnit.SECONDS);
+        second.get(30, TimeUnit.SECONDS);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ExerciseModel bench = entityManager.find(ExerciseModel.class, exerciseId);
+            assertThat(exerciseMonthlyStatsRepository.findAllByExerciseOrderByMonthStart(bench))
+                    .extracting(
+                            ExerciseMonthlyStatsModel::getMonthStart,
+                            ExerciseMonthlyStatsModel::getSets,
+                            ExerciseMonthlyStatsModel::getReps
+                    )
+                    .containsExactly(tuple(LocalDate.of(2026, 1, 1), 2, 15));
+            assertThat(exerciseStatsRepository.findById(exerciseId))
+                    .hasValueSatisfying(stats -> assertThat(stats.getSets()).isEqualTo(2));
+        });
+    }
+
+    private void addSessionAndRecompute(LocalDateTime date, double weight, int reps) {
+        UserModel user = entityManager.find(UserModel.class, userId);
+        ExerciseModel bench = entityManager.find(ExerciseModel.class, exerciseId);
+
+        TrainingSessionModel session = TrainingSessionModel.builder()
+                .user(user)
+                .date(date)
+                .exercises(new ArrayList<>())
+                .build();
+        session.getExercises().add(SessionExerciseModel.builder()
+                .session(session)
+                .exercise(bench)
+                .setNumber(1)
+                .weight(weight)
+                .reps(reps)
+                .build());
+        entityManager.persist(session);
+
+        exerciseStatsService.recompute(exerciseStatsService.monthsOf(session));
+        entityManager.flush();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
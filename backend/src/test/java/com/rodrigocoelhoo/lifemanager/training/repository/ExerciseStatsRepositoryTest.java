@@ -0,0 +1,166 @@
+package com.rodrigocoelhoo.lifemanager.training.repository;
+
+import com.rodrigocoelhoo.lifemanager.training.model.*;
+import com.rodrigocoelhoo.lifemanager.training.service.ExerciseStatsService;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ExerciseStatsService.class)
+class ExerciseStatsRepositoryTest {
+
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2026, 1, 31, 18, 0);
+    private static final LocalDateTime FEBRUARY = LocalDateTime.of(2026, 2, 1, 9, 0);
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    ExerciseStatsService exerciseStatsService;
+
+    @Autowired
+    ExerciseStatsRepository exerciseStatsRepository;
+
+    @Autowired
+    ExerciseMonthlyStatsRepository exerciseMonthlyStatsRepository;
+
+    private UserModel user;
+    private ExerciseModel bench;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+
+        bench = ExerciseModel.builder()
+                .user(user)
+                .name("Bench Press")
+                .type(ExerciseType.SET_REP)
+                .build();
+        entityManager.persist(bench);
+    }
+
+    @Test
+    @DisplayName("Each month is summed from its own sets and the totals are folded from the months")
+    void recompute_buildsMonthlyAndTotalRows() {
+        TrainingSessionModel january = createSession(JANUARY, 100.0, 5, 120.0, 3);
+        TrainingSessionModel february = createSession(FEBRUARY, 90.0, 10);
+        recompute(january, february);
+
+        assertThat(exerciseMonthlyStatsRepository.findAllByExerciseOrderByMonthStart(bench))
+                .extracting(
+                        ExerciseMonthlyStatsModel::getMonthStart,
+                        ExerciseMonthlyStatsModel::getSets,
+                        ExerciseMonthlyStatsModel::getReps,
+                        ExerciseMonthlyStatsModel::getBestSetReps,
+                        ExerciseMonthlyStatsModel::getBestSetWeight
+                )
+                .containsExactly(
+                        tuple(LocalDate.of(2026, 1, 1), 2, 8, 5, 100.0),
+                        tuple(LocalDate.of(2026, 2, 1), 1, 10, 10, 90.0)
+                );
+
+        ExerciseStatsModel stats = exerciseStatsRepository.findById(bench.getId()).orElseThrow();
+        assertThat(stats.getSets()).isEqualTo(3);
+        assertThat(stats.getReps()).isEqualTo(18);
+        assertThat(stats.getVolume()).isCloseTo(500.0 + 360.0 + 900.0, within(1e-9));
+        assertThat(stats.getMaxWeight()).isEqualTo(120.0);
+        assertThat(stats.getE1rm()).isCloseTo(132.0, within(1e-9));
+        assertThat(stats.getBestSetReps()).isEqualTo(10);
+        assertThat(stats.getBestSetWeight()).isEqualTo(90.0);
+    }
+
+    @Test
+    @DisplayName("Months left without sets are removed along with empty totals")
+    void recompute_removesEmptyMonths() {
+        TrainingSessionModel january = createSession(JANUARY, 100.0, 5);
+        TrainingSessionModel february = createSession(FEBRUARY, 90.0, 10);
+        recompute(january, february);
+
+        Set<ExerciseStatsService.ExerciseMonth> months = exerciseStatsService.monthsOf(february);
+        entityManager.remove(february);
+        exerciseStatsService.recompute(months);
+
+        assertThat(exerciseMonthlyStatsRepository.findAllByExerciseOrderByMonthStart(bench))
+                .extracting(ExerciseMonthlyStatsModel::getMonthStart)
+                .containsExactly(LocalDate.of(2026, 1, 1));
+        assertThat(exerciseStatsRepository.findById(bench.getId()))
+                .hasValueSatisfying(stats -> assertThat(stats.getReps()).isEqualTo(5));
+
+        months = exerciseStatsService.monthsOf(january);
+        entityManager.remove(january);
+        exerciseStatsService.recompute(months);
+
+        assertThat(exerciseMonthlyStatsRepository.findAllByExerciseOrderByMonthStart(bench)).isEmpty();
+        assertThat(exerciseStatsRepository.findById(bench.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("TIME exercises are not tracked")
+    void monthsOf_skipsTimeExercises() {
+        ExerciseModel run = ExerciseModel.builder()
+                .user(user)
+                .name("Run")
+                .type(ExerciseType.TIME)
+                .build();
+        entityManager.persist(run);
+
+        TrainingSessionModel session = createSession(JANUARY, 100.0, 5);
+        session.getExercises().add(SessionExerciseModel.builder()
+                .session(session)
+                .exercise(run)
+                .durationSecs(1800)
+                .distance(5000)
+                .build());
+
+        assertThat(exerciseStatsService.monthsOf(session))
+                .extracting(ExerciseStatsService.ExerciseMonth::exercise)
+                .containsExactly(bench);
+    }
+
+    private void recompute(TrainingSessionModel... sessions) {
+        Set<ExerciseStatsService.ExerciseMonth> months = new HashSet<>();
+        for (TrainingSessionModel session : sessions) {
+            months.addAll(exerciseStatsService.monthsOf(session));
+        }
+        exerciseStatsService.recompute(months);
+    }
+
+    // Pairs of weight and reps
+    private TrainingSessionModel createSession(LocalDateTime date, Number... sets) {
+        TrainingSessionModel session = TrainingSessionModel.builder()
+                .user(user)
+                .date(date)
+                .exercises(new ArrayList<>())
+                .build();
+        for (int i = 0; i < sets.length; i += 2) {
+            session.getExercises().add(SessionExerciseModel.builder()
+                    .session(session)
+                    .exercise(bench)
+                    .setNumber(i / 2 + 1)
+                    .weight(sets[i].doubleValue())
+                    .reps(sets[i + 1].intValue())
+                    .build());
+        }
+        entityManager.persist(session);
+        return session;
+    }
+}
@@ -0,0 +1,128 @@
+package com.rodrigocoelhoo.lifemanager.training.repository;
+
+import com.rodrigocoelhoo.lifemanager.common.KeysetCursor;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseType;
+import com.rodrigocoelhoo.lifemanager.training.model.SessionExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.model.TrainingSessionModel;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Window;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class TrainingSessionRepositoryTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    TrainingSessionRepository trainingSessionRepository;
+
+    private UserModel user;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+    }
+
+    @Test
+    @DisplayName("Seeking by (date, id) walks every session once, newest first")
+    void findByUser_followingCursor_visitsEverySessionOnce() {
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 18, 30);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            TrainingSessionModel session = TrainingSessionModel.builder()
+                    .user(user)
+                    .date(start.plusDays(i / 2))
+                    .exercises(new ArrayList<>())
+                    .build();
+            entityManager.persist(session);
+            expected.addFirst(session.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            Window<TrainingSessionModel> window = trainingSessionRepository.findByUser(
+                    user,
+                    KeysetCursor.decode(cursor, LocalDateTime::parse),
+                    KeysetCursor.SORT,
+                    KeysetCursor.limit(3)
+            );
+            window.forEach(session -> visited.add(session.getId()));
+            cursor = KeysetCursor.encode(window);
+        } while (cursor != null);
+
+        assertThat(visited).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("The exercises are only fetched for the requested ids")
+    void findAllByIdIn_fetchesExercises() {
+        TrainingSessionModel session = TrainingSessionModel.builder()
+                .user(user)
+                .date(LocalDateTime.of(2026, 1, 1, 18, 30))
+                .exercises(new ArrayList<>())
+                .build();
+        entityManager.persist(session);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TrainingSessionModel> sessions = trainingSessionRepository.findAllByIdIn(List.of(session.getId()));
+
+        assertThat(sessions).hasSize(1);
+        assertThat(Hibernate.isInitialized(sessions.getFirst().getExercises())).isTrue();
+    }
+
+    @Test
+    @DisplayName("The sets of a session are inserted in one batch")
+    void save_batchesSetInserts() {
+        ExerciseModel bench = ExerciseModel.builder().user(user).name("Bench Press").type(ExerciseType.SET_REP).build();
+        entityManager.persist(bench);
+        entityManager.flush();
+
+        TrainingSessionModel session = TrainingSessionModel.builder()
+                .user(user)
+                .date(LocalDateTime.of(2026, 1, 5, 18, 0))
+                .exercises(new ArrayList<>())
+                .build();
+        for (int i = 1; i <= 40; i++) {
+            session.getExercises().add(SessionExerciseModel.builder()
+                    .session(session)
+                    .exercise(bench)
+                    .setNumber(i)
+                    .reps(5)
+                    .weight(100.0)
+                    .build());
+        }
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        trainingSessionRepository.save(session);
+        entityManager.flush();
+
+        // One sequence call for the session and one for all 40 sets, then the session insert and one batched insert of the sets
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(session.getExercises()).extracting(SessionExerciseModel::getId).doesNotContainNull().doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,80 @@
+package com.rodrigocoelhoo.lifemanager.training.repository;
+
+import com.rodrigocoelhoo.lifemanager.training.model.*;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TrainingSetRepository.class)
+class TrainingSetRepositoryTest {
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    TrainingSetRepository trainingSetRepository;
+
+    private UserModel user;
+    private ExerciseModel bench;
+    private ExerciseModel run;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserModel("RodrigoCoelho", "Rodrigo", "Coelho", "rscoelho.dev@gmail.com", "Password-123");
+        entityManager.persist(user);
+
+        bench = ExerciseModel.builder().user(user).name("Bench Press").type(ExerciseType.SET_REP).build();
+        run = ExerciseModel.builder().user(user).name("Run").type(ExerciseType.TIME).build();
+        entityManager.persist(bench);
+        entityManager.persist(run);
+    }
+
+    @Test
+    @DisplayName("Sets stream in session date order with nulls read as zero")
+    void forEachSet_streamsInDateOrder() {
+        TrainingSessionModel later = createSession(LocalDateTime.of(2026, 1, 7, 19, 0));
+        later.getExercises().add(SessionExerciseModel.builder()
+                .session(later).exercise(run).durationSecs(1800).distance(5000).build());
+        TrainingSessionModel earlier = createSession(LocalDateTime.of(2026, 1, 5, 18, 0));
+        earlier.getExercises().add(SessionExerciseModel.builder()
+                .session(earlier).exercise(bench).setNumber(1).reps(5).weight(100.0).build());
+        earlier.getExercises().add(SessionExerciseModel.builder()
+                .session(earlier).exercise(bench).setNumber(2).reps(3).weight(110.0).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> rows = new ArrayList<>();
+        trainingSetRepository.forEachSet(user.getId(), (date, sessionId, exerciseId, reps, weight, durationSecs, distance) ->
+                rows.add(date.toLocalDate() + " " + exerciseId + " " + reps + "x" + weight + " " + durationSecs + "s " + distance + "m"));
+
+        assertThat(rows).containsExactly(
+                "2026-01-05 " + bench.getId() + " 5x100.0 0s 0m",
+                "2026-01-05 " + bench.getId() + " 3x110.0 0s 0m",
+                "2026-01-07 " + run.getId() + " 0x0.0 1800s 5000m"
+        );
+    }
+
+    private TrainingSessionModel createSession(LocalDateTime date) {
+        TrainingSessionModel session = TrainingSessionModel.builder()
+                .user(user)
+                .date(date)
+                .exercises(new ArrayList<>())
+                .build();
+        entityManager.persist(session);
+        return session;
+    }
+}
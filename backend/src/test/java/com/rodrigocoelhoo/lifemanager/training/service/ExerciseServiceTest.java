@@ -7,11 +7,12 @@ import com.rodrigocoelhoo.lifemanager.training.dto.exercisedto.ExerciseResponseD
 import com.rodrigocoelhoo.lifemanager.training.dto.exercisedto.ExerciseStats;
 import com.rodrigocoelhoo.lifemanager.training.dto.exercisedto.ExerciseUpdateDTO;
 import com.rodrigocoelhoo.lifemanager.training.model.ExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseMonthlyStatsModel;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseStatsModel;
 import com.rodrigocoelhoo.lifemanager.training.model.ExerciseType;
-import com.rodrigocoelhoo.lifemanager.training.model.SessionExerciseModel;
-import com.rodrigocoelhoo.lifemanager.training.model.TrainingSessionModel;
+import com.rodrigocoelhoo.lifemanager.training.repository.ExerciseMonthlyStatsRepository;
 import com.rodrigocoelhoo.lifemanager.training.repository.ExerciseRepository;
-import com.rodrigocoelhoo.lifemanager.training.repository.SessionExerciseRepository;
+import com.rodrigocoelhoo.lifemanager.training.repository.ExerciseStatsRepository;
 import com.rodrigocoelhoo.lifemanager.training.repository.TrainingPlanRepository;
 import com.rodrigocoelhoo.lifemanager.users.UserModel;
 import com.rodrigocoelhoo.lifemanager.users.UserService;
@@ -26,7 +27,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,7 +48,10 @@ class ExerciseServiceTest {
     private TrainingPlanRepository trainingPlanRepository;
 
     @Mock
-    private SessionExerciseRepository sessionExerciseRepository;
+    private ExerciseStatsRepository exerciseStatsRepository;
+
+    @Mock
+    private ExerciseMonthlyStatsRepository exerciseMonthlyStatsRepository;
 
     @InjectMocks
     private ExerciseService exerciseService;
@@ -227,61 +231,70 @@ class ExerciseServiceTest {
         }
 
         @Test
-        @DisplayName("should calculate stats for non-TIME exercise")
-        void shouldCalculateStats() {
-            // Create the exercise
+        @DisplayName("should read the stored totals and the last six months")
+        void shouldReadStoredStats() {
             ExerciseModel exercise = new ExerciseModel();
             exercise.setId(1L);
             exercise.setName("Bench Press");
             exercise.setType(ExerciseType.SET_REP);
 
-            TrainingSessionModel session = new TrainingSessionModel();
-            session.setId(1L);
-            session.setUser(user);
-            session.setDate(LocalDateTime.of(2026, 1, 1, 16, 0, 0));
-
             when(exerciseRepository.findByIdAndUser(1L, user)).thenReturn(Optional.of(exercise));
-
-            // Mock session exercises
-            SessionExerciseModel session1 = SessionExerciseModel.builder()
-                    .session(session)
-                    .reps(5)
-                    .weight(100.0)
+            when(exerciseStatsRepository.findById(1L)).thenReturn(Optional.of(ExerciseStatsModel.builder()
+                    .exerciseId(1L)
+                    .sets(2)
+                    .reps(8)
+                    .volume(860.0)
+                    .maxWeight(120.0)
+                    .e1rm(132.0)
+                    .bestSetReps(5)
+                    .bestSetWeight(100.0)
+                    .build()));
+
+            YearMonth current = YearMonth.now();
+            when(exerciseMonthlyStatsRepository.findAllByExerciseAndMonthStartBetween(
+                    exercise, current.minusMonths(5).atDay(1), current.atDay(1)
+            )).thenReturn(List.of(ExerciseMonthlyStatsModel.builder()
                     .exercise(exercise)
-                    .build();
+                    .monthStart(current.minusMonths(2).atDay(1))
+                    .maxE1rm(132.0)
+                    .build()));
 
-            SessionExerciseModel session2 = SessionExerciseModel.builder()
-                    .session(session)
-                    .reps(3)
-                    .weight(120.0)
-                    .exercise(exercise)
-                    .build();
+            ExerciseStats stats = exerciseService.getExerciseStats(1L);
 
-            List<SessionExerciseModel> sessions = List.of(session1, session2);
-            when(sessionExerciseRepository.findAllByExercise(exercise)).thenReturn(sessions);
+            assertThat(stats).isNotNull();
+            assertThat(stats.name()).isEqualTo("Bench Press");
+            assertThat(stats.volume()).isEqualTo(860.0);
+            assertThat(stats.reps()).isEqualTo(8);
+            assertThat(stats.sets()).isEqualTo(2);
+            assertThat(stats.maxWeight()).isEqualTo(120.0);
+            assertThat(stats.e1rm()).isEqualTo(132.0);
+            assertThat(stats.bestRepSet().reps()).isEqualTo(5);
+            assertThat(stats.bestRepSet().weight()).isEqualTo(100.0);
+
+            assertThat(stats.monthlyMaxE1RM().keySet())
+                    .containsExactly(
+                            current.minusMonths(5), current.minusMonths(4), current.minusMonths(3),
+                            current.minusMonths(2), current.minusMonths(1), current
+                    );
+            assertThat(stats.monthlyMaxE1RM().get(current.minusMonths(2))).isEqualTo(132.0);
+            assertThat(stats.monthlyMaxE1RM().get(current)).isEqualTo(0.0);
+        }
 
-            ExerciseStats stats = exerciseService.getExerciseStats(1L);
+        @Test
+        @DisplayName("should return zeros when nothing was logged")
+        void shouldReturnZerosWithoutStats() {
+            ExerciseModel exercise = new ExerciseModel();
+            exercise.setId(1L);
+            exercise.setType(ExerciseType.SET_REP);
 
-            double expectedVolume = (5 * 100.0) + (3 * 120.0); // 500 + 360 = 860
-            int expectedReps = 5 + 3; // 8
-            int expectedSets = sessions.size(); // 2
-            double expectedMaxWeight = 120.0;
-            double expectedE1RM1 = 100 * (1 + 5 / 30.0); // 116.666...
-            double expectedMaxE1RM = 120 * (1 + 3 / 30.0); // 132.0
+            when(exerciseRepository.findByIdAndUser(1L, user)).thenReturn(Optional.of(exercise));
+            when(exerciseStatsRepository.findById(1L)).thenReturn(Optional.empty());
 
-            assertThat(stats).isNotNull();
-            assertThat(stats.volume()).isEqualTo(expectedVolume);
-            assertThat(stats.reps()).isEqualTo(expectedReps);
-            assertThat(stats.sets()).isEqualTo(expectedSets);
-            assertThat(stats.maxWeight()).isEqualTo(expectedMaxWeight);
-            assertThat(stats.e1rm()).isEqualTo(expectedMaxE1RM);
-
-            int bestReps = 5;
-            double bestWeight = 100.0;
-            assertThat(stats.bestRepSet().reps()).isEqualTo(bestReps);
-            assertThat(stats.bestRepSet().weight()).isEqualTo(bestWeight);
-
-            verify(sessionExerciseRepository).findAllByExercise(exercise);
+            ExerciseStats stats = exerciseService.getExerciseStats(1L);
+
+            assertThat(stats.sets()).isZero();
+            assertThat(stats.volume()).isZero();
+            assertThat(stats.monthlyMaxE1RM()).hasSize(6).allSatisfy((month, e1rm) -> assertThat(e1rm).isZero());
         }
 
     }
@@ -0,0 +1,84 @@
+package com.rodrigocoelhoo.lifemanager.training.service;
+
+import com.rodrigocoelhoo.lifemanager.exceptions.BadRequestException;
+import com.rodrigocoelhoo.lifemanager.training.components.TrainingSetColumns;
+import com.rodrigocoelhoo.lifemanager.training.components.TrainingSetStore;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseModel;
+import com.rodrigocoelhoo.lifemanager.training.model.ExerciseType;
+import com.rodrigocoelhoo.lifemanager.users.UserModel;
+import com.rodrigocoelhoo.lifemanager.users.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TrainingAnalyticsService Tests")
+class TrainingAnalyticsServiceTest {
+
+    private static final LocalDate TO = LocalDate.of(2026, 1, 31);
+
+    @Mock
+    private TrainingSetStore trainingSetStore;
+
+    @Mock
+    private ExerciseService exerciseService;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private TrainingAnalyticsService trainingAnalyticsService;
+
+    private UserModel user;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        user = new UserModel();
+        user.setId(1L);
+        when(userService.getLoggedInUser()).thenReturn(user);
+        when(trainingSetStore.columns(user)).thenReturn(new TrainingSetColumns.Builder()
+                .add(LocalDateTime.of(2026, 1, 12, 18, 0), 10L, 1L, 5, 100.0, 0, 0)
+                .build("v1"));
+    }
+
+    @Test
+    @DisplayName("should answer from the user's set columns")
+    void shouldUseColumns() {
+        assertThat(trainingAnalyticsService.getFrequency(TO.minusDays(30), TO).sessions()).containsOnlyOnce(1);
+        assertThat(trainingAnalyticsService.getWeeklyVolume(TO.minusDays(30), TO).exercises()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should reject ranges that end before they start or span too many years")
+    void shouldRejectInvalidRanges() {
+        assertThatThrownBy(() -> trainingAnalyticsService.getWeeklyVolume(TO.plusDays(1), TO))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> trainingAnalyticsService.getPersonalRecords(TO.minusYears(TrainingAnalyticsService.MAX_RANGE_YEARS).minusDays(1), TO))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(trainingSetStore);
+    }
+
+    @Test
+    @DisplayName("should reject e1RM curves of TIME exercises")
+    void shouldRejectTimeExercises() {
+        ExerciseModel run = new ExerciseModel();
+        run.setId(3L);
+        run.setType(ExerciseType.TIME);
+        when(exerciseService.getExercise(3L)).thenReturn(run);
+
+        assertThatThrownBy(() -> trainingAnalyticsService.getE1rmCurve(3L, TO.minusMonths(1), TO))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Only SET_REP exercises have an e1RM curve.");
+    }
+}
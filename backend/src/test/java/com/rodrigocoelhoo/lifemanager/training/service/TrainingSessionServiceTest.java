@@ -1,5 +1,7 @@
 package com.rodrigocoelhoo.lifemanager.training.service;
 
+import com.rodrigocoelhoo.lifemanager.common.KeysetCursor;
+import com.rodrigocoelhoo.lifemanager.common.SliceResponseDTO;
 import com.rodrigocoelhoo.lifemanager.config.RedisCacheService;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
 import com.rodrigocoelhoo.lifemanager.training.dto.trainingsessiondto.*;
@@ -13,14 +15,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -43,6 +52,9 @@ class TrainingSessionServiceTest {
     @Mock
     private SessionExerciseMapper mapper;
 
+    @Mock
+    private ExerciseStatsService exerciseStatsService;
+
     @Mock
     private RedisCacheService redisCacheService;
 
@@ -56,6 +68,7 @@ class TrainingSessionServiceTest {
         when(userService.getLoggedInUser()).thenReturn(user);
         doNothing().when(redisCacheService).evictUserCache(anyString());
         doNothing().when(redisCacheService).evictUserCacheSpecific(anyString(), anyString());
+        when(exerciseStatsService.monthsOf(any())).thenAnswer(invocation -> new HashSet<>());
     }
 
     @Test
@@ -75,6 +88,44 @@ class TrainingSessionServiceTest {
         verify(sessionRepository).findAllByUser(user, Pageable.unpaged());
     }
 
+    @Test
+    @DisplayName("should load the exercises of the sought ids and keep the seek order")
+    void shouldReturnSessionsAfterCursor() {
+        LocalDateTime cursorDate = LocalDateTime.of(2026, 1, 5, 18, 0);
+        TrainingSessionModel newer = TrainingSessionModel.builder().id(8L).user(user).date(cursorDate.plusDays(1)).build();
+        TrainingSessionModel older = TrainingSessionModel.builder().id(7L).user(user).date(cursorDate).build();
+        Window<TrainingSessionModel> window = Window.from(
+                List.of(newer, older),
+                i -> ScrollPosition.forward(Map.of("date", cursorDate, "id", 7L)),
+                false
+        );
+
+        TrainingSessionModel newerWithGraph = TrainingSessionModel.builder().id(8L).user(user).date(newer.getDate()).exercises(new ArrayList<>()).build();
+        TrainingSessionModel olderWithGraph = TrainingSessionModel.builder().id(7L).user(user).date(older.getDate()).exercises(new ArrayList<>()).build();
+
+        String after = KeysetCursor.encode(Window.from(
+                List.of(newer),
+                i -> ScrollPosition.forward(Map.of("date", cursorDate.plusDays(2), "id", 9L)),
+                true
+        ));
+        when(sessionRepository.findByUser(
+                user,
+                ScrollPosition.forward(Map.of("date", cursorDate.plusDays(2), "id", 9L)),
+                KeysetCursor.SORT,
+                Limit.of(20)
+        )).thenReturn(window);
+        when(sessionRepository.findAllByIdIn(List.of(8L, 7L))).thenReturn(List.of(olderWithGraph, newerWithGraph));
+
+        SliceResponseDTO<TrainingSessionResponseDTO> result = service.getSessionsAfter(after, 20);
+
+        assertThat(result.content()).containsExactly(
+                TrainingSessionResponseDTO.fromEntity(newerWithGraph),
+                TrainingSessionResponseDTO.fromEntity(olderWithGraph)
+        );
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
     @Test
     @DisplayName("should throw ResourceNotFound if session does not belong to user")
     void shouldThrowIfSessionNotFound() {
@@ -106,6 +157,30 @@ class TrainingSessionServiceTest {
             assertThat(result).isNotNull();
             verify(sessionRepository).save(any());
         }
+
+        @Test
+        @DisplayName("should resolve every exercise of the payload with one lookup")
+        void shouldResolveExercisesOnce() {
+            ExerciseModel bench = ExerciseModel.builder().id(1L).type(ExerciseType.SET_REP).build();
+            ExerciseModel squat = ExerciseModel.builder().id(2L).type(ExerciseType.SET_REP).build();
+            SessionExerciseSetDTO set = new SessionExerciseSetDTO(1, 5, 100.0, null, null);
+            TrainingSessionDTO dto = new TrainingSessionDTO(LocalDateTime.of(2026, 1, 5, 18, 0), List.of(
+                    new SessionExerciseDTO(1L, List.of(set, set)),
+                    new SessionExerciseDTO(2L, List.of(set)),
+                    new SessionExerciseDTO(1L, List.of(set))
+            ));
+
+            when(exerciseService.getExercisesForUser(List.of(1L, 2L))).thenReturn(List.of(squat, bench));
+            when(sessionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            TrainingSessionModel result = service.createSession(dto);
+
+            assertThat(result.getExercises())
+                    .extracting(SessionExerciseModel::getExercise)
+                    .containsExactly(bench, bench, squat, bench);
+            verify(exerciseService).getExercisesForUser(List.of(1L, 2L));
+            verify(exerciseService, never()).getExercise(any());
+        }
     }
 
     @Nested
@@ -129,6 +204,32 @@ class TrainingSessionServiceTest {
             assertThat(result).isEqualTo(existing);
             verify(sessionRepository).save(existing);
         }
+
+        @Test
+        @DisplayName("should recompute the exercise stats of the months before and after the change")
+        void shouldRecomputeOldAndNewMonths() {
+            ExerciseModel exercise = ExerciseModel.builder().id(7L).type(ExerciseType.SET_REP).build();
+            TrainingSessionModel existing = TrainingSessionModel.builder()
+                    .user(user)
+                    .date(LocalDateTime.of(2026, 1, 31, 18, 0))
+                    .exercises(new ArrayList<>())
+                    .build();
+            TrainingSessionDTO dto = new TrainingSessionDTO(LocalDateTime.of(2026, 2, 1, 18, 0), new ArrayList<>());
+            ExerciseStatsService.ExerciseMonth january = new ExerciseStatsService.ExerciseMonth(exercise, YearMonth.of(2026, 1));
+            ExerciseStatsService.ExerciseMonth february = new ExerciseStatsService.ExerciseMonth(exercise, YearMonth.of(2026, 2));
+
+            when(sessionRepository.findByIdAndUser(1L, user)).thenReturn(Optional.of(existing));
+            when(sessionRepository.save(existing)).thenReturn(existing);
+            when(exerciseStatsService.monthsOf(existing))
+                    .thenReturn(new HashSet<>(Set.of(january)))
+                    .thenReturn(new HashSet<>(Set.of(february)));
+
+            service.updateSession(1L, dto);
+
+            verify(exerciseStatsService).recompute(Set.of(january, february));
+            verify(redisCacheService).evictUserCacheSpecific("exerciseStats", "exercise:7");
+            verify(redisCacheService).evictUserCache("trainingSessions");
+        }
     }
 
     @Nested
@@ -147,6 +248,7 @@ class TrainingSessionServiceTest {
             service.deleteSession(1L);
 
             verify(sessionRepository).delete(existing);
+            verify(exerciseStatsService).recompute(Set.of());
         }
     }
 
@@ -2,6 +2,7 @@ package com.rodrigocoelhoo.lifemanager.users;
 
 import com.rodrigocoelhoo.lifemanager.exceptions.DuplicateFieldException;
 import com.rodrigocoelhoo.lifemanager.exceptions.ResourceNotFound;
+import com.rodrigocoelhoo.lifemanager.security.AuthenticatedUser;
 import com.rodrigocoelhoo.lifemanager.security.dto.SignUpDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,11 +11,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +39,7 @@ class UserServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        SecurityContextHolder.clearContext();
     }
 
     @Nested
@@ -191,6 +195,43 @@ class UserServiceTest {
         }
 
 
+        @Test
+        @DisplayName("should return a reference for a token principal without querying the user")
+        void shouldReturnReferenceForTokenPrincipal() {
+            UserModel reference = new UserModel();
+            reference.setId(7L);
+
+            AuthenticatedUser principal = new AuthenticatedUser(7L, "johndoe", List.of("ROLE_USER"));
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+            );
+
+            when(userRepository.getReferenceById(7L)).thenReturn(reference);
+
+            UserModel result = userService.getLoggedInUser();
+
+            assertThat(result).isSameAs(reference);
+            verify(userRepository, never()).findByUsername(anyString());
+            verify(userRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("should load the full user for a token principal when details are needed")
+        void shouldLoadDetailsForTokenPrincipal() {
+            UserModel user = new UserModel();
+            user.setId(7L);
+            user.setUsername("johndoe");
+
+            AuthenticatedUser principal = new AuthenticatedUser(7L, "johndoe", List.of("ROLE_USER"));
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities())
+            );
+
+            when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+            assertThat(userService.getLoggedInUserDetails()).isEqualTo(user);
+        }
+
         @Test
         @DisplayName("should throw ResourceNotFound if logged-in user not found")
         void shouldThrowIfLoggedInUserNotFound() {